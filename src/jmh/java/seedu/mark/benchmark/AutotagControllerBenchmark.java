@@ -0,0 +1,63 @@
+package seedu.mark.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.mark.model.autotag.AutotagController;
+import seedu.mark.model.autotag.SelectiveBookmarkTagger;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.predicates.BookmarkPredicate;
+import seedu.mark.model.tag.Tag;
+
+/**
+ * Benchmarks applying the autotags of an {@code AutotagController} to a whole collection of bookmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AutotagControllerBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean cachedCopies;
+
+    private List<Bookmark> bookmarks;
+    private AutotagController autotagController;
+
+    /**
+     * Creates the bookmarks and a controller with one autotag per word of the generated names.
+     */
+    @Setup
+    public void setUp() {
+        bookmarks = BenchmarkData.createBookmarks(size, cachedCopies);
+        autotagController = new AutotagController();
+        for (String word : BenchmarkData.WORDS) {
+            autotagController.addTagger(new SelectiveBookmarkTagger(new Tag("auto" + word),
+                    new BookmarkPredicate().withNameKeywords(List.of(word))));
+        }
+        autotagController.addTagger(new SelectiveBookmarkTagger(new Tag("autofolder"),
+                new BookmarkPredicate().withFolder(List.of(BenchmarkData.getFolderName(0)))
+                        .withUrlKeywords(List.of("site10"))));
+    }
+
+    @Benchmark
+    public List<Bookmark> applyTaggersToList() {
+        return autotagController.applyTaggersToList(bookmarks);
+    }
+}
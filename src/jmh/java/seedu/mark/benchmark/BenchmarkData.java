@@ -0,0 +1,81 @@
+package seedu.mark.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.mark.model.Mark;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.CachedCopy;
+import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
+
+/**
+ * Creates the bookmark collections that the benchmarks run against.
+ * The same size always produces the same bookmarks, so results are comparable across runs.
+ */
+public final class BenchmarkData {
+    public static final String[] WORDS = {"java", "python", "guide", "news", "recipe", "music", "travel",
+        "tutorial", "review", "docs", "forum", "video", "course", "blog", "paper", "tool"};
+    public static final int NUM_FOLDERS = 10;
+    public static final int NUM_TAGS = 20;
+    public static final int NUM_DOMAINS = 100;
+
+    private BenchmarkData() {}
+
+    public static String getFolderName(int index) {
+        return "Folder" + index;
+    }
+
+    /**
+     * Returns the bookmark at {@code index} of every generated collection, with a cached copy
+     * if {@code withCachedCopy} is true.
+     */
+    public static Bookmark createBookmark(int index, boolean withCachedCopy) {
+        String firstWord = WORDS[index % WORDS.length];
+        String secondWord = WORDS[(index / WORDS.length) % WORDS.length];
+        BookmarkBuilder builder = new BookmarkBuilder()
+                .withName(firstWord + " " + secondWord + " " + index)
+                .withUrl("https://www.site" + (index % NUM_DOMAINS) + ".com/" + secondWord + "/" + index)
+                .withRemark("Remark for bookmark " + index)
+                .withFolder(getFolderName(index % NUM_FOLDERS))
+                .withTags("tag" + (index % NUM_TAGS));
+        if (withCachedCopy) {
+            builder.withCachedCopy(new CachedCopy(createHtml(index, firstWord, secondWord)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the first {@code size} bookmarks, with cached copies if {@code withCachedCopies} is true.
+     */
+    public static List<Bookmark> createBookmarks(int size, boolean withCachedCopies) {
+        List<Bookmark> bookmarks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            bookmarks.add(createBookmark(i, withCachedCopies));
+        }
+        return bookmarks;
+    }
+
+    /**
+     * Returns a {@code Mark} containing {@code bookmarks} and the folders they are in.
+     */
+    public static Mark createMark(List<Bookmark> bookmarks) {
+        Mark mark = new Mark();
+        for (int i = 0; i < NUM_FOLDERS; i++) {
+            mark.addFolder(new Folder(getFolderName(i)), Folder.ROOT_FOLDER);
+        }
+        mark.setBookmarks(bookmarks);
+        return mark;
+    }
+
+    private static String createHtml(int index, String firstWord, String secondWord) {
+        StringBuilder html = new StringBuilder("<html><head><title>Page ").append(index)
+                .append("</title></head><body><h1>").append(firstWord).append(' ').append(secondWord).append("</h1>");
+        for (int i = 0; i < 5; i++) {
+            html.append("<p>Paragraph ").append(i).append(" of page ").append(index).append(" about ")
+                    .append(WORDS[(index + i) % WORDS.length]).append(" and ")
+                    .append(WORDS[(index * 7 + i) % WORDS.length]).append(".</p>");
+        }
+        return html.append("</body></html>").toString();
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.mark.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.BookmarkIndex;
+import seedu.mark.model.predicates.BookmarkPredicate;
+import seedu.mark.model.predicates.FolderContainsKeywordsPredicate;
+import seedu.mark.model.predicates.NameContainsKeywordsPredicate;
+import seedu.mark.model.predicates.UrlContainsKeywordsPredicate;
+
+/**
+ * Benchmarks testing every bookmark of a collection against a {@code BookmarkPredicate},
+ * as is done when the bookmark list is filtered by the find command, and finding the matching bookmarks
+ * through a {@code BookmarkIndex} of the same collection.
+ * The {@code lambda} benchmarks test the same conditions composed as a chain of predicates, as
+ * {@code BookmarkPredicate} did before it was compiled into a matcher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BookmarkPredicateBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean cachedCopies;
+
+    private List<Bookmark> bookmarks;
+    private BookmarkIndex index;
+    private BookmarkPredicate namePredicate;
+    private BookmarkPredicate urlPredicate;
+    private BookmarkPredicate combinedPredicate;
+    private Predicate<Bookmark> nameLambdaChain;
+    private Predicate<Bookmark> urlLambdaChain;
+    private Predicate<Bookmark> combinedLambdaChain;
+
+    /**
+     * Creates the bookmarks and the predicates to test them against.
+     */
+    @Setup
+    public void setUp() {
+        bookmarks = BenchmarkData.createBookmarks(size, cachedCopies);
+        index = new BookmarkIndex();
+        bookmarks.forEach(index::add);
+        namePredicate = new BookmarkPredicate().withNameKeywords(List.of("java", "music", "absent"));
+        urlPredicate = new BookmarkPredicate().withUrlKeywords(List.of("site42", "tutorial"));
+        combinedPredicate = new BookmarkPredicate()
+                .withNameKeywords(List.of("guide", "news"))
+                .withoutUrlKeywords(List.of("site7"))
+                .withFolder(List.of(BenchmarkData.getFolderName(1), BenchmarkData.getFolderName(3)));
+
+        Predicate<Bookmark> matchAll = bookmark -> true;
+        nameLambdaChain = matchAll.and(new NameContainsKeywordsPredicate(List.of("java", "music", "absent")));
+        urlLambdaChain = matchAll.and(new UrlContainsKeywordsPredicate(List.of("site42", "tutorial")));
+        combinedLambdaChain = matchAll
+                .and(new NameContainsKeywordsPredicate(List.of("guide", "news")))
+                .and(new UrlContainsKeywordsPredicate(List.of("site7")).negate())
+                .and(new FolderContainsKeywordsPredicate(
+                        List.of(BenchmarkData.getFolderName(1), BenchmarkData.getFolderName(3))));
+    }
+
+    @Benchmark
+    public int testName() {
+        return countMatches(namePredicate);
+    }
+
+    @Benchmark
+    public int testUrl() {
+        return countMatches(urlPredicate);
+    }
+
+    @Benchmark
+    public int testCombined() {
+        return countMatches(combinedPredicate);
+    }
+
+    @Benchmark
+    public int lambdaName() {
+        return countMatches(nameLambdaChain);
+    }
+
+    @Benchmark
+    public int lambdaUrl() {
+        return countMatches(urlLambdaChain);
+    }
+
+    @Benchmark
+    public int lambdaCombined() {
+        return countMatches(combinedLambdaChain);
+    }
+
+    @Benchmark
+    public int findName() {
+        return namePredicate.findMatches(index).size();
+    }
+
+    @Benchmark
+    public int findUrl() {
+        return urlPredicate.findMatches(index).size();
+    }
+
+    @Benchmark
+    public int findCombined() {
+        return combinedPredicate.findMatches(index).size();
+    }
+
+    private int countMatches(Predicate<Bookmark> predicate) {
+        int count = 0;
+        for (Bookmark bookmark : bookmarks) {
+            if (predicate.test(bookmark)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.mark.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import seedu.mark.commons.util.Compression;
+import seedu.mark.model.Mark;
+import seedu.mark.model.util.SyntheticMarkGenerator;
+import seedu.mark.storage.CachedCopyLoader;
+import seedu.mark.storage.HtmlBlobStorage;
+import seedu.mark.storage.JsonMarkStorage;
+import seedu.mark.storage.MarkStorage;
+import seedu.mark.storage.ShardedMarkStorage;
+
+/**
+ * Writes a {@code Mark} generated by {@code SyntheticMarkGenerator} to disk, in any of the storage formats
+ * that Mark reads at startup, so that load tests and startup profiling can run against it.
+ */
+public class GenerateSyntheticMark {
+
+    private static final String USAGE = "Usage: GenerateSyntheticMark DATA_FILE [SIZE] [json|sharded] "
+            + "[none|gzip] [SEED] [CACHED_COPY_RATIO]";
+
+    /** The storage formats that a generated {@code Mark} can be written in. */
+    public enum Format {
+        JSON, SHARDED
+    }
+
+    private GenerateSyntheticMark() {}
+
+    /**
+     * Generates a {@code Mark} and writes it next to the data file given in {@code args},
+     * where Mark would look for it if that data file were set in the user preferences.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 6) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        Path markFilePath = Paths.get(args[0]);
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : SyntheticMarkGenerator.DEFAULT_SIZE;
+        Format format = args.length > 2 ? Format.valueOf(args[2].toUpperCase(Locale.ROOT)) : Format.JSON;
+        Compression compression = args.length > 3
+                ? Compression.valueOf(args[3].toUpperCase(Locale.ROOT))
+                : Compression.GZIP;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : SyntheticMarkGenerator.DEFAULT_SEED;
+        double cachedCopyRatio = args.length > 5
+                ? Double.parseDouble(args[5])
+                : SyntheticMarkGenerator.DEFAULT_CACHED_COPY_RATIO;
+
+        long startTime = System.nanoTime();
+        Mark mark = new SyntheticMarkGenerator(seed)
+                .withSize(size)
+                .withCachedCopyRatio(cachedCopyRatio)
+                .generate();
+        long generatedTime = System.nanoTime();
+        write(mark, markFilePath, format, compression);
+        long writtenTime = System.nanoTime();
+
+        System.out.printf("Generated %d bookmarks in %d ms and wrote them as %s in %d ms%n", size,
+                (generatedTime - startTime) / 1_000_000, format, (writtenTime - generatedTime) / 1_000_000);
+    }
+
+    /**
+     * Writes {@code mark} in {@code format} for the data file at {@code markFilePath}.
+     */
+    public static void write(Mark mark, Path markFilePath, Format format, Compression compression)
+            throws IOException {
+        CachedCopyLoader cachedCopyLoader = new CachedCopyLoader(
+                new HtmlBlobStorage(HtmlBlobStorage.getDirectoryFor(markFilePath), compression));
+        MarkStorage storage = new JsonMarkStorage(markFilePath, cachedCopyLoader, compression);
+        if (format == Format.SHARDED) {
+            storage = new ShardedMarkStorage(ShardedMarkStorage.getDirectoryFor(markFilePath), storage,
+                    cachedCopyLoader, compression);
+        }
+        storage.saveMark(mark);
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.mark.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.mark.commons.exceptions.DataConversionException;
+import seedu.mark.commons.util.Compression;
+import seedu.mark.model.Mark;
+import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.storage.CachedCopyLoader;
+import seedu.mark.storage.HtmlBlobStorage;
+import seedu.mark.storage.JsonMarkStorage;
+
+/**
+ * Benchmarks reading and saving a whole {@code Mark} with {@code JsonMarkStorage}.
+ * The data file is compressed, as it is by default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonMarkStorageBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean cachedCopies;
+
+    private Path directory;
+    private Mark mark;
+    private JsonMarkStorage storage;
+
+    /**
+     * Creates the {@code Mark} and saves it to a temporary directory.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("mark-benchmark");
+        Path filePath = directory.resolve("mark.json");
+        CachedCopyLoader loader = new CachedCopyLoader(
+                new HtmlBlobStorage(HtmlBlobStorage.getDirectoryFor(filePath), Compression.GZIP));
+        storage = new JsonMarkStorage(filePath, loader, Compression.GZIP);
+        mark = BenchmarkData.createMark(BenchmarkData.createBookmarks(size, cachedCopies));
+        storage.saveMark(mark);
+    }
+
+    /**
+     * Deletes the temporary directory.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyMark> readMark() throws DataConversionException {
+        return storage.readMark();
+    }
+
+    @Benchmark
+    public Mark saveMark() throws IOException {
+        storage.saveMark(mark);
+        return mark;
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.mark.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.UniqueBookmarkList;
+
+/**
+ * Benchmarks the operations of {@code UniqueBookmarkList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniqueBookmarkListBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean cachedCopies;
+
+    private List<Bookmark> bookmarks;
+    private UniqueBookmarkList filledList;
+    private UniqueBookmarkList list;
+    private Bookmark presentBookmark;
+    private Bookmark absentBookmark;
+
+    /**
+     * Creates the bookmarks and a list containing them.
+     */
+    @Setup
+    public void setUp() {
+        bookmarks = BenchmarkData.createBookmarks(size, cachedCopies);
+        filledList = new UniqueBookmarkList();
+        filledList.setBookmarks(bookmarks);
+        list = new UniqueBookmarkList();
+        list.setBookmarks(bookmarks);
+        presentBookmark = bookmarks.get(size / 2);
+        absentBookmark = BenchmarkData.createBookmark(size, cachedCopies);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return list.contains(presentBookmark);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absentBookmark);
+    }
+
+    /**
+     * Adds a bookmark, then removes it again so that every invocation adds to a list of the same size.
+     */
+    @Benchmark
+    public UniqueBookmarkList addThenRemove() {
+        list.add(absentBookmark);
+        list.remove(absentBookmark);
+        return list;
+    }
+
+    @Benchmark
+    public UniqueBookmarkList setBookmarksFromList() {
+        list.setBookmarks(bookmarks);
+        return list;
+    }
+
+    @Benchmark
+    public UniqueBookmarkList setBookmarksFromUniqueList() {
+        list.setBookmarks(filledList);
+        return list;
+    }
+}
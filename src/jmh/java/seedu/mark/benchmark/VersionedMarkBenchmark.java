@@ -0,0 +1,76 @@
+package seedu.mark.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.mark.model.VersionedMark;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
+
+/**
+ * Benchmarks saving and undoing states of a {@code VersionedMark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class VersionedMarkBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean cachedCopies;
+
+    private VersionedMark versionedMark;
+    private Bookmark currentBookmark;
+    private Bookmark otherBookmark;
+
+    /**
+     * Creates a {@code VersionedMark} with one saved edit that can be undone.
+     */
+    @Setup
+    public void setUp() {
+        List<Bookmark> bookmarks = BenchmarkData.createBookmarks(size, cachedCopies);
+        versionedMark = new VersionedMark(BenchmarkData.createMark(bookmarks));
+        currentBookmark = bookmarks.get(size / 2);
+        otherBookmark = new BookmarkBuilder(currentBookmark).withRemark("Edited remark").build();
+        editAndSave();
+    }
+
+    /**
+     * Edits a bookmark and saves the edit, toggling between two versions of the bookmark
+     * so that the bookmark list keeps the same size.
+     */
+    @Benchmark
+    public VersionedMark editAndSave() {
+        versionedMark.setBookmark(currentBookmark, otherBookmark);
+        Bookmark edited = otherBookmark;
+        otherBookmark = currentBookmark;
+        currentBookmark = edited;
+        versionedMark.save("edit");
+        return versionedMark;
+    }
+
+    /**
+     * Undoes the last edit, then redoes it so that every invocation starts from the same state.
+     */
+    @Benchmark
+    public String undoThenRedo() {
+        versionedMark.undo(1);
+        return versionedMark.redo(1);
+    }
+}
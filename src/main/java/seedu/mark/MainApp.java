@@ -11,6 +11,7 @@ import seedu.mark.commons.core.Config;
 import seedu.mark.commons.core.LogsCenter;
 import seedu.mark.commons.core.Version;
 import seedu.mark.commons.exceptions.DataConversionException;
+import seedu.mark.commons.util.Compression;
 import seedu.mark.commons.util.ConfigUtil;
 import seedu.mark.commons.util.StringUtil;
 import seedu.mark.logic.Logic;
@@ -22,9 +23,15 @@ import seedu.mark.model.ReadOnlyMark;
 import seedu.mark.model.ReadOnlyUserPrefs;
 import seedu.mark.model.UserPrefs;
 import seedu.mark.model.util.SampleDataUtil;
+import seedu.mark.storage.BackgroundMarkStorage;
+import seedu.mark.storage.CachedCopyLoader;
+import seedu.mark.storage.HtmlBlobStorage;
+import seedu.mark.storage.JournalMarkStorage;
 import seedu.mark.storage.JsonMarkStorage;
 import seedu.mark.storage.JsonUserPrefsStorage;
 import seedu.mark.storage.MarkStorage;
+import seedu.mark.storage.SearchIndexStorage;
+import seedu.mark.storage.ShardedMarkStorage;
 import seedu.mark.storage.Storage;
 import seedu.mark.storage.StorageManager;
 import seedu.mark.storage.UserPrefsStorage;
@@ -43,6 +50,8 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundMarkStorage backgroundMarkStorage;
+    protected SearchIndexStorage searchIndexStorage;
     protected Model model;
     protected Config config;
 
@@ -56,14 +65,25 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        MarkStorage markStorage = new JsonMarkStorage(userPrefs.getMarkFilePath());
-        storage = new StorageManager(markStorage, userPrefsStorage);
+        Path markFilePath = userPrefs.getMarkFilePath();
+        Compression dataCompression = userPrefs.getDataCompression();
+        CachedCopyLoader cachedCopyLoader = new CachedCopyLoader(
+                new HtmlBlobStorage(HtmlBlobStorage.getDirectoryFor(markFilePath), dataCompression),
+                userPrefs.getCachedCopyMemoryBudget());
+        MarkStorage snapshotStorage = new ShardedMarkStorage(ShardedMarkStorage.getDirectoryFor(markFilePath),
+                new JsonMarkStorage(markFilePath, cachedCopyLoader, dataCompression), cachedCopyLoader,
+                dataCompression);
+        backgroundMarkStorage = new BackgroundMarkStorage(new JournalMarkStorage(snapshotStorage, cachedCopyLoader));
+        storage = new StorageManager(backgroundMarkStorage, userPrefsStorage);
+        searchIndexStorage = new SearchIndexStorage(SearchIndexStorage.getDirectoryFor(markFilePath), dataCompression);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        LogicManager logicManager = new LogicManager(model, storage);
+        backgroundMarkStorage.setWriteFailureHandler(logicManager::reportSaveFailure);
+        logic = logicManager;
 
         ui = new UiManager(logic);
     }
@@ -78,6 +98,10 @@ public class MainApp extends Application {
         ReadOnlyMark initialData;
         try {
             markOptional = storage.readMark();
+            if (markOptional.isEmpty()) {
+                markOptional = storage.readMark(userPrefs.getMarkFilePath());
+                markOptional.ifPresent(mark -> logger.info("Loaded Mark from the json data file"));
+            }
             if (markOptional.isEmpty()) {
                 logger.info("Data file not found. Will be starting with a sample Mark");
             }
@@ -90,7 +114,7 @@ public class MainApp extends Application {
             initialData = new Mark();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, searchIndexStorage);
     }
 
     private void initLogging(Config config) {
@@ -179,5 +203,20 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.compactMark(model.getMark());
+        } catch (IOException e) {
+            logger.severe("Failed to save snapshot of Mark " + StringUtil.getDetails(e));
+        }
+        try {
+            searchIndexStorage.retainOnly(HtmlBlobStorage.getHtmlHashes(model.getMark()));
+        } catch (IOException e) {
+            logger.warning("Failed to delete unused search terms " + StringUtil.getDetails(e));
+        }
+        try {
+            backgroundMarkStorage.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save Mark " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,62 @@
+package seedu.mark.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression that data files are written with.
+ *
+ * Compressed data starts with the header of its format, so data is always read back with the compression that
+ * it was written with, whatever compression is currently used for writing. Data that was written without
+ * compression can therefore always be read.
+ */
+public enum Compression {
+    /** Data is written as it is. */
+    NONE,
+    /** Data is written in the gzip format. */
+    GZIP;
+
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Returns a stream that compresses the data written to it before writing it to {@code output}.
+     * Closing the returned stream finishes the compressed data and closes {@code output}.
+     */
+    public OutputStream compress(OutputStream output) throws IOException {
+        requireNonNull(output);
+
+        switch (this) {
+        case GZIP:
+            return new GZIPOutputStream(output, BUFFER_SIZE);
+        default:
+            return output;
+        }
+    }
+
+    /**
+     * Returns a buffered stream of the data in {@code input}, decompressed with the compression detected from its
+     * header. Closing the returned stream closes {@code input}.
+     */
+    public static InputStream decompress(InputStream input) throws IOException {
+        requireNonNull(input);
+
+        BufferedInputStream bufferedInput = new BufferedInputStream(input, BUFFER_SIZE);
+        bufferedInput.mark(2);
+        int firstByte = bufferedInput.read();
+        int secondByte = bufferedInput.read();
+        bufferedInput.reset();
+
+        if (firstByte == GZIP_MAGIC_FIRST_BYTE && secondByte == GZIP_MAGIC_SECOND_BYTE) {
+            return new BufferedInputStream(new GZIPInputStream(bufferedInput, BUFFER_SIZE), BUFFER_SIZE);
+        }
+        return bufferedInput;
+    }
+}
@@ -1,9 +1,17 @@
 package seedu.mark.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
 
 /**
  * Writes and reads files
@@ -11,6 +19,7 @@ import java.nio.file.Path;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -65,10 +74,13 @@ public class FileUtil {
     }
 
     /**
-     * Assumes file exists
+     * Assumes file exists.
+     * Compressed files are decompressed with the compression detected from their header.
      */
     public static String readFromFile(Path file) throws IOException {
-        return new String(Files.readAllBytes(file), CHARSET);
+        try (InputStream input = Compression.decompress(Files.newInputStream(file))) {
+            return new String(input.readAllBytes(), CHARSET);
+        }
     }
 
     /**
@@ -76,7 +88,94 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, Compression.NONE);
+    }
+
+    /**
+     * Writes given string to a file, compressed with {@code compression}.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFile(Path file, String content, Compression compression) throws IOException {
+        try (OutputStream output = compression.compress(Files.newOutputStream(file))) {
+            output.write(content.getBytes(CHARSET));
+        }
+    }
+
+    /**
+     * Writes {@code file} by writing a temporary file next to it with {@code writer},
+     * then moving the temporary file over {@code file}, so that {@code file} is never left half-written.
+     * The temporary file is flushed to the storage device before it is moved, and the move is flushed after,
+     * so that {@code file} holds either its old or its new contents even if the system crashes.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, TempFileWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path absoluteFile = file.toAbsolutePath();
+        Path tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(), null);
+        try {
+            writer.write(tempFile);
+            sync(tempFile);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            syncDirectory(absoluteFile.getParent());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Flushes the contents of {@code file} to the storage device.
+     */
+    public static void sync(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Flushes the entries of {@code directory}, such as files that were just moved into it, to the storage device.
+     * Platforms that cannot open directories for this are skipped, as they flush the entries with the files.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // directories cannot be opened on some platforms, such as Windows
+        }
+    }
+
+    /**
+     * Returns the CRC-32C checksum of the contents of {@code file}.
+     */
+    public static long checksum(Path file) throws IOException {
+        CRC32C checksum = new CRC32C();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream input = Files.newInputStream(file)) {
+            for (int count = input.read(buffer); count != -1; count = input.read(buffer)) {
+                checksum.update(buffer, 0, count);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns the CRC-32C checksum of {@code text}, encoded as UTF-8.
+     */
+    public static long checksum(String text) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(text.getBytes(StandardCharsets.UTF_8));
+        return checksum.getValue();
+    }
+
+    /**
+     * Writes the contents of a file to a temporary file.
+     */
+    @FunctionalInterface
+    public interface TempFileWriter {
+        void write(Path tempFile) throws IOException;
     }
 
 }
@@ -2,6 +2,7 @@ package seedu.mark.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,13 +12,17 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.mark.commons.core.LogsCenter;
@@ -110,6 +115,72 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * without any pretty printing.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns a parser that reads the JSON in {@code filePath} one token at a time.
+     * Compressed files are decompressed with the compression detected from their header.
+     * Values can be read from it with {@link JsonParser#readValueAs(Class)}, which converts them the same way as
+     * {@link #fromJsonString(String, Class)}. The caller is responsible for closing the parser.
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Compression.decompress(Files.newInputStream(filePath)));
+    }
+
+    /**
+     * Returns a generator that writes pretty printed JSON to {@code filePath} one value at a time,
+     * overwriting the file if it exists.
+     * Values can be written to it with {@link JsonGenerator#writeObject(Object)}, which converts them the same way as
+     * {@link #toJsonString(Object)}. The caller is responsible for closing the generator.
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonGenerator createJsonGenerator(Path filePath) throws IOException {
+        return createJsonGenerator(filePath, Compression.NONE);
+    }
+
+    /**
+     * Similar to {@link #createJsonGenerator(Path)}, but the JSON is compressed with {@code compression}.
+     * The compressed data is only complete once the generator is closed.
+     */
+    public static JsonGenerator createJsonGenerator(Path filePath, Compression compression) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(compression);
+        return objectMapper.getFactory()
+                .createGenerator(compression.compress(new BufferedOutputStream(Files.newOutputStream(filePath))))
+                .useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Converts a given JSON tree into an instance of a class.
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the values in the JSON tree
+     */
+    public static <T> T fromJsonTree(TreeNode tree, Class<T> instanceClass) throws JsonProcessingException {
+        return objectMapper.treeToValue(tree, instanceClass);
+    }
+
+    /**
+     * Converts a given instance of a class into a JSON tree.
+     * @param <T> The generic type of the instance
+     * @return JSON object representation of the given class instance
+     */
+    public static <T> ObjectNode toJsonTree(T instance) {
+        return objectMapper.valueToTree(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -5,7 +5,13 @@ import static seedu.mark.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -54,10 +60,10 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(phrase);
 
-        String preppedPhrase = phrase.trim().toLowerCase();
+        String preppedPhrase = phrase.trim().toLowerCase(Locale.ROOT);
         checkArgument(!preppedPhrase.isEmpty(), "Phrase parameter cannot be empty");
 
-        String preppedSentence = sentence.toLowerCase(); // ignore case
+        String preppedSentence = sentence.toLowerCase(Locale.ROOT); // ignore case
 
         return preppedSentence.contains(preppedPhrase);
     }
@@ -89,4 +95,57 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the SHA-256 hash of {@code s}, encoded as UTF-8, as a string of 64 lowercase hexadecimal digits.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static String getSha256Hex(String s) {
+        requireNonNull(s);
+
+        return toHex(newSha256Digest().digest(s.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns a new digest that computes SHA-256 hashes.
+     */
+    public static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new AssertionError("Every Java platform supports SHA-256", nsae);
+        }
+    }
+
+    /**
+     * Returns {@code bytes} as a string of two lowercase hexadecimal digits per byte.
+     */
+    public static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(2 * bytes.length);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Splits {@code text} into its words, which are its maximal runs of letters and digits.
+     * @throws NullPointerException if {@code text} is null.
+     */
+    public static List<String> splitIntoWords(String text) {
+        requireNonNull(text);
+
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
 }
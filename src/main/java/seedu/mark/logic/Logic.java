@@ -2,6 +2,7 @@ package seedu.mark.logic;
 
 import java.nio.file.Path;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
@@ -33,6 +34,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the message of every failure to save Mark that happens after
+     * the command that made the change has returned. The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the Mark instance.
      *
@@ -1,8 +1,11 @@
 package seedu.mark.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.SimpleObjectProperty;
@@ -22,6 +25,7 @@ import seedu.mark.model.annotation.Paragraph;
 import seedu.mark.model.autotag.SelectiveBookmarkTagger;
 import seedu.mark.model.bookmark.Bookmark;
 import seedu.mark.model.bookmark.Url;
+import seedu.mark.model.bookmark.exceptions.CachedCopyUnavailableException;
 import seedu.mark.model.folderstructure.FolderStructure;
 import seedu.mark.model.reminder.Reminder;
 import seedu.mark.storage.Storage;
@@ -36,6 +40,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final MarkParser markParser;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
@@ -49,7 +54,11 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = markParser.parseCommand(commandText);
-        commandResult = command.execute(model, storage);
+        try {
+            commandResult = command.execute(model, storage);
+        } catch (CachedCopyUnavailableException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
 
         try {
             storage.saveMark(model.getMark());
@@ -60,6 +69,20 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = requireNonNull(saveFailureHandler);
+    }
+
+    /**
+     * Reports {@code failure} to save Mark, which happened after the command that made the change had returned,
+     * to the save failure handler.
+     */
+    public void reportSaveFailure(IOException failure) {
+        logger.warning(FILE_OPS_ERROR_MESSAGE + failure);
+        saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + failure);
+    }
+
     @Override
     public ReadOnlyMark getMark() {
         return model.getMark();
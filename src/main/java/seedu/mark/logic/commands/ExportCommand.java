@@ -1,6 +1,14 @@
 package seedu.mark.logic.commands;
 
 import static seedu.mark.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_EXCLUDE;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_FOLDER;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_FORMAT;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_NOT_FOLDER;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_NOT_NAME;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_NOT_URL;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_URL;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -10,6 +18,8 @@ import seedu.mark.commons.core.LogsCenter;
 import seedu.mark.logic.commands.exceptions.CommandException;
 import seedu.mark.logic.commands.results.CommandResult;
 import seedu.mark.model.Model;
+import seedu.mark.model.predicates.BookmarkPredicate;
+import seedu.mark.storage.BookmarkExporter;
 import seedu.mark.storage.JsonMarkStorage;
 import seedu.mark.storage.Storage;
 
@@ -19,41 +29,92 @@ import seedu.mark.storage.Storage;
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
+    public static final String EXCLUDE_CACHE = "cache";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports all of Mark's data to the specified file.\n"
-            + "Parameters: FILENAME\n"
-            + "Example: " + COMMAND_WORD + " savedBookmarks";
+            + "Bookmarks can also be exported as newline-delimited JSON or as a bookmarks.html file for web browsers, "
+            + "without the html of their cached copies, or only if they match the given conditions.\n"
+            + "Parameters: FILENAME "
+            + "[" + PREFIX_FORMAT + "json|ndjson|html] "
+            + "[" + PREFIX_EXCLUDE + EXCLUDE_CACHE + "] "
+            + "[" + PREFIX_NAME + "NAME_KEYWORD]... "
+            + "[" + PREFIX_URL + "URL_KEYWORD]... "
+            + "[" + PREFIX_FOLDER + "FOLDER]... "
+            + "[" + PREFIX_NOT_NAME + "NOT_NAME_KEYWORD]... "
+            + "[" + PREFIX_NOT_URL + "NOT_URL_KEYWORD]... "
+            + "[" + PREFIX_NOT_FOLDER + "NOT_FOLDER]...\n"
+            + "Example: " + COMMAND_WORD + " savedBookmarks\n"
+            + "Example: " + COMMAND_WORD + " myBrowserBookmarks " + PREFIX_FORMAT + "html "
+            + PREFIX_EXCLUDE + EXCLUDE_CACHE + " " + PREFIX_FOLDER + "CS2103T";
 
     public static final String MESSAGE_EXPORT_SUCCESS = "Bookmarks successfully exported to %1$s";
+    public static final String MESSAGE_EXPORT_COUNT_SUCCESS = "%1$d bookmarks successfully exported to %2$s";
     public static final String MESSAGE_EXPORT_FAILURE = "Bookmarks could not be exported";
 
     private static final Logger logger = LogsCenter.getLogger(JsonMarkStorage.class);
 
     private final Path filePath;
+    private final BookmarkExporter.Format format;
+    private final BookmarkPredicate predicate;
+    private final boolean includesCachedCopies;
 
+    /**
+     * Creates an {@code ExportCommand} that exports all of Mark's data to {@code filePath}.
+     */
     public ExportCommand(Path filePath) {
+        this(filePath, BookmarkExporter.Format.JSON, new BookmarkPredicate(), true);
+    }
+
+    /**
+     * Creates an {@code ExportCommand} that exports the bookmarks matching {@code predicate} to {@code filePath}
+     * in {@code format}, with the html of their cached copies if {@code includesCachedCopies} is true.
+     */
+    public ExportCommand(Path filePath, BookmarkExporter.Format format, BookmarkPredicate predicate,
+                         boolean includesCachedCopies) {
+        requireAllNonNull(filePath, format, predicate);
         this.filePath = filePath;
+        this.format = format;
+        this.predicate = predicate;
+        this.includesCachedCopies = includesCachedCopies;
+    }
+
+    /**
+     * Returns true if all of Mark's data is exported in its own format, as with the main data file.
+     */
+    private boolean isFullExport() {
+        return format == BookmarkExporter.Format.JSON && predicate.isEmpty() && includesCachedCopies;
     }
 
     @Override
     public CommandResult execute(Model model, Storage storage) throws CommandException {
         requireAllNonNull(model, storage);
 
+        String message;
         try {
-            storage.saveMark(model.getMark(), filePath);
+            if (isFullExport()) {
+                storage.saveMark(model.getMark(), filePath);
+                message = String.format(MESSAGE_EXPORT_SUCCESS, filePath);
+            } else {
+                int count = BookmarkExporter.forFormat(format, predicate, includesCachedCopies)
+                        .export(model.getMark(), filePath);
+                message = String.format(MESSAGE_EXPORT_COUNT_SUCCESS, count, filePath);
+            }
         } catch (IOException ioe) {
             logger.info("Bookmarks not exported: Error while writing to file " + filePath);
             throw new CommandException(MESSAGE_EXPORT_FAILURE);
         }
 
         logger.info("Bookmarks exported to file " + filePath);
-        return new CommandResult(String.format(MESSAGE_EXPORT_SUCCESS, filePath));
+        return new CommandResult(message);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ExportCommand // instanceof handles nulls
-                && filePath.equals(((ExportCommand) other).filePath)); // state check
+                && filePath.equals(((ExportCommand) other).filePath)
+                && format == ((ExportCommand) other).format
+                && predicate.equals(((ExportCommand) other).predicate)
+                && includesCachedCopies == ((ExportCommand) other).includesCachedCopies); // state check
     }
 }
@@ -1,16 +1,27 @@
 package seedu.mark.logic.commands;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.mark.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 import seedu.mark.commons.core.Messages;
 import seedu.mark.logic.commands.results.CommandResult;
 import seedu.mark.model.Model;
+import seedu.mark.model.bookmark.Bookmark;
 import seedu.mark.model.predicates.BookmarkContainsKeywordsPredicate;
+import seedu.mark.model.search.FuzzyHit;
 import seedu.mark.storage.Storage;
 
 /**
  * Finds and lists all bookmarks in Mark whose identifiers contain any of the argument keywords.
  * Keyword matching is case insensitive.
+ * In fuzzy mode, lists the bookmarks whose name, URL or tags have words within a few typos of the keywords instead,
+ * from the closest match.
  */
 public class FindCommand extends Command {
 
@@ -18,28 +29,78 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds bookmarks that contain any of the given "
             + "keywords in their name or URL, or that are under the given folder(s) or tagged with the given tag(s).\n"
+            + "With fuzzy/, finds the bookmarks whose name, URL or tags are closest to the keywords, allowing typos.\n"
             + "Parameters: [KEYWORD]... [t/TAG]... [f/FOLDER]...\n"
-            + "Example: " + COMMAND_WORD + " stack-overflow github t/Favorite f/CS2103T";
+            + "or: fuzzy/KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " stack-overflow github t/Favorite f/CS2103T\n"
+            + "Example: " + COMMAND_WORD + " fuzzy/gihtub stakoverflow";
+
+    public static final String MESSAGE_NO_FUZZY_MATCHES = "No bookmarks are close to: %1$s";
+    public static final String MESSAGE_FUZZY_SUCCESS = "Closest bookmarks:\n%1$s";
+    public static final String MESSAGE_FUZZY_HIT = "%1$d. %2$s";
+
+    /** The maximum number of bookmarks that are listed by a fuzzy search. */
+    public static final int MAX_FUZZY_HITS = 20;
 
     private final BookmarkContainsKeywordsPredicate predicate;
+    private final String fuzzyQuery;
 
+    /**
+     * Creates a FindCommand to list the bookmarks that match {@code predicate}.
+     */
     public FindCommand(BookmarkContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
         this.predicate = predicate;
+        this.fuzzyQuery = null;
+    }
+
+    /**
+     * Creates a FindCommand to list the bookmarks closest to the keywords in {@code fuzzyQuery}.
+     */
+    public FindCommand(String fuzzyQuery) {
+        requireNonNull(fuzzyQuery);
+        this.predicate = null;
+        this.fuzzyQuery = fuzzyQuery;
     }
 
     @Override
     public CommandResult execute(Model model, Storage storage) {
         requireAllNonNull(model, storage);
 
-        model.updateFilteredBookmarkList(predicate);
+        if (fuzzyQuery != null) {
+            return executeFuzzy(model);
+        }
+        model.updateFilteredBookmarkList(predicate.usingIndex(model.getBookmarkIndex()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_BOOKMARKS_LISTED_OVERVIEW, model.getFilteredBookmarkList().size()));
     }
 
+    /**
+     * Lists the bookmarks closest to the fuzzy query from the closest match, both in the bookmark list
+     * and in the result message.
+     */
+    private CommandResult executeFuzzy(Model model) {
+        List<FuzzyHit> hits = model.getFuzzyIndex().search(fuzzyQuery, MAX_FUZZY_HITS);
+        if (hits.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FUZZY_MATCHES, fuzzyQuery));
+        }
+
+        Map<Bookmark, Integer> ranks = new IdentityHashMap<>();
+        StringBuilder hitList = new StringBuilder();
+        for (int i = 0; i < hits.size(); i++) {
+            Bookmark bookmark = hits.get(i).getBookmark();
+            ranks.put(bookmark, i);
+            hitList.append(String.format(MESSAGE_FUZZY_HIT, i + 1, bookmark.getName())).append("\n");
+        }
+        model.updateFilteredBookmarkList(ranks::containsKey, Comparator.comparing(ranks::get));
+        return new CommandResult(String.format(MESSAGE_FUZZY_SUCCESS, hitList.toString().trim()));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && Objects.equals(predicate, ((FindCommand) other).predicate)
+                && Objects.equals(fuzzyQuery, ((FindCommand) other).fuzzyQuery)); // state check
     }
 }
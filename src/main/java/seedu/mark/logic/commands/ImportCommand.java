@@ -3,11 +3,14 @@ package seedu.mark.logic.commands;
 import static seedu.mark.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.mark.commons.core.LogsCenter;
@@ -18,6 +21,8 @@ import seedu.mark.model.Model;
 import seedu.mark.model.ReadOnlyMark;
 import seedu.mark.model.bookmark.Bookmark;
 import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.folderstructure.FolderStructure;
+import seedu.mark.storage.BrowserBookmarkReader;
 import seedu.mark.storage.JsonMarkStorage;
 import seedu.mark.storage.Storage;
 
@@ -29,6 +34,8 @@ public class ImportCommand extends Command {
     public static final String COMMAND_WORD = "import";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports all of Mark's data from the specified file.\n"
+            + "Bookmarks exported by a web browser, as a bookmarks.html file or a Chromium Bookmarks file, "
+            + "can also be imported.\n"
             + "Parameters: FILENAME\n"
             + "Example: " + COMMAND_WORD + " savedBookmarks";
 
@@ -41,8 +48,14 @@ public class ImportCommand extends Command {
             + "from this file";
     public static final String MESSAGE_FILE_FORMAT_INCORRECT = "The format of data in the file %1$s is incorrect";
     public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist";
+    public static final String MESSAGE_BROWSER_IMPORT_SUCCESS = "%1$d bookmarks successfully imported from %2$s";
+    public static final String MESSAGE_BROWSER_IMPORT_SKIPPED = "\n\n%1$d bookmarks were not imported as they "
+            + "already exist or their URLs are not supported";
+    public static final String MESSAGE_NO_BROWSER_BOOKMARKS_TO_IMPORT = "There are no new bookmarks to import "
+            + "from %1$s";
 
     private static final Logger logger = LogsCenter.getLogger(JsonMarkStorage.class);
+    private static final String JSON_EXTENSION = ".json";
 
     private final Path filePath;
 
@@ -79,6 +92,69 @@ public class ImportCommand extends Command {
         return newMark.get();
     }
 
+    /**
+     * Returns the file to import from, which is {@link #filePath} unless it is a json file that does not exist,
+     * and a file of the same name with no extension does. Files with no extension include the {@code Bookmarks}
+     * file of Chromium-based browsers, which is imported as it is, since the format of a file is told by its
+     * contents.
+     */
+    private Path getSourceFile() {
+        String fileName = filePath.getFileName().toString();
+        if (!fileName.endsWith(JSON_EXTENSION) || Files.exists(filePath)) {
+            return filePath;
+        }
+        Path extensionlessFile = filePath.resolveSibling(
+                fileName.substring(0, fileName.length() - JSON_EXTENSION.length()));
+        return Files.isRegularFile(extensionlessFile) ? extensionlessFile : filePath;
+    }
+
+    /**
+     * Returns a reader for the given file if it holds bookmarks exported by a web browser.
+     */
+    private static Optional<BrowserBookmarkReader> findBrowserBookmarkReader(Path filePath) throws CommandException {
+        try {
+            return BrowserBookmarkReader.forFile(filePath);
+        } catch (IOException ioe) {
+            logger.info("Bookmarks not imported: Problem while reading from the file " + filePath);
+            throw new CommandException(MESSAGE_IMPORT_FAILURE);
+        }
+    }
+
+    /**
+     * Imports the browser bookmarks in {@code filePath} into {@code model}, batch by batch as they are read.
+     */
+    private static CommandResult importBrowserBookmarks(Model model, BrowserBookmarkReader reader, Path filePath)
+            throws CommandException {
+        BrowserBookmarkImporter importer = new BrowserBookmarkImporter(model);
+        int skippedCount;
+        try {
+            skippedCount = reader.read(filePath, importer);
+        } catch (IOException | DataConversionException e) {
+            logger.info("Bookmarks not imported: Problem while reading browser bookmarks from " + filePath
+                    + ": " + e);
+            if (importer.hasChangedModel()) {
+                // keep the bookmarks that were imported, but allow them to be undone together
+                model.saveMark(MESSAGE_IMPORT_FAILURE);
+            }
+            throw new CommandException(e instanceof IOException
+                    ? MESSAGE_IMPORT_FAILURE
+                    : String.format(MESSAGE_FILE_FORMAT_INCORRECT, filePath));
+        }
+
+        skippedCount += importer.getExistingCount();
+        String message = importer.getImportedCount() == 0
+                ? String.format(MESSAGE_NO_BROWSER_BOOKMARKS_TO_IMPORT, filePath)
+                : String.format(MESSAGE_BROWSER_IMPORT_SUCCESS, importer.getImportedCount(), filePath);
+        if (skippedCount > 0) {
+            message += String.format(MESSAGE_BROWSER_IMPORT_SKIPPED, skippedCount);
+        }
+
+        if (importer.hasChangedModel()) {
+            model.saveMark(message);
+        }
+        return new CommandResult(message);
+    }
+
     /**
      * Executes the import command on the given {@code model} and {@code storage}.
      *
@@ -92,7 +168,13 @@ public class ImportCommand extends Command {
     public CommandResult execute(Model model, Storage storage) throws CommandException {
         requireAllNonNull(model, storage);
 
-        ReadOnlyMark newMark = readMarkFromStorage(storage, filePath);
+        Path sourceFile = getSourceFile();
+        Optional<BrowserBookmarkReader> browserBookmarkReader = findBrowserBookmarkReader(sourceFile);
+        if (browserBookmarkReader.isPresent()) {
+            return importBrowserBookmarks(model, browserBookmarkReader.get(), sourceFile);
+        }
+
+        ReadOnlyMark newMark = readMarkFromStorage(storage, sourceFile);
 
         MarkImporter importer = new MarkImporter(model, newMark);
 
@@ -104,9 +186,9 @@ public class ImportCommand extends Command {
         importer.importBookmarks();
 
         String message = importer.hasExistingBookmarks()
-                ? String.format(MESSAGE_IMPORT_SUCCESS_WITH_DUPLICATES, filePath,
+                ? String.format(MESSAGE_IMPORT_SUCCESS_WITH_DUPLICATES, sourceFile,
                     importer.getExistingBookmarksAsString())
-                : String.format(MESSAGE_IMPORT_SUCCESS, filePath);
+                : String.format(MESSAGE_IMPORT_SUCCESS, sourceFile);
 
         model.saveMark(message);
         return new CommandResult(message);
@@ -133,9 +215,11 @@ public class ImportCommand extends Command {
         private Model model;
         private List<Bookmark> existingBookmarks = new ArrayList<>();
         private List<Bookmark> bookmarksToImport = new ArrayList<>();
+        private final Set<Folder> existingFolders;
 
         MarkImporter(Model model, ReadOnlyMark markToImport) {
             this.model = model;
+            this.existingFolders = model.getMark().getFolderStructure().getAllFolders();
             processBookmarks(markToImport.getBookmarkList());
         }
 
@@ -151,12 +235,14 @@ public class ImportCommand extends Command {
         /**
          * Classifies bookmarks from the given list based on whether they and/or
          * their folders exist in the model.
+         * Each bookmark is looked up in the name and url indexes of the model's bookmarks, and its folder in
+         * a set of the model's folders, so the whole list is classified in a single pass.
          */
         private void processBookmarks(ObservableList<Bookmark> bookmarks) {
             for (Bookmark bookmark : bookmarks) {
                 if (model.hasBookmark(bookmark)) {
                     this.existingBookmarks.add(bookmark);
-                } else if (!model.hasFolder(bookmark.getFolder())
+                } else if (!existingFolders.contains(bookmark.getFolder())
                         || bookmark.getFolder().equals(Folder.ROOT_FOLDER)) {
                     this.bookmarksToImport.add(setFolderAsImportFolder(bookmark));
                 } else {
@@ -197,7 +283,7 @@ public class ImportCommand extends Command {
             String newlineAndIndent = "\n    ";
             return existingBookmarks.stream().map(Bookmark::toString)
                     .map(newlineAndIndent::concat)
-                    .reduce("", String::concat);
+                    .collect(Collectors.joining());
         }
 
         /**
@@ -250,4 +336,84 @@ public class ImportCommand extends Command {
                     && getBookmarksToImport().equals(markImporter.getBookmarksToImport());
         }
     }
+
+    /**
+     * Adds the folders and bookmarks read from a browser bookmark file to a {@code Model}.
+     * Browser folders that already exist in the model under the same parent are reused, and browser folders whose
+     * names are taken by folders elsewhere are given a numbered suffix. Bookmarks that already exist are skipped.
+     */
+    public static class BrowserBookmarkImporter implements BrowserBookmarkReader.Handler {
+        private final Model model;
+        private int importedCount;
+        private int existingCount;
+        private boolean hasChangedModel;
+
+        BrowserBookmarkImporter(Model model) {
+            this.model = model;
+        }
+
+        @Override
+        public Folder addFolder(Folder folder, Folder parentFolder) {
+            addImportFolderIfMissing();
+            Folder addedFolder = folder;
+            for (int i = 2; model.hasFolder(addedFolder); i++) {
+                if (isSubfolder(addedFolder, parentFolder)) {
+                    return addedFolder;
+                }
+                addedFolder = new Folder(folder.folderName + " " + i);
+            }
+            model.addFolder(addedFolder, parentFolder);
+            hasChangedModel = true;
+            return addedFolder;
+        }
+
+        /**
+         * Returns true if {@code folder} is a subfolder of {@code parentFolder} in the model.
+         */
+        private boolean isSubfolder(Folder folder, Folder parentFolder) {
+            FolderStructure parent = model.getMark().getFolderStructure().find(parentFolder);
+            return parent != null && parent.getSubfolders().stream()
+                    .anyMatch(subfolder -> subfolder.getFolder().equals(folder));
+        }
+
+        @Override
+        public void addBookmarks(List<Bookmark> bookmarks) {
+            addImportFolderIfMissing();
+            int sizeBefore = model.getMark().getBookmarkList().size();
+            model.addBookmarks(bookmarks);
+            int addedCount = model.getMark().getBookmarkList().size() - sizeBefore;
+
+            importedCount += addedCount;
+            existingCount += bookmarks.size() - addedCount;
+            hasChangedModel |= addedCount > 0;
+        }
+
+        private void addImportFolderIfMissing() {
+            if (!model.hasFolder(Folder.IMPORT_FOLDER)) {
+                model.addFolder(Folder.IMPORT_FOLDER, Folder.ROOT_FOLDER);
+                hasChangedModel = true;
+            }
+        }
+
+        /**
+         * Returns the number of bookmarks that were added to the model.
+         */
+        public int getImportedCount() {
+            return importedCount;
+        }
+
+        /**
+         * Returns the number of bookmarks that were not added as they already exist in the model.
+         */
+        public int getExistingCount() {
+            return existingCount;
+        }
+
+        /**
+         * Returns true if any folder or bookmark was added to the model.
+         */
+        public boolean hasChangedModel() {
+            return hasChangedModel;
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package seedu.mark.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mark.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.mark.logic.commands.results.CommandResult;
+import seedu.mark.logic.commands.results.SearchCommandResult;
+import seedu.mark.model.Model;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.CachedCopy;
+import seedu.mark.model.search.SearchHit;
+import seedu.mark.storage.Storage;
+
+/**
+ * Searches the cached copies of bookmarks and their annotation notes for paragraphs that contain any of the
+ * argument keywords, lists the bookmarks found and opens the most relevant paragraph.
+ * Keyword matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches the cached copies of bookmarks and their "
+            + "annotation notes for the given keywords, and opens the most relevant paragraph.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " raft consensus";
+
+    public static final String MESSAGE_NO_MATCHES = "No cached copies contain: %1$s";
+    public static final String MESSAGE_SUCCESS = "Most relevant paragraphs:\n%1$s";
+    public static final String MESSAGE_HIT = "%1$d. %2$s (%3$s)";
+
+    /** The maximum number of paragraphs that are listed. */
+    public static final int MAX_HITS = 10;
+
+    private final String query;
+
+    /**
+     * Creates a SearchCommand to search for the keywords in {@code query}.
+     */
+    public SearchCommand(String query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) {
+        requireAllNonNull(model, storage);
+
+        List<SearchHit> hits = model.getContentIndex().search(query, MAX_HITS);
+        if (hits.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_MATCHES, query));
+        }
+
+        Set<Bookmark> bookmarksFound = Collections.newSetFromMap(new IdentityHashMap<>());
+        StringBuilder hitList = new StringBuilder();
+        for (int i = 0; i < hits.size(); i++) {
+            SearchHit hit = hits.get(i);
+            bookmarksFound.add(hit.getBookmark());
+            hitList.append(String.format(MESSAGE_HIT, i + 1, hit.getBookmark().getName(), hit.getParagraphId()))
+                    .append("\n");
+        }
+        model.updateFilteredBookmarkList(bookmarksFound::contains);
+
+        SearchHit bestHit = hits.get(0);
+        List<CachedCopy> cachedCopies = bestHit.getBookmark().getCachedCopies();
+        model.updateDocument(cachedCopies.get(cachedCopies.size() - 1).getAnnotations());
+        model.setOfflineDocNameCurrentlyShowing(bestHit.getBookmark().getName().value);
+
+        return new SearchCommandResult(String.format(MESSAGE_SUCCESS, hitList.toString().trim()),
+                bestHit.getParagraphId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                && query.equals(((SearchCommand) other).query)); // state check
+    }
+}
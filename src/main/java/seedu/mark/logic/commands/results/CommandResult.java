@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Objects;
 
 import seedu.mark.logic.commands.TabCommand;
+import seedu.mark.model.annotation.ParagraphIdentifier;
 
 /**
  * Represents the result of a command execution.
@@ -40,6 +41,10 @@ public class CommandResult {
         return 0;
     }
 
+    public ParagraphIdentifier getParagraphToShow() {
+        return null;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -57,7 +62,8 @@ public class CommandResult {
                 && isShowHelp() == otherCommandResult.isShowHelp()
                 && isExit() == otherCommandResult.isExit()
                 && getTab() == otherCommandResult.getTab()
-                && getLevelsToExpand() == otherCommandResult.getLevelsToExpand();
+                && getLevelsToExpand() == otherCommandResult.getLevelsToExpand()
+                && Objects.equals(getParagraphToShow(), otherCommandResult.getParagraphToShow());
     }
 
     @Override
@@ -66,7 +72,8 @@ public class CommandResult {
                 isShowHelp(),
                 isExit(),
                 getTab(),
-                getLevelsToExpand());
+                getLevelsToExpand(),
+                getParagraphToShow());
     }
 
 }
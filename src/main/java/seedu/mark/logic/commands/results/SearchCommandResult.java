@@ -0,0 +1,29 @@
+package seedu.mark.logic.commands.results;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.mark.model.annotation.ParagraphIdentifier;
+
+/**
+ * Represents the result of a search command execution, which opens the cached copy with the most relevant paragraph.
+ */
+public class SearchCommandResult extends OfflineCommandResult {
+
+    private final ParagraphIdentifier paragraphToShow;
+
+    /**
+     * Constructs a {@code SearchCommandResult} with the feedback and the paragraph to show.
+     *
+     * @param feedbackToUser the feedback to the user
+     * @param paragraphToShow the paragraph of the opened cached copy to show
+     */
+    public SearchCommandResult(String feedbackToUser, ParagraphIdentifier paragraphToShow) {
+        super(feedbackToUser);
+        this.paragraphToShow = requireNonNull(paragraphToShow);
+    }
+
+    @Override
+    public ParagraphIdentifier getParagraphToShow() {
+        return paragraphToShow;
+    }
+}
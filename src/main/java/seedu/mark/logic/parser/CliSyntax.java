@@ -6,7 +6,10 @@ package seedu.mark.logic.parser;
 public class CliSyntax {
 
     /* Prefix definitions */
+    public static final Prefix PREFIX_EXCLUDE = new Prefix("x/");
     public static final Prefix PREFIX_FOLDER = new Prefix("f/");
+    public static final Prefix PREFIX_FORMAT = new Prefix("as/");
+    public static final Prefix PREFIX_FUZZY = new Prefix("fuzzy/");
     public static final Prefix PREFIX_HIGHLIGHT = new Prefix("h/");
     public static final Prefix PREFIX_NAME = new Prefix("n/");
     public static final Prefix PREFIX_NOT_FOLDER = new Prefix("nf/");
@@ -1,28 +1,45 @@
 package seedu.mark.logic.parser;
 
 import static seedu.mark.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_EXCLUDE;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_FOLDER;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_FORMAT;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_NOT_FOLDER;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_NOT_NAME;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_NOT_URL;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_URL;
 import static seedu.mark.logic.parser.ParserUtil.MESSAGE_FILE_NAME_INCLUDES_EXTENSION;
 import static seedu.mark.logic.parser.ParserUtil.MESSAGE_INVALID_FILE_NAME;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import seedu.mark.logic.commands.ExportCommand;
 import seedu.mark.logic.parser.exceptions.ParseException;
+import seedu.mark.model.predicates.BookmarkPredicate;
+import seedu.mark.storage.BookmarkExporter;
 
 /**
  * Parses input arguments and creates a new {@code ExportCommand} object.
  */
 public class ExportCommandParser implements Parser<ExportCommand> {
 
+    public static final String MESSAGE_INVALID_FORMAT = "Export format should be one of json, ndjson or html.";
+    public static final String MESSAGE_INVALID_EXCLUSION = "Only cached copies can be excluded from an export, "
+            + "with " + PREFIX_EXCLUDE + ExportCommand.EXCLUDE_CACHE;
+
     /**
      * Parses the given {@code String} of arguments in the context of the ExportCommand
      * and returns an ExportCommand object for execution.
      * @throws ParseException if the user input does not conform to the expected format
      */
     public ExportCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FORMAT, PREFIX_EXCLUDE,
+                PREFIX_NAME, PREFIX_URL, PREFIX_FOLDER, PREFIX_NOT_NAME, PREFIX_NOT_URL, PREFIX_NOT_FOLDER);
+        String trimmedArgs = argMultimap.getPreamble().trim();
 
-        if (trimmedArgs.isEmpty() || trimmedArgs.split(" ").length != 1) {
+        if (trimmedArgs.isEmpty() || trimmedArgs.split("\\s+").length != 1) {
             // args must contain exactly one word
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
@@ -31,8 +48,21 @@ public class ExportCommandParser implements Parser<ExportCommand> {
         } else if (!ParserUtil.isValidFilename(trimmedArgs)) {
             throw new ParseException(MESSAGE_INVALID_FILE_NAME);
         }
-        Path destinationFile = Path.of("data", "bookmarks", trimmedArgs + ".json");
 
-        return new ExportCommand(destinationFile);
+        BookmarkExporter.Format format = BookmarkExporter.Format.JSON;
+        if (argMultimap.getValue(PREFIX_FORMAT).isPresent()) {
+            format = BookmarkExporter.Format.fromName(argMultimap.getValue(PREFIX_FORMAT).get().trim())
+                    .orElseThrow(() -> new ParseException(MESSAGE_INVALID_FORMAT));
+        }
+
+        List<String> exclusions = argMultimap.getAllValues(PREFIX_EXCLUDE);
+        if (exclusions.stream().anyMatch(exclusion -> !exclusion.trim().equals(ExportCommand.EXCLUDE_CACHE))) {
+            throw new ParseException(MESSAGE_INVALID_EXCLUSION);
+        }
+
+        BookmarkPredicate predicate = AutotagCommandParser.makePredicateFromMultimap(argMultimap);
+        Path destinationFile = Path.of("data", "bookmarks", trimmedArgs + "." + format.getFileExtension());
+
+        return new ExportCommand(destinationFile, format, predicate, exclusions.isEmpty());
     }
 }
@@ -2,6 +2,7 @@ package seedu.mark.logic.parser;
 
 import static seedu.mark.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.mark.logic.parser.CliSyntax.PREFIX_FOLDER;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static seedu.mark.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
@@ -25,11 +26,14 @@ public class FindCommandParser implements Parser<FindCommand> {
     public FindCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_FOLDER);
+                ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_FOLDER, PREFIX_FUZZY);
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        if (argMultimap.getValue(PREFIX_FUZZY).isPresent()) {
+            return parseFuzzy(argMultimap);
+        }
 
         String preamble = argMultimap.getPreamble();
         List<String> identifierKeywords = new LinkedList<>(Arrays.asList(preamble.split("\\s+")));
@@ -49,4 +53,17 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         return new FindCommand(predicate);
     }
+
+    /**
+     * Parses the keywords of a fuzzy search, which cannot be combined with other keywords, tags or folders.
+     * @throws ParseException if there are no fuzzy keywords, or there are other arguments
+     */
+    private FindCommand parseFuzzy(ArgumentMultimap argMultimap) throws ParseException {
+        String fuzzyQuery = String.join(" ", argMultimap.getAllValues(PREFIX_FUZZY)).trim();
+        if (fuzzyQuery.isEmpty() || !argMultimap.getPreamble().isEmpty()
+                || argMultimap.getValue(PREFIX_TAG).isPresent() || argMultimap.getValue(PREFIX_FOLDER).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(fuzzyQuery.replaceAll("\\s+", " "));
+    }
 }
@@ -14,6 +14,8 @@ import seedu.mark.logic.parser.exceptions.ParseException;
  */
 public class ImportCommandParser implements Parser<ImportCommand> {
 
+    private static final String HTML_EXTENSION = ".html";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ImportCommand
      * and returns an ImportCommand object for execution.
@@ -28,11 +30,18 @@ public class ImportCommandParser implements Parser<ImportCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
         } else if (trimmedArgs.endsWith(".json")) {
             throw new ParseException(MESSAGE_FILE_NAME_INCLUDES_EXTENSION);
-        } else if (!ParserUtil.isValidFilename(trimmedArgs)) {
+        }
+
+        // bookmark files exported by web browsers keep their html extension
+        boolean isHtmlFile = trimmedArgs.endsWith(HTML_EXTENSION);
+        String fileName = isHtmlFile
+                ? trimmedArgs.substring(0, trimmedArgs.length() - HTML_EXTENSION.length())
+                : trimmedArgs;
+        if (!ParserUtil.isValidFilename(fileName)) {
             throw new ParseException(MESSAGE_INVALID_FILE_NAME);
         }
 
-        Path sourceFile = Path.of("data", "bookmarks", trimmedArgs + ".json");
+        Path sourceFile = Path.of("data", "bookmarks", fileName + (isHtmlFile ? HTML_EXTENSION : ".json"));
 
         return new ImportCommand(sourceFile);
     }
@@ -39,6 +39,7 @@ import seedu.mark.logic.commands.ImportCommand;
 import seedu.mark.logic.commands.ListCommand;
 import seedu.mark.logic.commands.OfflineCommand;
 import seedu.mark.logic.commands.RedoCommand;
+import seedu.mark.logic.commands.SearchCommand;
 import seedu.mark.logic.commands.TabCommand;
 import seedu.mark.logic.commands.UndoCommand;
 import seedu.mark.logic.parser.exceptions.ParseException;
@@ -96,6 +97,9 @@ public class MarkParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new NoArgumentParser<>(ListCommand::new).parse(arguments);
 
@@ -6,16 +6,21 @@ import static seedu.mark.model.annotation.OfflineDocument.NAME_NO_DOCUMENT;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.SortedList;
 import seedu.mark.model.annotation.Paragraph;
@@ -24,6 +29,7 @@ import seedu.mark.model.autotag.AutotagController;
 import seedu.mark.model.autotag.BookmarkTagger;
 import seedu.mark.model.autotag.SelectiveBookmarkTagger;
 import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.BookmarkIndex;
 import seedu.mark.model.bookmark.Folder;
 import seedu.mark.model.bookmark.UniqueBookmarkList;
 import seedu.mark.model.bookmark.util.BookmarkBuilder;
@@ -38,8 +44,17 @@ import seedu.mark.model.tag.Tag;
  */
 public class Mark implements ReadOnlyMark {
 
+    /** Source of folder revisions, which are unique across all instances of Mark. */
+    private static final AtomicLong revisionCounter = new AtomicLong();
+
     private final UniqueBookmarkList bookmarks;
 
+    /** Index of the words in the bookmarks, which is updated whenever the bookmark list changes. */
+    private final BookmarkIndex bookmarkIndex = new BookmarkIndex();
+
+    /** The revision of the bookmarks in each folder, which changes whenever a bookmark in the folder changes. */
+    private final Map<Folder, Long> folderRevisions = new HashMap<>();
+
     private final FolderStructure folderStructure;
 
     private final ReminderAssociation reminderAssociation;
@@ -68,6 +83,8 @@ public class Mark implements ReadOnlyMark {
 
         offlineDocCurrentlyShowing = new SimpleStringProperty(NAME_NO_DOCUMENT);
 
+        bookmarks.asUnmodifiableObservableList().addListener(this::updateFolderRevisions);
+        bookmarks.asUnmodifiableObservableList().addListener(bookmarkIndex::update);
     }
 
     /**
@@ -95,6 +112,8 @@ public class Mark implements ReadOnlyMark {
         requireNonNull(newData);
 
         setBookmarks(newData.getBookmarkList());
+        folderRevisions.clear();
+        folderRevisions.putAll(newData.getFolderRevisions());
         setFolderStructure(newData.getFolderStructure().clone());
 
         setReminderAssociation(newData.getReminderAssociation());
@@ -128,6 +147,14 @@ public class Mark implements ReadOnlyMark {
         bookmarks.add(p);
     }
 
+    /**
+     * Adds all bookmarks in {@code toAdd} to Mark as a single change.
+     * The bookmarks must not already exist in Mark, and must not be the same as each other.
+     */
+    public void addBookmarks(List<Bookmark> toAdd) {
+        bookmarks.addAll(toAdd);
+    }
+
     /**
      * Replaces the given bookmark {@code target} in the list with {@code editedBookmark}.
      * {@code target} must exist in Mark.
@@ -152,6 +179,28 @@ public class Mark implements ReadOnlyMark {
         setReminders();
     }
 
+    /**
+     * Replaces the {@code count} bookmarks starting at {@code index} with {@code replacement},
+     * without updating the reminders of the replaced bookmarks.
+     */
+    void replaceBookmarks(int index, int count, List<Bookmark> replacement) {
+        bookmarks.replaceRange(index, count, replacement);
+    }
+
+    /**
+     * Gives every folder that a bookmark was added to or removed from in {@code change} a new revision.
+     */
+    private void updateFolderRevisions(ListChangeListener.Change<? extends Bookmark> change) {
+        while (change.next()) {
+            for (Bookmark removed : change.getRemoved()) {
+                folderRevisions.put(removed.getFolder(), revisionCounter.incrementAndGet());
+            }
+            for (Bookmark added : change.getAddedSubList()) {
+                folderRevisions.put(added.getFolder(), revisionCounter.incrementAndGet());
+            }
+        }
+    }
+
     //// folder operations
 
     /**
@@ -320,7 +369,7 @@ public class Mark implements ReadOnlyMark {
      * Applies all {@link SelectiveBookmarkTagger}s to the bookmarks in Mark.
      */
     public void applyAllTaggers() {
-        setBookmarks(autotagController.applyTaggersToList(getBookmarkList()));
+        setBookmarks(autotagController.applyTaggersToList(getBookmarkList(), bookmarkIndex));
     }
 
 
@@ -349,6 +398,18 @@ public class Mark implements ReadOnlyMark {
         return bookmarks.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Map<Folder, Long> getFolderRevisions() {
+        return Collections.unmodifiableMap(folderRevisions);
+    }
+
+    /**
+     * Returns the index of the words in the bookmarks of this {@code Mark}.
+     */
+    public BookmarkIndex getBookmarkIndex() {
+        return bookmarkIndex;
+    }
+
     @Override
     public FolderStructure getFolderStructure() {
         return folderStructure;
@@ -0,0 +1,102 @@
+package seedu.mark.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.mark.model.annotation.Paragraph;
+import seedu.mark.model.autotag.AutotagController;
+import seedu.mark.model.autotag.SelectiveBookmarkTagger;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.folderstructure.FolderStructure;
+import seedu.mark.model.reminder.Reminder;
+import seedu.mark.model.reminder.ReminderAssociation;
+
+/**
+ * An unchanging copy of a Mark, which can be read from another thread while the Mark it was taken from changes.
+ *
+ * Bookmarks are immutable, so the bookmark list is copied as an array of references, without hashing or
+ * indexing the bookmarks as a {@code Mark} would. The other parts of Mark are small, and are copied in full.
+ */
+public class MarkSnapshot implements ReadOnlyMark {
+
+    private final ObservableList<Bookmark> bookmarks;
+    private final Map<Folder, Long> folderRevisions;
+    private final FolderStructure folderStructure;
+    private final ReminderAssociation reminderAssociation;
+    private final AutotagController autotagController;
+    private final ObservableList<Paragraph> annotatedDocument;
+    private final ObservableValue<String> offlineDocCurrentlyShowing;
+
+    private MarkSnapshot(ReadOnlyMark mark) {
+        bookmarks = FXCollections.unmodifiableObservableList(FXCollections.observableList(
+                Arrays.asList(mark.getBookmarkList().toArray(new Bookmark[0]))));
+        folderRevisions = Map.copyOf(mark.getFolderRevisions());
+        folderStructure = mark.getFolderStructure().clone();
+        reminderAssociation = new ReminderAssociation();
+        reminderAssociation.setAssociation(mark.getReminderAssociation().getAssociation());
+        autotagController = new AutotagController(FXCollections.observableArrayList(mark.getAutotags()));
+        annotatedDocument = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(mark.getAnnotatedDocument()));
+        offlineDocCurrentlyShowing = new SimpleStringProperty(mark.getOfflineDocCurrentlyShowing().getValue());
+    }
+
+    /**
+     * Returns a snapshot of the current state of {@code mark}.
+     */
+    public static MarkSnapshot of(ReadOnlyMark mark) {
+        requireNonNull(mark);
+        return mark instanceof MarkSnapshot ? (MarkSnapshot) mark : new MarkSnapshot(mark);
+    }
+
+    @Override
+    public ObservableList<Bookmark> getBookmarkList() {
+        return bookmarks;
+    }
+
+    @Override
+    public Map<Folder, Long> getFolderRevisions() {
+        return folderRevisions;
+    }
+
+    @Override
+    public FolderStructure getFolderStructure() {
+        return folderStructure;
+    }
+
+    @Override
+    public ReminderAssociation getReminderAssociation() {
+        return reminderAssociation;
+    }
+
+    @Override
+    public ObservableList<Reminder> getReminderList() {
+        return reminderAssociation.getReminderList();
+    }
+
+    @Override
+    public AutotagController getAutotagController() {
+        return autotagController;
+    }
+
+    @Override
+    public ObservableList<SelectiveBookmarkTagger> getAutotags() {
+        return FXCollections.unmodifiableObservableList(autotagController.getTaggers());
+    }
+
+    @Override
+    public ObservableList<Paragraph> getAnnotatedDocument() {
+        return annotatedDocument;
+    }
+
+    @Override
+    public ObservableValue<String> getOfflineDocCurrentlyShowing() {
+        return offlineDocCurrentlyShowing;
+    }
+}
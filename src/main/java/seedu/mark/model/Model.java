@@ -1,6 +1,7 @@
 package seedu.mark.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
@@ -14,9 +15,12 @@ import seedu.mark.model.annotation.OfflineDocument;
 import seedu.mark.model.annotation.Paragraph;
 import seedu.mark.model.autotag.SelectiveBookmarkTagger;
 import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.BookmarkIndex;
 import seedu.mark.model.bookmark.Folder;
 import seedu.mark.model.bookmark.Url;
 import seedu.mark.model.reminder.Reminder;
+import seedu.mark.model.search.ContentIndex;
+import seedu.mark.model.search.FuzzyIndex;
 
 /**
  * The API of the Model component.
@@ -102,7 +106,7 @@ public interface Model {
 
     /**
      * Attempts to add bookmarks from the given list to Mark. Bookmarks that
-     * already exist are ignored.
+     * already exist are ignored. All other bookmarks are added as a single change.
      */
     void addBookmarks(List<Bookmark> bookmarksToAdd);
 
@@ -121,6 +125,31 @@ public interface Model {
      */
     void updateFilteredBookmarkList(Predicate<Bookmark> predicate);
 
+    /**
+     * Updates the filter of the filtered bookmark list to filter by the given {@code predicate},
+     * and lists the bookmarks in the order given by {@code comparator} instead of their order in Mark.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredBookmarkList(Predicate<Bookmark> predicate, Comparator<Bookmark> comparator);
+
+    /**
+     * Returns the index of the words in the bookmarks of Mark, which is kept up to date with the bookmark list.
+     */
+    BookmarkIndex getBookmarkIndex();
+
+    /**
+     * Returns the full-text index of the cached copies of the bookmarks in Mark, building it if it has not been built.
+     * Once built, it is kept up to date with the bookmark list.
+     */
+    ContentIndex getContentIndex();
+
+    /**
+     * Returns the index of the words in the names, URLs and tags of the bookmarks in Mark for fuzzy search,
+     * building it if it has not been built. Once built, it is kept up to date with the bookmark list.
+     */
+    FuzzyIndex getFuzzyIndex();
+
     /**
      * Adds a {@code folder} to the subfolders of {@code parentFolder}.
      * @param folder
@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.mark.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -15,15 +19,20 @@ import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.mark.commons.core.GuiSettings;
 import seedu.mark.commons.core.LogsCenter;
 import seedu.mark.model.annotation.OfflineDocument;
 import seedu.mark.model.annotation.Paragraph;
 import seedu.mark.model.autotag.SelectiveBookmarkTagger;
 import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.BookmarkIndex;
 import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.Name;
 import seedu.mark.model.bookmark.Url;
 import seedu.mark.model.reminder.Reminder;
+import seedu.mark.model.search.ContentIndex;
+import seedu.mark.model.search.FuzzyIndex;
 import seedu.mark.model.tag.Tag;
 
 /**
@@ -35,25 +44,41 @@ public class ModelManager implements Model {
     private final VersionedMark versionedMark;
     private final UserPrefs userPrefs;
     private final FilteredList<Bookmark> filteredBookmarks;
+    private final SortedList<Bookmark> sortedBookmarks;
     private final FilteredList<Bookmark> favoriteBookmarks;
     private final SimpleObjectProperty<Url> currentUrl = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Bookmark> bookmarkToDisplayCache = new SimpleObjectProperty<>();
+    private final ContentIndex contentIndex;
+    private final FuzzyIndex fuzzyIndex = new FuzzyIndex();
 
 
     /**
      * Initializes a ModelManager with the given mark and userPrefs.
      */
     public ModelManager(ReadOnlyMark mark, ReadOnlyUserPrefs userPrefs) {
+        this(mark, userPrefs, ContentIndex.TermStore.NONE);
+    }
+
+    /**
+     * Initializes a ModelManager with the given mark and userPrefs,
+     * whose full-text index keeps the terms of cached copies in {@code termStore}.
+     */
+    public ModelManager(ReadOnlyMark mark, ReadOnlyUserPrefs userPrefs, ContentIndex.TermStore termStore) {
         super();
-        requireAllNonNull(mark, userPrefs);
+        requireAllNonNull(mark, userPrefs, termStore);
 
         logger.fine("Initializing with Mark: " + mark + " and user prefs " + userPrefs);
 
-        versionedMark = new VersionedMark(mark);
+        versionedMark = new VersionedMark(mark, userPrefs.getUndoHistoryMaxSteps(),
+                userPrefs.getUndoHistoryMemoryBudget());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredBookmarks = new FilteredList<>(versionedMark.getBookmarkList());
+        sortedBookmarks = new SortedList<>(filteredBookmarks);
         favoriteBookmarks = new FilteredList<>(versionedMark.getBookmarkList(),
             bookmark -> bookmark.containsTag(Tag.FAVORITE));
+        contentIndex = new ContentIndex(termStore);
+        versionedMark.getBookmarkList().addListener(contentIndex::update);
+        versionedMark.getBookmarkList().addListener(fuzzyIndex::update);
     }
 
     public ModelManager() {
@@ -66,6 +91,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        versionedMark.setHistoryLimits(userPrefs.getUndoHistoryMaxSteps(), userPrefs.getUndoHistoryMemoryBudget());
     }
 
     @Override
@@ -140,14 +166,23 @@ public class ModelManager implements Model {
     public void addBookmarks(List<Bookmark> bookmarksToAdd) {
         requireNonNull(bookmarksToAdd);
 
+        // bookmarks are the same if they have the same name or the same url
+        Set<Name> names = new HashSet<>();
+        Set<Url> urls = new HashSet<>();
+        List<Bookmark> newBookmarks = new ArrayList<>();
         for (Bookmark bookmark : bookmarksToAdd) {
-            if (hasBookmark(bookmark)) {
-                logger.fine("Duplicate bookmark was not added: " + bookmark);
+            if (hasBookmark(bookmark) || names.contains(bookmark.getName()) || urls.contains(bookmark.getUrl())) {
                 continue;
             }
-            logger.fine("Bookmark added: " + bookmark);
-            addBookmark(bookmark);
+            names.add(bookmark.getName());
+            urls.add(bookmark.getUrl());
+            newBookmarks.add(bookmark);
         }
+
+        versionedMark.addBookmarks(newBookmarks);
+        updateFilteredBookmarkList(PREDICATE_SHOW_ALL_BOOKMARKS);
+        logger.fine("Added " + newBookmarks.size() + " bookmarks, ignored "
+                + (bookmarksToAdd.size() - newBookmarks.size()) + " duplicate bookmarks");
     }
 
     @Override
@@ -213,7 +248,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Bookmark> getFilteredBookmarkList() {
-        return filteredBookmarks;
+        return sortedBookmarks;
     }
 
     @Override
@@ -224,7 +259,34 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredBookmarkList(Predicate<Bookmark> predicate) {
         requireNonNull(predicate);
+        sortedBookmarks.setComparator(null);
+        filteredBookmarks.setPredicate(predicate);
+    }
+
+    @Override
+    public void updateFilteredBookmarkList(Predicate<Bookmark> predicate, Comparator<Bookmark> comparator) {
+        requireAllNonNull(predicate, comparator);
+        // the previous comparator may not be able to order the bookmarks that match the new predicate
+        sortedBookmarks.setComparator(null);
         filteredBookmarks.setPredicate(predicate);
+        sortedBookmarks.setComparator(comparator);
+    }
+
+    @Override
+    public BookmarkIndex getBookmarkIndex() {
+        return versionedMark.getBookmarkIndex();
+    }
+
+    @Override
+    public ContentIndex getContentIndex() {
+        contentIndex.build(versionedMark.getBookmarkList());
+        return contentIndex;
+    }
+
+    @Override
+    public FuzzyIndex getFuzzyIndex() {
+        fuzzyIndex.build(versionedMark.getBookmarkList());
+        return fuzzyIndex;
     }
 
     //=========== Undo/Redo =================================================================================
@@ -401,7 +463,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return versionedMark.equals(other.versionedMark)
                 && userPrefs.equals(other.userPrefs)
-                && filteredBookmarks.equals(other.filteredBookmarks)
+                && sortedBookmarks.equals(other.sortedBookmarks)
                 && (currentUrl.getValue() == null
                 ? other.currentUrl.getValue() == null
                 : currentUrl.getValue().equals(other.currentUrl.getValue()));
@@ -1,11 +1,14 @@
 package seedu.mark.model;
 
+import java.util.Map;
+
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.mark.model.annotation.Paragraph;
 import seedu.mark.model.autotag.AutotagController;
 import seedu.mark.model.autotag.SelectiveBookmarkTagger;
 import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.Folder;
 import seedu.mark.model.folderstructure.FolderStructure;
 import seedu.mark.model.reminder.Reminder;
 import seedu.mark.model.reminder.ReminderAssociation;
@@ -21,6 +24,14 @@ public interface ReadOnlyMark {
      */
     ObservableList<Bookmark> getBookmarkList();
 
+    /**
+     * Returns an unmodifiable view of the revision of the bookmarks in each folder.
+     * A folder gets a new revision, unique across all instances of Mark, whenever a bookmark in it is added,
+     * edited or removed, so two marks with the same revision for a folder hold the same bookmarks in it.
+     * Folders without a revision should be treated as changed.
+     */
+    Map<Folder, Long> getFolderRevisions();
+
     FolderStructure getFolderStructure();
 
     ReminderAssociation getReminderAssociation();
@@ -3,6 +3,7 @@ package seedu.mark.model;
 import java.nio.file.Path;
 
 import seedu.mark.commons.core.GuiSettings;
+import seedu.mark.commons.util.Compression;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,24 @@ public interface ReadOnlyUserPrefs {
 
     Path getMarkFilePath();
 
+    /**
+     * Returns the number of bytes of cached copy contents that may be kept in memory after they are loaded.
+     */
+    long getCachedCopyMemoryBudget();
+
+    /**
+     * Returns the number of commands that can be undone.
+     */
+    int getUndoHistoryMaxSteps();
+
+    /**
+     * Returns the estimated number of bytes that the undo history may take up.
+     */
+    long getUndoHistoryMemoryBudget();
+
+    /**
+     * Returns the compression that the data file and the html of cached copies are written with.
+     */
+    Compression getDataCompression();
+
 }
@@ -1,19 +1,29 @@
 package seedu.mark.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.mark.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.util.Objects;
 
 import seedu.mark.commons.core.GuiSettings;
+import seedu.mark.commons.util.Compression;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_CACHED_COPY_MEMORY_BUDGET = 32L * 1024 * 1024;
+    public static final int DEFAULT_UNDO_HISTORY_MAX_STEPS = 1000;
+    public static final long DEFAULT_UNDO_HISTORY_MEMORY_BUDGET = 64L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path markFilePath = Path.of("data" , "mark.json");
+    private long cachedCopyMemoryBudget = DEFAULT_CACHED_COPY_MEMORY_BUDGET;
+    private int undoHistoryMaxSteps = DEFAULT_UNDO_HISTORY_MAX_STEPS;
+    private long undoHistoryMemoryBudget = DEFAULT_UNDO_HISTORY_MEMORY_BUDGET;
+    private Compression dataCompression = Compression.GZIP;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -35,6 +45,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setMarkFilePath(newUserPrefs.getMarkFilePath());
+        setCachedCopyMemoryBudget(newUserPrefs.getCachedCopyMemoryBudget());
+        setUndoHistoryMaxSteps(newUserPrefs.getUndoHistoryMaxSteps());
+        setUndoHistoryMemoryBudget(newUserPrefs.getUndoHistoryMemoryBudget());
+        setDataCompression(newUserPrefs.getDataCompression());
     }
 
     public GuiSettings getGuiSettings() {
@@ -55,6 +69,42 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.markFilePath = markFilePath;
     }
 
+    public long getCachedCopyMemoryBudget() {
+        return cachedCopyMemoryBudget;
+    }
+
+    public void setCachedCopyMemoryBudget(long cachedCopyMemoryBudget) {
+        checkArgument(cachedCopyMemoryBudget >= 0, "Cached copy memory budget cannot be negative");
+        this.cachedCopyMemoryBudget = cachedCopyMemoryBudget;
+    }
+
+    public int getUndoHistoryMaxSteps() {
+        return undoHistoryMaxSteps;
+    }
+
+    public void setUndoHistoryMaxSteps(int undoHistoryMaxSteps) {
+        checkArgument(undoHistoryMaxSteps >= 0, "Undo history steps cannot be negative");
+        this.undoHistoryMaxSteps = undoHistoryMaxSteps;
+    }
+
+    public long getUndoHistoryMemoryBudget() {
+        return undoHistoryMemoryBudget;
+    }
+
+    public void setUndoHistoryMemoryBudget(long undoHistoryMemoryBudget) {
+        checkArgument(undoHistoryMemoryBudget >= 0, "Undo history memory budget cannot be negative");
+        this.undoHistoryMemoryBudget = undoHistoryMemoryBudget;
+    }
+
+    public Compression getDataCompression() {
+        return dataCompression;
+    }
+
+    public void setDataCompression(Compression dataCompression) {
+        requireNonNull(dataCompression);
+        this.dataCompression = dataCompression;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -67,12 +117,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && markFilePath.equals(o.markFilePath);
+                && markFilePath.equals(o.markFilePath)
+                && cachedCopyMemoryBudget == o.cachedCopyMemoryBudget
+                && undoHistoryMaxSteps == o.undoHistoryMaxSteps
+                && undoHistoryMemoryBudget == o.undoHistoryMemoryBudget
+                && dataCompression == o.dataCompression;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, markFilePath);
+        return Objects.hash(guiSettings, markFilePath, cachedCopyMemoryBudget, undoHistoryMaxSteps,
+                undoHistoryMemoryBudget, dataCompression);
     }
 
     @Override
@@ -80,6 +135,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + markFilePath);
+        sb.append("\nCached copy memory budget : " + cachedCopyMemoryBudget);
+        sb.append("\nUndo history max steps : " + undoHistoryMaxSteps);
+        sb.append("\nUndo history memory budget : " + undoHistoryMemoryBudget);
+        sb.append("\nData compression : " + dataCompression);
         return sb.toString();
     }
 
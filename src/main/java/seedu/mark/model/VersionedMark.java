@@ -3,37 +3,185 @@ package seedu.mark.model;
 import static seedu.mark.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.mark.model.annotation.Paragraph;
+import seedu.mark.model.autotag.AutotagController;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.CachedCopy;
+import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.folderstructure.FolderStructure;
+import seedu.mark.model.reminder.ReminderAssociation;
 
 /**
  * {@code Mark} that keeps track of its own history.
+ *
+ * Instead of a copy of every state, the history keeps the changes that each saved state made to the bookmark list.
+ * The rest of each state is small, and is shared with the previous state when it has not changed.
+ * Undoing and redoing reverts and reapplies the changes to the bookmark list, without rebuilding it.
+ *
+ * The history is limited to a number of steps and an estimated number of bytes. The oldest states are dropped
+ * when a new state is saved beyond either limit.
  */
 public class VersionedMark extends Mark {
 
     private final List<MarkStateRecord> markStateRecords;
     private int currentPointer;
 
+    private int maxSteps;
+    private long memoryBudget;
+    /** Estimated number of bytes taken up by the changes and details of all of {@link #markStateRecords}. */
+    private long historyBytes;
+
+    /** Changes to the bookmark list that have not been saved as part of a state yet. */
+    private final List<BookmarkListChange> unsavedChanges = new ArrayList<>();
+    /** Whether the bookmark list is being restored to a saved state, so its changes should not be recorded. */
+    private boolean isRestoring;
+
     public VersionedMark(ReadOnlyMark initialState) {
+        this(initialState, UserPrefs.DEFAULT_UNDO_HISTORY_MAX_STEPS, UserPrefs.DEFAULT_UNDO_HISTORY_MEMORY_BUDGET);
+    }
+
+    /**
+     * Creates a {@code VersionedMark} starting at {@code initialState}, that keeps at most {@code maxSteps} states
+     * before the current state, taking up about {@code memoryBudget} bytes.
+     */
+    public VersionedMark(ReadOnlyMark initialState, int maxSteps, long memoryBudget) {
         super(initialState);
+        assert maxSteps >= 0 && memoryBudget >= 0;
+        this.maxSteps = maxSteps;
+        this.memoryBudget = memoryBudget;
 
         markStateRecords = new ArrayList<>();
-        markStateRecords.add(new MarkStateRecord("", new Mark(initialState)));
+        MarkStateRecord initialRecord = new MarkStateRecord("", Collections.emptyList(), MarkDetails.of(this, null));
+        markStateRecords.add(initialRecord);
+        historyBytes = initialRecord.estimateSize();
         currentPointer = 0;
+
+        getBookmarkList().addListener((ListChangeListener<Bookmark>) this::recordBookmarkChanges);
     }
 
     /**
-     * Appends a copy of the current {@code Mark} state to the end of the state list.
+     * Appends the current {@code Mark} state to the end of the state list.
      * Undone states after the current state pointer are removed from the state list.
      * @param record The record for the state
      */
     public void save(String record) {
+        MarkDetails previousDetails = markStateRecords.get(currentPointer).getDetails();
         removeStatesAfterCurrentPointer();
-        markStateRecords.add(new MarkStateRecord(record, new Mark(this)));
+        MarkStateRecord stateRecord = new MarkStateRecord(record, new ArrayList<>(unsavedChanges),
+                MarkDetails.of(this, previousDetails));
+        markStateRecords.add(stateRecord);
+        historyBytes += stateRecord.estimateSize();
+        unsavedChanges.clear();
         currentPointer++;
+        removeStatesOverLimits();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        markStateRecords.subList(currentPointer + 1, markStateRecords.size()).clear();
+        List<MarkStateRecord> statesAfterCurrentPointer =
+                markStateRecords.subList(currentPointer + 1, markStateRecords.size());
+        statesAfterCurrentPointer.forEach(stateRecord -> historyBytes -= stateRecord.estimateSize());
+        statesAfterCurrentPointer.clear();
+    }
+
+    /**
+     * Sets the limits of the history to {@code maxSteps} states before the current state,
+     * taking up about {@code memoryBudget} bytes, and drops the oldest states beyond them.
+     */
+    public void setHistoryLimits(int maxSteps, long memoryBudget) {
+        assert maxSteps >= 0 && memoryBudget >= 0;
+        this.maxSteps = maxSteps;
+        this.memoryBudget = memoryBudget;
+        removeStatesOverLimits();
+    }
+
+    /**
+     * Drops the oldest states while there are more than {@link #maxSteps} states before the current state,
+     * or the history takes up more than {@link #memoryBudget} bytes.
+     * The oldest remaining state no longer needs its changes, since it cannot be undone.
+     */
+    private void removeStatesOverLimits() {
+        int removeCount = 0;
+        long remainingBytes = historyBytes;
+        long oldestBytes = markStateRecords.get(0).estimateSize();
+        while (removeCount < currentPointer
+                && (currentPointer - removeCount > maxSteps || remainingBytes > memoryBudget)) {
+            removeCount++;
+            // the next state becomes the oldest, which holds all of its details but none of its changes
+            MarkStateRecord nextOldest = markStateRecords.get(removeCount);
+            long nextOldestBytes = nextOldest.getDetails().estimateSize();
+            remainingBytes += nextOldestBytes - nextOldest.estimateSize() - oldestBytes;
+            oldestBytes = nextOldestBytes;
+        }
+        if (removeCount == 0) {
+            return;
+        }
+
+        markStateRecords.set(removeCount, markStateRecords.get(removeCount).withoutChanges());
+        markStateRecords.subList(0, removeCount).clear();
+        historyBytes = remainingBytes;
+        currentPointer -= removeCount;
+    }
+
+    /**
+     * Records {@code change} to the bookmark list as an unsaved change, unless it restores a saved state.
+     */
+    private void recordBookmarkChanges(ListChangeListener.Change<? extends Bookmark> change) {
+        if (isRestoring) {
+            return;
+        }
+        while (change.next()) {
+            assert !change.wasPermutated() : "The bookmark list is never reordered";
+            unsavedChanges.addAll(BookmarkListChange.of(change.getFrom(),
+                    new ArrayList<>(change.getRemoved()), new ArrayList<>(change.getAddedSubList())));
+        }
+    }
+
+    /**
+     * Reverts {@code changes} to the bookmark list, from the last change to the first.
+     */
+    private void revert(List<BookmarkListChange> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revertFrom(this);
+        }
+    }
+
+    /**
+     * Reverts {@code changes} to {@code bookmarks}, from the last change to the first.
+     */
+    private static void revert(List<BookmarkListChange> changes, List<Bookmark> bookmarks) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revertFrom(bookmarks);
+        }
+    }
+
+    /**
+     * Restores the Mark to the state at {@code targetPointer}, by reverting or reapplying the changes
+     * to the bookmark list of the states in between.
+     */
+    private void restore(int targetPointer) {
+        isRestoring = true;
+        try {
+            revert(unsavedChanges);
+            unsavedChanges.clear();
+            for (int i = currentPointer; i > targetPointer; i--) {
+                revert(markStateRecords.get(i).getBookmarkChanges());
+            }
+            for (int i = currentPointer + 1; i <= targetPointer; i++) {
+                markStateRecords.get(i).getBookmarkChanges().forEach(change -> change.applyTo(this));
+            }
+            markStateRecords.get(targetPointer).getDetails().restoreTo(this);
+        } finally {
+            isRestoring = false;
+        }
+        currentPointer = targetPointer;
     }
 
     public String getUndoRecords(int start, int end) {
@@ -63,8 +211,7 @@ public class VersionedMark extends Mark {
             throw new CannotUndoMarkException();
         }
         String records = getUndoRecords(currentPointer - steps + 1, currentPointer);
-        currentPointer = currentPointer - steps;
-        resetData(markStateRecords.get(currentPointer).getState());
+        restore(currentPointer - steps);
         return records;
     }
 
@@ -77,8 +224,7 @@ public class VersionedMark extends Mark {
             throw new CannotRedoMarkException();
         }
         String records = getRedoRecords(currentPointer + 1, currentPointer + steps);
-        currentPointer = currentPointer + steps;
-        resetData(markStateRecords.get(currentPointer).getState());
+        restore(currentPointer + steps);
         return records;
     }
 
@@ -122,8 +268,56 @@ public class VersionedMark extends Mark {
 
         // state check
         return super.equals(otherVersionedMark)
-                && markStateRecords.equals(otherVersionedMark.markStateRecords)
-                && currentPointer == otherVersionedMark.currentPointer;
+                && currentPointer == otherVersionedMark.currentPointer
+                && getRecords().equals(otherVersionedMark.getRecords())
+                && getSavedStates().equals(otherVersionedMark.getSavedStates());
+    }
+
+    MarkStateRecord getMarkStateRecord(int index) {
+        return markStateRecords.get(index);
+    }
+
+    /**
+     * Returns the estimated number of bytes taken up by the history, as it is checked against the memory budget.
+     */
+    long estimateHistorySize() {
+        return historyBytes;
+    }
+
+    private List<String> getRecords() {
+        return markStateRecords.stream().map(MarkStateRecord::getRecord).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns copies of all saved states, rebuilt from the changes between them.
+     * This takes time and memory in proportion to the size of the whole history.
+     */
+    List<Mark> getSavedStates() {
+        List<List<Bookmark>> bookmarkLists = new ArrayList<>(Collections.nCopies(markStateRecords.size(), null));
+        List<Bookmark> bookmarks = new ArrayList<>(getBookmarkList());
+        revert(unsavedChanges, bookmarks);
+        bookmarkLists.set(currentPointer, new ArrayList<>(bookmarks));
+        for (int i = currentPointer; i > 0; i--) {
+            revert(markStateRecords.get(i).getBookmarkChanges(), bookmarks);
+            bookmarkLists.set(i - 1, new ArrayList<>(bookmarks));
+        }
+
+        bookmarks = new ArrayList<>(bookmarkLists.get(currentPointer));
+        for (int i = currentPointer + 1; i < markStateRecords.size(); i++) {
+            for (BookmarkListChange change : markStateRecords.get(i).getBookmarkChanges()) {
+                change.applyTo(bookmarks);
+            }
+            bookmarkLists.set(i, new ArrayList<>(bookmarks));
+        }
+
+        List<Mark> states = new ArrayList<>();
+        for (int i = 0; i < markStateRecords.size(); i++) {
+            Mark state = new Mark();
+            state.setBookmarks(bookmarkLists.get(i));
+            state.setFolderStructure(markStateRecords.get(i).getDetails().folderStructure.clone());
+            states.add(state);
+        }
+        return states;
     }
 
     /**
@@ -149,30 +343,325 @@ public class VersionedMark extends Mark {
      */
     public static class MarkStateRecord {
         /** Record about which action leads to the state **/
-        private String record;
-        private ReadOnlyMark state;
+        private final String record;
+        /** Changes to the bookmark list from the previous state to this state. */
+        private final List<BookmarkListChange> bookmarkChanges;
+        private final MarkDetails details;
+        private final long estimatedSize;
+
+        MarkStateRecord(String record, List<BookmarkListChange> bookmarkChanges, MarkDetails details) {
+            this(record, bookmarkChanges, details,
+                    bookmarkChanges.stream().mapToLong(BookmarkListChange::estimateSize).sum()
+                            + details.estimateUnsharedSize());
+        }
 
-        public MarkStateRecord(String record, ReadOnlyMark state) {
-            requireAllNonNull(record, state);
+        private MarkStateRecord(String record, List<BookmarkListChange> bookmarkChanges, MarkDetails details,
+                                long estimatedSize) {
+            requireAllNonNull(record, bookmarkChanges, details);
 
             this.record = record;
-            this.state = state;
+            this.bookmarkChanges = bookmarkChanges;
+            this.details = details;
+            this.estimatedSize = estimatedSize;
         }
 
-        public ReadOnlyMark getState() {
-            return state;
+        /**
+         * Returns this record without its changes, as the oldest state of a history.
+         * Its details are no longer shared with a previous state, so all of them are counted in its size.
+         */
+        MarkStateRecord withoutChanges() {
+            return new MarkStateRecord(record, Collections.emptyList(), details, details.estimateSize());
         }
 
         public String getRecord() {
             return record;
         }
 
+        List<BookmarkListChange> getBookmarkChanges() {
+            return bookmarkChanges;
+        }
+
+        MarkDetails getDetails() {
+            return details;
+        }
+
+        /**
+         * Returns the estimated number of bytes taken up by the changes to the bookmark list,
+         * and by the details that are not shared with the previous state.
+         */
+        long estimateSize() {
+            return estimatedSize;
+        }
+
         @Override
         public boolean equals(Object other) {
             return other == this // short circuit if same object
                     || (other instanceof MarkStateRecord // instanceof handles nulls
                     && record.equals(((MarkStateRecord) other).record)
-                    && state.equals(((MarkStateRecord) other).state)); // state check
+                    && bookmarkChanges.equals(((MarkStateRecord) other).bookmarkChanges)
+                    && details.equals(((MarkStateRecord) other).details)); // state check
+        }
+    }
+
+    /**
+     * Represents the replacement of a range of bookmarks in the bookmark list.
+     */
+    static class BookmarkListChange {
+        private static final long CHANGE_OVERHEAD_BYTES = 64;
+        private static final long BOOKMARK_OVERHEAD_BYTES = 256;
+        private static final long TAG_OVERHEAD_BYTES = 64;
+
+        private final int index;
+        private final List<Bookmark> removed;
+        private final List<Bookmark> added;
+
+        /**
+         * Creates a change that replaces {@code removed} at {@code index} with {@code added}.
+         */
+        BookmarkListChange(int index, List<Bookmark> removed, List<Bookmark> added) {
+            requireAllNonNull(removed, added);
+
+            this.index = index;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        /**
+         * Returns the changes that replace {@code removed} at {@code index} with {@code added}.
+         * Bookmarks that are replaced by themselves are left out, so that replacing the whole list
+         * with mostly the same bookmarks only keeps the bookmarks that changed.
+         */
+        static List<BookmarkListChange> of(int index, List<Bookmark> removed, List<Bookmark> added) {
+            List<BookmarkListChange> changes = new ArrayList<>();
+            if (removed.size() != added.size()) {
+                int start = 0;
+                while (start < removed.size() && start < added.size() && removed.get(start) == added.get(start)) {
+                    start++;
+                }
+                int removedEnd = removed.size();
+                int addedEnd = added.size();
+                while (removedEnd > start && addedEnd > start
+                        && removed.get(removedEnd - 1) == added.get(addedEnd - 1)) {
+                    removedEnd--;
+                    addedEnd--;
+                }
+                changes.add(new BookmarkListChange(index + start, new ArrayList<>(removed.subList(start, removedEnd)),
+                        new ArrayList<>(added.subList(start, addedEnd))));
+                return changes;
+            }
+
+            int i = 0;
+            while (i < removed.size()) {
+                if (removed.get(i) == added.get(i)) {
+                    i++;
+                    continue;
+                }
+                int end = i;
+                while (end < removed.size() && removed.get(end) != added.get(end)) {
+                    end++;
+                }
+                changes.add(new BookmarkListChange(index + i, new ArrayList<>(removed.subList(i, end)),
+                        new ArrayList<>(added.subList(i, end))));
+                i = end;
+            }
+            return changes;
+        }
+
+        /**
+         * Returns the estimated number of bytes taken up by this change, including the bookmarks in it.
+         */
+        long estimateSize() {
+            long size = CHANGE_OVERHEAD_BYTES;
+            for (Bookmark bookmark : removed) {
+                size += estimateSize(bookmark);
+            }
+            for (Bookmark bookmark : added) {
+                size += estimateSize(bookmark);
+            }
+            return size;
+        }
+
+        private static long estimateSize(Bookmark bookmark) {
+            long size = BOOKMARK_OVERHEAD_BYTES + 2L * (bookmark.getName().value.length()
+                    + bookmark.getUrl().value.length() + bookmark.getRemark().value.length());
+            size += TAG_OVERHEAD_BYTES * bookmark.getTags().size();
+            for (CachedCopy cachedCopy : bookmark.getCachedCopies()) {
+                size += cachedCopy.estimateHeldSize();
+            }
+            return size;
+        }
+
+        void applyTo(VersionedMark mark) {
+            mark.replaceBookmarks(index, removed.size(), added);
+        }
+
+        void revertFrom(VersionedMark mark) {
+            mark.replaceBookmarks(index, added.size(), removed);
+        }
+
+        void applyTo(List<Bookmark> bookmarks) {
+            replace(bookmarks, removed.size(), added);
+        }
+
+        void revertFrom(List<Bookmark> bookmarks) {
+            replace(bookmarks, added.size(), removed);
+        }
+
+        private void replace(List<Bookmark> bookmarks, int count, List<Bookmark> replacement) {
+            List<Bookmark> range = bookmarks.subList(index, index + count);
+            range.clear();
+            range.addAll(replacement);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof BookmarkListChange // instanceof handles nulls
+                    && index == ((BookmarkListChange) other).index
+                    && removed.equals(((BookmarkListChange) other).removed)
+                    && added.equals(((BookmarkListChange) other).added)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, removed, added);
+        }
+    }
+
+    /**
+     * Represents the parts of a Mark state other than its bookmark list.
+     * Parts that have not changed since the previous state are shared with it.
+     */
+    static class MarkDetails {
+        private static final long DETAILS_OVERHEAD_BYTES = 64;
+        private static final long FOLDER_OVERHEAD_BYTES = 128;
+        private static final long REMINDER_OVERHEAD_BYTES = 128;
+        private static final long TAGGER_OVERHEAD_BYTES = 256;
+        private static final long PARAGRAPH_OVERHEAD_BYTES = 128;
+
+        private final FolderStructure folderStructure;
+        private final ReminderAssociation reminderAssociation;
+        private final AutotagController autotagController;
+        private final ObservableList<Paragraph> annotatedDocument;
+        private final String offlineDocCurrentlyShowing;
+        /** Estimated number of bytes taken up by the parts that are not shared with the previous state. */
+        private final long unsharedSize;
+
+        /**
+         * Creates the details of a state from parts that are not changed afterwards.
+         */
+        private MarkDetails(FolderStructure folderStructure, ReminderAssociation reminderAssociation,
+                            AutotagController autotagController, ObservableList<Paragraph> annotatedDocument,
+                            String offlineDocCurrentlyShowing, MarkDetails previous) {
+            this.folderStructure = folderStructure;
+            this.reminderAssociation = reminderAssociation;
+            this.autotagController = autotagController;
+            this.annotatedDocument = annotatedDocument;
+            this.offlineDocCurrentlyShowing = offlineDocCurrentlyShowing;
+            this.unsharedSize = estimateSize(previous);
+        }
+
+        /**
+         * Returns the details of {@code mark}, sharing the parts that are unchanged from {@code previous}.
+         *
+         * @param previous the details of the previous state, or null if there is none.
+         */
+        static MarkDetails of(ReadOnlyMark mark, MarkDetails previous) {
+            FolderStructure folderStructure = previous != null && previous.folderStructure.equals(
+                    mark.getFolderStructure()) ? previous.folderStructure : mark.getFolderStructure().clone();
+
+            ReminderAssociation reminderAssociation;
+            if (previous != null && previous.reminderAssociation.equals(mark.getReminderAssociation())) {
+                reminderAssociation = previous.reminderAssociation;
+            } else {
+                reminderAssociation = new ReminderAssociation();
+                reminderAssociation.setAssociation(mark.getReminderAssociation().getAssociation());
+            }
+
+            AutotagController autotagController = previous != null && previous.autotagController.equals(
+                    mark.getAutotagController()) ? previous.autotagController
+                    : new AutotagController(FXCollections.observableArrayList(mark.getAutotags()));
+
+            ObservableList<Paragraph> annotatedDocument = previous != null
+                    && previous.annotatedDocument.equals(mark.getAnnotatedDocument()) ? previous.annotatedDocument
+                    : FXCollections.observableArrayList(mark.getAnnotatedDocument());
+
+            return new MarkDetails(folderStructure, reminderAssociation, autotagController, annotatedDocument,
+                    mark.getOfflineDocCurrentlyShowing().getValue(), previous);
+        }
+
+        /**
+         * Returns the estimated number of bytes taken up by all the parts of these details.
+         */
+        long estimateSize() {
+            return estimateSize(null);
+        }
+
+        /**
+         * Returns the estimated number of bytes taken up by the parts of these details that are not shared with
+         * the details of the previous state.
+         */
+        long estimateUnsharedSize() {
+            return unsharedSize;
+        }
+
+        /**
+         * Returns the estimated number of bytes taken up by the parts that are not shared with {@code previous},
+         * or by all the parts if it is null.
+         */
+        private long estimateSize(MarkDetails previous) {
+            long size = DETAILS_OVERHEAD_BYTES;
+            if (previous == null || folderStructure != previous.folderStructure) {
+                for (Folder folder : folderStructure.getAllFolders()) {
+                    size += FOLDER_OVERHEAD_BYTES + 2L * folder.folderName.length();
+                }
+            }
+            if (previous == null || reminderAssociation != previous.reminderAssociation) {
+                size += REMINDER_OVERHEAD_BYTES * reminderAssociation.getAssociation().size();
+            }
+            if (previous == null || autotagController != previous.autotagController) {
+                size += TAGGER_OVERHEAD_BYTES * autotagController.getTaggers().size();
+            }
+            if (previous == null || annotatedDocument != previous.annotatedDocument) {
+                for (Paragraph paragraph : annotatedDocument) {
+                    size += PARAGRAPH_OVERHEAD_BYTES + 2L * paragraph.getParagraphContent().getContent().length();
+                }
+            }
+            return size;
+        }
+
+        /**
+         * Replaces the parts of {@code mark} other than its bookmark list with these details.
+         */
+        void restoreTo(Mark mark) {
+            mark.setFolderStructure(folderStructure.clone());
+            mark.setReminderAssociation(reminderAssociation);
+            mark.setAutotagController(autotagController);
+            mark.setAnnotatedDocument(annotatedDocument);
+            mark.setReminders();
+            mark.setOfflineDocCurrentlyShowing(offlineDocCurrentlyShowing);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof MarkDetails)) {
+                return false;
+            }
+            MarkDetails otherDetails = (MarkDetails) other;
+            return folderStructure.equals(otherDetails.folderStructure)
+                    && reminderAssociation.equals(otherDetails.reminderAssociation)
+                    && autotagController.equals(otherDetails.autotagController)
+                    && annotatedDocument.equals(otherDetails.annotatedDocument)
+                    && Objects.equals(offlineDocCurrentlyShowing, otherDetails.offlineDocCurrentlyShowing);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(folderStructure, reminderAssociation, autotagController, annotatedDocument,
+                    offlineDocCurrentlyShowing);
         }
     }
 }
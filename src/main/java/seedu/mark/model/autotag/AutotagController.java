@@ -5,11 +5,13 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.BookmarkIndex;
 
 /**
  * Manages {@link SelectiveBookmarkTagger}s in Mark.
@@ -133,6 +135,38 @@ public class AutotagController {
         return bookmarks.stream().map(this::applyTaggers).collect(Collectors.toList());
     }
 
+    /**
+     * Applies each of the {@link SelectiveBookmarkTagger}s in {@code taggers}
+     * to all of the bookmarks in the given list, which must all be in {@code index}.
+     * The bookmarks that each tagger applies to are looked up in {@code index}
+     * instead of testing every bookmark.
+     *
+     * @param bookmarks List of Bookmarks that each tagger should be applied to.
+     * @param index Index of the bookmarks in {@code bookmarks}.
+     * @return List of Bookmarks containing the tagged bookmarks.
+     */
+    public List<Bookmark> applyTaggersToList(List<Bookmark> bookmarks, BookmarkIndex index) {
+        requireNonNull(bookmarks);
+        requireNonNull(index);
+
+        // tags do not change what a tagger matches, so every tagger is matched against the untagged bookmarks
+        List<Set<Bookmark>> matchesOfTaggers = taggers.stream()
+                .map(tagger -> tagger.getPredicate().findMatches(index))
+                .collect(Collectors.toList());
+        List<Bookmark> taggedBookmarks = new ArrayList<>(bookmarks.size());
+        for (Bookmark bookmark : bookmarks) {
+            assert index.getBookmarks().contains(bookmark);
+            Bookmark taggedBookmark = bookmark;
+            for (int i = 0; i < taggers.size(); i++) {
+                if (matchesOfTaggers.get(i).contains(bookmark)) {
+                    taggedBookmark = taggers.get(i).applyTag(taggedBookmark);
+                }
+            }
+            taggedBookmarks.add(taggedBookmark);
+        }
+        return taggedBookmarks;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
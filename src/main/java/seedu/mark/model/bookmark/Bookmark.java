@@ -73,7 +73,7 @@ public class Bookmark {
      * Removes all annotations from the {@code CachedCopy}.
      */
     public void resetCachedCopy() {
-        String html = cachedCopies.get(0).html;
+        String html = cachedCopies.get(0).getHtml();
         cachedCopies.clear();
         cachedCopies.add(new CachedCopy(html));
     }
@@ -82,9 +82,9 @@ public class Bookmark {
      * Updates the annotations of the {@code CachedCopy}.
      */
     public void updateCachedCopy(OfflineDocument doc) {
-        String html = cachedCopies.get(0).html;
+        CachedCopy updatedCopy = cachedCopies.get(0).withAnnotations(doc);
         cachedCopies.clear();
-        cachedCopies.add(new CachedCopy(html, doc));
+        cachedCopies.add(updatedCopy);
     }
 
     public boolean containsTag(Tag tag) {
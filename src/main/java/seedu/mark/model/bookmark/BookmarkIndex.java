@@ -0,0 +1,219 @@
+package seedu.mark.model.bookmark;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mark.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import seedu.mark.commons.util.StringUtil;
+import seedu.mark.model.tag.Tag;
+
+/**
+ * An index of the fields of bookmarks, kept up to date with a bookmark list by
+ * {@link #update(ListChangeListener.Change)}.
+ *
+ * Names, urls and remarks are searched for phrases in a {@link TrigramIndex} of the lower-cased field,
+ * which is only built for a field the first time that it is searched.
+ * Tags and folders are indexed by their whole lower-cased name.
+ * Bookmarks are held by identity, so looking them up never computes the hash of their cached copies.
+ * The sets of bookmarks found may be views of the index, so they should not be kept while the index changes.
+ */
+public class BookmarkIndex {
+
+    /** The fields of a bookmark that are indexed. */
+    public enum Field {
+        NAME, URL, REMARK, TAG, FOLDER;
+
+        /** Returns true if the values of this field are searched for phrases that they contain. */
+        public boolean isSearchedByPhrase() {
+            return this == NAME || this == URL || this == REMARK;
+        }
+    }
+
+    /** The bookmarks with each lower-cased tag and folder name. */
+    private final Map<Field, Map<String, Set<Bookmark>>> postings = new EnumMap<>(Field.class);
+    /** The trigram indexes of the fields that have been searched for phrases. */
+    private final Map<Field, TrigramIndex> trigramIndexes = new EnumMap<>(Field.class);
+    /** The revision at which each bookmark in the index was added. */
+    private final Map<Bookmark, Long> addedRevisions = new IdentityHashMap<>();
+    private final Set<Bookmark> bookmarks = addedRevisions.keySet();
+    /** The revision of the index, which increases whenever a bookmark is added. */
+    private long revision;
+
+    public BookmarkIndex() {
+        postings.put(Field.TAG, new HashMap<>());
+        postings.put(Field.FOLDER, new HashMap<>());
+    }
+
+    /**
+     * Updates the index with the bookmarks added to and removed from a bookmark list in {@code change}.
+     */
+    public void update(ListChangeListener.Change<? extends Bookmark> change) {
+        while (change.next()) {
+            if (change.getRemovedSize() == bookmarks.size()) {
+                clear();
+            } else {
+                change.getRemoved().forEach(this::remove);
+            }
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds {@code bookmark} to the index.
+     */
+    public void add(Bookmark bookmark) {
+        requireNonNull(bookmark);
+        if (addedRevisions.containsKey(bookmark)) {
+            return;
+        }
+        addedRevisions.put(bookmark, ++revision);
+        for (Map.Entry<Field, Map<String, Set<Bookmark>>> entry : postings.entrySet()) {
+            for (String term : getTerms(bookmark, entry.getKey())) {
+                entry.getValue().computeIfAbsent(term, unused -> newBookmarkSet()).add(bookmark);
+            }
+        }
+        trigramIndexes.forEach((field, trigramIndex) ->
+                trigramIndex.add(bookmark, getNormalizedValue(bookmark, field)));
+    }
+
+    /**
+     * Removes {@code bookmark} from the index.
+     */
+    public void remove(Bookmark bookmark) {
+        requireNonNull(bookmark);
+        if (!bookmarks.remove(bookmark)) {
+            return;
+        }
+        for (Map.Entry<Field, Map<String, Set<Bookmark>>> entry : postings.entrySet()) {
+            Map<String, Set<Bookmark>> fieldPostings = entry.getValue();
+            for (String term : getTerms(bookmark, entry.getKey())) {
+                Set<Bookmark> posting = fieldPostings.get(term);
+                posting.remove(bookmark);
+                if (posting.isEmpty()) {
+                    fieldPostings.remove(term);
+                }
+            }
+        }
+        trigramIndexes.values().forEach(trigramIndex -> trigramIndex.remove(bookmark));
+    }
+
+    /**
+     * Removes all bookmarks from the index.
+     */
+    public void clear() {
+        bookmarks.clear();
+        postings.values().forEach(Map::clear);
+        trigramIndexes.clear();
+    }
+
+    public int size() {
+        return bookmarks.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the bookmarks in the index.
+     */
+    public Set<Bookmark> getBookmarks() {
+        return Collections.unmodifiableSet(bookmarks);
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Returns true if {@code bookmark} is in the index and has been since the index was at {@code revision}.
+     */
+    public boolean hasIndexedSince(Bookmark bookmark, long revision) {
+        Long addedRevision = addedRevisions.get(bookmark);
+        return addedRevision != null && addedRevision <= revision;
+    }
+
+    /**
+     * Returns the bookmarks whose {@code field} contains {@code keyword}, ignoring case,
+     * like {@link StringUtil#containsPhraseIgnoreCase(String, String)} does.
+     * Only the bookmarks that have every trigram of {@code keyword} in the field are checked,
+     * unless {@code keyword} is shorter than a trigram.
+     */
+    public Set<Bookmark> findContaining(Field field, String keyword) {
+        requireNonNull(field);
+        requireNonNull(keyword);
+        assert field.isSearchedByPhrase();
+
+        String preppedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+        checkArgument(!preppedKeyword.isEmpty(), "Keyword cannot be empty");
+        return trigramIndexes.computeIfAbsent(field, this::buildTrigramIndex).findContaining(preppedKeyword);
+    }
+
+    /**
+     * Returns the bookmarks whose {@code field} is equal to {@code value}, ignoring case.
+     */
+    public Set<Bookmark> findEqual(Field field, String value) {
+        requireNonNull(field);
+        requireNonNull(value);
+        assert !field.isSearchedByPhrase();
+
+        Set<Bookmark> matches = postings.get(field).get(value.toLowerCase(Locale.ROOT));
+        return matches == null ? Collections.emptySet() : Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns a trigram index of {@code field} of the bookmarks in the index.
+     */
+    private TrigramIndex buildTrigramIndex(Field field) {
+        TrigramIndex trigramIndex = new TrigramIndex();
+        for (Bookmark bookmark : bookmarks) {
+            trigramIndex.add(bookmark, getNormalizedValue(bookmark, field));
+        }
+        return trigramIndex;
+    }
+
+    private static Set<Bookmark> newBookmarkSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static String getValue(Bookmark bookmark, Field field) {
+        switch (field) {
+        case NAME:
+            return bookmark.getName().value;
+        case URL:
+            return bookmark.getUrl().value;
+        case REMARK:
+            return bookmark.getRemark().value;
+        case FOLDER:
+            return bookmark.getFolder().folderName;
+        default:
+            throw new AssertionError("Tags do not have a single value");
+        }
+    }
+
+    /**
+     * Returns the lower-cased value of {@code field} of {@code bookmark}, as it is searched for phrases.
+     */
+    private static String getNormalizedValue(Bookmark bookmark, Field field) {
+        return getValue(bookmark, field).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the distinct terms that {@code bookmark} is indexed under for {@code field}, which is a tag or folder.
+     */
+    private static Set<String> getTerms(Bookmark bookmark, Field field) {
+        if (field == Field.TAG) {
+            Set<String> terms = new HashSet<>();
+            for (Tag tag : bookmark.getTags()) {
+                terms.add(tag.tagName.toLowerCase(Locale.ROOT));
+            }
+            return terms;
+        }
+        return Set.of(getValue(bookmark, field).toLowerCase(Locale.ROOT));
+    }
+}
@@ -1,23 +1,41 @@
 package seedu.mark.model.bookmark;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.HashMap;
-import java.util.Objects;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+import seedu.mark.commons.util.StringUtil;
 import seedu.mark.model.annotation.Annotation;
 import seedu.mark.model.annotation.OfflineDocument;
+import seedu.mark.model.annotation.Paragraph;
 import seedu.mark.model.annotation.ParagraphIdentifier;
 
 /**
  * Represents a cached copy of the contents of a Bookmark.
+ * The html and annotations of a cached copy may be held in memory, or loaded on demand from a {@link ContentLoader}.
  */
 public class CachedCopy {
 
+    private static final long PARAGRAPH_OVERHEAD_BYTES = 128;
+
     /**
-     * The raw HTML string of the website.
+     * The raw HTML string of the website, or null if it is loaded on demand.
      */
-    public final String html;
+    private final String html;
 
-    public final OfflineDocument annotations;
+    /**
+     * The annotated offline document of the website, or null if it is loaded on demand.
+     */
+    private final OfflineDocument annotations;
+
+    /** Loads the contents of this cached copy that are not held in memory. */
+    private final ContentLoader loader;
+
+    /** Hash of the html, computed when it is first needed. */
+    private String htmlHash;
 
     /**
      * Instantiates a new CachedCopy.
@@ -25,8 +43,7 @@ public class CachedCopy {
      * @param html the html of the website
      */
     public CachedCopy(String html) {
-        this.html = html;
-        this.annotations = new OfflineDocument(html);
+        this(html, new OfflineDocument(html));
     }
 
     /**
@@ -43,15 +60,99 @@ public class CachedCopy {
     public CachedCopy(String html, OfflineDocument doc) {
         this.html = html;
         this.annotations = doc;
+        this.loader = null;
+    }
+
+    /**
+     * Instantiates a CachedCopy whose html and annotations are only loaded from {@code loader} when needed.
+     *
+     * @param htmlHash the hash of the html that {@code loader} loads
+     * @param loader the loader of the html and annotations
+     */
+    public CachedCopy(String htmlHash, ContentLoader loader) {
+        requireNonNull(htmlHash);
+        requireNonNull(loader);
+
+        this.html = null;
+        this.annotations = null;
+        this.loader = loader;
+        this.htmlHash = htmlHash;
+    }
+
+    /**
+     * Instantiates a CachedCopy with the html of {@code source} and the annotations in {@code doc}.
+     */
+    private CachedCopy(CachedCopy source, OfflineDocument doc) {
+        this.html = source.html;
+        this.annotations = doc;
+        this.loader = source.loader;
+        this.htmlHash = source.htmlHash;
+    }
+
+    public String getHtml() {
+        return html != null ? html : loader.loadHtml();
     }
 
     public OfflineDocument getAnnotations() {
-        return annotations;
+        return annotations != null ? annotations : loader.loadAnnotations();
+    }
+
+    /**
+     * Returns the paragraphs of the annotations that have an annotation.
+     * Annotations that are loaded on demand are not loaded in full, so the html does not have to be parsed.
+     */
+    public List<Paragraph> getAnnotatedParagraphs() {
+        return annotations != null ? getAnnotatedParagraphs(annotations) : loader.loadAnnotatedParagraphs();
+    }
+
+    private static List<Paragraph> getAnnotatedParagraphs(OfflineDocument doc) {
+        return doc.getCollection().stream().filter(Paragraph::hasAnnotation).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the loader of the annotations of this cached copy, if they are loaded on demand.
+     */
+    public Optional<ContentLoader> getAnnotationsLoader() {
+        return annotations != null ? Optional.empty() : Optional.of(loader);
+    }
+
+    /**
+     * Returns a copy of this cached copy with the given annotations.
+     * The html is shared with this cached copy, and is not loaded if it has not been loaded yet.
+     */
+    public CachedCopy withAnnotations(OfflineDocument doc) {
+        requireNonNull(doc);
+        return new CachedCopy(this, doc);
+    }
+
+    /**
+     * Returns the estimated number of bytes held in memory by this cached copy,
+     * not counting the contents that are loaded on demand.
+     */
+    public long estimateHeldSize() {
+        long size = html == null ? 0 : 2L * html.length();
+        if (annotations != null) {
+            for (Paragraph paragraph : annotations.getCollection()) {
+                size += PARAGRAPH_OVERHEAD_BYTES + 2L * paragraph.getParagraphContent().getContent().length();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns a hash that identifies the html of this cached copy.
+     * Cached copies with the same html always have the same hash.
+     */
+    public String getHtmlHash() {
+        if (htmlHash == null) {
+            htmlHash = StringUtil.getSha256Hex(html);
+        }
+        return htmlHash;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(html);
+        return getHtmlHash().hashCode();
     }
 
     @Override
@@ -66,11 +167,31 @@ public class CachedCopy {
 
         CachedCopy otherCachedCopy = (CachedCopy) other;
 
-        return otherCachedCopy.html.equals(html);
+        return otherCachedCopy.getHtmlHash().equals(getHtmlHash());
     }
 
     @Override
     public String toString() {
-        return html;
+        return "Cached copy " + getHtmlHash();
+    }
+
+    /**
+     * Loads the html and annotations of a cached copy that are not held in memory.
+     * Either may be loaded again on every call, so callers should not hold on to them for longer than needed.
+     * Contents that cannot be loaded are never replaced by empty ones: a
+     * {@link seedu.mark.model.bookmark.exceptions.CachedCopyUnavailableException} is thrown instead.
+     */
+    public interface ContentLoader {
+
+        String loadHtml();
+
+        OfflineDocument loadAnnotations();
+
+        /**
+         * Returns the paragraphs of the annotations that have an annotation.
+         */
+        default List<Paragraph> loadAnnotatedParagraphs() {
+            return getAnnotatedParagraphs(loadAnnotations());
+        }
     }
 }
@@ -0,0 +1,196 @@
+package seedu.mark.model.bookmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the trigrams (runs of three characters) of a text of each bookmark to the bookmarks that have them,
+ * which finds the bookmarks whose text contains a phrase without testing every bookmark.
+ *
+ * Bookmarks are numbered in the order that they are added, so that each trigram maps to a sorted array of numbers.
+ * A phrase of at least three characters is only looked for in the texts of the bookmarks that have all of its
+ * trigrams, and shorter phrases are looked for in every text. Texts are given already normalised, such as lower-cased,
+ * and phrases must be normalised the same way.
+ */
+class TrigramIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+    /** The number of unused bookmark numbers above which the bookmarks are numbered again. */
+    private static final int MAX_UNUSED_IDS = 1024;
+
+    private final Map<Long, Posting> postings = new HashMap<>();
+    private final Map<Bookmark, Integer> ids = new IdentityHashMap<>();
+    private Bookmark[] bookmarksById = new Bookmark[INITIAL_CAPACITY];
+    private String[] textsById = new String[INITIAL_CAPACITY];
+    private int nextId;
+
+    /**
+     * Adds {@code bookmark} with its normalised {@code text} to the index.
+     */
+    void add(Bookmark bookmark, String text) {
+        if (ids.containsKey(bookmark)) {
+            return;
+        }
+        if (nextId == bookmarksById.length) {
+            bookmarksById = Arrays.copyOf(bookmarksById, 2 * nextId);
+            textsById = Arrays.copyOf(textsById, 2 * nextId);
+        }
+        int id = nextId++;
+        ids.put(bookmark, id);
+        bookmarksById[id] = bookmark;
+        textsById[id] = text;
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            postings.computeIfAbsent(getTrigram(text, i), unused -> new Posting()).append(id);
+        }
+    }
+
+    /**
+     * Removes {@code bookmark} from the index.
+     */
+    void remove(Bookmark bookmark) {
+        Integer id = ids.remove(bookmark);
+        if (id == null) {
+            return;
+        }
+        String text = textsById[id];
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            long trigram = getTrigram(text, i);
+            Posting posting = postings.get(trigram);
+            if (posting != null && posting.remove(id) && posting.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+        bookmarksById[id] = null;
+        textsById[id] = null;
+
+        if (nextId - ids.size() > MAX_UNUSED_IDS + ids.size()) {
+            renumber();
+        }
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    /**
+     * Returns the bookmarks whose text contains {@code phrase}, which must be normalised like the texts.
+     */
+    Set<Bookmark> findContaining(String phrase) {
+        Set<Bookmark> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (phrase.length() < 3) {
+            for (int id = 0; id < nextId; id++) {
+                if (textsById[id] != null && textsById[id].contains(phrase)) {
+                    matches.add(bookmarksById[id]);
+                }
+            }
+            return matches;
+        }
+
+        List<Posting> phrasePostings = new ArrayList<>();
+        for (int i = 0; i + 3 <= phrase.length(); i++) {
+            Posting posting = postings.get(getTrigram(phrase, i));
+            if (posting == null) {
+                return matches;
+            }
+            phrasePostings.add(posting);
+        }
+        phrasePostings.sort(Comparator.comparingInt(posting -> posting.size));
+
+        // intersect from the rarest trigram, looking each remaining candidate up in the longer postings
+        Posting rarest = phrasePostings.get(0);
+        int[] candidates = Arrays.copyOf(rarest.ids, rarest.size);
+        int candidateCount = rarest.size;
+        for (int p = 1; p < phrasePostings.size() && candidateCount > 0; p++) {
+            Posting posting = phrasePostings.get(p);
+            if (posting == phrasePostings.get(p - 1) || posting.size == ids.size()) {
+                // the same trigram again, or one that every bookmark has
+                continue;
+            }
+            int kept = 0;
+            for (int c = 0; c < candidateCount; c++) {
+                if (posting.contains(candidates[c])) {
+                    candidates[kept++] = candidates[c];
+                }
+            }
+            candidateCount = kept;
+        }
+
+        for (int c = 0; c < candidateCount; c++) {
+            int id = candidates[c];
+            if (textsById[id].contains(phrase)) {
+                matches.add(bookmarksById[id]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Numbers the bookmarks in the index again from 0, so that numbers of removed bookmarks are not kept.
+     */
+    private void renumber() {
+        Bookmark[] oldBookmarks = bookmarksById;
+        String[] oldTexts = textsById;
+        int oldNextId = nextId;
+        int capacity = Math.max(INITIAL_CAPACITY, 2 * ids.size());
+
+        postings.clear();
+        ids.clear();
+        bookmarksById = new Bookmark[capacity];
+        textsById = new String[bookmarksById.length];
+        nextId = 0;
+        for (int id = 0; id < oldNextId; id++) {
+            if (oldBookmarks[id] != null) {
+                add(oldBookmarks[id], oldTexts[id]);
+            }
+        }
+    }
+
+    private static long getTrigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    /**
+     * The numbers of the bookmarks that have a trigram, in increasing order.
+     */
+    private static class Posting {
+        private int[] ids = new int[4];
+        private int size;
+
+        /**
+         * Appends {@code id}, which must not be smaller than any number in this posting.
+         */
+        void append(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, 2 * size);
+            }
+            ids[size++] = id;
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        /**
+         * Removes {@code id}, returning true if it was in this posting.
+         */
+        boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -3,8 +3,11 @@ package seedu.mark.model.bookmark;
 import static java.util.Objects.requireNonNull;
 import static seedu.mark.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +22,8 @@ import seedu.mark.model.bookmark.exceptions.DuplicateBookmarkException;
  * Bookmark#equals(Object) so as to ensure that the bookmark with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Bookmarks are indexed by their name, url and position in the list, so that checking for and finding
+ * a bookmark takes constant time.
  *
  * @see Bookmark#isSameBookmark(Bookmark)
  */
@@ -28,12 +33,19 @@ public class UniqueBookmarkList implements Iterable<Bookmark> {
     private final ObservableList<Bookmark> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Bookmarks in {@link #internalList}, indexed by their name. */
+    private final Map<Name, Bookmark> nameIndex = new HashMap<>();
+    /** Bookmarks in {@link #internalList}, indexed by their url. */
+    private final Map<Url, Bookmark> urlIndex = new HashMap<>();
+    /** Positions of the bookmarks in {@link #internalList}, indexed by their name. */
+    private final Map<Name, Integer> positionIndex = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent bookmark as the given argument.
      */
     public boolean contains(Bookmark toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameBookmark);
+        return nameIndex.containsKey(toCheck.getName()) || urlIndex.containsKey(toCheck.getUrl());
     }
 
     /**
@@ -45,9 +57,18 @@ public class UniqueBookmarkList implements Iterable<Bookmark> {
         if (contains(toAdd)) {
             throw new DuplicateBookmarkException();
         }
+        addToIndexes(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all bookmarks in {@code toAdd} to the end of the list as a single change.
+     * The bookmarks must not already exist in the list, and must not be the same as each other.
+     */
+    public void addAll(List<Bookmark> toAdd) {
+        replaceRange(internalList.size(), 0, toAdd);
+    }
+
     /**
      * Replaces the bookmark {@code target} in the list with {@code editedBookmark}.
      * {@code target} must exist in the list.
@@ -56,15 +77,20 @@ public class UniqueBookmarkList implements Iterable<Bookmark> {
     public void setBookmark(Bookmark target, Bookmark editedBookmark) {
         requireAllNonNull(target, editedBookmark);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new BookmarkNotFoundException();
         }
 
-        if (!target.isSameBookmark(editedBookmark) && contains(editedBookmark)) {
+        Bookmark existingTarget = internalList.get(index);
+        Bookmark sameName = nameIndex.get(editedBookmark.getName());
+        Bookmark sameUrl = urlIndex.get(editedBookmark.getUrl());
+        if ((sameName != null && sameName != existingTarget) || (sameUrl != null && sameUrl != existingTarget)) {
             throw new DuplicateBookmarkException();
         }
 
+        removeFromIndexes(existingTarget);
+        addToIndexes(editedBookmark, index);
         internalList.set(index, editedBookmark);
     }
 
@@ -74,13 +100,66 @@ public class UniqueBookmarkList implements Iterable<Bookmark> {
      */
     public void remove(Bookmark toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new BookmarkNotFoundException();
         }
+
+        removeFromIndexes(internalList.get(index));
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getName(), i);
+        }
     }
 
+    /**
+     * Replaces the {@code count} bookmarks starting at {@code index} with {@code replacement}.
+     * The bookmarks in the resulting list must be unique.
+     */
+    public void replaceRange(int index, int count, List<Bookmark> replacement) {
+        requireAllNonNull(replacement);
+
+        List<Bookmark> removed = new ArrayList<>(internalList.subList(index, index + count));
+        removed.forEach(this::removeFromIndexes);
+        for (int i = 0; i < replacement.size(); i++) {
+            if (contains(replacement.get(i))) {
+                replacement.subList(0, i).forEach(this::removeFromIndexes);
+                for (int j = 0; j < removed.size(); j++) {
+                    addToIndexes(removed.get(j), index + j);
+                }
+                throw new DuplicateBookmarkException();
+            }
+            addToIndexes(replacement.get(i), index + i);
+        }
+
+        if (count == replacement.size()) {
+            for (int i = 0; i < count; i++) {
+                internalList.set(index + i, replacement.get(i));
+            }
+            return;
+        }
+        if (count > 0) {
+            internalList.remove(index, index + count);
+        }
+        internalList.addAll(index, replacement);
+        for (int i = index + replacement.size(); i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setBookmarks(UniqueBookmarkList replacement) {
         requireNonNull(replacement);
+
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        urlIndex.clear();
+        urlIndex.putAll(replacement.urlIndex);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,11 +169,12 @@ public class UniqueBookmarkList implements Iterable<Bookmark> {
      */
     public void setBookmarks(List<Bookmark> bookmarks) {
         requireAllNonNull(bookmarks);
-        if (!bookmarksAreUnique(bookmarks)) {
-            throw new DuplicateBookmarkException();
-        }
 
-        internalList.setAll(bookmarks);
+        UniqueBookmarkList replacement = new UniqueBookmarkList();
+        for (Bookmark bookmark : bookmarks) {
+            replacement.add(bookmark);
+        }
+        setBookmarks(replacement);
     }
 
     /**
@@ -106,7 +186,7 @@ public class UniqueBookmarkList implements Iterable<Bookmark> {
 
     @Override
     public Iterator<Bookmark> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -122,16 +202,25 @@ public class UniqueBookmarkList implements Iterable<Bookmark> {
     }
 
     /**
-     * Returns true if {@code bookmarks} contains only unique bookmarks.
+     * Returns the position of the bookmark in the list that is equal to {@code bookmark}, or -1 if there is none.
      */
-    private boolean bookmarksAreUnique(List<Bookmark> bookmarks) {
-        for (int i = 0; i < bookmarks.size() - 1; i++) {
-            for (int j = i + 1; j < bookmarks.size(); j++) {
-                if (bookmarks.get(i).isSameBookmark(bookmarks.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Bookmark bookmark) {
+        Bookmark existing = nameIndex.get(bookmark.getName());
+        if (existing == null || !existing.equals(bookmark)) {
+            return -1;
         }
-        return true;
+        return positionIndex.get(existing.getName());
+    }
+
+    private void addToIndexes(Bookmark bookmark, int position) {
+        nameIndex.put(bookmark.getName(), bookmark);
+        urlIndex.put(bookmark.getUrl(), bookmark);
+        positionIndex.put(bookmark.getName(), position);
+    }
+
+    private void removeFromIndexes(Bookmark bookmark) {
+        nameIndex.remove(bookmark.getName());
+        urlIndex.remove(bookmark.getUrl());
+        positionIndex.remove(bookmark.getName());
     }
 }
@@ -0,0 +1,10 @@
+package seedu.mark.model.bookmark.exceptions;
+
+/**
+ * Signals that the contents of a cached copy cannot be loaded from storage.
+ */
+public class CachedCopyUnavailableException extends RuntimeException {
+    public CachedCopyUnavailableException(String htmlHash, Throwable cause) {
+        super("The cached copy " + htmlHash + " cannot be loaded: " + cause.getMessage(), cause);
+    }
+}
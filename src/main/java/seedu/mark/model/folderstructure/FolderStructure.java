@@ -103,6 +103,22 @@ public class FolderStructure {
         return find(folder) != null;
     }
 
+    /**
+     * Returns the folders in this folder structure, including its own folder.
+     */
+    public Set<Folder> getAllFolders() {
+        Set<Folder> folders = new HashSet<>();
+        addAllFolders(folders);
+        return folders;
+    }
+
+    private void addAllFolders(Set<Folder> folders) {
+        folders.add(folder);
+        for (FolderStructure subfolder : subfolders) {
+            subfolder.addAllFolders(folders);
+        }
+    }
+
     /**
      * Adds the specified folder under the parent folder.
      *
@@ -1,12 +1,18 @@
 package seedu.mark.model.predicates;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.mark.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.mark.model.Model.PREDICATE_SHOW_NO_BOOKMARKS;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.BookmarkIndex;
+import seedu.mark.model.bookmark.BookmarkIndex.Field;
 
 /**
  * Tests that part of a {@code Bookmark}'s data fields (except remark) matches any of the keywords given.
@@ -42,6 +48,37 @@ public class BookmarkContainsKeywordsPredicate implements Predicate<Bookmark> {
         return !(identifierKeywords.isEmpty() && tagKeywords.isEmpty() && folderKeywords.isEmpty());
     }
 
+    /**
+     * Returns a predicate that matches the same bookmarks as this predicate, but looks up each keyword in
+     * {@code index} instead of testing every bookmark.
+     * Bookmarks added to {@code index} afterwards, such as edited bookmarks, are tested with this predicate.
+     */
+    public Predicate<Bookmark> usingIndex(BookmarkIndex index) {
+        requireNonNull(index);
+
+        long revision = index.getRevision();
+        Set<Bookmark> matches = findMatches(index);
+        return bookmark -> index.hasIndexedSince(bookmark, revision) ? matches.contains(bookmark) : test(bookmark);
+    }
+
+    /**
+     * Returns the bookmarks in {@code index} that this predicate matches.
+     */
+    private Set<Bookmark> findMatches(BookmarkIndex index) {
+        Set<Bookmark> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : identifierKeywords) {
+            matches.addAll(index.findContaining(Field.NAME, keyword));
+            matches.addAll(index.findContaining(Field.URL, keyword));
+        }
+        for (String keyword : tagKeywords) {
+            matches.addAll(index.findEqual(Field.TAG, keyword));
+        }
+        for (String keyword : folderKeywords) {
+            matches.addAll(index.findEqual(Field.FOLDER, keyword));
+        }
+        return matches;
+    }
+
     @Override
     public boolean test(Bookmark bookmark) {
         return getPredicate().test(bookmark);
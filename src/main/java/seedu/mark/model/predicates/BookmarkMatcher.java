@@ -0,0 +1,341 @@
+package seedu.mark.model.predicates;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mark.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+import seedu.mark.model.bookmark.Bookmark;
+
+/**
+ * A {@code BookmarkPredicate} compiled into a matcher that tests a bookmark, without allocating as long as
+ * its name and URL are ASCII.
+ *
+ * Each call of a {@code with} method of the predicate adds a {@link Clause}, and a bookmark matches if it satisfies
+ * every clause. The name and URL clauses are each compiled into Aho-Corasick automata that find all the keywords of
+ * all the clauses on that field in one pass over it, ignoring case like {@code String.toLowerCase(Locale.ROOT)}
+ * does, as the predicate does. ASCII characters are lower-cased as they are read, while a field with any other
+ * character is lower-cased as a whole before it is matched. The folder clauses compare the folder name with each
+ * name. Fields are tested from the cheapest, so that most bookmarks that do not match are rejected after looking at
+ * their folder or name only.
+ */
+class BookmarkMatcher {
+
+    /**
+     * The fields of a bookmark that clauses are on, from the cheapest to test.
+     */
+    enum Field {
+        FOLDER,
+        NAME,
+        URL
+    }
+
+    private final String[][] folderNames;
+    private final boolean[] isFolderClauseNegated;
+    private final KeywordAutomaton[] nameAutomata;
+    private final KeywordAutomaton[] urlAutomata;
+
+    private BookmarkMatcher(String[][] folderNames, boolean[] isFolderClauseNegated,
+                            KeywordAutomaton[] nameAutomata, KeywordAutomaton[] urlAutomata) {
+        this.folderNames = folderNames;
+        this.isFolderClauseNegated = isFolderClauseNegated;
+        this.nameAutomata = nameAutomata;
+        this.urlAutomata = urlAutomata;
+    }
+
+    /**
+     * Compiles {@code clauses} into a matcher of the bookmarks that satisfy all of them.
+     *
+     * @throws IllegalArgumentException if a name or URL keyword is blank.
+     */
+    static BookmarkMatcher compile(List<Clause> clauses) {
+        requireNonNull(clauses);
+        Map<Field, List<Clause>> clausesByField = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            clausesByField.put(field, new ArrayList<>());
+        }
+        clauses.forEach(clause -> clausesByField.get(clause.field).add(clause));
+
+        List<Clause> folderClauses = clausesByField.get(Field.FOLDER);
+        String[][] folderNames = new String[folderClauses.size()][];
+        boolean[] isFolderClauseNegated = new boolean[folderClauses.size()];
+        for (int i = 0; i < folderClauses.size(); i++) {
+            folderNames[i] = folderClauses.get(i).keywords.toArray(new String[0]);
+            isFolderClauseNegated[i] = folderClauses.get(i).isNegated;
+        }
+        return new BookmarkMatcher(folderNames, isFolderClauseNegated,
+                KeywordAutomaton.compileAll(clausesByField.get(Field.NAME)),
+                KeywordAutomaton.compileAll(clausesByField.get(Field.URL)));
+    }
+
+    /**
+     * Returns true if {@code bookmark} satisfies every clause of this matcher.
+     */
+    boolean matches(Bookmark bookmark) {
+        if (folderNames.length > 0 && !matchesFolder(bookmark.getFolder().folderName)) {
+            return false;
+        }
+        return matchesName(bookmark.getName().value) && matchesUrl(bookmark.getUrl().value);
+    }
+
+    /**
+     * Returns true if {@code name} satisfies every name clause of this matcher.
+     */
+    boolean matchesName(String name) {
+        return matchesAll(nameAutomata, name);
+    }
+
+    /**
+     * Returns true if {@code url} satisfies every URL clause of this matcher.
+     */
+    boolean matchesUrl(String url) {
+        return matchesAll(urlAutomata, url);
+    }
+
+    private static boolean matchesAll(KeywordAutomaton[] automata, String text) {
+        for (KeywordAutomaton automaton : automata) {
+            if (!automaton.matches(text)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesFolder(String folderName) {
+        for (int i = 0; i < folderNames.length; i++) {
+            boolean isInFolders = false;
+            for (String name : folderNames[i]) {
+                if (folderName.equalsIgnoreCase(name)) {
+                    isInFolders = true;
+                    break;
+                }
+            }
+            if (isInFolders == isFolderClauseNegated[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A condition on a field of a bookmark: that it contains any of the keywords, or none of them if negated.
+     * Folder names must be equal to a keyword instead, ignoring case.
+     */
+    static class Clause {
+        private final Field field;
+        private final boolean isNegated;
+        private final List<String> keywords;
+
+        Clause(Field field, boolean isNegated, List<String> keywords) {
+            this.field = requireNonNull(field);
+            this.isNegated = isNegated;
+            this.keywords = Collections.unmodifiableList(new ArrayList<>(keywords));
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        boolean isNegated() {
+            return isNegated;
+        }
+
+        List<String> getKeywords() {
+            return keywords;
+        }
+    }
+
+    /**
+     * An Aho-Corasick automaton of the keywords of up to 64 clauses on a field.
+     *
+     * The automaton is a complete table of transitions over the characters that occur in the keywords, so that
+     * each character of a text takes one lookup. Each state has a mask of the clauses with a keyword that ends
+     * there, including the keywords that are suffixes of it. The rows of the table are a power of two wide,
+     * and states are kept as the offsets of their rows.
+     */
+    private static class KeywordAutomaton {
+        private static final int MAX_CLAUSES = Long.SIZE;
+        private static final int ROOT = 0;
+
+        /**
+         * The index in the alphabet of each ASCII character, or 0 if it is not in any keyword.
+         * Upper-case letters have the index of their lower-case letter, so that ASCII text is not lower-cased.
+         * Text with characters beyond ASCII is lower-cased as a whole instead, as some of them lower-case
+         * differently depending on the characters around them.
+         */
+        private final int[] asciiIndexes;
+        /** The characters beyond ASCII in the keywords, sorted, which are in the alphabet after the ASCII ones. */
+        private final char[] otherChars;
+        private final int asciiAlphabetSize;
+        private final int rowShift;
+        private final int[] transitions;
+        private final long[] clausesFound;
+        /** The clauses with a keyword that must be found. */
+        private final long requiredClauses;
+        /** The negated clauses, none of whose keywords may be found. */
+        private final long forbiddenClauses;
+
+        private KeywordAutomaton(List<Clause> clauses) {
+            TreeSet<Character> ascii = new TreeSet<>();
+            TreeSet<Character> others = new TreeSet<>();
+            List<char[]> keywords = new ArrayList<>();
+            List<Integer> keywordClauses = new ArrayList<>();
+            long required = 0;
+            long forbidden = 0;
+            for (int i = 0; i < clauses.size(); i++) {
+                Clause clause = clauses.get(i);
+                if (clause.isNegated) {
+                    forbidden |= 1L << i;
+                } else {
+                    required |= 1L << i;
+                }
+                for (String keyword : clause.keywords) {
+                    char[] preppedKeyword = keyword.trim().toLowerCase(Locale.ROOT).toCharArray();
+                    checkArgument(preppedKeyword.length > 0, "Keyword cannot be empty");
+                    for (char c : preppedKeyword) {
+                        (c < 128 ? ascii : others).add(c);
+                    }
+                    keywords.add(preppedKeyword);
+                    keywordClauses.add(i);
+                }
+            }
+            requiredClauses = required;
+            forbiddenClauses = forbidden;
+
+            // index 0 of the alphabet stands for every character that is not in a keyword
+            asciiIndexes = new int[128];
+            int index = 1;
+            for (char c : ascii) {
+                asciiIndexes[c] = index++;
+            }
+            for (char c = 'A'; c <= 'Z'; c++) {
+                asciiIndexes[c] = asciiIndexes[Character.toLowerCase(c)];
+            }
+            asciiAlphabetSize = index;
+            otherChars = new char[others.size()];
+            int o = 0;
+            for (char c : others) {
+                otherChars[o++] = c;
+            }
+            int alphabetSize = asciiAlphabetSize + otherChars.length;
+
+            int maxStates = 1 + keywords.stream().mapToInt(keyword -> keyword.length).sum();
+            int[] trie = new int[maxStates * alphabetSize];
+            long[] found = new long[maxStates];
+            int stateCount = 1;
+            for (int k = 0; k < keywords.size(); k++) {
+                int state = ROOT;
+                for (char c : keywords.get(k)) {
+                    int slot = state * alphabetSize + getAlphabetIndex(c);
+                    if (trie[slot] == 0) {
+                        trie[slot] = stateCount++;
+                    }
+                    state = trie[slot];
+                }
+                found[state] |= 1L << keywordClauses.get(k);
+            }
+
+            // turn the trie into a complete automaton breadth first, following the failure link of each state
+            // where it has no child, and adding the clauses found at the failure link to those of the state
+            int[] failures = new int[stateCount];
+            Deque<Integer> statesToVisit = new ArrayDeque<>();
+            for (int a = 0; a < alphabetSize; a++) {
+                if (trie[a] != 0) {
+                    statesToVisit.add(trie[a]);
+                }
+            }
+            while (!statesToVisit.isEmpty()) {
+                int state = statesToVisit.poll();
+                found[state] |= found[failures[state]];
+                for (int a = 0; a < alphabetSize; a++) {
+                    int slot = state * alphabetSize + a;
+                    int failureNext = trie[failures[state] * alphabetSize + a];
+                    if (trie[slot] == 0) {
+                        trie[slot] = failureNext;
+                    } else {
+                        failures[trie[slot]] = failureNext;
+                        statesToVisit.add(trie[slot]);
+                    }
+                }
+            }
+
+            rowShift = Integer.SIZE - Integer.numberOfLeadingZeros(alphabetSize - 1);
+            transitions = new int[stateCount << rowShift];
+            for (int state = 0; state < stateCount; state++) {
+                for (int a = 0; a < alphabetSize; a++) {
+                    transitions[(state << rowShift) + a] = trie[state * alphabetSize + a] << rowShift;
+                }
+            }
+            clausesFound = Arrays.copyOf(found, stateCount);
+        }
+
+        /**
+         * Compiles the clauses on a field into automata of up to 64 clauses each.
+         */
+        static KeywordAutomaton[] compileAll(List<Clause> clauses) {
+            KeywordAutomaton[] automata = new KeywordAutomaton[(clauses.size() + MAX_CLAUSES - 1) / MAX_CLAUSES];
+            for (int i = 0; i < automata.length; i++) {
+                automata[i] = new KeywordAutomaton(
+                        clauses.subList(i * MAX_CLAUSES, Math.min(clauses.size(), (i + 1) * MAX_CLAUSES)));
+            }
+            return automata;
+        }
+
+        /**
+         * Returns true if {@code text} contains a keyword of each clause that is not negated, and no keyword of
+         * the negated clauses.
+         */
+        boolean matches(String text) {
+            return matches(text, false);
+        }
+
+        /**
+         * Returns true like {@link #matches(String)}, where {@code isLowerCased} tells if {@code text} is
+         * lower-cased already. Text is only lower-cased when a character beyond ASCII is found, as lower-casing
+         * ASCII text changes no character before that one.
+         */
+        private boolean matches(String text, boolean isLowerCased) {
+            long found = 0;
+            int row = ROOT;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c >= 128 && !isLowerCased) {
+                    return matches(text.toLowerCase(Locale.ROOT), true);
+                }
+                row = transitions[row + getAlphabetIndex(c)];
+                long clauses = clausesFound[row >>> rowShift];
+                if (clauses == 0) {
+                    continue;
+                }
+                found |= clauses;
+                if ((found & forbiddenClauses) != 0) {
+                    return false;
+                }
+                if (forbiddenClauses == 0 && (found & requiredClauses) == requiredClauses) {
+                    return true;
+                }
+            }
+            return (found & requiredClauses) == requiredClauses;
+        }
+
+        /**
+         * Returns the index in the alphabet of {@code c}, ignoring the case of ASCII characters only.
+         */
+        private int getAlphabetIndex(char c) {
+            if (c < 128) {
+                return asciiIndexes[c];
+            }
+            int index = Arrays.binarySearch(otherChars, c);
+            return index < 0 ? 0 : asciiAlphabetSize + index;
+        }
+    }
+}
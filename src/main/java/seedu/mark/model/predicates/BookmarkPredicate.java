@@ -2,16 +2,26 @@ package seedu.mark.model.predicates;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.BookmarkIndex;
+import seedu.mark.model.bookmark.BookmarkIndex.Field;
+import seedu.mark.model.predicates.BookmarkMatcher.Clause;
 
 /**
- * A wrapper for {@code Predicate<Bookmark>} that also stores the keywords used
+ * A {@code Predicate<Bookmark>} that also stores the keywords used
  * in the current predicate.
+ *
+ * Each call of a {@code with} method adds a condition that a matching bookmark must also satisfy.
+ * The conditions are compiled into a {@link BookmarkMatcher} the first time that a bookmark is tested.
  */
 public class BookmarkPredicate implements Predicate<Bookmark> {
     // TODO: Find a way to reduce code duplication
@@ -23,7 +33,8 @@ public class BookmarkPredicate implements Predicate<Bookmark> {
     private final Set<String> folderNames;
     private final Set<String> notFolderNames;
 
-    private final Predicate<Bookmark> predicate;
+    private final List<Clause> clauses;
+    private BookmarkMatcher matcher;
 
     private boolean isEmpty;
 
@@ -33,21 +44,21 @@ public class BookmarkPredicate implements Predicate<Bookmark> {
      */
     public BookmarkPredicate() {
         this(new HashSet<>(), new HashSet<>(), new HashSet<>(), new HashSet<>(),
-                new HashSet<>(), new HashSet<>(), bookmark -> true);
+                new HashSet<>(), new HashSet<>(), Collections.emptyList());
         this.isEmpty = true;
     }
 
     private BookmarkPredicate(Set<String> nameKeywords, Set<String> notNameKeywords,
                               Set<String> urlKeywords, Set<String> notUrlKeywords,
                               Set<String> folderNames, Set<String> notFolderNames,
-                              Predicate<Bookmark> predicate) {
+                              List<Clause> clauses) {
         this.nameKeywords = new HashSet<>(nameKeywords);
         this.notNameKeywords = new HashSet<>(notNameKeywords);
         this.urlKeywords = new HashSet<>(urlKeywords);
         this.notUrlKeywords = new HashSet<>(notUrlKeywords);
         this.folderNames = folderNames;
         this.notFolderNames = notFolderNames;
-        this.predicate = predicate;
+        this.clauses = clauses;
     }
 
     public Set<String> getNameKeywords() {
@@ -76,7 +87,70 @@ public class BookmarkPredicate implements Predicate<Bookmark> {
 
     @Override
     public boolean test(Bookmark bookmark) {
-        return predicate.test(bookmark);
+        if (matcher == null) {
+            matcher = BookmarkMatcher.compile(clauses);
+        }
+        return matcher.matches(bookmark);
+    }
+
+    /**
+     * Returns the clauses of this predicate followed by a new clause on {@code field}.
+     */
+    private List<Clause> withClause(BookmarkMatcher.Field field, boolean isNegated, List<String> keywords) {
+        List<Clause> newClauses = new ArrayList<>(clauses);
+        newClauses.add(new Clause(field, isNegated, keywords));
+        return Collections.unmodifiableList(newClauses);
+    }
+
+    /**
+     * Returns the bookmarks in {@code index} that this predicate matches.
+     * A matching bookmark contains a name keyword, contains a URL keyword and is in one of the folders, for each
+     * of these kinds of keywords that this predicate has, so only the bookmarks that {@code index} finds with
+     * all of them are tested.
+     */
+    public Set<Bookmark> findMatches(BookmarkIndex index) {
+        requireNonNull(index);
+
+        Set<Bookmark> candidates = null;
+        if (!nameKeywords.isEmpty()) {
+            candidates = retainFound(candidates, index, Field.NAME, nameKeywords);
+        }
+        if (!urlKeywords.isEmpty()) {
+            candidates = retainFound(candidates, index, Field.URL, urlKeywords);
+        }
+        if (!folderNames.isEmpty()) {
+            candidates = retainFound(candidates, index, Field.FOLDER, folderNames);
+        }
+
+        Set<Bookmark> matches = newBookmarkSet();
+        for (Bookmark candidate : candidates == null ? index.getBookmarks() : candidates) {
+            if (test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the bookmarks in {@code candidates} that {@code index} finds with any of {@code keywords} in
+     * {@code field}, or all of those found if {@code candidates} is null.
+     */
+    private static Set<Bookmark> retainFound(Set<Bookmark> candidates, BookmarkIndex index, Field field,
+                                             Collection<String> keywords) {
+        Set<Bookmark> found = newBookmarkSet();
+        for (String keyword : keywords) {
+            found.addAll(field.isSearchedByPhrase()
+                    ? index.findContaining(field, keyword)
+                    : index.findEqual(field, keyword));
+        }
+        if (candidates != null) {
+            found.retainAll(candidates);
+        }
+        return found;
+    }
+
+    private static Set<Bookmark> newBookmarkSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
     }
 
     /**
@@ -106,7 +180,7 @@ public class BookmarkPredicate implements Predicate<Bookmark> {
         return new BookmarkPredicate(newNameKeywords,
                 this.notNameKeywords, this.urlKeywords, this.notUrlKeywords,
                 this.folderNames, this.notFolderNames,
-                predicate.and(new NameContainsKeywordsPredicate(nameKeywords)));
+                withClause(BookmarkMatcher.Field.NAME, false, nameKeywords));
     }
 
     /**
@@ -127,7 +201,7 @@ public class BookmarkPredicate implements Predicate<Bookmark> {
         return new BookmarkPredicate(this.nameKeywords,
                 newNotNameKeywords, this.urlKeywords, this.notUrlKeywords,
                 this.folderNames, this.notFolderNames,
-                predicate.and(new NameContainsKeywordsPredicate(notNameKeywords).negate()));
+                withClause(BookmarkMatcher.Field.NAME, true, notNameKeywords));
     }
 
     /**
@@ -146,7 +220,7 @@ public class BookmarkPredicate implements Predicate<Bookmark> {
         newUrlKeywords.addAll(urlKeywords);
         return new BookmarkPredicate(this.nameKeywords,
                 this.notNameKeywords, newUrlKeywords, this.notUrlKeywords,
-                this.folderNames, this.notFolderNames, predicate.and(new UrlContainsKeywordsPredicate(urlKeywords)));
+                this.folderNames, this.notFolderNames, withClause(BookmarkMatcher.Field.URL, false, urlKeywords));
     }
 
     /**
@@ -167,7 +241,7 @@ public class BookmarkPredicate implements Predicate<Bookmark> {
         return new BookmarkPredicate(this.nameKeywords,
                 this.notNameKeywords, this.urlKeywords, newNotUrlKeywords,
                 this.folderNames, this.notFolderNames,
-                predicate.and(new UrlContainsKeywordsPredicate(notUrlKeywords).negate()));
+                withClause(BookmarkMatcher.Field.URL, true, notUrlKeywords));
     }
 
     /**
@@ -187,7 +261,7 @@ public class BookmarkPredicate implements Predicate<Bookmark> {
         return new BookmarkPredicate(this.nameKeywords,
                 this.notNameKeywords, this.urlKeywords, this.notUrlKeywords,
                 newFolderNames, this.notFolderNames,
-                predicate.and(new FolderContainsKeywordsPredicate(folderNames)));
+                withClause(BookmarkMatcher.Field.FOLDER, false, folderNames));
     }
 
     /**
@@ -207,7 +281,7 @@ public class BookmarkPredicate implements Predicate<Bookmark> {
         return new BookmarkPredicate(this.nameKeywords,
                 this.notNameKeywords, this.urlKeywords, this.notUrlKeywords,
                 this.folderNames, newNotFolderNames,
-                predicate.and(new FolderContainsKeywordsPredicate(notFolderNames).negate()));
+                withClause(BookmarkMatcher.Field.FOLDER, true, notFolderNames));
     }
 
     @Override
@@ -0,0 +1,285 @@
+package seedu.mark.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.mark.commons.core.LogsCenter;
+import seedu.mark.commons.util.StringUtil;
+import seedu.mark.model.annotation.Paragraph;
+import seedu.mark.model.annotation.ParagraphIdentifier;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.CachedCopy;
+import seedu.mark.model.bookmark.exceptions.CachedCopyUnavailableException;
+
+/**
+ * A full-text index over the paragraphs and annotation notes of the latest cached copies of bookmarks,
+ * which ranks the paragraphs that match a query with BM25.
+ *
+ * Each paragraph of a cached copy is indexed together with the note on it, and each phantom paragraph with its note.
+ * The words of the paragraphs of the html are kept in a {@link TermStore}, so that the html of cached copies
+ * that are loaded on demand only has to be parsed the first time it is indexed.
+ * The index is built by {@link #build(List)}, then kept up to date with a bookmark list by
+ * {@link #update(ListChangeListener.Change)}. Bookmarks are held by identity.
+ * Bookmarks added to the list are only indexed when the index is next used, so that changes to the list,
+ * such as an import or an undo, do not have to wait for terms to be read or html to be parsed.
+ */
+public class ContentIndex {
+
+    /** How quickly the score of a paragraph stops growing with the number of times that it contains a word. */
+    public static final double K1 = 1.2;
+    /** How much the score of a paragraph is scaled down by its length, from 0 to 1. */
+    public static final double B = 0.75;
+
+    private static final Logger logger = LogsCenter.getLogger(ContentIndex.class);
+
+    private final TermStore termStore;
+    private final Map<String, Set<Passage>> postings = new HashMap<>();
+    private final Map<Bookmark, List<Passage>> passagesOfBookmarks = new IdentityHashMap<>();
+    private final Set<Bookmark> pendingBookmarks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long totalLength;
+    private int numPassages;
+    private boolean isBuilt;
+
+    public ContentIndex() {
+        this(TermStore.NONE);
+    }
+
+    public ContentIndex(TermStore termStore) {
+        this.termStore = requireNonNull(termStore);
+    }
+
+    /**
+     * Indexes {@code bookmarks}, unless the index has been built already.
+     */
+    public void build(List<? extends Bookmark> bookmarks) {
+        requireNonNull(bookmarks);
+        if (isBuilt) {
+            return;
+        }
+        bookmarks.forEach(this::add);
+        isBuilt = true;
+    }
+
+    public boolean isBuilt() {
+        return isBuilt;
+    }
+
+    /**
+     * Updates the index with the bookmarks added to and removed from a bookmark list in {@code change},
+     * if the index has been built. Otherwise, the list is left to be indexed when the index is built.
+     * Removed bookmarks are dropped at once, while added bookmarks are left to be indexed when the index is next used.
+     */
+    public void update(ListChangeListener.Change<? extends Bookmark> change) {
+        if (!isBuilt) {
+            return;
+        }
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            pendingBookmarks.addAll(change.getAddedSubList());
+        }
+    }
+
+    /**
+     * Indexes the bookmarks that have been added to the bookmark list since the index was last used.
+     */
+    private void indexPendingBookmarks() {
+        if (pendingBookmarks.isEmpty()) {
+            return;
+        }
+        List<Bookmark> bookmarks = new ArrayList<>(pendingBookmarks);
+        pendingBookmarks.clear();
+        bookmarks.forEach(this::add);
+    }
+
+    /**
+     * Adds the paragraphs of the latest cached copy of {@code bookmark} to the index.
+     */
+    public void add(Bookmark bookmark) {
+        requireNonNull(bookmark);
+        List<CachedCopy> cachedCopies = bookmark.getCachedCopies();
+        if (passagesOfBookmarks.containsKey(bookmark) || cachedCopies.isEmpty()) {
+            return;
+        }
+
+        CachedCopy cachedCopy = cachedCopies.get(cachedCopies.size() - 1);
+        DocumentTerms documentTerms;
+        List<Paragraph> annotatedParagraphs;
+        try {
+            documentTerms = getDocumentTerms(cachedCopy);
+            annotatedParagraphs = cachedCopy.getAnnotatedParagraphs();
+        } catch (CachedCopyUnavailableException e) {
+            // the bookmark is left out of the index until it is added again
+            logger.warning("Unable to index " + bookmark.getName() + ": " + e.getMessage());
+            return;
+        }
+        Map<ParagraphIdentifier, Map<String, Integer>> termCounts = new HashMap<>();
+        for (ParagraphIdentifier pid : documentTerms.getParagraphIds()) {
+            termCounts.put(pid, documentTerms.getTermCounts(pid));
+        }
+        for (Paragraph paragraph : annotatedParagraphs) {
+            if (paragraph.hasNote()) {
+                Map<String, Integer> counts = new HashMap<>(documentTerms.getTermCounts(paragraph.getId()));
+                DocumentTerms.countTerms(paragraph.getNote().toString()).forEach((term, count) ->
+                        counts.merge(term, count, Integer::sum));
+                termCounts.put(paragraph.getId(), counts);
+            }
+        }
+
+        List<Passage> passages = new ArrayList<>();
+        termCounts.forEach((pid, counts) -> {
+            if (!counts.isEmpty()) {
+                passages.add(new Passage(bookmark, pid, counts));
+            }
+        });
+        passagesOfBookmarks.put(bookmark, passages);
+        for (Passage passage : passages) {
+            passage.termCounts.keySet().forEach(term ->
+                    postings.computeIfAbsent(term, unused -> newPassageSet()).add(passage));
+            totalLength += passage.length;
+        }
+        numPassages += passages.size();
+    }
+
+    /**
+     * Removes the paragraphs of {@code bookmark} from the index.
+     */
+    public void remove(Bookmark bookmark) {
+        requireNonNull(bookmark);
+        pendingBookmarks.remove(bookmark);
+        List<Passage> passages = passagesOfBookmarks.remove(bookmark);
+        if (passages == null) {
+            return;
+        }
+        for (Passage passage : passages) {
+            for (String term : passage.termCounts.keySet()) {
+                Set<Passage> posting = postings.get(term);
+                posting.remove(passage);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            totalLength -= passage.length;
+        }
+        numPassages -= passages.size();
+    }
+
+    /**
+     * Returns the number of paragraphs in the index.
+     */
+    public int size() {
+        indexPendingBookmarks();
+        return numPassages;
+    }
+
+    /**
+     * Returns the paragraphs that contain any word of {@code query}, ignoring case,
+     * ranked from the most to the least relevant, up to {@code limit} of them.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        requireNonNull(query);
+        indexPendingBookmarks();
+        if (limit <= 0 || numPassages == 0) {
+            return Collections.emptyList();
+        }
+
+        double averageLength = (double) totalLength / numPassages;
+        Map<Passage, Double> scores = new IdentityHashMap<>();
+        for (String term : new HashSet<>(StringUtil.splitIntoWords(query.toLowerCase(Locale.ROOT)))) {
+            Set<Passage> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (numPassages - posting.size() + 0.5) / (posting.size() + 0.5));
+            for (Passage passage : posting) {
+                int count = passage.termCounts.get(term);
+                double lengthNorm = K1 * (1 - B + B * passage.length / averageLength);
+                scores.merge(passage, idf * count * (K1 + 1) / (count + lengthNorm), Double::sum);
+            }
+        }
+
+        // keep the best hits in a bounded heap whose head is the worst of them
+        Comparator<SearchHit> byRelevance = Comparator.comparingDouble(SearchHit::getScore)
+                .thenComparing(SearchHit::getParagraphId, Comparator.reverseOrder());
+        PriorityQueue<SearchHit> bestHits = new PriorityQueue<>(byRelevance);
+        scores.forEach((passage, score) -> {
+            bestHits.add(new SearchHit(passage.bookmark, passage.pid, score));
+            if (bestHits.size() > limit) {
+                bestHits.poll();
+            }
+        });
+        List<SearchHit> hits = new ArrayList<>(bestHits);
+        hits.sort(byRelevance.reversed());
+        return hits;
+    }
+
+    /**
+     * Returns the terms of the paragraphs of the html of {@code cachedCopy}, from the term store if they are there.
+     */
+    private DocumentTerms getDocumentTerms(CachedCopy cachedCopy) {
+        String htmlHash = cachedCopy.getHtmlHash();
+        Optional<DocumentTerms> storedTerms = termStore.read(htmlHash);
+        if (storedTerms.isPresent()) {
+            return storedTerms.get();
+        }
+        DocumentTerms documentTerms = DocumentTerms.of(cachedCopy.getAnnotations());
+        termStore.write(htmlHash, documentTerms);
+        return documentTerms;
+    }
+
+    private static Set<Passage> newPassageSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Keeps the terms of the paragraphs of the html of cached copies, by the hash of the html.
+     */
+    public interface TermStore {
+
+        /** A term store that keeps nothing. */
+        TermStore NONE = new TermStore() {
+            @Override
+            public Optional<DocumentTerms> read(String htmlHash) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void write(String htmlHash, DocumentTerms documentTerms) {}
+        };
+
+        Optional<DocumentTerms> read(String htmlHash);
+
+        void write(String htmlHash, DocumentTerms documentTerms);
+    }
+
+    /**
+     * A paragraph of the cached copy of a bookmark, as it is indexed.
+     */
+    private static class Passage {
+
+        private final Bookmark bookmark;
+        private final ParagraphIdentifier pid;
+        private final Map<String, Integer> termCounts;
+        private final int length;
+
+        Passage(Bookmark bookmark, ParagraphIdentifier pid, Map<String, Integer> termCounts) {
+            this.bookmark = bookmark;
+            this.pid = pid;
+            this.termCounts = termCounts;
+            this.length = termCounts.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+}
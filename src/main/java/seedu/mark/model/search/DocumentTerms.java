@@ -0,0 +1,84 @@
+package seedu.mark.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.mark.commons.util.StringUtil;
+import seedu.mark.model.annotation.OfflineDocument;
+import seedu.mark.model.annotation.Paragraph;
+import seedu.mark.model.annotation.ParagraphIdentifier;
+
+/**
+ * The number of times that each word occurs in each paragraph of the html of a cached copy.
+ * Words are those of {@link StringUtil#splitIntoWords(String)} in the lower-cased text.
+ * Guarantees: immutable.
+ */
+public class DocumentTerms {
+
+    private final Map<ParagraphIdentifier, Map<String, Integer>> termCounts;
+
+    /**
+     * Creates a {@code DocumentTerms} with the counts of the words in each paragraph.
+     */
+    public DocumentTerms(Map<ParagraphIdentifier, Map<String, Integer>> termCounts) {
+        requireNonNull(termCounts);
+        Map<ParagraphIdentifier, Map<String, Integer>> copy = new HashMap<>();
+        termCounts.forEach((pid, counts) -> copy.put(pid, Collections.unmodifiableMap(new HashMap<>(counts))));
+        this.termCounts = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Returns the terms of the true paragraphs of {@code doc}, which are the paragraphs of its html.
+     */
+    public static DocumentTerms of(OfflineDocument doc) {
+        requireNonNull(doc);
+        Map<ParagraphIdentifier, Map<String, Integer>> termCounts = new HashMap<>();
+        for (Paragraph paragraph : doc.getCollection()) {
+            if (paragraph.isTrueParagraph()) {
+                termCounts.put(paragraph.getId(), countTerms(paragraph.getParagraphContent().getContent()));
+            }
+        }
+        return new DocumentTerms(termCounts);
+    }
+
+    /**
+     * Returns the number of times that each word occurs in {@code text}, ignoring case.
+     */
+    public static Map<String, Integer> countTerms(String text) {
+        requireNonNull(text);
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : StringUtil.splitIntoWords(text.toLowerCase(Locale.ROOT))) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    public Set<ParagraphIdentifier> getParagraphIds() {
+        return termCounts.keySet();
+    }
+
+    /**
+     * Returns the number of times that each word occurs in the paragraph with {@code pid},
+     * which is empty if there is no such paragraph.
+     */
+    public Map<String, Integer> getTermCounts(ParagraphIdentifier pid) {
+        return termCounts.getOrDefault(pid, Collections.emptyMap());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DocumentTerms // instanceof handles nulls
+                && termCounts.equals(((DocumentTerms) other).termCounts));
+    }
+
+    @Override
+    public int hashCode() {
+        return termCounts.hashCode();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.mark.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.mark.model.bookmark.Bookmark;
+
+/**
+ * A bookmark whose name, URL or tags have words close to those of a fuzzy search, with its relevance score.
+ * Guarantees: immutable.
+ */
+public class FuzzyHit {
+
+    private final Bookmark bookmark;
+    private final double score;
+
+    /**
+     * Creates a {@code FuzzyHit} of {@code bookmark}, which must not be null, with {@code score}.
+     */
+    public FuzzyHit(Bookmark bookmark, double score) {
+        requireNonNull(bookmark);
+        this.bookmark = bookmark;
+        this.score = score;
+    }
+
+    public Bookmark getBookmark() {
+        return bookmark;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FuzzyHit)) {
+            return false;
+        }
+
+        FuzzyHit otherHit = (FuzzyHit) other;
+        return bookmark.equals(otherHit.bookmark)
+                && Double.compare(score, otherHit.score) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bookmark, score);
+    }
+
+    @Override
+    public String toString() {
+        return bookmark.getName() + " (" + score + ")";
+    }
+}
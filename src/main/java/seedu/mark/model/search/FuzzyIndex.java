@@ -0,0 +1,327 @@
+package seedu.mark.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+import javafx.collections.ListChangeListener;
+import seedu.mark.commons.util.StringUtil;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.tag.Tag;
+
+/**
+ * An index of the words in the names, URLs and tags of bookmarks, which finds the bookmarks with words
+ * that are within a few typos of the words of a query.
+ *
+ * The distinct words are kept in a BK-tree, so that the words close to a query word are found without
+ * measuring the distance to every word. Each bookmark scores, for each query word, the weight of the field
+ * of its closest word divided by one more than the distance to it, and bookmarks are ranked by their total score.
+ * The index is built by {@link #build(List)}, then kept up to date with a bookmark list by
+ * {@link #update(ListChangeListener.Change)}. Bookmarks are held by identity.
+ */
+public class FuzzyIndex {
+
+    /** The number of words no longer in any bookmark above which the BK-tree is built again. */
+    private static final int MIN_STALE_WORDS_TO_REBUILD = 1024;
+
+    /**
+     * The fields of a bookmark whose words are indexed, by how much a close word in them counts.
+     */
+    public enum Field {
+        NAME(3),
+        TAG(2),
+        URL(1);
+
+        private final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+    }
+
+    private final Map<String, Map<Field, Set<Bookmark>>> postings = new HashMap<>();
+    private final Set<Bookmark> bookmarks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private BkTree words = new BkTree();
+    private boolean isBuilt;
+
+    /**
+     * Indexes {@code bookmarks}, unless the index has been built already.
+     */
+    public void build(List<? extends Bookmark> bookmarks) {
+        requireNonNull(bookmarks);
+        if (isBuilt) {
+            return;
+        }
+        bookmarks.forEach(this::add);
+        isBuilt = true;
+    }
+
+    public boolean isBuilt() {
+        return isBuilt;
+    }
+
+    /**
+     * Updates the index with the bookmarks added to and removed from a bookmark list in {@code change},
+     * if the index has been built. Otherwise, the list is left to be indexed when the index is built.
+     */
+    public void update(ListChangeListener.Change<? extends Bookmark> change) {
+        if (!isBuilt) {
+            return;
+        }
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds the words of the name, URL and tags of {@code bookmark} to the index.
+     */
+    public void add(Bookmark bookmark) {
+        requireNonNull(bookmark);
+        if (!bookmarks.add(bookmark)) {
+            return;
+        }
+        getWords(bookmark).forEach((field, fieldWords) -> {
+            for (String word : fieldWords) {
+                Map<Field, Set<Bookmark>> posting = postings.computeIfAbsent(word, unused -> {
+                    words.add(word);
+                    return new EnumMap<>(Field.class);
+                });
+                posting.computeIfAbsent(field, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(bookmark);
+            }
+        });
+    }
+
+    /**
+     * Removes the words of {@code bookmark} from the index.
+     */
+    public void remove(Bookmark bookmark) {
+        requireNonNull(bookmark);
+        if (!bookmarks.remove(bookmark)) {
+            return;
+        }
+        getWords(bookmark).forEach((field, fieldWords) -> {
+            for (String word : fieldWords) {
+                Map<Field, Set<Bookmark>> posting = postings.get(word);
+                Set<Bookmark> fieldPosting = posting.get(field);
+                fieldPosting.remove(bookmark);
+                if (fieldPosting.isEmpty()) {
+                    posting.remove(field);
+                }
+                if (posting.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        });
+
+        // words are not removed from the BK-tree, so it is built again once most of its words are gone
+        int staleWords = words.size() - postings.size();
+        if (staleWords > MIN_STALE_WORDS_TO_REBUILD && staleWords > postings.size()) {
+            words = new BkTree();
+            postings.keySet().forEach(words::add);
+        }
+    }
+
+    /**
+     * Returns the number of distinct words in the index.
+     */
+    public int size() {
+        return postings.size();
+    }
+
+    /**
+     * Returns the bookmarks with words close to any word of {@code query}, ignoring case,
+     * ranked from the most to the least relevant, up to {@code limit} of them.
+     */
+    public List<FuzzyHit> search(String query, int limit) {
+        requireNonNull(query);
+        List<String> queryWords = new ArrayList<>(
+                new LinkedHashSet<>(StringUtil.splitIntoWords(query.toLowerCase(Locale.ROOT))));
+        if (limit <= 0 || queryWords.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // the best score of each bookmark for each query word
+        Map<Bookmark, double[]> wordScores = new IdentityHashMap<>();
+        for (int i = 0; i < queryWords.size(); i++) {
+            int queryWordIndex = i;
+            String queryWord = queryWords.get(i);
+            words.findWithin(queryWord, getMaxDistance(queryWord), (word, distance) -> {
+                Map<Field, Set<Bookmark>> posting = postings.get(word);
+                if (posting == null) {
+                    return;
+                }
+                posting.forEach((field, fieldPosting) -> {
+                    double score = (double) field.getWeight() / (1 + distance);
+                    for (Bookmark bookmark : fieldPosting) {
+                        double[] scores = wordScores.computeIfAbsent(bookmark, unused -> new double[queryWords.size()]);
+                        scores[queryWordIndex] = Math.max(scores[queryWordIndex], score);
+                    }
+                });
+            });
+        }
+
+        // keep the best hits in a bounded heap whose head is the worst of them
+        Comparator<FuzzyHit> byRelevance = Comparator.comparingDouble(FuzzyHit::getScore)
+                .thenComparing(hit -> hit.getBookmark().getName().value, Comparator.reverseOrder());
+        PriorityQueue<FuzzyHit> bestHits = new PriorityQueue<>(byRelevance);
+        wordScores.forEach((bookmark, scores) -> {
+            double score = 0;
+            for (double wordScore : scores) {
+                score += wordScore;
+            }
+            bestHits.add(new FuzzyHit(bookmark, score));
+            if (bestHits.size() > limit) {
+                bestHits.poll();
+            }
+        });
+        List<FuzzyHit> hits = new ArrayList<>(bestHits);
+        hits.sort(byRelevance.reversed());
+        return hits;
+    }
+
+    /**
+     * Returns the largest number of typos that a word can be from {@code queryWord} to match it.
+     * Short words have to match more closely, so that they do not match most other short words.
+     */
+    public static int getMaxDistance(String queryWord) {
+        if (queryWord.length() <= 2) {
+            return 0;
+        }
+        return queryWord.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the number of single-character insertions, deletions and substitutions that turn
+     * {@code first} into {@code second}.
+     */
+    public static int getEditDistance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Returns the lower-cased words of each field of {@code bookmark}.
+     */
+    private static Map<Field, Set<String>> getWords(Bookmark bookmark) {
+        Map<Field, Set<String>> fieldWords = new EnumMap<>(Field.class);
+        fieldWords.put(Field.NAME, getWords(bookmark.getName().value));
+        fieldWords.put(Field.URL, getWords(bookmark.getUrl().value));
+        Set<String> tagWords = new LinkedHashSet<>();
+        for (Tag tag : bookmark.getTags()) {
+            tagWords.addAll(getWords(tag.tagName));
+        }
+        fieldWords.put(Field.TAG, tagWords);
+        return fieldWords;
+    }
+
+    private static Set<String> getWords(String text) {
+        return new LinkedHashSet<>(StringUtil.splitIntoWords(text.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * A BK-tree of distinct words, in which the children of a word are keyed by their edit distance to it.
+     * By the triangle inequality, only the children whose distance differs by at most {@code maxDistance}
+     * from that of the query word can lead to words within {@code maxDistance} of it.
+     */
+    private static class BkTree {
+        private Node root;
+        private int size;
+
+        /**
+         * Adds {@code word} to the tree, unless it is there already.
+         */
+        void add(String word) {
+            if (root == null) {
+                root = new Node(word);
+                size++;
+                return;
+            }
+            Node node = root;
+            while (true) {
+                int distance = getEditDistance(word, node.word);
+                if (distance == 0) {
+                    return;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(word));
+                    size++;
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Gives every word in the tree within {@code maxDistance} of {@code queryWord}, with its distance,
+         * to {@code consumer}.
+         */
+        void findWithin(String queryWord, int maxDistance, ObjIntConsumer<String> consumer) {
+            if (root == null) {
+                return;
+            }
+            Deque<Node> nodesToVisit = new ArrayDeque<>();
+            nodesToVisit.push(root);
+            while (!nodesToVisit.isEmpty()) {
+                Node node = nodesToVisit.pop();
+                int distance = getEditDistance(queryWord, node.word);
+                if (distance <= maxDistance) {
+                    consumer.accept(node.word, distance);
+                }
+                node.children.forEach((childDistance, child) -> {
+                    if (Math.abs(childDistance - distance) <= maxDistance) {
+                        nodesToVisit.push(child);
+                    }
+                });
+            }
+        }
+
+        private static class Node {
+            private final String word;
+            private final Map<Integer, Node> children = new HashMap<>(4);
+
+            Node(String word) {
+                this.word = word;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.mark.model.search;
+
+import static seedu.mark.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.mark.model.annotation.ParagraphIdentifier;
+import seedu.mark.model.bookmark.Bookmark;
+
+/**
+ * A paragraph of the cached copy of a bookmark that matches a full-text search, with its relevance score.
+ * Guarantees: immutable.
+ */
+public class SearchHit {
+
+    private final Bookmark bookmark;
+    private final ParagraphIdentifier paragraphId;
+    private final double score;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public SearchHit(Bookmark bookmark, ParagraphIdentifier paragraphId, double score) {
+        requireAllNonNull(bookmark, paragraphId);
+        this.bookmark = bookmark;
+        this.paragraphId = paragraphId;
+        this.score = score;
+    }
+
+    public Bookmark getBookmark() {
+        return bookmark;
+    }
+
+    public ParagraphIdentifier getParagraphId() {
+        return paragraphId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SearchHit)) {
+            return false;
+        }
+
+        SearchHit otherHit = (SearchHit) other;
+        return bookmark.equals(otherHit.bookmark)
+                && paragraphId.equals(otherHit.paragraphId)
+                && Double.compare(score, otherHit.score) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bookmark, paragraphId, score);
+    }
+
+    @Override
+    public String toString() {
+        return bookmark.getName() + " " + paragraphId + " (" + score + ")";
+    }
+}
@@ -0,0 +1,348 @@
+package seedu.mark.model.util;
+
+import static seedu.mark.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.mark.commons.core.index.Index;
+import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.model.Mark;
+import seedu.mark.model.annotation.Annotation;
+import seedu.mark.model.annotation.AnnotationNote;
+import seedu.mark.model.annotation.Highlight;
+import seedu.mark.model.annotation.OfflineDocument;
+import seedu.mark.model.annotation.ParagraphIdentifier;
+import seedu.mark.model.autotag.AutotagController;
+import seedu.mark.model.autotag.SelectiveBookmarkTagger;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.CachedCopy;
+import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.Name;
+import seedu.mark.model.bookmark.Remark;
+import seedu.mark.model.bookmark.Url;
+import seedu.mark.model.folderstructure.FolderStructure;
+import seedu.mark.model.predicates.BookmarkPredicate;
+import seedu.mark.model.reminder.Note;
+import seedu.mark.model.reminder.Reminder;
+import seedu.mark.model.reminder.ReminderAssociation;
+import seedu.mark.model.tag.Tag;
+
+/**
+ * Generates realistic {@code Mark}s of any size, for benchmarks, load tests and startup profiling.
+ * The generated data depends only on the seed and the settings, so the same dataset can be recreated anywhere
+ * without network access.
+ */
+public class SyntheticMarkGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+    public static final int DEFAULT_SIZE = 1000;
+    public static final int DEFAULT_FOLDER_DEPTH = 4;
+    public static final int DEFAULT_FOLDER_FAN_OUT = 3;
+    public static final int DEFAULT_NUM_TAGS = 200;
+    public static final int DEFAULT_NUM_AUTOTAGS = 20;
+    public static final double DEFAULT_CACHED_COPY_RATIO = 0.2;
+    public static final double DEFAULT_REMINDER_RATIO = 0.01;
+
+    public static final String MESSAGE_INVALID_SETTING = "Generator settings must not be negative, "
+            + "and ratios must be between 0 and 1.";
+
+    /** Exponent of the Zipf distributions that words, tags and domains are drawn from. */
+    private static final double SKEW = 1.1;
+    private static final int MAX_TAGS_PER_BOOKMARK = 3;
+    private static final int MAX_PARAGRAPHS = 12;
+    private static final int MAX_ANNOTATIONS = 4;
+    private static final int NUM_DOMAINS = 500;
+    private static final LocalDateTime FIRST_REMINDER_TIME = LocalDateTime.of(2020, 1, 1, 9, 0);
+
+    private static final String[] WORDS = {
+        "java", "python", "guide", "news", "recipe", "music", "travel", "tutorial", "review", "docs",
+        "forum", "video", "course", "blog", "paper", "tool", "design", "cloud", "data", "security",
+        "health", "finance", "sports", "games", "history", "science", "movies", "books", "photos", "maps",
+        "shopping", "jobs", "interview", "algorithms", "database", "network", "linux", "android", "web", "style",
+        "garden", "fitness", "coffee", "startup", "climate", "space", "math", "physics", "art", "language"
+    };
+
+    private final long seed;
+    private int size = DEFAULT_SIZE;
+    private int folderDepth = DEFAULT_FOLDER_DEPTH;
+    private int folderFanOut = DEFAULT_FOLDER_FAN_OUT;
+    private int numTags = DEFAULT_NUM_TAGS;
+    private int numAutotags = DEFAULT_NUM_AUTOTAGS;
+    private double cachedCopyRatio = DEFAULT_CACHED_COPY_RATIO;
+    private double reminderRatio = DEFAULT_REMINDER_RATIO;
+
+    public SyntheticMarkGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    public SyntheticMarkGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of bookmarks of the {@code Mark} that we are generating.
+     */
+    public SyntheticMarkGenerator withSize(int size) {
+        checkArgument(size >= 0, MESSAGE_INVALID_SETTING);
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * Sets the folder tree of the {@code Mark} that we are generating to be {@code depth} levels deep,
+     * with {@code fanOut} subfolders in every folder above the last level.
+     */
+    public SyntheticMarkGenerator withFolders(int depth, int fanOut) {
+        checkArgument(depth >= 0 && fanOut >= 0, MESSAGE_INVALID_SETTING);
+        this.folderDepth = depth;
+        this.folderFanOut = fanOut;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct tags of the {@code Mark} that we are generating.
+     * A few of the tags are used by most bookmarks, while most are rarely used.
+     */
+    public SyntheticMarkGenerator withTags(int numTags) {
+        checkArgument(numTags >= 0, MESSAGE_INVALID_SETTING);
+        this.numTags = numTags;
+        return this;
+    }
+
+    /**
+     * Sets the number of autotags of the {@code Mark} that we are generating.
+     */
+    public SyntheticMarkGenerator withAutotags(int numAutotags) {
+        checkArgument(numAutotags >= 0, MESSAGE_INVALID_SETTING);
+        this.numAutotags = numAutotags;
+        return this;
+    }
+
+    /**
+     * Sets the proportion of bookmarks of the {@code Mark} that we are generating which have an annotated
+     * cached copy.
+     */
+    public SyntheticMarkGenerator withCachedCopyRatio(double cachedCopyRatio) {
+        checkArgument(cachedCopyRatio >= 0 && cachedCopyRatio <= 1, MESSAGE_INVALID_SETTING);
+        this.cachedCopyRatio = cachedCopyRatio;
+        return this;
+    }
+
+    /**
+     * Sets the proportion of bookmarks of the {@code Mark} that we are generating which have a reminder.
+     */
+    public SyntheticMarkGenerator withReminderRatio(double reminderRatio) {
+        checkArgument(reminderRatio >= 0 && reminderRatio <= 1, MESSAGE_INVALID_SETTING);
+        this.reminderRatio = reminderRatio;
+        return this;
+    }
+
+    /**
+     * Generates a {@code Mark} with the current settings.
+     * Every call with the same seed and settings generates an equal {@code Mark}.
+     */
+    public Mark generate() {
+        Random random = new Random(seed);
+        ZipfDistribution wordDistribution = new ZipfDistribution(WORDS.length);
+        ZipfDistribution domainDistribution = new ZipfDistribution(NUM_DOMAINS);
+
+        List<Folder> folders = new ArrayList<>();
+        FolderStructure folderStructure = generateFolderStructure(Folder.ROOT_FOLDER, 0, folders, random);
+        List<Tag> tags = generateTags();
+        ZipfDistribution tagDistribution = new ZipfDistribution(tags.size());
+
+        List<Bookmark> bookmarks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            bookmarks.add(generateBookmark(i, folders, tags, tagDistribution, wordDistribution, domainDistribution,
+                    random));
+        }
+
+        Mark mark = new Mark();
+        mark.setBookmarks(bookmarks);
+        mark.setFolderStructure(folderStructure);
+        mark.setReminderAssociation(generateReminders(bookmarks, random));
+        mark.setAutotagController(generateAutotags(folders, random));
+        return mark;
+    }
+
+    /**
+     * Returns a folder tree under {@code folder}, which is {@code level} levels below the root,
+     * and adds all folders in the tree to {@code folders}.
+     */
+    private FolderStructure generateFolderStructure(Folder folder, int level, List<Folder> folders, Random random) {
+        folders.add(folder);
+        List<FolderStructure> subfolders = new ArrayList<>();
+        if (level < folderDepth) {
+            for (int i = 0; i < folderFanOut; i++) {
+                Folder subfolder = new Folder(capitalize(WORDS[random.nextInt(WORDS.length)]) + " " + folders.size());
+                subfolders.add(generateFolderStructure(subfolder, level + 1, folders, random));
+            }
+        }
+        return new FolderStructure(folder, subfolders);
+    }
+
+    private List<Tag> generateTags() {
+        List<Tag> tags = new ArrayList<>(numTags);
+        for (int i = 0; i < numTags; i++) {
+            tags.add(new Tag(capitalize(WORDS[i % WORDS.length]) + (i / WORDS.length == 0 ? "" : i / WORDS.length)));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the bookmark at {@code index}, whose name and url are unique among all generated bookmarks.
+     */
+    private Bookmark generateBookmark(int index, List<Folder> folders, List<Tag> tags, ZipfDistribution tagDistribution,
+            ZipfDistribution wordDistribution, ZipfDistribution domainDistribution, Random random) {
+        String firstWord = WORDS[wordDistribution.sample(random)];
+        String secondWord = WORDS[wordDistribution.sample(random)];
+        Name name = new Name(capitalize(firstWord) + " " + secondWord + " " + index);
+        Url url = new Url("https://www." + WORDS[index % WORDS.length] + domainDistribution.sample(random)
+                + ".com/" + firstWord + "/" + secondWord + "-" + index);
+        Remark remark = random.nextInt(3) == 0
+                ? new Remark(Remark.DEFAULT_VALUE)
+                : new Remark("Notes about " + firstWord + " and " + secondWord);
+        Folder folder = folders.get(random.nextInt(folders.size()));
+
+        Set<Tag> bookmarkTags = new HashSet<>();
+        if (!tags.isEmpty()) {
+            int numBookmarkTags = random.nextInt(MAX_TAGS_PER_BOOKMARK + 1);
+            for (int i = 0; i < numBookmarkTags; i++) {
+                bookmarkTags.add(tags.get(tagDistribution.sample(random)));
+            }
+        }
+
+        List<CachedCopy> cachedCopies = new ArrayList<>();
+        if (random.nextDouble() < cachedCopyRatio) {
+            cachedCopies.add(generateCachedCopy(name.value, wordDistribution, random));
+        }
+        return new Bookmark(name, url, remark, folder, bookmarkTags, cachedCopies);
+    }
+
+    /**
+     * Returns a cached copy of a page titled {@code title}, with highlights and notes on some of its paragraphs
+     * and a few stray notes.
+     */
+    private CachedCopy generateCachedCopy(String title, ZipfDistribution wordDistribution, Random random) {
+        int numParagraphs = 1 + random.nextInt(MAX_PARAGRAPHS);
+        StringBuilder html = new StringBuilder("<html><head><title>").append(title)
+                .append("</title></head><body><h1>").append(title).append("</h1>");
+        for (int i = 0; i < numParagraphs; i++) {
+            html.append("<p>");
+            int numWords = 10 + random.nextInt(50);
+            for (int j = 0; j < numWords; j++) {
+                html.append(j == 0 ? "" : " ").append(WORDS[wordDistribution.sample(random)]);
+            }
+            html.append(".</p>");
+        }
+        String content = html.append("</body></html>").toString();
+
+        OfflineDocument doc = new OfflineDocument(content);
+        int numAnnotations = random.nextInt(MAX_ANNOTATIONS + 1);
+        for (int i = 0; i < numAnnotations; i++) {
+            Highlight highlight = Highlight.values()[random.nextInt(Highlight.values().length)];
+            AnnotationNote note = generateNote(random);
+            if (random.nextInt(5) == 0) {
+                doc.addPhantom(new Annotation(highlight, note));
+                continue;
+            }
+            ParagraphIdentifier pid = ParagraphIdentifier.makeExistId(
+                    Index.fromOneBased(1 + random.nextInt(numParagraphs)));
+            addAnnotation(doc, pid, random.nextBoolean() ? new Annotation(highlight, note) : new Annotation(highlight));
+        }
+        return new CachedCopy(content, doc);
+    }
+
+    private static AnnotationNote generateNote(Random random) {
+        try {
+            return AnnotationNote.makeNote("Remember the part about " + WORDS[random.nextInt(WORDS.length)]);
+        } catch (IllegalValueException e) {
+            throw new AssertionError("Generated notes are never blank", e);
+        }
+    }
+
+    private static void addAnnotation(OfflineDocument doc, ParagraphIdentifier pid, Annotation annotation) {
+        try {
+            doc.addAnnotation(pid, annotation);
+        } catch (IllegalValueException e) {
+            throw new AssertionError("Generated annotations only refer to existing paragraphs", e);
+        }
+    }
+
+    private ReminderAssociation generateReminders(List<Bookmark> bookmarks, Random random) {
+        ReminderAssociation association = new ReminderAssociation();
+        for (Bookmark bookmark : bookmarks) {
+            if (random.nextDouble() < reminderRatio) {
+                LocalDateTime time = FIRST_REMINDER_TIME.plusMinutes(random.nextInt(365 * 24 * 60));
+                Note note = random.nextBoolean() ? Note.getDefaultNote() : new Note("Read " + bookmark.getName().value);
+                association.addReminder(bookmark, new Reminder(bookmark.getUrl(), time, note));
+            }
+        }
+        return association;
+    }
+
+    /**
+     * Returns a controller with autotags that match bookmarks by name, by url or by folder.
+     */
+    private AutotagController generateAutotags(List<Folder> folders, Random random) {
+        AutotagController controller = new AutotagController();
+        for (int i = 0; i < numAutotags; i++) {
+            String word = WORDS[i % WORDS.length];
+            BookmarkPredicate predicate;
+            switch (i % 3) {
+            case 0:
+                predicate = new BookmarkPredicate().withNameKeywords(List.of(word));
+                break;
+            case 1:
+                predicate = new BookmarkPredicate().withUrlKeywords(List.of(word));
+                break;
+            default:
+                predicate = new BookmarkPredicate().withFolder(List.of(
+                        folders.get(random.nextInt(folders.size())).folderName));
+                break;
+            }
+            controller.addTagger(new SelectiveBookmarkTagger(new Tag("Auto" + i), predicate));
+        }
+        return controller;
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /**
+     * Draws ranks from 0 to n - 1, where rank k is drawn with probability proportional to 1 / (k + 1) ^ SKEW.
+     */
+    private static class ZipfDistribution {
+        private final double[] cumulativeWeights;
+
+        ZipfDistribution(int n) {
+            cumulativeWeights = new double[n];
+            double total = 0;
+            for (int k = 0; k < n; k++) {
+                total += 1 / Math.pow(k + 1, SKEW);
+                cumulativeWeights[k] = total;
+            }
+        }
+
+        int sample(Random random) {
+            double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int low = 0;
+            int high = cumulativeWeights.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulativeWeights[mid] <= target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package seedu.mark.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.mark.commons.core.LogsCenter;
+import seedu.mark.commons.exceptions.DataConversionException;
+import seedu.mark.model.MarkSnapshot;
+import seedu.mark.model.ReadOnlyMark;
+
+/**
+ * A {@code MarkStorage} that writes Mark to its data file in the background.
+ *
+ * Saving Mark only takes a {@link MarkSnapshot} of it, which is written by another storage after a short delay.
+ * All saves made during the delay are combined into a single write of the latest snapshot, so a burst of commands
+ * costs one write. A background write that fails is given to the write failure handler as soon as it happens,
+ * and the snapshot is written again after a longer delay until a write succeeds or a later save replaces it.
+ * Files at any other path are written immediately.
+ */
+public class BackgroundMarkStorage implements MarkStorage {
+
+    public static final long DEFAULT_WRITE_DELAY_MILLIS = 200;
+    public static final long DEFAULT_RETRY_DELAY_MILLIS = 5000;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundMarkStorage.class);
+
+    private final MarkStorage markStorage;
+    private final long writeDelayMillis;
+    private final long retryDelayMillis;
+    private final ScheduledExecutorService executor;
+    /** Held while writing to {@link #markStorage}, so that writes never overlap. */
+    private final Object writeLock = new Object();
+
+    /** The latest snapshot of Mark that has not been written yet, or null if there is none. */
+    private ReadOnlyMark pendingMark;
+    private boolean isWriteScheduled;
+    private volatile Consumer<IOException> writeFailureHandler = failure -> {};
+
+    public BackgroundMarkStorage(MarkStorage markStorage) {
+        this(markStorage, DEFAULT_WRITE_DELAY_MILLIS, DEFAULT_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code BackgroundMarkStorage} that writes with {@code markStorage},
+     * {@code writeDelayMillis} milliseconds after the first save that has not been written yet,
+     * and tries a failed write again every {@code retryDelayMillis} milliseconds.
+     */
+    public BackgroundMarkStorage(MarkStorage markStorage, long writeDelayMillis, long retryDelayMillis) {
+        requireNonNull(markStorage);
+        assert writeDelayMillis >= 0 && retryDelayMillis >= 0;
+
+        this.markStorage = markStorage;
+        this.writeDelayMillis = writeDelayMillis;
+        this.retryDelayMillis = retryDelayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Mark background saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given the failure of every background write, on the thread that wrote.
+     */
+    public void setWriteFailureHandler(Consumer<IOException> writeFailureHandler) {
+        this.writeFailureHandler = requireNonNull(writeFailureHandler);
+    }
+
+    @Override
+    public Path getMarkFilePath() {
+        return markStorage.getMarkFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyMark> readMark() throws DataConversionException, IOException {
+        return readMark(getMarkFilePath());
+    }
+
+    /**
+     * Similar to {@link #readMark()}.
+     * Saves that have not been written yet are written before reading from {@link #getMarkFilePath()}.
+     */
+    @Override
+    public Optional<ReadOnlyMark> readMark(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        synchronized (writeLock) {
+            if (filePath.equals(getMarkFilePath())) {
+                flush();
+            }
+            return markStorage.readMark(filePath);
+        }
+    }
+
+    @Override
+    public void saveMark(ReadOnlyMark mark) throws IOException {
+        saveMark(mark, getMarkFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveMark(ReadOnlyMark)}.
+     * Files at any path other than {@link #getMarkFilePath()} are written immediately.
+     *
+     * @throws IOException if the save was written immediately, and there was an error writing it.
+     */
+    @Override
+    public void saveMark(ReadOnlyMark mark, Path filePath) throws IOException {
+        requireNonNull(mark);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getMarkFilePath())) {
+            synchronized (writeLock) {
+                markStorage.saveMark(mark, filePath);
+            }
+            return;
+        }
+
+        MarkSnapshot snapshot = MarkSnapshot.of(mark);
+        boolean isShutdown = executor.isShutdown();
+        synchronized (this) {
+            pendingMark = snapshot;
+            if (!isShutdown) {
+                scheduleWrite(writeDelayMillis);
+            }
+        }
+        if (isShutdown) {
+            writePendingMark();
+        }
+    }
+
+    /**
+     * Discards the saves that have not been written yet, and compacts {@code mark} with the other storage.
+     */
+    @Override
+    public void compactMark(ReadOnlyMark mark) throws IOException {
+        requireNonNull(mark);
+
+        synchronized (writeLock) {
+            synchronized (this) {
+                pendingMark = null;
+            }
+            markStorage.compactMark(mark);
+        }
+    }
+
+    /**
+     * Writes the latest save that has not been written yet, waiting for any background write to finish first.
+     *
+     * @throws IOException if there was an error writing the save.
+     */
+    public void flush() throws IOException {
+        writePendingMark();
+    }
+
+    /**
+     * Writes the saves that have not been written yet, and stops writing in the background.
+     * Later saves are written immediately.
+     *
+     * @throws IOException if there was an error writing the saves.
+     */
+    public void shutdown() throws IOException {
+        executor.shutdown();
+        flush();
+    }
+
+    /**
+     * Schedules a background write after {@code delayMillis} milliseconds, unless one is scheduled already.
+     */
+    private synchronized void scheduleWrite(long delayMillis) {
+        if (isWriteScheduled) {
+            return;
+        }
+        try {
+            executor.schedule(this::writeInBackground, delayMillis, TimeUnit.MILLISECONDS);
+            isWriteScheduled = true;
+        } catch (RejectedExecutionException e) {
+            // shut down since the save, which leaves the snapshot for shutdown() to write
+        }
+    }
+
+    private void writeInBackground() {
+        try {
+            writePendingMark();
+        } catch (IOException ioe) {
+            logger.severe("Failed to save Mark in the background, retrying in " + retryDelayMillis + "ms: " + ioe);
+            scheduleWrite(retryDelayMillis);
+            writeFailureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if there is one.
+     * A snapshot that fails to be written stays pending, unless a later save has replaced it.
+     */
+    private void writePendingMark() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyMark mark;
+            synchronized (this) {
+                mark = pendingMark;
+                pendingMark = null;
+                isWriteScheduled = false;
+            }
+            if (mark == null) {
+                return;
+            }
+            try {
+                markStorage.saveMark(mark);
+            } catch (IOException ioe) {
+                synchronized (this) {
+                    if (pendingMark == null) {
+                        pendingMark = mark;
+                    }
+                }
+                throw ioe;
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.mark.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mark.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.mark.commons.util.FileUtil;
+import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.Bookmark;
+
+/**
+ * Exports the bookmarks of Mark to a file in one of several formats.
+ *
+ * Bookmarks are written one at a time as they are converted, so exporting takes the same small amount of memory
+ * however many bookmarks there are. Only bookmarks that match the filter of the exporter are written, and the
+ * html of their cached copies can be left out.
+ */
+public abstract class BookmarkExporter {
+
+    /**
+     * The formats that bookmarks can be exported in.
+     */
+    public enum Format {
+        /** Mark's own JSON format, which can be imported into Mark. */
+        JSON("json"),
+        /** One JSON object per line for each bookmark, for use with other tools. */
+        NDJSON("ndjson"),
+        /** The Netscape bookmark file format, which can be imported into web browsers. */
+        HTML("html");
+
+        private final String fileExtension;
+
+        Format(String fileExtension) {
+            this.fileExtension = fileExtension;
+        }
+
+        /**
+         * Returns the extension, without a leading period, of files in this format.
+         */
+        public String getFileExtension() {
+            return fileExtension;
+        }
+
+        /**
+         * Returns the format with the given name, ignoring case.
+         */
+        public static Optional<Format> fromName(String name) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(name)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final Predicate<Bookmark> filter;
+    private final boolean includesCachedCopies;
+
+    /**
+     * Creates an exporter that writes the bookmarks that match {@code filter}, with the html of their cached
+     * copies if {@code includesCachedCopies} is true.
+     */
+    protected BookmarkExporter(Predicate<Bookmark> filter, boolean includesCachedCopies) {
+        requireNonNull(filter);
+        this.filter = filter;
+        this.includesCachedCopies = includesCachedCopies;
+    }
+
+    /**
+     * Returns an exporter that writes bookmarks in {@code format}.
+     *
+     * @see #BookmarkExporter(Predicate, boolean)
+     */
+    public static BookmarkExporter forFormat(Format format, Predicate<Bookmark> filter,
+                                             boolean includesCachedCopies) {
+        requireAllNonNull(format, filter);
+
+        switch (format) {
+        case JSON:
+            return new JsonBookmarkExporter(filter, includesCachedCopies);
+        case NDJSON:
+            return new NdjsonBookmarkExporter(filter, includesCachedCopies);
+        case HTML:
+            return new NetscapeBookmarkExporter(filter, includesCachedCopies);
+        default:
+            throw new AssertionError("Unknown export format: " + format);
+        }
+    }
+
+    /**
+     * Writes the bookmarks of {@code mark} to {@code filePath}, replacing the file only once it is complete.
+     *
+     * @return the number of bookmarks that were written.
+     * @throws IOException if there was an error writing the file.
+     */
+    public int export(ReadOnlyMark mark, Path filePath) throws IOException {
+        requireAllNonNull(mark, filePath);
+
+        int[] count = new int[1];
+        FileUtil.writeAtomically(filePath, tempFile -> count[0] = write(mark, tempFile));
+        return count[0];
+    }
+
+    /**
+     * Writes the bookmarks of {@code mark} that are to be exported to {@code filePath}.
+     *
+     * @return the number of bookmarks that were written.
+     */
+    protected abstract int write(ReadOnlyMark mark, Path filePath) throws IOException;
+
+    /**
+     * Returns true if {@code bookmark} should be exported.
+     */
+    protected boolean isExported(Bookmark bookmark) {
+        return filter.test(bookmark);
+    }
+
+    /**
+     * Returns {@code bookmark} as it should be exported, without its cached copies if they are excluded.
+     */
+    protected Bookmark toExported(Bookmark bookmark) {
+        if (includesCachedCopies || bookmark.getCachedCopies().isEmpty()) {
+            return bookmark;
+        }
+        return new Bookmark(bookmark.getName(), bookmark.getUrl(), bookmark.getRemark(), bookmark.getFolder(),
+                bookmark.getTags(), Collections.emptyList());
+    }
+}
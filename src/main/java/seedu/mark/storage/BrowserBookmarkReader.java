@@ -0,0 +1,181 @@
+package seedu.mark.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.mark.commons.exceptions.DataConversionException;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.Name;
+import seedu.mark.model.bookmark.Remark;
+import seedu.mark.model.bookmark.Url;
+
+/**
+ * Reads the bookmarks exported by a web browser.
+ *
+ * The file is read as a stream, so it is never held in memory as a whole. Browser folders are mapped to folders
+ * of Mark as they are read, and bookmarks are passed on in batches of at most {@link #BATCH_SIZE}.
+ */
+public abstract class BrowserBookmarkReader {
+
+    public static final int BATCH_SIZE = 1024;
+
+    /** Number of characters at the start of a file that are used to detect its format. */
+    private static final int HEADER_LENGTH = 1024;
+    private static final String NETSCAPE_DOCTYPE = "<!DOCTYPE NETSCAPE-BOOKMARK-FILE-1>";
+    private static final String CHROMIUM_ROOTS_FIELD = "\"roots\"";
+    private static final String UNTITLED_NAME = "Untitled";
+
+    /**
+     * Receives the folders and bookmarks read by a {@code BrowserBookmarkReader}.
+     */
+    public interface Handler {
+        /**
+         * Adds {@code folder} to the subfolders of {@code parentFolder}.
+         * A parent folder is always added before its subfolders.
+         *
+         * @return the folder that was added, or reused, in place of {@code folder}, which may be named differently.
+         */
+        Folder addFolder(Folder folder, Folder parentFolder);
+
+        /**
+         * Adds a batch of bookmarks, whose folders have already been added.
+         */
+        void addBookmarks(List<Bookmark> bookmarks);
+    }
+
+    /**
+     * Returns a reader for the browser bookmarks in {@code filePath}, detected from the start of the file.
+     * Returns {@code Optional.empty()} if the file does not exist or does not hold browser bookmarks.
+     *
+     * @throws IOException if there was an error reading the start of the file.
+     */
+    public static Optional<BrowserBookmarkReader> forFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (!Files.isRegularFile(filePath)) {
+            return Optional.empty();
+        }
+
+        char[] buffer = new char[HEADER_LENGTH];
+        int length = 0;
+        try (Reader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            int read;
+            while (length < buffer.length && (read = reader.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+            }
+        }
+        String header = new String(buffer, 0, length).strip();
+
+        if (header.toUpperCase(Locale.ROOT).startsWith(NETSCAPE_DOCTYPE)) {
+            return Optional.of(new NetscapeBookmarkReader());
+        } else if (header.startsWith("{") && header.contains(CHROMIUM_ROOTS_FIELD)) {
+            return Optional.of(new ChromiumBookmarkReader());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the bookmarks in {@code filePath}, passing its folders and bookmarks to {@code handler}.
+     * Bookmarks that are not at the top level of the file are placed in subfolders of {@link Folder#IMPORT_FOLDER}.
+     *
+     * @return the number of bookmarks in the file that could not be converted into bookmarks of Mark.
+     * @throws IOException if there was an error reading the file.
+     * @throws DataConversionException if the file is not in the format expected by this reader.
+     */
+    public abstract int read(Path filePath, Handler handler) throws IOException, DataConversionException;
+
+    /**
+     * Returns {@code title} with every run of characters that are not allowed in names replaced by a single space,
+     * or {@code fallback} if no allowed characters are left.
+     */
+    static String toValidName(String title, String fallback) {
+        String name = title == null ? "" : title.replaceAll("[^a-zA-Z0-9]+", " ").strip();
+        return name.isEmpty() ? fallback : name;
+    }
+
+    /**
+     * Converts the folders and bookmarks of a single file, and passes them on to a {@code Handler}.
+     *
+     * Browser folders and bookmarks may share names, which Mark does not allow, so names that were already used
+     * in the file are given a numbered suffix.
+     */
+    static class Converter {
+        private final Handler handler;
+        private final Set<String> folderNames = new HashSet<>();
+        private final Set<String> bookmarkNames = new HashSet<>();
+        private final List<Bookmark> batch = new ArrayList<>();
+        private int skippedCount;
+
+        Converter(Handler handler) {
+            requireNonNull(handler);
+            this.handler = handler;
+            folderNames.add(Folder.ROOT_FOLDER.folderName);
+            folderNames.add(Folder.IMPORT_FOLDER.folderName);
+        }
+
+        /**
+         * Adds a folder with the given {@code title} to {@code parentFolder}, and returns the folder that the
+         * handler added in its place.
+         */
+        Folder addFolder(String title, Folder parentFolder) {
+            Folder folder = new Folder(toUniqueName(toValidName(title, UNTITLED_NAME), folderNames));
+            return handler.addFolder(folder, parentFolder);
+        }
+
+        /**
+         * Adds a bookmark with the given {@code title} and {@code url} to {@code folder}.
+         * Bookmarks with urls that are not supported by Mark are skipped.
+         */
+        void addBookmark(String title, String url, Folder folder) {
+            if (url == null || !Url.isValidUrl(url)) {
+                skippedCount++;
+                return;
+            }
+
+            Name name = new Name(toUniqueName(toValidName(title, UNTITLED_NAME), bookmarkNames));
+            batch.add(new Bookmark(name, new Url(url), new Remark(Remark.DEFAULT_VALUE), folder,
+                    Collections.emptySet(), Collections.emptyList()));
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * Passes on the bookmarks that are still in the current batch.
+         *
+         * @return the number of bookmarks that were skipped.
+         */
+        int finish() {
+            flush();
+            return skippedCount;
+        }
+
+        private void flush() {
+            if (!batch.isEmpty()) {
+                handler.addBookmarks(new ArrayList<>(batch));
+                batch.clear();
+            }
+        }
+
+        private static String toUniqueName(String name, Set<String> usedNames) {
+            String uniqueName = name;
+            for (int i = 2; !usedNames.add(uniqueName); i++) {
+                uniqueName = name + " " + i;
+            }
+            return uniqueName;
+        }
+    }
+}
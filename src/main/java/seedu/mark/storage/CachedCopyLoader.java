@@ -0,0 +1,226 @@
+package seedu.mark.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import seedu.mark.commons.core.LogsCenter;
+import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.model.UserPrefs;
+import seedu.mark.model.annotation.OfflineDocument;
+import seedu.mark.model.annotation.Paragraph;
+import seedu.mark.model.bookmark.CachedCopy;
+import seedu.mark.model.bookmark.exceptions.CachedCopyUnavailableException;
+
+/**
+ * Creates cached copies whose html and annotations are only loaded from storage when they are first used.
+ *
+ * Loaded contents stay in memory until the contents of all loaded cached copies take up more than
+ * a memory budget, after which the contents that were used least recently are dropped until they are needed again.
+ *
+ * The text of unannotated paragraphs is only derived from the html, which is streamed from storage, when all the
+ * paragraphs of a cached copy are needed: when it is opened, annotated or indexed for full-text search. Asking for
+ * the annotated paragraphs alone only converts the stored ones, and does not read the html.
+ */
+public class CachedCopyLoader {
+
+    public static final String MESSAGE_MISSING_HTML_BLOB = "Html of cached copy %s is missing from storage!";
+
+    private static final Logger logger = LogsCenter.getLogger(CachedCopyLoader.class);
+    private static final long PARAGRAPH_OVERHEAD_BYTES = 128;
+
+    private final HtmlBlobStorage blobStorage;
+    private final long memoryBudget;
+
+    /** Estimated sizes of the loaded contents, from the least to the most recently used. */
+    private final LinkedHashMap<StoredContent, Long> loadedContents = new LinkedHashMap<>(16, 0.75f, true);
+    private long loadedBytes;
+
+    public CachedCopyLoader(HtmlBlobStorage blobStorage) {
+        this(blobStorage, UserPrefs.DEFAULT_CACHED_COPY_MEMORY_BUDGET);
+    }
+
+    /**
+     * Creates a {@code CachedCopyLoader} that reads html from {@code blobStorage} and keeps about
+     * {@code memoryBudget} bytes of loaded contents in memory.
+     */
+    public CachedCopyLoader(HtmlBlobStorage blobStorage, long memoryBudget) {
+        requireNonNull(blobStorage);
+        assert memoryBudget >= 0;
+
+        this.blobStorage = blobStorage;
+        this.memoryBudget = memoryBudget;
+    }
+
+    public HtmlBlobStorage getBlobStorage() {
+        return blobStorage;
+    }
+
+    /**
+     * Returns the estimated number of bytes taken up by the contents that are currently loaded.
+     */
+    public synchronized long getLoadedBytes() {
+        return loadedBytes;
+    }
+
+    /**
+     * Returns a cached copy whose html is saved in the blob storage under {@code htmlHash},
+     * and whose annotations are stored in {@code offlineDoc}.
+     *
+     * @throws IllegalValueException if no html is saved under {@code htmlHash}.
+     */
+    public CachedCopy createCachedCopy(String htmlHash, JsonAdaptedOfflineDocument offlineDoc)
+            throws IllegalValueException {
+        requireNonNull(htmlHash);
+        requireNonNull(offlineDoc);
+
+        if (!blobStorage.hasHtml(htmlHash)) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_HTML_BLOB, htmlHash));
+        }
+        return new CachedCopy(htmlHash, new StoredContent(htmlHash, offlineDoc));
+    }
+
+
+    /**
+     * Marks {@code content} as the most recently used, and drops the contents used least recently
+     * while the loaded contents exceed the memory budget.
+     */
+    private synchronized void recordUse(StoredContent content) {
+        Long previousSize = loadedContents.put(content, content.estimateSize());
+        loadedBytes += loadedContents.get(content) - (previousSize == null ? 0 : previousSize);
+
+        Iterator<Map.Entry<StoredContent, Long>> leastRecentlyUsed = loadedContents.entrySet().iterator();
+        while (loadedBytes > memoryBudget && loadedContents.size() > 1) {
+            Map.Entry<StoredContent, Long> entry = leastRecentlyUsed.next();
+            entry.getKey().unload();
+            loadedBytes -= entry.getValue();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * The contents of a single cached copy in storage.
+     */
+    class StoredContent implements CachedCopy.ContentLoader {
+
+        private final String htmlHash;
+        private final JsonAdaptedOfflineDocument offlineDoc;
+
+        private String html;
+        private OfflineDocument annotations;
+
+        private StoredContent(String htmlHash, JsonAdaptedOfflineDocument offlineDoc) {
+            this.htmlHash = htmlHash;
+            this.offlineDoc = offlineDoc;
+        }
+
+        /**
+         * Returns the annotations as they are stored, without converting them into the model's type.
+         */
+        JsonAdaptedOfflineDocument getOfflineDoc() {
+            return offlineDoc;
+        }
+
+        @Override
+        public String loadHtml() {
+            synchronized (CachedCopyLoader.this) {
+                String loadedHtml = readHtml();
+                recordUse(this);
+                return loadedHtml;
+            }
+        }
+
+        /**
+         * Returns the html, reading it from storage if it is not loaded.
+         */
+        private String readHtml() {
+            if (html == null) {
+                try {
+                    html = blobStorage.readHtml(htmlHash);
+                } catch (IOException ioe) {
+                    throw unavailable(ioe);
+                }
+            }
+            return html;
+        }
+
+        /**
+         * Returns the parsed html. Html that is not loaded is parsed straight from storage, and stays unloaded.
+         */
+        private Document parseHtml() {
+            if (html != null) {
+                return Jsoup.parse(html);
+            }
+            try {
+                return blobStorage.parseHtml(htmlHash);
+            } catch (IOException ioe) {
+                throw unavailable(ioe);
+            }
+        }
+
+        @Override
+        public OfflineDocument loadAnnotations() {
+            synchronized (CachedCopyLoader.this) {
+                if (annotations == null) {
+                    try {
+                        annotations = getOfflineDoc().toModelType(this::parseHtml);
+                    } catch (IllegalValueException ive) {
+                        throw unavailable(ive);
+                    }
+                }
+                OfflineDocument loadedAnnotations = annotations;
+                recordUse(this);
+                return loadedAnnotations;
+            }
+        }
+
+        @Override
+        public List<Paragraph> loadAnnotatedParagraphs() {
+            synchronized (CachedCopyLoader.this) {
+                if (annotations != null) {
+                    return CachedCopy.ContentLoader.super.loadAnnotatedParagraphs();
+                }
+                try {
+                    return getOfflineDoc().toAnnotatedParagraphs();
+                } catch (IllegalValueException ive) {
+                    throw unavailable(ive);
+                }
+            }
+        }
+
+        /**
+         * Returns the exception that signals that this content cannot be loaded because of {@code cause}.
+         * The content is left unloaded, so that it is neither shown nor saved again as if it were empty.
+         */
+        private CachedCopyUnavailableException unavailable(Exception cause) {
+            logger.warning("Unable to load cached copy " + htmlHash + ": " + cause);
+            return new CachedCopyUnavailableException(htmlHash, cause);
+        }
+
+        /**
+         * Returns the estimated number of bytes taken up by the loaded html and annotations.
+         */
+        private long estimateSize() {
+            long size = html == null ? 0 : 2L * html.length();
+            if (annotations != null) {
+                for (Paragraph paragraph : annotations.getCollection()) {
+                    size += PARAGRAPH_OVERHEAD_BYTES + 2L * paragraph.getParagraphContent().getContent().length();
+                }
+            }
+            return size;
+        }
+
+        private void unload() {
+            html = null;
+            annotations = null;
+        }
+    }
+}
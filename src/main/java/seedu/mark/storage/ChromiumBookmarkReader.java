@@ -0,0 +1,147 @@
+package seedu.mark.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.mark.commons.exceptions.DataConversionException;
+import seedu.mark.commons.util.JsonUtil;
+import seedu.mark.model.bookmark.Folder;
+
+/**
+ * Reads the {@code Bookmarks} file of Chromium-based browsers, such as Chrome and Edge.
+ *
+ * The file holds a tree of nodes under {@code roots}, where each node is either a {@code folder} with
+ * {@code children} or a {@code url}. Chromium writes the fields of a node in alphabetical order, so the name of
+ * a folder only comes after all of its children. The file is therefore streamed twice: once to map every folder,
+ * and once to read the bookmarks into the mapped folders. Only the folders are held in memory.
+ */
+public class ChromiumBookmarkReader extends BrowserBookmarkReader {
+
+    private static final String ROOTS_FIELD = "roots";
+    private static final String CHILDREN_FIELD = "children";
+    private static final String NAME_FIELD = "name";
+    private static final String TYPE_FIELD = "type";
+    private static final String URL_FIELD = "url";
+    private static final String FOLDER_TYPE = "folder";
+    private static final String URL_TYPE = "url";
+    /** Index of the parent of the root nodes. */
+    private static final int NO_PARENT = -1;
+
+    @Override
+    public int read(Path filePath, Handler handler) throws IOException, DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(handler);
+
+        // folders are numbered by the position of their node in the file, so parents come before their children
+        Map<Integer, Node> folderNodes = new TreeMap<>();
+        readNodes(filePath, node -> {
+            if (FOLDER_TYPE.equals(node.type)) {
+                folderNodes.put(node.index, node);
+            }
+        });
+
+        Converter converter = new Converter(handler);
+        Map<Integer, Folder> folders = new HashMap<>();
+        for (Node node : folderNodes.values()) {
+            Folder parentFolder = folders.getOrDefault(node.parentIndex, Folder.IMPORT_FOLDER);
+            folders.put(node.index, converter.addFolder(node.name, parentFolder));
+        }
+
+        readNodes(filePath, node -> {
+            if (URL_TYPE.equals(node.type)) {
+                Folder folder = folders.getOrDefault(node.parentIndex, Folder.IMPORT_FOLDER);
+                converter.addBookmark(node.name, node.url, folder);
+            }
+        });
+        return converter.finish();
+    }
+
+    /**
+     * Streams the nodes in {@code filePath}, passing each node to {@code visitor} after all of its children.
+     */
+    private void readNodes(Path filePath, NodeVisitor visitor) throws IOException, DataConversionException {
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Bookmarks should be a JSON object");
+            }
+            int[] nodeCount = {0};
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_OBJECT && ROOTS_FIELD.equals(fieldName)) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        if (parser.nextToken() == JsonToken.START_OBJECT) {
+                            readNode(parser, NO_PARENT, nodeCount, visitor);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (JsonProcessingException jpe) {
+            throw new DataConversionException(jpe);
+        }
+    }
+
+    /**
+     * Reads the node whose object has just started in {@code parser}, and all of its children.
+     */
+    private void readNode(JsonParser parser, int parentIndex, int[] nodeCount, NodeVisitor visitor)
+            throws IOException {
+        Node node = new Node(nodeCount[0]++, parentIndex);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY && CHILDREN_FIELD.equals(fieldName)) {
+                for (token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    if (token == JsonToken.START_OBJECT) {
+                        readNode(parser, node.index, nodeCount, visitor);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if (token == JsonToken.VALUE_STRING && NAME_FIELD.equals(fieldName)) {
+                node.name = parser.getText();
+            } else if (token == JsonToken.VALUE_STRING && TYPE_FIELD.equals(fieldName)) {
+                node.type = parser.getText();
+            } else if (token == JsonToken.VALUE_STRING && URL_FIELD.equals(fieldName)) {
+                node.url = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        visitor.visit(node);
+    }
+
+    /**
+     * A node in the bookmark tree, without its children.
+     */
+    private static class Node {
+        private final int index;
+        private final int parentIndex;
+        private String name;
+        private String type;
+        private String url;
+
+        Node(int index, int parentIndex) {
+            this.index = index;
+            this.parentIndex = parentIndex;
+        }
+    }
+
+    @FunctionalInterface
+    private interface NodeVisitor {
+        void visit(Node node);
+    }
+}
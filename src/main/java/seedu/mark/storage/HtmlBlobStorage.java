@@ -0,0 +1,228 @@
+package seedu.mark.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import seedu.mark.commons.core.LogsCenter;
+import seedu.mark.commons.util.Compression;
+import seedu.mark.commons.util.FileUtil;
+import seedu.mark.commons.util.StringUtil;
+import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.CachedCopy;
+import seedu.mark.model.bookmark.exceptions.CachedCopyUnavailableException;
+
+/**
+ * Stores the html of cached copies as separate files in a directory on the hard disk,
+ * each named after the hash of its contents.
+ *
+ * Html is only written once, no matter how many times it is saved, so the data file of Mark
+ * only needs to refer to the html of its cached copies by their hashes.
+ * New html is written with the given compression, while saved html is read with the compression it was written with.
+ * Html that is read back is checked against its hash, so that a damaged file is never mistaken for the html.
+ */
+public class HtmlBlobStorage {
+
+    public static final String DIRECTORY_SUFFIX = ".cache";
+    public static final String BLOB_FILE_SUFFIX = ".html";
+
+    private static final Logger logger = LogsCenter.getLogger(HtmlBlobStorage.class);
+    private static final String HASH_VALIDATION_REGEX = "[0-9a-f]{64}";
+
+    private final Path directory;
+    private final Compression compression;
+    /** Hashes of html that is known to be in {@link #directory}, which may be updated from a background save. */
+    private final Set<String> savedHashes = ConcurrentHashMap.newKeySet();
+
+    public HtmlBlobStorage(Path directory) {
+        this(directory, Compression.NONE);
+    }
+
+    /**
+     * Creates a {@code HtmlBlobStorage} that writes html to {@code directory} with {@code compression}.
+     */
+    public HtmlBlobStorage(Path directory, Compression compression) {
+        requireNonNull(directory);
+        requireNonNull(compression);
+        this.directory = directory;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns the directory that holds the html of the cached copies saved in the data file at {@code filePath}.
+     */
+    public static Path getDirectoryFor(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if {@code hash} has the format of a hash returned by {@link CachedCopy#getHtmlHash()}.
+     */
+    public static boolean isValidHash(String hash) {
+        return hash.matches(HASH_VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the hashes of the html of all cached copies in {@code mark}.
+     */
+    public static Set<String> getHtmlHashes(ReadOnlyMark mark) {
+        return mark.getBookmarkList().stream()
+                .flatMap(bookmark -> bookmark.getCachedCopies().stream())
+                .map(CachedCopy::getHtmlHash)
+                .collect(Collectors.toSet());
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Saves the html of {@code cachedCopy}, unless html with the same hash has already been saved.
+     *
+     * @return the hash that the html can be read back with.
+     * @throws IOException if there was an error writing the html.
+     */
+    public String saveHtml(CachedCopy cachedCopy) throws IOException {
+        requireNonNull(cachedCopy);
+
+        String hash = cachedCopy.getHtmlHash();
+        if (savedHashes.contains(hash)) {
+            return hash;
+        }
+
+        Path blobFile = getBlobFilePath(hash);
+        if (!FileUtil.isFileExists(blobFile)) {
+            String html = getHtml(cachedCopy);
+            // a blob file is never left half-written, and is on the storage device before any shard refers to it
+            FileUtil.writeAtomically(blobFile, tempFile -> FileUtil.writeToFile(tempFile, html, compression));
+        }
+        savedHashes.add(hash);
+        return hash;
+    }
+
+    /**
+     * Returns the html of {@code cachedCopy}.
+     *
+     * @throws IOException if the html cannot be loaded.
+     */
+    private static String getHtml(CachedCopy cachedCopy) throws IOException {
+        try {
+            return cachedCopy.getHtml();
+        } catch (CachedCopyUnavailableException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns true if html has been saved with the given {@code hash}.
+     */
+    public boolean hasHtml(String hash) {
+        requireNonNull(hash);
+
+        if (savedHashes.contains(hash)) {
+            return true;
+        }
+        return isValidHash(hash) && Files.isRegularFile(getBlobFilePath(hash));
+    }
+
+    /**
+     * Returns the html that was saved with the given {@code hash}.
+     *
+     * @throws IOException if the html cannot be found or read, or does not match its hash.
+     */
+    public String readHtml(String hash) throws IOException {
+        requireNonNull(hash);
+
+        if (!isValidHash(hash)) {
+            throw new IOException("Invalid html hash: " + hash);
+        }
+        String html = FileUtil.readFromFile(getBlobFilePath(hash));
+        checkHash(hash, StringUtil.getSha256Hex(html));
+        savedHashes.add(hash);
+        return html;
+    }
+
+    /**
+     * Parses the html that was saved with the given {@code hash}, streaming it from its file.
+     *
+     * @throws IOException if the html cannot be found or read, or does not match its hash.
+     */
+    public Document parseHtml(String hash) throws IOException {
+        requireNonNull(hash);
+
+        if (!isValidHash(hash)) {
+            throw new IOException("Invalid html hash: " + hash);
+        }
+        Document document;
+        try (InputStream fileInput = Files.newInputStream(getBlobFilePath(hash));
+                DigestInputStream input = new DigestInputStream(
+                        Compression.decompress(fileInput), StringUtil.newSha256Digest())) {
+            // jsoup closes the stream it parses, so it is given one that leaves the input open to be drained
+            document = Jsoup.parse(new FilterInputStream(input) {
+                @Override
+                public void close() {}
+            }, StandardCharsets.UTF_8.name(), "");
+            input.transferTo(OutputStream.nullOutputStream());
+            checkHash(hash, StringUtil.toHex(input.getMessageDigest().digest()));
+        }
+        savedHashes.add(hash);
+        return document;
+    }
+
+    private static void checkHash(String hash, String actualHash) throws IOException {
+        if (!actualHash.equals(hash)) {
+            throw new IOException("Html does not match its hash: " + hash);
+        }
+    }
+
+    /**
+     * Deletes all saved html except that with the given {@code hashes}.
+     * Html that cannot be deleted yet is left to be deleted the next time.
+     *
+     * @throws IOException if there was an error listing the saved html.
+     */
+    public void retainOnly(Set<String> hashes) throws IOException {
+        requireNonNull(hashes);
+
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        int deletedCount = 0;
+        try (DirectoryStream<Path> blobFiles = Files.newDirectoryStream(directory, "*" + BLOB_FILE_SUFFIX)) {
+            for (Path blobFile : blobFiles) {
+                String fileName = blobFile.getFileName().toString();
+                String hash = fileName.substring(0, fileName.length() - BLOB_FILE_SUFFIX.length());
+                if (isValidHash(hash) && !hashes.contains(hash)) {
+                    savedHashes.remove(hash);
+                    try {
+                        Files.delete(blobFile);
+                        deletedCount++;
+                    } catch (IOException ioe) {
+                        logger.warning("Unable to delete unused cached copy " + blobFile + ": " + ioe);
+                    }
+                }
+            }
+        }
+        logger.fine("Deleted " + deletedCount + " unused cached copies from " + directory);
+    }
+
+    private Path getBlobFilePath(String hash) {
+        return directory.resolve(hash + BLOB_FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,356 @@
+package seedu.mark.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.mark.commons.core.LogsCenter;
+import seedu.mark.commons.exceptions.DataConversionException;
+import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.commons.util.FileUtil;
+import seedu.mark.commons.util.JsonUtil;
+import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.Bookmark;
+
+/**
+ * A {@link MarkStorage} that keeps a full snapshot of Mark in another {@code MarkStorage} and records
+ * every change made after that snapshot as a compact entry appended to a journal file next to it.
+ *
+ * Saving only appends the bookmarks and details that changed since the previous save, so the cost of a save
+ * does not grow with the number of bookmarks. The journal is folded into a new snapshot once it grows too long,
+ * and whenever {@link #compactMark(ReadOnlyMark)} is called.
+ *
+ * Each entry is a line of json followed by its checksum, and is flushed to the storage device before the save
+ * returns, so that a saved change survives a crash and a damaged entry is never replayed.
+ * The html of cached copies in the journal is saved to the same {@link HtmlBlobStorage} as the snapshot's,
+ * and is loaded on demand by the same {@link CachedCopyLoader}.
+ */
+public class JournalMarkStorage implements MarkStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_MAX_JOURNAL_ENTRIES = 200;
+
+    public static final String MESSAGE_CORRUPTED_ENTRY = "Journal entry does not match its checksum.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalMarkStorage.class);
+    private static final char CHECKSUM_SEPARATOR = '\t';
+
+    private final MarkStorage snapshotStorage;
+    private final CachedCopyLoader cachedCopyLoader;
+    private final int maxJournalEntries;
+
+    /** Bookmarks as they are persisted in the snapshot and journal, or null if a new snapshot must be written. */
+    private List<Bookmark> persistedBookmarks;
+    /** Serialized details of Mark as they are persisted in the snapshot and journal. */
+    private String persistedDetails;
+    /** Number of entries in the journal, including its base entry. */
+    private int journalEntryCount;
+
+    public JournalMarkStorage(MarkStorage snapshotStorage, CachedCopyLoader cachedCopyLoader) {
+        this(snapshotStorage, cachedCopyLoader, DEFAULT_MAX_JOURNAL_ENTRIES);
+    }
+
+    /**
+     * Creates a {@code JournalMarkStorage} that writes its snapshots to {@code snapshotStorage}
+     * and writes a new snapshot once the journal has {@code maxJournalEntries} entries.
+     */
+    public JournalMarkStorage(MarkStorage snapshotStorage, CachedCopyLoader cachedCopyLoader,
+                              int maxJournalEntries) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(cachedCopyLoader);
+        assert maxJournalEntries > 0;
+
+        this.snapshotStorage = snapshotStorage;
+        this.cachedCopyLoader = cachedCopyLoader;
+        this.maxJournalEntries = maxJournalEntries;
+    }
+
+    @Override
+    public Path getMarkFilePath() {
+        return snapshotStorage.getMarkFilePath();
+    }
+
+    /**
+     * Returns the path of the journal file that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyMark> readMark() throws DataConversionException, IOException {
+        return readMark(getMarkFilePath());
+    }
+
+    /**
+     * Similar to {@link #readMark()}.
+     * The journal is only replayed when reading from {@link #getMarkFilePath()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMark> readMark(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyMark> snapshot = snapshotStorage.readMark(filePath);
+        if (!filePath.equals(getMarkFilePath())) {
+            return snapshot;
+        }
+
+        persistedBookmarks = null;
+        Path journalFile = getJournalFilePath(filePath);
+        if (snapshot.isEmpty() || !FileUtil.isFileExists(journalFile)) {
+            return snapshot;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        boolean isTornAtEnd = readJournal(journalFile, entries);
+        if (entries.isEmpty() || !entries.get(0).isBaseOf(Files.size(filePath), getLastModified(filePath))) {
+            logger.warning("Journal " + journalFile + " does not belong to the current snapshot. Ignoring it.");
+            return snapshot;
+        }
+
+        ReadOnlyMark mark = snapshot.get();
+        JsonSerializableMark details;
+        try {
+            List<Bookmark> bookmarks = new ArrayList<>(snapshot.get().getBookmarkList());
+            details = entries.get(0).getDetails();
+            for (JsonAdaptedJournalEntry entry : entries.subList(1, entries.size())) {
+                if (entry.isSplice()) {
+                    entry.applyTo(bookmarks, cachedCopyLoader);
+                }
+                if (entry.hasDetails()) {
+                    details = entry.getDetails();
+                }
+            }
+            // the snapshot is returned as it is if nothing was journaled, so that its folder revisions are kept
+            if (entries.size() > 1) {
+                mark = details.toModelType(bookmarks);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFile + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        logger.fine("Replayed " + (entries.size() - 1) + " journal entries from " + journalFile);
+
+        if (!isTornAtEnd) {
+            persistedBookmarks = new ArrayList<>(mark.getBookmarkList());
+            persistedDetails = JsonUtil.toCompactJsonString(details);
+            journalEntryCount = entries.size();
+        }
+        return Optional.of(mark);
+    }
+
+    @Override
+    public void saveMark(ReadOnlyMark mark) throws IOException {
+        saveMark(mark, getMarkFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveMark(ReadOnlyMark)}.
+     * Changes are only journaled when saving to {@link #getMarkFilePath()}; other files always receive
+     * a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveMark(ReadOnlyMark mark, Path filePath) throws IOException {
+        requireNonNull(mark);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getMarkFilePath())) {
+            snapshotStorage.saveMark(mark, filePath);
+            return;
+        }
+
+        Path journalFile = getJournalFilePath(filePath);
+        if (persistedBookmarks == null || journalEntryCount >= maxJournalEntries
+                || !FileUtil.isFileExists(journalFile) || Files.size(journalFile) > Files.size(filePath)) {
+            writeSnapshot(mark);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        List<Bookmark> bookmarks = mark.getBookmarkList();
+        int[] changedRange = getChangedRange(persistedBookmarks, bookmarks);
+        if (changedRange != null) {
+            int removeCount = changedRange[1] - changedRange[0];
+            int insertCount = changedRange[2] - changedRange[0];
+            if (removeCount + insertCount > Math.max(persistedBookmarks.size(), bookmarks.size()) / 2 + 1) {
+                writeSnapshot(mark);
+                return;
+            }
+            entries.add(JsonAdaptedJournalEntry.splice(changedRange[0], removeCount,
+                    bookmarks.subList(changedRange[0], changedRange[2]), cachedCopyLoader.getBlobStorage()));
+        }
+
+        String details = JsonUtil.toCompactJsonString(JsonSerializableMark.withoutBookmarks(mark));
+        if (!details.equals(persistedDetails)) {
+            entries.add(JsonAdaptedJournalEntry.details(mark));
+        }
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        appendToJournal(journalFile, entries);
+        persistedBookmarks = new ArrayList<>(bookmarks);
+        persistedDetails = details;
+        journalEntryCount += entries.size();
+    }
+
+    /**
+     * Writes a full snapshot of {@code mark} and starts a new, empty journal for it.
+     * The snapshot storage is compacted as well, which may delete the html of cached copies that older versions
+     * of {@code mark} still refer to, so this should only be called when the older versions are no longer needed.
+     */
+    @Override
+    public void compactMark(ReadOnlyMark mark) throws IOException {
+        requireNonNull(mark);
+
+        snapshotStorage.compactMark(mark);
+        startJournal(mark);
+    }
+
+    /**
+     * Writes a full snapshot of {@code mark} and starts a new, empty journal for it.
+     * Nothing is written if the snapshot is already up to date.
+     */
+    private void writeSnapshot(ReadOnlyMark mark) throws IOException {
+        if (persistedBookmarks != null && journalEntryCount == 1
+                && getChangedRange(persistedBookmarks, mark.getBookmarkList()) == null
+                && JsonUtil.toCompactJsonString(JsonSerializableMark.withoutBookmarks(mark)).equals(persistedDetails)) {
+            return;
+        }
+
+        snapshotStorage.saveMark(mark, getMarkFilePath());
+        startJournal(mark);
+    }
+
+    /**
+     * Starts a new, empty journal for the snapshot of {@code mark} that was just written.
+     */
+    private void startJournal(ReadOnlyMark mark) throws IOException {
+        Path filePath = getMarkFilePath();
+        JsonAdaptedJournalEntry base = JsonAdaptedJournalEntry.base(
+                Files.size(filePath), getLastModified(filePath), mark);
+        String baseLine = toJournalLine(base);
+        FileUtil.writeAtomically(getJournalFilePath(filePath), tempFile -> FileUtil.writeToFile(tempFile, baseLine));
+
+        persistedBookmarks = new ArrayList<>(mark.getBookmarkList());
+        persistedDetails = JsonUtil.toCompactJsonString(JsonSerializableMark.withoutBookmarks(mark));
+        journalEntryCount = 1;
+        logger.fine("Wrote snapshot of Mark to " + filePath);
+    }
+
+    /**
+     * Returns the range of bookmarks that differ between {@code before} and {@code after}, comparing bookmarks
+     * by identity, or null if both lists hold the same bookmarks.
+     * The range is returned as its start index, its end index in {@code before} and its end index in {@code after}.
+     */
+    private static int[] getChangedRange(List<Bookmark> before, List<Bookmark> after) {
+        int commonSize = Math.min(before.size(), after.size());
+        int prefix = 0;
+        while (prefix < commonSize && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        if (prefix == before.size() && prefix == after.size()) {
+            return null;
+        }
+
+        int suffix = 0;
+        while (suffix < commonSize - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+        return new int[] {prefix, before.size() - suffix, after.size() - suffix};
+    }
+
+    /**
+     * Reads all entries of {@code journalFile} into {@code entries}.
+     * An unreadable last line is the remains of an interrupted write and is ignored.
+     *
+     * @return true if the last line of the journal was ignored.
+     * @throws DataConversionException if any other line of the journal is not in the correct format.
+     */
+    private static boolean readJournal(Path journalFile, List<JsonAdaptedJournalEntry> entries)
+            throws IOException, DataConversionException {
+        try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    entries.add(parseJournalLine(line));
+                } catch (IOException e) {
+                    if (reader.readLine() != null) {
+                        throw new DataConversionException(e);
+                    }
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFile);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends {@code entries} to {@code journalFile}, and flushes them to the storage device.
+     */
+    private static void appendToJournal(Path journalFile, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(toJournalLine(entry));
+        }
+        try (FileChannel channel = FileChannel.open(journalFile,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the line of the journal that holds {@code entry}, which ends with the checksum of its json.
+     */
+    private static String toJournalLine(JsonAdaptedJournalEntry entry) throws IOException {
+        String json = JsonUtil.toCompactJsonString(entry);
+        return json + CHECKSUM_SEPARATOR + Long.toHexString(FileUtil.checksum(json)) + "\n";
+    }
+
+    /**
+     * Returns the entry in a line of the journal, after verifying its checksum.
+     *
+     * @throws IOException if the line does not match its checksum or is not in the correct format.
+     */
+    private static JsonAdaptedJournalEntry parseJournalLine(String line) throws IOException {
+        int separatorIndex = line.lastIndexOf(CHECKSUM_SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new IOException(MESSAGE_CORRUPTED_ENTRY);
+        }
+        String json = line.substring(0, separatorIndex);
+        if (!line.substring(separatorIndex + 1).equals(Long.toHexString(FileUtil.checksum(json)))) {
+            throw new IOException(MESSAGE_CORRUPTED_ENTRY);
+        }
+        return JsonUtil.fromJsonString(json, JsonAdaptedJournalEntry.class);
+    }
+
+    private static String getLastModified(Path filePath) throws IOException {
+        return Files.getLastModifiedTime(filePath).toInstant().toString();
+    }
+}
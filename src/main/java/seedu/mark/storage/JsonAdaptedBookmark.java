@@ -1,10 +1,13 @@
 package seedu.mark.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -25,6 +28,9 @@ public class JsonAdaptedBookmark {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Bookmark's %s field is missing!";
 
+    /** Number of bookmarks that storages read before converting them together with {@link #toModelTypes}. */
+    static final int CONVERSION_BATCH_SIZE = 1024;
+
     private final String name;
     private final String url;
     private final String remark;
@@ -68,12 +74,103 @@ public class JsonAdaptedBookmark {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Converts a given {@code Bookmark} into this class for Jackson use, saving the html of
+     * its cached copies to {@code blobStorage}.
+     *
+     * @throws IOException if there was an error saving the html.
+     */
+    public JsonAdaptedBookmark(Bookmark source, HtmlBlobStorage blobStorage) throws IOException {
+        name = source.getName().value;
+        url = source.getUrl().value;
+        remark = source.getRemark().value;
+        tagged.addAll(source.getTags().stream()
+                .map(JsonAdaptedTag::new)
+                .collect(Collectors.toList()));
+        folder = source.getFolder().folderName;
+        for (CachedCopy cachedCopy : source.getCachedCopies()) {
+            cachedCopies.add(new JsonAdaptedCachedCopy(cachedCopy, blobStorage));
+        }
+    }
+
     /**
      * Converts this Jackson-friendly adapted bookmark object into the model's {@code Bookmark} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted bookmark.
      */
     public Bookmark toModelType() throws IllegalValueException {
+        final List<CachedCopy> modelCachedCopies = new ArrayList<>();
+        for (JsonAdaptedCachedCopy cachedCopy: cachedCopies) {
+            modelCachedCopies.add(cachedCopy.toModelType());
+        }
+        return toModelType(modelCachedCopies);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted bookmark object into the model's {@code Bookmark} object,
+     * with cached copies that are loaded by {@code loader} where their html is not stored inline.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted bookmark.
+     */
+    public Bookmark toModelType(CachedCopyLoader loader) throws IllegalValueException {
+        final List<CachedCopy> modelCachedCopies = new ArrayList<>();
+        for (JsonAdaptedCachedCopy cachedCopy: cachedCopies) {
+            modelCachedCopies.add(cachedCopy.toModelType(loader));
+        }
+        return toModelType(modelCachedCopies);
+    }
+
+    /**
+     * Converts {@code bookmarks} into the model's {@code Bookmark} objects in parallel.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted bookmarks.
+     */
+    public static List<Bookmark> toModelTypes(List<JsonAdaptedBookmark> bookmarks) throws IllegalValueException {
+        return toModelTypes(bookmarks, JsonAdaptedBookmark::toModelType);
+    }
+
+    /**
+     * Converts {@code bookmarks} into the model's {@code Bookmark} objects in parallel, with cached copies that are
+     * loaded by {@code loader} where their html is not stored inline.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted bookmarks.
+     */
+    public static List<Bookmark> toModelTypes(List<JsonAdaptedBookmark> bookmarks, CachedCopyLoader loader)
+            throws IllegalValueException {
+        return toModelTypes(bookmarks, bookmark -> bookmark.toModelType(loader));
+    }
+
+    /**
+     * Converts {@code bookmarks} with {@code converter} on the common fork-join pool, keeping their order.
+     * If several bookmarks are invalid, the exception of the first one is thrown.
+     */
+    private static List<Bookmark> toModelTypes(List<JsonAdaptedBookmark> bookmarks, Converter converter)
+            throws IllegalValueException {
+        Bookmark[] modelBookmarks = new Bookmark[bookmarks.size()];
+        IllegalValueException[] failures = new IllegalValueException[bookmarks.size()];
+        IntStream.range(0, bookmarks.size()).parallel().forEach(i -> {
+            try {
+                modelBookmarks[i] = converter.convert(bookmarks.get(i));
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+            }
+        });
+
+        for (IllegalValueException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return new ArrayList<>(Arrays.asList(modelBookmarks));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted bookmark object into the model's {@code Bookmark} object,
+     * with the given cached copies.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted bookmark.
+     */
+    private Bookmark toModelType(List<CachedCopy> modelCachedCopies) throws IllegalValueException {
         final List<Tag> bookmarkTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             bookmarkTags.add(tag.toModelType());
@@ -113,12 +210,14 @@ public class JsonAdaptedBookmark {
         }
         final Folder modelFolder = new Folder(folder);
 
-        final List<CachedCopy> modelCachedCopies = new ArrayList<>();
-        for (JsonAdaptedCachedCopy cachedCopy: cachedCopies) {
-            modelCachedCopies.add(cachedCopy.toModelType());
-        }
-
         return new Bookmark(modelName, modelUrl, modelRemark, modelFolder, modelTags, modelCachedCopies);
     }
 
+    /**
+     * Converts an adapted bookmark into the model's {@code Bookmark}.
+     */
+    @FunctionalInterface
+    private interface Converter {
+        Bookmark convert(JsonAdaptedBookmark bookmark) throws IllegalValueException;
+    }
 }
@@ -1,5 +1,9 @@
 package seedu.mark.storage;
 
+import java.io.IOException;
+
+import org.jsoup.Jsoup;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -8,10 +12,16 @@ import seedu.mark.model.bookmark.CachedCopy;
 
 /**
  * Jackson-friendly version of {@link CachedCopy}.
+ * The html of the cached copy is either stored inline, or in a {@link HtmlBlobStorage} under {@code htmlHash}.
  */
 public class JsonAdaptedCachedCopy {
 
+    public static final String MESSAGE_MISSING_HTML = "Html for cache absent in storage!";
+    public static final String MESSAGE_INVALID_HTML_HASH = "Html hash for cache is invalid!";
+    public static final String MESSAGE_MISSING_OFFLINE_DOCUMENT = "Offline document details absent in storage!";
+
     private final String html;
+    private final String htmlHash;
     private final JsonAdaptedOfflineDocument offlineDoc;
 
     /**
@@ -19,31 +29,82 @@ public class JsonAdaptedCachedCopy {
      */
     @JsonCreator
     public JsonAdaptedCachedCopy(@JsonProperty("html") String html,
+                                 @JsonProperty("htmlHash") String htmlHash,
                                  @JsonProperty("annotations") JsonAdaptedOfflineDocument doc) {
         this.html = html;
+        this.htmlHash = htmlHash;
         this.offlineDoc = doc;
     }
 
     /**
-     * Converts a given {@code CachedCopy} into this class for Jackson use.
+     * Converts a given {@code CachedCopy} into this class for Jackson use, keeping its html inline.
      */
     public JsonAdaptedCachedCopy(CachedCopy cache) {
-        this.html = cache.html;
-        this.offlineDoc = new JsonAdaptedOfflineDocument(cache.annotations);
+        this.html = cache.getHtml();
+        this.htmlHash = null;
+        this.offlineDoc = adaptAnnotations(cache);
+    }
+
+    /**
+     * Converts a given {@code CachedCopy} into this class for Jackson use, saving its html
+     * to {@code blobStorage} and keeping only the hash of the html.
+     *
+     * @throws IOException if there was an error saving the html.
+     */
+    public JsonAdaptedCachedCopy(CachedCopy cache, HtmlBlobStorage blobStorage) throws IOException {
+        this.html = null;
+        this.htmlHash = blobStorage.saveHtml(cache);
+        this.offlineDoc = adaptAnnotations(cache);
     }
 
+    /**
+     * Returns the annotations of {@code cache} for Jackson use.
+     * Annotations that have not been loaded from storage are reused as they are stored, without loading them.
+     */
+    private static JsonAdaptedOfflineDocument adaptAnnotations(CachedCopy cache) {
+        return cache.getAnnotationsLoader()
+                .filter(loader -> loader instanceof CachedCopyLoader.StoredContent)
+                .map(loader -> ((CachedCopyLoader.StoredContent) loader).getOfflineDoc())
+                .orElseGet(() -> new JsonAdaptedOfflineDocument(cache.getAnnotations()));
+    }
 
     /**
      * Converts this Jackson-friendly adapted cache object into the model's {@code CachedCopy} object.
-     * @throws IllegalValueException if there were any data constraints violated in the adapted cache.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted cache,
+     *                               or if its html is not stored inline.
      */
     public CachedCopy toModelType() throws IllegalValueException {
         if (html == null) {
-            throw new IllegalValueException("Html for cache absent in storage!");
+            throw new IllegalValueException(MESSAGE_MISSING_HTML);
+        }
+        return toModelType(html);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted cache object into the model's {@code CachedCopy} object.
+     * Html that is not stored inline is only loaded by {@code loader} when the cached copy is first used.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted cache.
+     */
+    public CachedCopy toModelType(CachedCopyLoader loader) throws IllegalValueException {
+        if (html != null) {
+            return toModelType(html);
         }
+        if (htmlHash == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_HTML);
+        }
+        if (!HtmlBlobStorage.isValidHash(htmlHash)) {
+            throw new IllegalValueException(MESSAGE_INVALID_HTML_HASH);
+        }
+        if (offlineDoc == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_OFFLINE_DOCUMENT);
+        }
+        return loader.createCachedCopy(htmlHash, offlineDoc);
+    }
+
+    private CachedCopy toModelType(String modelHtml) throws IllegalValueException {
         if (offlineDoc == null) {
-            throw new IllegalValueException("Offline document details absent in storage!");
+            throw new IllegalValueException(MESSAGE_MISSING_OFFLINE_DOCUMENT);
         }
-        return new CachedCopy(html, offlineDoc.toModelType());
+        return new CachedCopy(modelHtml, offlineDoc.toModelType(() -> Jsoup.parse(modelHtml)));
     }
 }
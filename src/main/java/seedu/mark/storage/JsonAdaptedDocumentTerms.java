@@ -0,0 +1,65 @@
+package seedu.mark.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.logic.parser.ParserUtil;
+import seedu.mark.logic.parser.exceptions.ParseException;
+import seedu.mark.model.annotation.ParagraphIdentifier;
+import seedu.mark.model.search.DocumentTerms;
+
+/**
+ * Jackson-friendly version of {@link DocumentTerms}.
+ */
+public class JsonAdaptedDocumentTerms {
+
+    public static final String MESSAGE_INVALID_COUNT = "Term counts must be positive!";
+
+    private final Map<String, Map<String, Integer>> paragraphs = new HashMap<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedDocumentTerms} with the term counts of each paragraph, by paragraph id.
+     */
+    @JsonCreator
+    public JsonAdaptedDocumentTerms(@JsonProperty("paragraphs") Map<String, Map<String, Integer>> paragraphs) {
+        if (paragraphs != null) {
+            this.paragraphs.putAll(paragraphs);
+        }
+    }
+
+    /**
+     * Converts a given {@code DocumentTerms} into this class for Jackson use.
+     */
+    public JsonAdaptedDocumentTerms(DocumentTerms source) {
+        for (ParagraphIdentifier pid : source.getParagraphIds()) {
+            paragraphs.put(pid.toString(), source.getTermCounts(pid));
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted object into the model's {@code DocumentTerms} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted terms.
+     */
+    public DocumentTerms toModelType() throws IllegalValueException {
+        Map<ParagraphIdentifier, Map<String, Integer>> termCounts = new HashMap<>();
+        for (Map.Entry<String, Map<String, Integer>> entry : paragraphs.entrySet()) {
+            ParagraphIdentifier pid;
+            try {
+                pid = ParserUtil.parseParagraphIdentifier(entry.getKey());
+            } catch (ParseException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+            Map<String, Integer> counts = entry.getValue() == null ? new HashMap<>() : entry.getValue();
+            if (counts.values().stream().anyMatch(count -> count == null || count <= 0)) {
+                throw new IllegalValueException(MESSAGE_INVALID_COUNT);
+            }
+            termCounts.put(pid, counts);
+        }
+        return new DocumentTerms(termCounts);
+    }
+}
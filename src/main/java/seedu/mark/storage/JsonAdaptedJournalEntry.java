@@ -0,0 +1,143 @@
+package seedu.mark.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.Bookmark;
+
+/**
+ * Jackson-friendly version of a single record in the journal of a {@link JournalMarkStorage}.
+ *
+ * A journal always starts with a base entry that identifies the snapshot it applies to. Every following
+ * entry either splices a range of bookmarks or replaces the details (folders, reminders and autotags) of Mark.
+ */
+public class JsonAdaptedJournalEntry {
+
+    public static final String TYPE_BASE = "base";
+    public static final String TYPE_SPLICE = "splice";
+    public static final String TYPE_DETAILS = "details";
+
+    public static final String MESSAGE_INVALID_SPLICE = "Journal entry refers to bookmarks that do not exist.";
+    public static final String MESSAGE_MISSING_DETAILS = "Journal entry is missing the details of Mark.";
+
+    private final String type;
+    private final long snapshotSize;
+    private final String snapshotLastModified;
+    private final int index;
+    private final int removeCount;
+    private final List<JsonAdaptedBookmark> bookmarks = new ArrayList<>();
+    private final JsonSerializableMark details;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") String type,
+                                   @JsonProperty("snapshotSize") long snapshotSize,
+                                   @JsonProperty("snapshotLastModified") String snapshotLastModified,
+                                   @JsonProperty("index") int index,
+                                   @JsonProperty("removeCount") int removeCount,
+                                   @JsonProperty("bookmarks") List<JsonAdaptedBookmark> bookmarks,
+                                   @JsonProperty("details") JsonSerializableMark details) {
+        this.type = type;
+        this.snapshotSize = snapshotSize;
+        this.snapshotLastModified = snapshotLastModified;
+        this.index = index;
+        this.removeCount = removeCount;
+        if (bookmarks != null) {
+            this.bookmarks.addAll(bookmarks);
+        }
+        this.details = details;
+    }
+
+    /**
+     * Creates a base entry for the snapshot with the given size and modification time.
+     * {@code source} is the Mark that was written to the snapshot.
+     */
+    public static JsonAdaptedJournalEntry base(long snapshotSize, String snapshotLastModified, ReadOnlyMark source) {
+        return new JsonAdaptedJournalEntry(TYPE_BASE, snapshotSize, snapshotLastModified, 0, 0,
+                null, JsonSerializableMark.withoutBookmarks(source));
+    }
+
+    /**
+     * Creates an entry that removes {@code removeCount} bookmarks starting at {@code index}
+     * and inserts {@code inserted} in their place.
+     * The html of the cached copies of {@code inserted} is saved to {@code blobStorage}.
+     *
+     * @throws IOException if there was an error saving the html.
+     */
+    public static JsonAdaptedJournalEntry splice(int index, int removeCount, List<Bookmark> inserted,
+                                                 HtmlBlobStorage blobStorage) throws IOException {
+        List<JsonAdaptedBookmark> adaptedBookmarks = new ArrayList<>();
+        for (Bookmark bookmark : inserted) {
+            adaptedBookmarks.add(new JsonAdaptedBookmark(bookmark, blobStorage));
+        }
+        return new JsonAdaptedJournalEntry(TYPE_SPLICE, 0, null, index, removeCount, adaptedBookmarks, null);
+    }
+
+    /**
+     * Creates an entry that replaces the folders, reminders and autotags of Mark with those of {@code source}.
+     */
+    public static JsonAdaptedJournalEntry details(ReadOnlyMark source) {
+        return new JsonAdaptedJournalEntry(TYPE_DETAILS, 0, null, 0, 0,
+                null, JsonSerializableMark.withoutBookmarks(source));
+    }
+
+    /**
+     * Returns true if this is a base entry for a snapshot with the given size and modification time.
+     */
+    public boolean isBaseOf(long snapshotSize, String snapshotLastModified) {
+        return TYPE_BASE.equals(type)
+                && this.snapshotSize == snapshotSize
+                && snapshotLastModified.equals(this.snapshotLastModified);
+    }
+
+    public boolean isSplice() {
+        return TYPE_SPLICE.equals(type);
+    }
+
+    public boolean hasDetails() {
+        return details != null;
+    }
+
+    /**
+     * Returns the folders, reminders and autotags stored in this entry.
+     *
+     * @throws IllegalValueException if this entry does not contain any details.
+     */
+    public JsonSerializableMark getDetails() throws IllegalValueException {
+        if (details == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_DETAILS);
+        }
+        return details;
+    }
+
+    /**
+     * Applies this splice to {@code modelBookmarks}, with cached copies that are loaded by {@code loader}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted bookmarks,
+     *                               or if the spliced range does not exist in {@code modelBookmarks}.
+     */
+    public void applyTo(List<Bookmark> modelBookmarks, CachedCopyLoader loader) throws IllegalValueException {
+        assert isSplice();
+
+        if (index < 0 || removeCount < 0 || index + removeCount > modelBookmarks.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_SPLICE);
+        }
+
+        List<Bookmark> inserted = new ArrayList<>();
+        for (JsonAdaptedBookmark jsonAdaptedBookmark : bookmarks) {
+            inserted.add(jsonAdaptedBookmark.toModelType(loader));
+        }
+
+        List<Bookmark> removed = modelBookmarks.subList(index, index + removeCount);
+        removed.clear();
+        removed.addAll(inserted);
+    }
+}
@@ -1,22 +1,38 @@
 package seedu.mark.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.jsoup.nodes.Document;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.commons.util.StringUtil;
 import seedu.mark.model.annotation.OfflineDocument;
 import seedu.mark.model.annotation.Paragraph;
 
 /**
  * Jackson-friendly version of {@link OfflineDocument}.
+ *
+ * Only annotated paragraphs and phantom paragraphs are stored. The text of the other paragraphs is derived again from
+ * the html of the cached copy when the document is converted, and checked against the stored number of paragraphs
+ * and hash of their text. Documents stored before then hold every paragraph, and are converted without the html.
  */
 public class JsonAdaptedOfflineDocument {
 
+    public static final String MESSAGE_PARAGRAPHS_MISMATCH = "Paragraphs of cached copy do not match its html!";
+
     private final int numStray;
+    /** The number of paragraphs of the html, or null if every paragraph is stored. */
+    private final Integer numParagraphs;
+    private final String paragraphsHash;
     private final List<JsonAdaptedParagraph> paragraphs = new ArrayList<>();
 
     /**
@@ -24,33 +40,105 @@ public class JsonAdaptedOfflineDocument {
      */
     @JsonCreator
     public JsonAdaptedOfflineDocument(@JsonProperty("numStray") int numStray,
+                                      @JsonProperty("numParagraphs") Integer numParagraphs,
+                                      @JsonProperty("paragraphsHash") String paragraphsHash,
                                       @JsonProperty("paragraphs") List<JsonAdaptedParagraph> ps) {
         this.numStray = numStray;
+        this.numParagraphs = numParagraphs;
+        this.paragraphsHash = paragraphsHash;
         if (ps != null) {
             this.paragraphs.addAll(ps);
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedOfflineDocument} that stores every paragraph of the document.
+     */
+    public JsonAdaptedOfflineDocument(int numStray, List<JsonAdaptedParagraph> ps) {
+        this(numStray, null, null, ps);
+    }
+
     /**
      * Converts a given {@code OfflineDocument} into this class for Jackson use.
      */
     public JsonAdaptedOfflineDocument(OfflineDocument doc) {
         doc.updateStrayIndex();
+        List<Paragraph> trueParagraphs = getTrueParagraphs(doc);
         this.numStray = doc.getNumStrayNotes();
+        this.numParagraphs = trueParagraphs.size();
+        this.paragraphsHash = hashParagraphs(trueParagraphs);
         this.paragraphs.addAll(doc.getCollection().stream()
+                .filter(p -> !p.isTrueParagraph() || p.hasAnnotation())
                 .map(JsonAdaptedParagraph::new)
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the true paragraphs of {@code doc}, in order.
+     */
+    private static List<Paragraph> getTrueParagraphs(OfflineDocument doc) {
+        return doc.getCollection().stream()
+                .filter(Paragraph::isTrueParagraph)
+                .sorted(Comparator.comparing(Paragraph::getId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a hash of the text of {@code trueParagraphs}, which must be in order.
+     */
+    private static String hashParagraphs(List<Paragraph> trueParagraphs) {
+        // paragraph text is whitespace-normalised, so it never contains a line break
+        return StringUtil.getSha256Hex(trueParagraphs.stream()
+                .map(p -> p.getParagraphContent().toString())
+                .collect(Collectors.joining("\n")));
+    }
+
+    /**
+     * Converts the stored paragraphs that have an annotation into the model's {@code Paragraph} objects,
+     * without the html.
+     * @throws IllegalValueException if there were any data constraints violated in the stored paragraphs.
+     */
+    public List<Paragraph> toAnnotatedParagraphs() throws IllegalValueException {
+        List<Paragraph> annotatedParagraphs = new ArrayList<>();
+        for (JsonAdaptedParagraph jap : paragraphs) {
+            Paragraph paragraph = jap.toModelType();
+            if (paragraph.hasAnnotation()) {
+                annotatedParagraphs.add(paragraph);
+            }
+        }
+        return annotatedParagraphs;
+    }
+
     /**
      * Converts this Jackson-friendly adapted cache object into the model's {@code OfflineDocument} object.
-     * @throws IllegalValueException if there were any data constraints violated in the adapted offline document.
+     * {@code html} is only parsed if the text of unannotated paragraphs has to be derived again from the html.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted offline document,
+     *                               or if the paragraphs of the html do not match the stored paragraphs.
      */
-    public OfflineDocument toModelType() throws IllegalValueException {
+    public OfflineDocument toModelType(Supplier<Document> html) throws IllegalValueException {
+        requireNonNull(html);
+
         List<Paragraph> ps = new ArrayList<>();
         for (JsonAdaptedParagraph jap : paragraphs) {
             ps.add(jap.toModelType());
         }
-        return new OfflineDocument(ps, numStray);
+        if (numParagraphs == null) {
+            return new OfflineDocument(ps, numStray);
+        }
+
+        List<Paragraph> trueParagraphs = getTrueParagraphs(new OfflineDocument(html.get()));
+        if (trueParagraphs.size() != numParagraphs || !hashParagraphs(trueParagraphs).equals(paragraphsHash)) {
+            throw new IllegalValueException(MESSAGE_PARAGRAPHS_MISMATCH);
+        }
+
+        // stored paragraphs replace the unannotated paragraphs with the same id that were derived from the html
+        List<Paragraph> allParagraphs = new ArrayList<>(trueParagraphs);
+        for (Paragraph p : ps) {
+            if (p.isTrueParagraph() && p.getId().getIndex().getOneBased() > numParagraphs) {
+                throw new IllegalValueException(MESSAGE_PARAGRAPHS_MISMATCH);
+            }
+            allParagraphs.add(p);
+        }
+        return new OfflineDocument(allParagraphs, numStray);
     }
 }
@@ -0,0 +1,59 @@
+package seedu.mark.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.mark.commons.util.JsonUtil;
+import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.Url;
+
+/**
+ * Exports bookmarks in Mark's own JSON format, so that they can be imported into Mark again.
+ * Only the reminders of the exported bookmarks are exported with them.
+ */
+public class JsonBookmarkExporter extends BookmarkExporter {
+
+    public JsonBookmarkExporter(Predicate<Bookmark> filter, boolean includesCachedCopies) {
+        super(filter, includesCachedCopies);
+    }
+
+    @Override
+    protected int write(ReadOnlyMark mark, Path filePath) throws IOException {
+        Set<Url> exportedUrls = new HashSet<>();
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(filePath)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(JsonMarkStorage.BOOKMARKS_FIELD);
+            for (Bookmark bookmark : mark.getBookmarkList()) {
+                if (isExported(bookmark)) {
+                    generator.writeObject(new JsonAdaptedBookmark(toExported(bookmark)));
+                    exportedUrls.add(bookmark.getUrl());
+                }
+            }
+            generator.writeEndArray();
+
+            ObjectNode details = JsonUtil.toJsonTree(JsonSerializableMark.withoutBookmarks(mark,
+                    reminder -> exportedUrls.contains(reminder.getUrl())));
+            details.remove(JsonMarkStorage.BOOKMARKS_FIELD);
+            Iterator<Map.Entry<String, JsonNode>> fields = details.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+
+            generator.writeEndObject();
+        }
+        return exportedUrls.size();
+    }
+}
@@ -3,28 +3,65 @@ package seedu.mark.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import seedu.mark.commons.core.LogsCenter;
 import seedu.mark.commons.exceptions.DataConversionException;
 import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.commons.util.Compression;
 import seedu.mark.commons.util.FileUtil;
 import seedu.mark.commons.util.JsonUtil;
+import seedu.mark.model.Mark;
 import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.Bookmark;
 
 /**
  * A class to access Mark data stored as a json file on the hard disk.
+ * The html of cached copies saved to {@link #getMarkFilePath()} is kept in a {@link HtmlBlobStorage}
+ * instead of the json file, and is only loaded when it is first used; files at any other path keep their html inline.
+ * The file at {@link #getMarkFilePath()} is written with the compression of the storage, while files at other paths
+ * are always written uncompressed so that other tools can read them.
  */
 public class JsonMarkStorage implements MarkStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonMarkStorage.class);
+    static final String BOOKMARKS_FIELD = "bookmarks";
 
     private Path filePath;
+    private final CachedCopyLoader cachedCopyLoader;
+    private final Compression compression;
 
     public JsonMarkStorage(Path filePath) {
+        this(filePath, new CachedCopyLoader(new HtmlBlobStorage(HtmlBlobStorage.getDirectoryFor(filePath))));
+    }
+
+    public JsonMarkStorage(Path filePath, CachedCopyLoader cachedCopyLoader) {
+        this(filePath, cachedCopyLoader, Compression.NONE);
+    }
+
+    /**
+     * Creates a {@code JsonMarkStorage} that writes the file at {@code filePath} with {@code compression}.
+     */
+    public JsonMarkStorage(Path filePath, CachedCopyLoader cachedCopyLoader, Compression compression) {
+        requireNonNull(compression);
         this.filePath = filePath;
+        this.cachedCopyLoader = cachedCopyLoader;
+        this.compression = compression;
     }
 
     public Path getMarkFilePath() {
@@ -38,6 +75,7 @@ public class JsonMarkStorage implements MarkStorage {
 
     /**
      * Similar to {@link #readMark()}.
+     * Bookmarks are read and converted in batches, so the whole file is never held in memory at once.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,20 +83,67 @@ public class JsonMarkStorage implements MarkStorage {
     public Optional<ReadOnlyMark> readMark(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableMark> jsonMark = JsonUtil.readJsonFile(
-                filePath, JsonSerializableMark.class);
-        if (!jsonMark.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonMark.get().toModelType());
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return Optional.of(readMark(parser, filePath.equals(this.filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads a {@code JsonSerializableMark} from {@code parser} and converts it into the model's {@code Mark},
+     * converting bookmarks in parallel batches as they are read.
+     *
+     * @param isOwnFile whether html that is not stored inline should be loaded from this storage's blobs.
+     */
+    private Mark readMark(JsonParser parser, boolean isOwnFile) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Mark data should be a JSON object");
+        }
+
+        List<Bookmark> modelBookmarks = new ArrayList<>();
+        ObjectNode details = JsonNodeFactory.instance.objectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && BOOKMARKS_FIELD.equals(fieldName)) {
+                List<JsonAdaptedBookmark> batch = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    batch.add(parser.readValueAs(JsonAdaptedBookmark.class));
+                    if (batch.size() == JsonAdaptedBookmark.CONVERSION_BATCH_SIZE) {
+                        modelBookmarks.addAll(toModelTypes(batch, isOwnFile));
+                        batch.clear();
+                    }
+                }
+                modelBookmarks.addAll(toModelTypes(batch, isOwnFile));
+            } else {
+                details.set(fieldName, parser.readValueAsTree());
+            }
+        }
+        details.putArray(BOOKMARKS_FIELD);
+
+        return JsonUtil.fromJsonTree(details, JsonSerializableMark.class).toModelType(modelBookmarks);
+    }
+
+    /**
+     * Converts {@code bookmarks} in parallel, loading html that is not stored inline from this storage's blobs
+     * if {@code isOwnFile} is true.
+     */
+    private List<Bookmark> toModelTypes(List<JsonAdaptedBookmark> bookmarks, boolean isOwnFile)
+            throws IllegalValueException {
+        return isOwnFile
+                ? JsonAdaptedBookmark.toModelTypes(bookmarks, cachedCopyLoader)
+                : JsonAdaptedBookmark.toModelTypes(bookmarks);
+    }
+
     @Override
     public void saveMark(ReadOnlyMark mark) throws IOException {
         saveMark(mark, filePath);
@@ -66,6 +151,7 @@ public class JsonMarkStorage implements MarkStorage {
 
     /**
      * Similar to {@link #saveMark(ReadOnlyMark)}.
+     * Bookmarks are converted and written one at a time, so the whole file is never held in memory at once.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +159,47 @@ public class JsonMarkStorage implements MarkStorage {
         requireNonNull(mark);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableMark(mark), filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        FileUtil.writeAtomically(filePath, tempFile -> writeMark(mark, tempFile, isOwnFile));
+    }
+
+    /**
+     * Writes {@code mark} to {@code filePath} as json, saving the html of cached copies separately if
+     * {@code isOwnFile} is true.
+     */
+    private void writeMark(ReadOnlyMark mark, Path filePath, boolean isOwnFile) throws IOException {
+        Compression fileCompression = isOwnFile ? compression : Compression.NONE;
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(filePath, fileCompression)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(BOOKMARKS_FIELD);
+            for (Bookmark bookmark : mark.getBookmarkList()) {
+                generator.writeObject(isOwnFile
+                        ? new JsonAdaptedBookmark(bookmark, cachedCopyLoader.getBlobStorage())
+                        : new JsonAdaptedBookmark(bookmark));
+            }
+            generator.writeEndArray();
+
+            ObjectNode details = JsonUtil.toJsonTree(JsonSerializableMark.withoutBookmarks(mark));
+            details.remove(BOOKMARKS_FIELD);
+            Iterator<Map.Entry<String, JsonNode>> fields = details.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Saves {@code mark} and deletes the html of cached copies that it no longer refers to.
+     */
+    @Override
+    public void compactMark(ReadOnlyMark mark) throws IOException {
+        saveMark(mark, filePath);
+        cachedCopyLoader.getBlobStorage().retainOnly(HtmlBlobStorage.getHtmlHashes(mark));
     }
 
 }
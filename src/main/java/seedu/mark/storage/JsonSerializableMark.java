@@ -2,7 +2,10 @@ package seedu.mark.storage;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -16,6 +19,7 @@ import seedu.mark.model.ReadOnlyMark;
 import seedu.mark.model.autotag.AutotagController;
 import seedu.mark.model.bookmark.Bookmark;
 import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.Name;
 import seedu.mark.model.bookmark.Url;
 import seedu.mark.model.folderstructure.FolderStructure;
 import seedu.mark.model.reminder.Reminder;
@@ -72,19 +76,53 @@ public class JsonSerializableMark {
 
     }
 
+    /**
+     * Converts everything in a given {@code ReadOnlyMark} except its bookmarks into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code
+     *               JsonSerializableMark}.
+     */
+    static JsonSerializableMark withoutBookmarks(ReadOnlyMark source) {
+        return withoutBookmarks(source, reminder -> true);
+    }
+
+    /**
+     * Similar to {@link #withoutBookmarks(ReadOnlyMark)}, but only includes the reminders that match
+     * {@code reminderFilter}.
+     */
+    static JsonSerializableMark withoutBookmarks(ReadOnlyMark source, Predicate<Reminder> reminderFilter) {
+        return new JsonSerializableMark(new ArrayList<>(),
+                new JsonAdaptedFolderStructure(source.getFolderStructure()),
+                source.getReminderList().stream().filter(reminderFilter).map(JsonAdaptedReminder::new)
+                        .collect(Collectors.toList()),
+                new JsonAdaptedAutotagController(source.getAutotagController()));
+    }
+
     /**
      * Converts this Mark into the model's {@code Mark} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Mark toModelType() throws IllegalValueException {
-        Mark mark = new Mark();
-        for (JsonAdaptedBookmark jsonAdaptedBookmark : bookmarks) {
-            Bookmark bookmark = jsonAdaptedBookmark.toModelType();
-            if (mark.hasBookmark(bookmark)) {
+        return toModelType(JsonAdaptedBookmark.toModelTypes(bookmarks));
+    }
+
+    /**
+     * Converts this Mark into the model's {@code Mark} object, using {@code modelBookmarks}
+     * in place of the bookmarks stored in this object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    Mark toModelType(List<Bookmark> modelBookmarks) throws IllegalValueException {
+        // bookmarks are the same if they have the same name or the same url
+        Set<Name> names = new HashSet<>();
+        Set<Url> urls = new HashSet<>();
+        for (Bookmark bookmark : modelBookmarks) {
+            boolean isNewName = names.add(bookmark.getName());
+            boolean isNewUrl = urls.add(bookmark.getUrl());
+            if (!isNewName || !isNewUrl) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_BOOKMARK);
             }
-            mark.addBookmark(bookmark);
         }
 
         FolderStructure modelFolderStructure = folderStructure.toModelType();
@@ -96,9 +134,15 @@ public class JsonSerializableMark {
         }
 
         // all folders must exist in the folder strucuture
-        if (!mark.getBookmarkList().stream().map(Bookmark::getFolder).allMatch(modelFolderStructure::hasFolder)) {
-            throw new IllegalValueException(MESSAGE_NONEXISTENT_FOLDER);
+        Set<Folder> folders = modelFolderStructure.getAllFolders();
+        for (Bookmark bookmark : modelBookmarks) {
+            if (!folders.contains(bookmark.getFolder())) {
+                throw new IllegalValueException(MESSAGE_NONEXISTENT_FOLDER);
+            }
         }
+
+        Mark mark = new Mark();
+        mark.setBookmarks(modelBookmarks);
         mark.setFolderStructure(modelFolderStructure);
 
 
@@ -0,0 +1,175 @@
+package seedu.mark.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.model.bookmark.Folder;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedMarkStorage}.
+ *
+ * The manifest lists the shard file that holds the bookmarks of each folder, and the order of all bookmarks as
+ * runs of consecutive bookmarks from the same shard. It also holds the details (folders, reminders and autotags)
+ * of Mark.
+ */
+public class JsonSerializableShardManifest {
+
+    public static final String MESSAGE_INVALID_ORDER = "Bookmark order does not match the shards of Mark.";
+    public static final String MESSAGE_MISSING_DETAILS = "Manifest is missing the details of Mark.";
+
+    private final long generation;
+    private final List<JsonAdaptedShard> shards = new ArrayList<>();
+    private final List<Integer> order = new ArrayList<>();
+    private final JsonSerializableMark details;
+
+    /**
+     * Constructs a {@code JsonSerializableShardManifest} with the given manifest details.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("generation") long generation,
+                                         @JsonProperty("shards") List<JsonAdaptedShard> shards,
+                                         @JsonProperty("order") List<Integer> order,
+                                         @JsonProperty("details") JsonSerializableMark details) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+        if (order != null) {
+            this.order.addAll(order);
+        }
+        this.details = details;
+    }
+
+    /**
+     * Returns the number of times Mark was written to the storage before this manifest, including this time.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<JsonAdaptedShard> getShards() {
+        return shards;
+    }
+
+    /**
+     * Returns the order of all bookmarks, as pairs of a shard index and the number of consecutive bookmarks
+     * taken from that shard.
+     */
+    public List<Integer> getOrder() {
+        return order;
+    }
+
+    /**
+     * Returns the folders, reminders and autotags stored in this manifest.
+     *
+     * @throws IllegalValueException if this manifest does not contain any details.
+     */
+    public JsonSerializableMark getDetails() throws IllegalValueException {
+        if (details == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_DETAILS);
+        }
+        return details;
+    }
+
+    /**
+     * Merges the bookmarks read from each shard, in the order of {@link #getShards()}, into a single list
+     * in the order of {@link #getOrder()}.
+     *
+     * @throws IllegalValueException if the order does not take every bookmark of every shard exactly once.
+     */
+    public <T> List<T> mergeShards(List<List<T>> shardContents) throws IllegalValueException {
+        assert shardContents.size() == shards.size();
+
+        List<T> merged = new ArrayList<>();
+        int[] positions = new int[shardContents.size()];
+        if (order.size() % 2 != 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_ORDER);
+        }
+        for (int i = 0; i < order.size(); i += 2) {
+            int shard = order.get(i);
+            int count = order.get(i + 1);
+            if (shard < 0 || shard >= positions.length || count < 0
+                    || positions[shard] + count > shardContents.get(shard).size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_ORDER);
+            }
+            merged.addAll(shardContents.get(shard).subList(positions[shard], positions[shard] + count));
+            positions[shard] += count;
+        }
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] != shardContents.get(i).size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_ORDER);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Jackson-friendly version of a single shard, which holds all bookmarks of one folder.
+     */
+    public static class JsonAdaptedShard {
+
+        public static final String MESSAGE_INVALID_FILE = "Shard file name is invalid.";
+        public static final String MESSAGE_MISSING_CHECKSUM = "Shard checksum is missing.";
+
+        private final String folder;
+        private final String file;
+        private final int size;
+        private final Long checksum;
+
+        /**
+         * Constructs a {@code JsonAdaptedShard} with the given shard details.
+         */
+        @JsonCreator
+        public JsonAdaptedShard(@JsonProperty("folder") String folder, @JsonProperty("file") String file,
+                                @JsonProperty("size") int size, @JsonProperty("checksum") Long checksum) {
+            this.folder = folder;
+            this.file = file;
+            this.size = size;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns the folder whose bookmarks are held in this shard.
+         *
+         * @throws IllegalValueException if the folder name is invalid.
+         */
+        public Folder getFolder() throws IllegalValueException {
+            if (folder == null || !Folder.isValidFolder(folder)) {
+                throw new IllegalValueException(Folder.MESSAGE_CONSTRAINTS);
+            }
+            return new Folder(folder);
+        }
+
+        /**
+         * Returns the name of the file, in the shard directory, that holds this shard.
+         *
+         * @throws IllegalValueException if the file name is not one written by {@link ShardedMarkStorage}.
+         */
+        public String getFile() throws IllegalValueException {
+            if (file == null || !ShardedMarkStorage.isShardFileName(file)) {
+                throw new IllegalValueException(MESSAGE_INVALID_FILE);
+            }
+            return file;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the CRC-32C checksum of the shard file.
+         *
+         * @throws IllegalValueException if the manifest does not record the checksum.
+         */
+        public long getChecksum() throws IllegalValueException {
+            if (checksum == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_CHECKSUM);
+            }
+            return checksum;
+        }
+    }
+}
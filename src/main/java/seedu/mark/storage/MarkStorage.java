@@ -43,4 +43,12 @@ public interface MarkStorage {
      */
     void saveMark(ReadOnlyMark mark, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyMark} to the storage as a complete snapshot, folding in
+     * any changes that were only saved incrementally.
+     * @param mark cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactMark(ReadOnlyMark mark) throws IOException;
+
 }
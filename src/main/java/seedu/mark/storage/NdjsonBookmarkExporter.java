@@ -0,0 +1,39 @@
+package seedu.mark.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import seedu.mark.commons.util.JsonUtil;
+import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.Bookmark;
+
+/**
+ * Exports bookmarks as newline-delimited JSON, with one compact JSON object per line for each bookmark.
+ * Each line has the same fields as a bookmark in Mark's own JSON format.
+ */
+public class NdjsonBookmarkExporter extends BookmarkExporter {
+
+    public NdjsonBookmarkExporter(Predicate<Bookmark> filter, boolean includesCachedCopies) {
+        super(filter, includesCachedCopies);
+    }
+
+    @Override
+    protected int write(ReadOnlyMark mark, Path filePath) throws IOException {
+        int count = 0;
+        try (Writer writer = Files.newBufferedWriter(filePath, UTF_8)) {
+            for (Bookmark bookmark : mark.getBookmarkList()) {
+                if (isExported(bookmark)) {
+                    writer.write(JsonUtil.toCompactJsonString(new JsonAdaptedBookmark(toExported(bookmark))));
+                    writer.write('\n');
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
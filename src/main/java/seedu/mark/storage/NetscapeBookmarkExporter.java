@@ -0,0 +1,114 @@
+package seedu.mark.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.Remark;
+import seedu.mark.model.folderstructure.FolderStructure;
+
+/**
+ * Exports bookmarks as a Netscape bookmark file ({@code bookmarks.html}), which web browsers can import.
+ *
+ * Folders of Mark become browser folders, tags are written to the {@code TAGS} attribute and remarks become
+ * descriptions. Folders without any exported bookmarks are left out. Cached copies cannot be stored in this format.
+ */
+public class NetscapeBookmarkExporter extends BookmarkExporter {
+
+    private static final String HEADER = "<!DOCTYPE NETSCAPE-Bookmark-file-1>\n"
+            + "<!-- This is an automatically generated file.\n"
+            + "     It will be read and overwritten.\n"
+            + "     DO NOT EDIT! -->\n"
+            + "<META HTTP-EQUIV=\"Content-Type\" CONTENT=\"text/html; charset=UTF-8\">\n"
+            + "<TITLE>Bookmarks</TITLE>\n"
+            + "<H1>Bookmarks</H1>\n";
+    private static final String INDENT = "    ";
+
+    public NetscapeBookmarkExporter(Predicate<Bookmark> filter, boolean includesCachedCopies) {
+        super(filter, includesCachedCopies);
+    }
+
+    @Override
+    protected int write(ReadOnlyMark mark, Path filePath) throws IOException {
+        // only references to the exported bookmarks are grouped, so that each folder can be written in one go
+        Map<Folder, List<Bookmark>> bookmarksByFolder = new HashMap<>();
+        int count = 0;
+        for (Bookmark bookmark : mark.getBookmarkList()) {
+            if (isExported(bookmark)) {
+                bookmarksByFolder.computeIfAbsent(bookmark.getFolder(), folder -> new ArrayList<>()).add(bookmark);
+                count++;
+            }
+        }
+
+        try (Writer writer = Files.newBufferedWriter(filePath, UTF_8)) {
+            writer.write(HEADER);
+            writeFolderContents(writer, mark.getFolderStructure(), bookmarksByFolder, "");
+        }
+        return count;
+    }
+
+    /**
+     * Writes the bookmarks and subfolders of {@code folderStructure} as a list, indented by {@code indent}.
+     */
+    private void writeFolderContents(Writer writer, FolderStructure folderStructure,
+                                     Map<Folder, List<Bookmark>> bookmarksByFolder, String indent)
+            throws IOException {
+        writer.write(indent + "<DL><p>\n");
+        String itemIndent = indent + INDENT;
+        for (Bookmark bookmark : bookmarksByFolder.getOrDefault(folderStructure.getFolder(), List.of())) {
+            writeBookmark(writer, bookmark, itemIndent);
+        }
+        for (FolderStructure subfolder : folderStructure.getSubfolders()) {
+            if (hasExportedBookmarks(subfolder, bookmarksByFolder)) {
+                writer.write(itemIndent + "<DT><H3>" + escape(subfolder.getFolder().folderName) + "</H3>\n");
+                writeFolderContents(writer, subfolder, bookmarksByFolder, itemIndent);
+            }
+        }
+        writer.write(indent + "</DL><p>\n");
+    }
+
+    /**
+     * Writes {@code bookmark} as a link, followed by its remark if it has one.
+     */
+    private void writeBookmark(Writer writer, Bookmark bookmark, String indent) throws IOException {
+        writer.write(indent + "<DT><A HREF=\"" + escape(bookmark.getUrl().value) + "\"");
+        if (!bookmark.getTags().isEmpty()) {
+            String tags = bookmark.getTags().stream().map(tag -> tag.tagName).sorted()
+                    .collect(Collectors.joining(","));
+            writer.write(" TAGS=\"" + escape(tags) + "\"");
+        }
+        writer.write(">" + escape(bookmark.getName().value) + "</A>\n");
+        if (!bookmark.getRemark().value.equals(Remark.DEFAULT_VALUE)) {
+            writer.write(indent + "<DD>" + escape(bookmark.getRemark().value) + "\n");
+        }
+    }
+
+    /**
+     * Returns true if {@code folderStructure} or any of its subfolders holds an exported bookmark.
+     */
+    private static boolean hasExportedBookmarks(FolderStructure folderStructure,
+                                                Map<Folder, List<Bookmark>> bookmarksByFolder) {
+        return bookmarksByFolder.containsKey(folderStructure.getFolder())
+                || folderStructure.getSubfolders().stream()
+                        .anyMatch(subfolder -> hasExportedBookmarks(subfolder, bookmarksByFolder));
+    }
+
+    /**
+     * Escapes the characters of {@code text} that have a special meaning in html text and attribute values.
+     */
+    static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,214 @@
+package seedu.mark.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jsoup.parser.Parser;
+
+import seedu.mark.model.bookmark.Folder;
+
+/**
+ * Reads the Netscape bookmark file ({@code bookmarks.html}) exported by most web browsers.
+ *
+ * In this format, each folder is a {@code <H3>} heading followed by a {@code <DL>} list of its contents, and
+ * each bookmark is an {@code <A HREF>} link. The file is read one tag at a time, and only the current chain of
+ * folders is kept while reading.
+ */
+public class NetscapeBookmarkReader extends BrowserBookmarkReader {
+
+    private static final String FOLDER_TAG = "H3";
+    private static final String LIST_TAG = "DL";
+    private static final String LINK_TAG = "A";
+    private static final String URL_ATTRIBUTE = "HREF";
+
+    @Override
+    public int read(Path filePath, Handler handler) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(handler);
+
+        Converter converter = new Converter(handler);
+        Deque<Folder> folders = new ArrayDeque<>();
+        folders.push(Folder.IMPORT_FOLDER);
+        // the folder whose heading was read last, if its list has not started yet
+        Folder headingFolder = null;
+
+        try (Reader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            Tokenizer tokenizer = new Tokenizer(reader);
+            for (Tag tag = tokenizer.nextTag(); tag != null; tag = tokenizer.nextTag()) {
+                if (tag.isStartOf(FOLDER_TAG)) {
+                    headingFolder = converter.addFolder(tokenizer.readTextUntilEndOf(FOLDER_TAG), folders.peek());
+                } else if (tag.isStartOf(LIST_TAG)) {
+                    folders.push(headingFolder == null ? folders.peek() : headingFolder);
+                    headingFolder = null;
+                } else if (tag.isEndOf(LIST_TAG) && folders.size() > 1) {
+                    folders.pop();
+                } else if (tag.isStartOf(LINK_TAG)) {
+                    String url = tag.getAttribute(URL_ATTRIBUTE);
+                    converter.addBookmark(tokenizer.readTextUntilEndOf(LINK_TAG), url, folders.peek());
+                }
+            }
+        }
+        return converter.finish();
+    }
+
+    /**
+     * A tag read by a {@code Tokenizer}.
+     */
+    private static class Tag {
+        private static final Pattern ATTRIBUTE_PATTERN =
+                Pattern.compile("([^\\s=]+)\\s*(?:=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s\"']+)))?");
+
+        private final String name;
+        private final boolean isEndTag;
+        private final String attributes;
+
+        /**
+         * Creates a {@code Tag} from the text between its angle brackets.
+         */
+        Tag(String content) {
+            isEndTag = content.startsWith("/");
+            String body = isEndTag ? content.substring(1) : content;
+            int nameEnd = 0;
+            while (nameEnd < body.length() && !Character.isWhitespace(body.charAt(nameEnd))
+                    && body.charAt(nameEnd) != '/') {
+                nameEnd++;
+            }
+            name = body.substring(0, nameEnd).toUpperCase(Locale.ROOT);
+            attributes = body.substring(nameEnd);
+        }
+
+        boolean isStartOf(String tagName) {
+            return !isEndTag && name.equals(tagName);
+        }
+
+        boolean isEndOf(String tagName) {
+            return isEndTag && name.equals(tagName);
+        }
+
+        /**
+         * Returns the unescaped value of the attribute with the given name, or null if there is none.
+         * Attributes are only parsed when they are needed, as most tags in the file are never looked at.
+         */
+        String getAttribute(String attributeName) {
+            Matcher matcher = ATTRIBUTE_PATTERN.matcher(attributes);
+            while (matcher.find()) {
+                if (!matcher.group(1).equalsIgnoreCase(attributeName)) {
+                    continue;
+                }
+                String value = "";
+                for (int group = 2; group <= matcher.groupCount(); group++) {
+                    if (matcher.group(group) != null) {
+                        value = matcher.group(group);
+                    }
+                }
+                return Parser.unescapeEntities(value, true).strip();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Splits html read from a {@code Reader} into tags and the text between them.
+     */
+    private static class Tokenizer {
+        private static final String COMMENT_START = "!--";
+        private static final String COMMENT_END = "--";
+
+        private final Reader reader;
+
+        Tokenizer(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Skips to the next tag and returns it, or returns null at the end of the html.
+         * Comments, doctypes and the text before the tag are skipped.
+         */
+        Tag nextTag() throws IOException {
+            while (true) {
+                int c;
+                do {
+                    c = reader.read();
+                } while (c != -1 && c != '<');
+                if (c == -1) {
+                    return null;
+                }
+
+                String content = readTagContent();
+                if (content.startsWith(COMMENT_START)) {
+                    skipComment(content);
+                } else if (!content.startsWith("!") && !content.startsWith("?")) {
+                    return new Tag(content);
+                }
+            }
+        }
+
+        /**
+         * Returns the unescaped text up to the end tag of {@code tagName}, ignoring any tags nested in the text.
+         */
+        String readTextUntilEndOf(String tagName) throws IOException {
+            StringBuilder text = new StringBuilder();
+            for (int c = reader.read(); c != -1; c = reader.read()) {
+                if (c != '<') {
+                    text.append((char) c);
+                    continue;
+                }
+                String content = readTagContent();
+                if (content.startsWith(COMMENT_START)) {
+                    skipComment(content);
+                } else if (new Tag(content).isEndOf(tagName)) {
+                    break;
+                }
+            }
+            return Parser.unescapeEntities(text.toString(), false).strip();
+        }
+
+        /**
+         * Reads the rest of a tag after its opening angle bracket, and returns the text before the closing bracket.
+         * Closing brackets in quoted attribute values do not end the tag, but quotes in comments and doctypes
+         * are not treated as quotes.
+         */
+        private String readTagContent() throws IOException {
+            StringBuilder content = new StringBuilder();
+            int quote = -1;
+            for (int c = reader.read(); c != -1; c = reader.read()) {
+                boolean isDeclaration = content.length() > 0 && content.charAt(0) == '!';
+                if (quote == -1 && c == '>') {
+                    break;
+                } else if (quote == -1 && !isDeclaration && (c == '"' || c == '\'')) {
+                    quote = c;
+                } else if (c == quote) {
+                    quote = -1;
+                }
+                content.append((char) c);
+            }
+            return content.toString().strip();
+        }
+
+        /**
+         * Skips the rest of a comment whose text up to the first closing angle bracket is {@code content}.
+         */
+        private void skipComment(String content) throws IOException {
+            if (content.length() > COMMENT_START.length() && content.endsWith(COMMENT_END)) {
+                return;
+            }
+            int dashes = 0;
+            for (int c = reader.read(); c != -1; c = reader.read()) {
+                if (c == '>' && dashes >= 2) {
+                    return;
+                }
+                dashes = c == '-' ? dashes + 1 : 0;
+            }
+        }
+    }
+}
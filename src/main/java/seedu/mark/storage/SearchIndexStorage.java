@@ -0,0 +1,122 @@
+package seedu.mark.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.mark.commons.core.LogsCenter;
+import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.commons.util.Compression;
+import seedu.mark.commons.util.FileUtil;
+import seedu.mark.commons.util.JsonUtil;
+import seedu.mark.model.search.ContentIndex;
+import seedu.mark.model.search.DocumentTerms;
+
+/**
+ * Stores the terms of the paragraphs of the html of cached copies for the {@link ContentIndex},
+ * as separate files in a directory on the hard disk, each named after the hash of the html.
+ *
+ * Like the html in a {@link HtmlBlobStorage}, the terms of the same html are only written once.
+ * Terms that cannot be read or written are logged and left to be derived from the html again.
+ */
+public class SearchIndexStorage implements ContentIndex.TermStore {
+
+    public static final String DIRECTORY_SUFFIX = ".search";
+    public static final String TERMS_FILE_SUFFIX = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(SearchIndexStorage.class);
+
+    private final Path directory;
+    private final Compression compression;
+
+    /**
+     * Creates a {@code SearchIndexStorage} that writes terms to {@code directory} with {@code compression}.
+     */
+    public SearchIndexStorage(Path directory, Compression compression) {
+        requireNonNull(directory);
+        requireNonNull(compression);
+        this.directory = directory;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns the directory that holds the terms of the cached copies saved in the data file at {@code filePath}.
+     */
+    public static Path getDirectoryFor(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + DIRECTORY_SUFFIX);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public Optional<DocumentTerms> read(String htmlHash) {
+        requireNonNull(htmlHash);
+
+        Path termsFile = getTermsFilePath(htmlHash);
+        if (!HtmlBlobStorage.isValidHash(htmlHash) || !FileUtil.isFileExists(termsFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonUtil.fromJsonString(FileUtil.readFromFile(termsFile),
+                    JsonAdaptedDocumentTerms.class).toModelType());
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Unable to read search terms of cached copy " + htmlHash + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void write(String htmlHash, DocumentTerms documentTerms) {
+        requireNonNull(htmlHash);
+        requireNonNull(documentTerms);
+
+        Path termsFile = getTermsFilePath(htmlHash);
+        if (!HtmlBlobStorage.isValidHash(htmlHash) || FileUtil.isFileExists(termsFile)) {
+            return;
+        }
+        try {
+            String json = JsonUtil.toCompactJsonString(new JsonAdaptedDocumentTerms(documentTerms));
+            FileUtil.writeAtomically(termsFile, tempFile -> FileUtil.writeToFile(tempFile, json, compression));
+        } catch (IOException ioe) {
+            logger.warning("Unable to write search terms of cached copy " + htmlHash + ": " + ioe);
+        }
+    }
+
+    /**
+     * Deletes the terms of all html except that with the given {@code hashes}.
+     *
+     * @throws IOException if there was an error listing or deleting the terms.
+     */
+    public void retainOnly(Set<String> hashes) throws IOException {
+        requireNonNull(hashes);
+
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        int deletedCount = 0;
+        try (DirectoryStream<Path> termsFiles = Files.newDirectoryStream(directory, "*" + TERMS_FILE_SUFFIX)) {
+            for (Path termsFile : termsFiles) {
+                String fileName = termsFile.getFileName().toString();
+                String hash = fileName.substring(0, fileName.length() - TERMS_FILE_SUFFIX.length());
+                if (HtmlBlobStorage.isValidHash(hash) && !hashes.contains(hash)) {
+                    Files.delete(termsFile);
+                    deletedCount++;
+                }
+            }
+        }
+        logger.fine("Deleted search terms of " + deletedCount + " unused cached copies from " + directory);
+    }
+
+    private Path getTermsFilePath(String hash) {
+        return directory.resolve(hash + TERMS_FILE_SUFFIX);
+    }
+}
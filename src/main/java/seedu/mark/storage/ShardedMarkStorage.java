@@ -0,0 +1,600 @@
+package seedu.mark.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.mark.commons.core.LogsCenter;
+import seedu.mark.commons.exceptions.DataConversionException;
+import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.commons.util.Compression;
+import seedu.mark.commons.util.FileUtil;
+import seedu.mark.commons.util.JsonUtil;
+import seedu.mark.model.Mark;
+import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.Folder;
+import seedu.mark.storage.JsonSerializableShardManifest.JsonAdaptedShard;
+
+/**
+ * A class to access Mark data stored as a directory of shards on the hard disk, one shard per folder.
+ *
+ * Each shard is a json file that holds the bookmarks of a single folder. A small manifest lists the shards,
+ * the order of all bookmarks, and the folders, reminders and autotags of Mark. Saving only rewrites the shards
+ * of folders whose revision changed since they were last written, and the manifest, which is replaced last so that
+ * an interrupted save leaves the previous data intact. Shards are read in parallel.
+ *
+ * Every file is flushed to the storage device before the manifest refers to it. The manifest ends with a checksum
+ * of itself and records a checksum of each shard, so that a snapshot can be verified without parsing it.
+ * The manifests of the last few snapshots are kept along with their shards, and reading falls back to the newest
+ * snapshot whose checksums match if the current one is corrupted. If none of them can be read, the directory is
+ * moved aside before reading fails, so that the corrupted snapshots are kept rather than replaced by the next save.
+ * The html of cached copies is kept in a {@link HtmlBlobStorage}.
+ * Files at any path other than {@link #getMarkFilePath()} are read and written by another storage.
+ */
+public class ShardedMarkStorage implements MarkStorage {
+
+    public static final String DIRECTORY_SUFFIX = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    /** Joins the name of the shard directory and a timestamp in the name of a directory of corrupted snapshots. */
+    public static final String CORRUPTED_DIRECTORY_INFIX = ".corrupted-";
+
+    public static final String MESSAGE_SHARD_SIZE_MISMATCH = "Shard %s does not hold the bookmarks in the manifest.";
+    public static final String MESSAGE_WRONG_FOLDER = "Shard %s holds bookmarks of another folder.";
+    public static final String MESSAGE_CORRUPTED_MANIFEST = "Manifest %s is missing its checksum or does not match it.";
+    public static final String MESSAGE_CORRUPTED_SHARD = "Shard %s is missing or does not match its checksum.";
+    /** The number of snapshots that are kept, including the current one. */
+    public static final int SNAPSHOT_RING_SIZE = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedMarkStorage.class);
+    private static final String SHARD_FILE_PATTERN = "\\d+-\\d+\\.json";
+    private static final Pattern RING_MANIFEST_PATTERN = Pattern.compile("manifest-(\\d+)\\.json");
+    private static final String CHECKSUM_TRAILER = "\n#crc32c ";
+
+    private final Path directory;
+    private final MarkStorage otherStorage;
+    private final CachedCopyLoader cachedCopyLoader;
+    private final Compression compression;
+
+    /** Shards as they are persisted in the directory, or null if they are not known. */
+    private Map<Folder, PersistedShard> persistedShards;
+    private long persistedGeneration;
+    /** Shard files of each snapshot in the ring by generation, or null if they are not known. */
+    private TreeMap<Long, Set<String>> ringShardFiles;
+
+    /**
+     * Creates a {@code ShardedMarkStorage} that keeps its shards in {@code directory}, and reads and writes
+     * files at any other path with {@code otherStorage}.
+     */
+    public ShardedMarkStorage(Path directory, MarkStorage otherStorage, CachedCopyLoader cachedCopyLoader) {
+        this(directory, otherStorage, cachedCopyLoader, Compression.NONE);
+    }
+
+    /**
+     * Creates a {@code ShardedMarkStorage} like {@link #ShardedMarkStorage(Path, MarkStorage, CachedCopyLoader)},
+     * which writes its shards with {@code compression}. The small manifest is always written uncompressed.
+     */
+    public ShardedMarkStorage(Path directory, MarkStorage otherStorage, CachedCopyLoader cachedCopyLoader,
+                              Compression compression) {
+        requireNonNull(directory);
+        requireNonNull(otherStorage);
+        requireNonNull(cachedCopyLoader);
+        requireNonNull(compression);
+
+        this.directory = directory;
+        this.otherStorage = otherStorage;
+        this.cachedCopyLoader = cachedCopyLoader;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns the path of the shard directory that replaces the data file at {@code filePath}.
+     */
+    public static Path getDirectoryFor(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if {@code fileName} has the format of the name of a shard file.
+     */
+    public static boolean isShardFileName(String fileName) {
+        return fileName.matches(SHARD_FILE_PATTERN);
+    }
+
+    /**
+     * Returns the path of the manifest, which identifies the data as a whole.
+     */
+    @Override
+    public Path getMarkFilePath() {
+        return directory.resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Optional<ReadOnlyMark> readMark() throws DataConversionException, IOException {
+        return readMark(getMarkFilePath());
+    }
+
+    /**
+     * Similar to {@link #readMark()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest or any shard is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMark> readMark(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getMarkFilePath())) {
+            return otherStorage.readMark(filePath);
+        }
+
+        persistedShards = null;
+        ringShardFiles = null;
+        List<Path> snapshots = getSnapshotManifests();
+        if (snapshots.isEmpty()) {
+            logger.info("Shard manifest " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        DataConversionException firstError = null;
+        for (Path manifestFile : snapshots) {
+            try {
+                Mark mark = readSnapshot(manifestFile);
+                if (!manifestFile.equals(filePath)) {
+                    logger.warning("Recovered Mark from the older snapshot in " + manifestFile);
+                    // replacing the corrupted manifest also stops any journal of it from being replayed on this one
+                    FileUtil.writeAtomically(filePath,
+                            tempFile -> Files.copy(manifestFile, tempFile, StandardCopyOption.REPLACE_EXISTING));
+                }
+                return Optional.of(mark);
+            } catch (DataConversionException dce) {
+                logger.warning("Unable to read the snapshot in " + manifestFile + ": " + dce.getMessage());
+                firstError = firstError == null ? dce : firstError;
+            }
+        }
+        Path corruptedDirectory = setAsideCorruptedDirectory();
+        logger.warning("No snapshot in " + directory + " could be read. Its files were kept in " + corruptedDirectory);
+        throw firstError;
+    }
+
+    /**
+     * Moves the shard directory, none of whose snapshots can be read, to a new directory next to it, so that the
+     * next save starts an empty directory instead of deleting the corrupted files along with older snapshots.
+     *
+     * @return the directory that now holds the corrupted files.
+     */
+    private Path setAsideCorruptedDirectory() throws IOException {
+        Path corruptedDirectory = directory.resolveSibling(
+                directory.getFileName() + CORRUPTED_DIRECTORY_INFIX + System.currentTimeMillis());
+        Files.move(directory, corruptedDirectory);
+        return corruptedDirectory;
+    }
+
+    /**
+     * Returns the manifests of the snapshots in the directory, starting with the current manifest and followed by
+     * the manifests in the ring from the newest to the oldest.
+     */
+    private List<Path> getSnapshotManifests() throws IOException {
+        List<Path> manifests = new ArrayList<>();
+        if (FileUtil.isFileExists(getMarkFilePath())) {
+            manifests.add(getMarkFilePath());
+        }
+        getRingGenerations().descendingSet().forEach(generation -> manifests.add(getRingManifestPath(generation)));
+        return manifests;
+    }
+
+    /**
+     * Returns the generations of the manifests in the ring.
+     */
+    private TreeSet<Long> getRingGenerations() throws IOException {
+        TreeSet<Long> generations = new TreeSet<>();
+        if (!Files.isDirectory(directory)) {
+            return generations;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = RING_MANIFEST_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    generations.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        return generations;
+    }
+
+    private Path getRingManifestPath(long generation) {
+        return directory.resolve("manifest-" + generation + ".json");
+    }
+
+    /**
+     * Reads the snapshot described by the manifest in {@code manifestFile}, after verifying the checksums of the
+     * manifest and its shards.
+     *
+     * @throws DataConversionException if the manifest or any shard is corrupted or not in the correct format.
+     */
+    private Mark readSnapshot(Path manifestFile) throws DataConversionException, IOException {
+        JsonSerializableShardManifest manifest = readManifest(manifestFile);
+        Mark mark;
+        try {
+            List<JsonAdaptedShard> shards = manifest.getShards();
+            List<Long> checksums = verifyShards(shards);
+            List<List<Bookmark>> shardContents = readShards(shards);
+            mark = manifest.getDetails().toModelType(manifest.mergeShards(shardContents));
+
+            Map<Folder, PersistedShard> readShards = new HashMap<>();
+            for (int i = 0; i < shards.size(); i++) {
+                JsonAdaptedShard shard = shards.get(i);
+                Folder folder = shard.getFolder();
+                readShards.put(folder, new PersistedShard(shard.getFile(), shard.getSize(),
+                        mark.getFolderRevisions().getOrDefault(folder, 0L), checksums.get(i)));
+            }
+            persistedShards = readShards;
+            // shards of newer, corrupted snapshots are never overwritten by the next save
+            persistedGeneration = Math.max(manifest.getGeneration(),
+                    getRingGenerations().stream().max(Long::compare).orElse(0L));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        logger.fine("Read " + manifest.getShards().size() + " shards from " + directory);
+        return mark;
+    }
+
+    /**
+     * Returns the checksums of the files of {@code shards}, after checking them against the checksums that the
+     * manifest records.
+     *
+     * @throws IllegalValueException if the manifest has no checksum for any shard, or if the file of any shard is
+     *                               missing or does not match its checksum.
+     */
+    private List<Long> verifyShards(List<JsonAdaptedShard> shards) throws IllegalValueException {
+        List<Long> checksums = new ArrayList<>();
+        for (JsonAdaptedShard shard : shards) {
+            String fileName = shard.getFile();
+            long expectedChecksum = shard.getChecksum();
+            long checksum;
+            try {
+                checksum = FileUtil.checksum(directory.resolve(fileName));
+            } catch (IOException ioe) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_SHARD, fileName));
+            }
+            if (checksum != expectedChecksum) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_SHARD, fileName));
+            }
+            checksums.add(checksum);
+        }
+        return checksums;
+    }
+
+    /**
+     * Reads the manifest in {@code manifestFile}, after verifying its trailing checksum.
+     *
+     * @throws DataConversionException if the manifest has no trailing checksum, is corrupted or is not in the
+     *                                 correct format.
+     */
+    private static JsonSerializableShardManifest readManifest(Path manifestFile) throws DataConversionException {
+        try {
+            String contents = Files.readString(manifestFile);
+            int trailerIndex = contents.lastIndexOf(CHECKSUM_TRAILER);
+            String json = trailerIndex < 0 ? null : contents.substring(0, trailerIndex);
+            if (json == null || !contents.substring(trailerIndex + CHECKSUM_TRAILER.length()).trim()
+                    .equals(Long.toHexString(FileUtil.checksum(json)))) {
+                throw new DataConversionException(new IllegalValueException(
+                        String.format(MESSAGE_CORRUPTED_MANIFEST, manifestFile.getFileName())));
+            }
+            return JsonUtil.fromJsonString(json, JsonSerializableShardManifest.class);
+        } catch (IOException ioe) {
+            logger.warning("Error reading manifest " + manifestFile + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Returns the contents of a manifest file that holds {@code manifest} followed by its checksum.
+     */
+    private static String toManifestContents(JsonSerializableShardManifest manifest) throws IOException {
+        String json = JsonUtil.toJsonString(manifest);
+        return json + CHECKSUM_TRAILER + Long.toHexString(FileUtil.checksum(json)) + "\n";
+    }
+
+    @Override
+    public void saveMark(ReadOnlyMark mark) throws IOException {
+        saveMark(mark, getMarkFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveMark(ReadOnlyMark)}.
+     * Only the shards of folders that changed since they were last written are rewritten.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveMark(ReadOnlyMark mark, Path filePath) throws IOException {
+        requireNonNull(mark);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getMarkFilePath())) {
+            otherStorage.saveMark(mark, filePath);
+            return;
+        }
+        writeSnapshot(mark, SNAPSHOT_RING_SIZE);
+    }
+
+    /**
+     * Saves {@code mark}, deletes the html of cached copies that it no longer refers to, and drops older snapshots.
+     */
+    @Override
+    public void compactMark(ReadOnlyMark mark) throws IOException {
+        requireNonNull(mark);
+
+        writeSnapshot(mark, 1);
+        cachedCopyLoader.getBlobStorage().retainOnly(HtmlBlobStorage.getHtmlHashes(mark));
+    }
+
+    /**
+     * Writes a new snapshot of {@code mark}, and keeps only the newest {@code ringSize} snapshots, including it.
+     */
+    private void writeSnapshot(ReadOnlyMark mark, int ringSize) throws IOException {
+        Map<Folder, PersistedShard> previousShards = persistedShards;
+        long generation = (previousShards == null ? readGeneration() : persistedGeneration) + 1;
+
+        LinkedHashMap<Folder, List<Bookmark>> folderBookmarks = new LinkedHashMap<>();
+        Map<Folder, Integer> shardIndexes = new HashMap<>();
+        List<Integer> order = new ArrayList<>();
+        for (Bookmark bookmark : mark.getBookmarkList()) {
+            Folder folder = bookmark.getFolder();
+            folderBookmarks.computeIfAbsent(folder, unused -> new ArrayList<>()).add(bookmark);
+            int shardIndex = shardIndexes.computeIfAbsent(folder, unused -> shardIndexes.size());
+            if (!order.isEmpty() && order.get(order.size() - 2) == shardIndex) {
+                order.set(order.size() - 1, order.get(order.size() - 1) + 1);
+            } else {
+                order.add(shardIndex);
+                order.add(1);
+            }
+        }
+
+        Map<Folder, Long> revisions = mark.getFolderRevisions();
+        Files.createDirectories(directory);
+        Map<Folder, PersistedShard> savedShards = new HashMap<>();
+        List<JsonAdaptedShard> shards = new ArrayList<>();
+        int writtenCount = 0;
+        for (Map.Entry<Folder, List<Bookmark>> entry : folderBookmarks.entrySet()) {
+            Folder folder = entry.getKey();
+            List<Bookmark> bookmarks = entry.getValue();
+            long revision = revisions.getOrDefault(folder, 0L);
+            PersistedShard shard = previousShards == null ? null : previousShards.get(folder);
+            if (shard == null || !shard.isUpToDate(revision, bookmarks.size())) {
+                String fileName = generation + "-" + shards.size() + ".json";
+                Path shardFile = directory.resolve(fileName);
+                writeShard(shardFile, bookmarks);
+                FileUtil.sync(shardFile);
+                shard = new PersistedShard(fileName, bookmarks.size(), revision, FileUtil.checksum(shardFile));
+                writtenCount++;
+            }
+            savedShards.put(folder, shard);
+            shards.add(new JsonAdaptedShard(folder.folderName, shard.fileName, shard.size, shard.checksum));
+        }
+
+        // the ring keeps a copy of the manifest, which is written first so that it is never missing from the ring
+        String manifestContents = toManifestContents(new JsonSerializableShardManifest(generation, shards, order,
+                JsonSerializableMark.withoutBookmarks(mark)));
+        FileUtil.writeAtomically(getRingManifestPath(generation),
+                tempFile -> FileUtil.writeToFile(tempFile, manifestContents));
+        FileUtil.writeAtomically(getMarkFilePath(), tempFile -> FileUtil.writeToFile(tempFile, manifestContents));
+        persistedShards = savedShards;
+        persistedGeneration = generation;
+        logger.fine("Wrote " + writtenCount + " of " + shards.size() + " shards to " + directory);
+
+        updateRing(generation, savedShards, ringSize);
+    }
+
+    /**
+     * Reads the bookmarks of all {@code shards} in parallel.
+     *
+     * @return the bookmarks of each shard, in the same order as {@code shards}.
+     * @throws IllegalValueException if any shard holds bookmarks that violate data constraints, or if it does not
+     *                               hold the bookmarks that {@code shards} describe.
+     */
+    private List<List<Bookmark>> readShards(List<JsonAdaptedShard> shards)
+            throws IOException, IllegalValueException, DataConversionException {
+        List<Callable<List<Bookmark>>> tasks = new ArrayList<>();
+        for (JsonAdaptedShard shard : shards) {
+            Folder folder = shard.getFolder();
+            String fileName = shard.getFile();
+            int size = shard.getSize();
+            tasks.add(() -> readShard(fileName, folder, size));
+        }
+
+        List<List<Bookmark>> shardContents = new ArrayList<>();
+        try {
+            for (Future<List<Bookmark>> result : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                shardContents.add(result.get());
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading shards from " + directory, ie);
+        } catch (ExecutionException ee) {
+            // the pool wraps checked exceptions thrown by the tasks
+            for (Throwable cause = ee.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IllegalValueException) {
+                    throw (IllegalValueException) cause;
+                }
+                if (cause instanceof IOException) {
+                    logger.warning("Error reading shards from " + directory + ": " + cause);
+                    throw new DataConversionException((IOException) cause);
+                }
+            }
+            throw new IllegalStateException(ee.getCause());
+        }
+        return shardContents;
+    }
+
+    /**
+     * Reads the bookmarks of the shard in {@code fileName}, which must all be in {@code folder}.
+     */
+    private List<Bookmark> readShard(String fileName, Folder folder, int size)
+            throws IOException, IllegalValueException {
+        List<Bookmark> bookmarks = new ArrayList<>(size);
+        try (JsonParser parser = JsonUtil.createJsonParser(directory.resolve(fileName))) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Shard should be a JSON array");
+            }
+            List<JsonAdaptedBookmark> batch = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedBookmark.class));
+                if (batch.size() == JsonAdaptedBookmark.CONVERSION_BATCH_SIZE) {
+                    bookmarks.addAll(JsonAdaptedBookmark.toModelTypes(batch, cachedCopyLoader));
+                    batch.clear();
+                }
+            }
+            bookmarks.addAll(JsonAdaptedBookmark.toModelTypes(batch, cachedCopyLoader));
+        }
+        for (Bookmark bookmark : bookmarks) {
+            if (!bookmark.getFolder().equals(folder)) {
+                throw new IllegalValueException(String.format(MESSAGE_WRONG_FOLDER, fileName));
+            }
+        }
+        if (bookmarks.size() != size) {
+            throw new IllegalValueException(String.format(MESSAGE_SHARD_SIZE_MISMATCH, fileName));
+        }
+        return bookmarks;
+    }
+
+    /**
+     * Writes {@code bookmarks} to a new shard file at {@code shardFile}, saving the html of their cached copies
+     * separately.
+     */
+    private void writeShard(Path shardFile, List<Bookmark> bookmarks) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(shardFile, compression)) {
+            generator.writeStartArray();
+            for (Bookmark bookmark : bookmarks) {
+                generator.writeObject(new JsonAdaptedBookmark(bookmark, cachedCopyLoader.getBlobStorage()));
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Returns the latest generation of the manifests in the directory, or 0 if there are none.
+     * New shards are written with a later generation, so that they never overwrite the shards of those manifests.
+     */
+    private long readGeneration() throws IOException {
+        long generation = getRingGenerations().stream().max(Long::compare).orElse(0L);
+        if (!FileUtil.isFileExists(getMarkFilePath())) {
+            return generation;
+        }
+        try {
+            return Math.max(generation, readManifest(getMarkFilePath()).getGeneration());
+        } catch (DataConversionException dce) {
+            logger.warning("Unable to read the generation of " + getMarkFilePath() + ": " + dce);
+            return generation;
+        }
+    }
+
+    /**
+     * Adds the snapshot of {@code generation} with {@code savedShards} to the ring, and keeps only the newest
+     * {@code ringSize} snapshots in it. The manifests and shard files of snapshots that are not in the ring are
+     * deleted. Failing to delete a file is only logged, as files of such snapshots are never read.
+     */
+    private void updateRing(long generation, Map<Folder, PersistedShard> savedShards, int ringSize) {
+        try {
+            if (ringShardFiles == null) {
+                ringShardFiles = readRingShardFiles();
+            }
+        } catch (IOException ioe) {
+            logger.warning("Unable to read older snapshots in " + directory + ": " + ioe);
+            ringShardFiles = new TreeMap<>();
+        }
+
+        Set<String> savedFiles = new HashSet<>();
+        savedShards.values().forEach(shard -> savedFiles.add(shard.fileName));
+        ringShardFiles.put(generation, savedFiles);
+        while (ringShardFiles.size() > ringSize) {
+            ringShardFiles.pollFirstEntry();
+        }
+
+        Set<String> usedFiles = new HashSet<>();
+        ringShardFiles.values().forEach(usedFiles::addAll);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                Matcher matcher = RING_MANIFEST_PATTERN.matcher(fileName);
+                if ((isShardFileName(fileName) && !usedFiles.contains(fileName))
+                        || (matcher.matches() && !ringShardFiles.containsKey(Long.parseLong(matcher.group(1))))) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Unable to delete unused snapshots in " + directory + ": " + ioe);
+        }
+    }
+
+    /**
+     * Returns the shard files of each snapshot in the ring whose manifest can be read, by generation.
+     */
+    private TreeMap<Long, Set<String>> readRingShardFiles() throws IOException {
+        TreeMap<Long, Set<String>> shardFiles = new TreeMap<>();
+        for (long generation : getRingGenerations()) {
+            try {
+                Set<String> files = new HashSet<>();
+                for (JsonAdaptedShard shard : readManifest(getRingManifestPath(generation)).getShards()) {
+                    files.add(shard.getFile());
+                }
+                shardFiles.put(generation, files);
+            } catch (DataConversionException | IllegalValueException e) {
+                logger.warning("Dropping the corrupted snapshot " + generation + " in " + directory + ": " + e);
+            }
+        }
+        return shardFiles;
+    }
+
+    /**
+     * A shard file as it was last read or written by this storage.
+     */
+    private static class PersistedShard {
+        private final String fileName;
+        private final int size;
+        private final long revision;
+        private final long checksum;
+
+        private PersistedShard(String fileName, int size, long revision, long checksum) {
+            this.fileName = fileName;
+            this.size = size;
+            this.revision = revision;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns true if this shard holds the {@code size} bookmarks of a folder at {@code revision}.
+         */
+        private boolean isUpToDate(long revision, int size) {
+            return revision != 0 && this.revision == revision && this.size == size;
+        }
+    }
+}
@@ -74,4 +74,10 @@ public class StorageManager implements Storage {
         markStorage.saveMark(mark, filePath);
     }
 
+    @Override
+    public void compactMark(ReadOnlyMark mark) throws IOException {
+        logger.fine("Attempting to write snapshot to data file: " + getMarkFilePath());
+        markStorage.compactMark(mark);
+    }
+
 }
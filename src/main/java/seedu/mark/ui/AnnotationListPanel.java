@@ -6,6 +6,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.mark.model.annotation.Paragraph;
+import seedu.mark.model.annotation.ParagraphIdentifier;
 
 /**
  * Manages Ui showing annotations of offline documents.
@@ -22,6 +23,20 @@ public class AnnotationListPanel extends UiPart<Region> {
         annotationListView.setCellFactory(listView -> new AnnotationListViewCell());
     }
 
+    /**
+     * Scrolls to and selects the paragraph with {@code pid}, if it is in the list.
+     */
+    public void scrollTo(ParagraphIdentifier pid) {
+        ObservableList<Paragraph> paragraphs = annotationListView.getItems();
+        for (int i = 0; i < paragraphs.size(); i++) {
+            if (paragraphs.get(i).getId().equals(pid)) {
+                annotationListView.scrollTo(i);
+                annotationListView.getSelectionModel().select(i);
+                return;
+            }
+        }
+    }
+
     /**
      * A list view cell for showing the annotations of the currently showing document.
      */
@@ -171,6 +171,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getMarkFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -322,6 +323,10 @@ public class MainWindow extends UiPart<Stage> {
                 handleTabSwitchRequestIfAny(commandResult.getTab());
             }
 
+            if (commandResult.getParagraphToShow() != null) {
+                offlinePanel.showParagraph(commandResult.getParagraphToShow());
+            }
+
             if (commandResult.getLevelsToExpand() != 0) {
                 handleFolderExpand(commandResult.getLevelsToExpand());
             }
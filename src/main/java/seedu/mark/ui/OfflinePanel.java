@@ -7,6 +7,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import seedu.mark.model.annotation.Paragraph;
+import seedu.mark.model.annotation.ParagraphIdentifier;
 
 /**
  * The Offline panel of Mark.
@@ -36,4 +37,11 @@ public class OfflinePanel extends UiPart<Region> {
 
     }
 
+    /**
+     * Shows the paragraph with {@code pid} of the document currently showing.
+     */
+    public void showParagraph(ParagraphIdentifier pid) {
+        annotationListPanel.scrollTo(pid);
+    }
+
 }
@@ -0,0 +1,76 @@
+package seedu.mark.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.mark.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CompressionTest {
+
+    private static final byte[] DATA = "{\"bookmarks\":[]}".repeat(100).getBytes(UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    private static byte[] compress(Compression compression, byte[] data) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream output = compression.compress(bytes)) {
+            output.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] data) throws Exception {
+        try (InputStream input = Compression.decompress(new ByteArrayInputStream(data))) {
+            return input.readAllBytes();
+        }
+    }
+
+    @Test
+    public void compress_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Compression.GZIP.compress(null));
+        assertThrows(NullPointerException.class, () -> Compression.decompress(null));
+    }
+
+    @Test
+    public void decompress_gzip_originalData() throws Exception {
+        byte[] compressed = compress(Compression.GZIP, DATA);
+        assertNotEquals(DATA.length, compressed.length);
+        assertArrayEquals(DATA, decompress(compressed));
+    }
+
+    @Test
+    public void decompress_uncompressed_originalData() throws Exception {
+        assertArrayEquals(DATA, compress(Compression.NONE, DATA));
+        assertArrayEquals(DATA, decompress(DATA));
+
+        // data that is too short to have a header is read as it is
+        assertArrayEquals(new byte[0], decompress(new byte[0]));
+        assertArrayEquals(new byte[] {0x1f}, decompress(new byte[] {0x1f}));
+    }
+
+    @Test
+    public void readFromFile_compressedOrNot_sameContent() throws Exception {
+        String content = new String(DATA, UTF_8);
+        Path plainFile = testFolder.resolve("plain.json");
+        Path compressedFile = testFolder.resolve("compressed.json");
+
+        FileUtil.writeToFile(plainFile, content);
+        FileUtil.writeToFile(compressedFile, content, Compression.GZIP);
+
+        assertEquals(content, Files.readString(plainFile));
+        assertEquals(content, FileUtil.readFromFile(plainFile));
+        assertEquals(content, FileUtil.readFromFile(compressedFile));
+    }
+}
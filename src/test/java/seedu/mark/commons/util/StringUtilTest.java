@@ -1,10 +1,12 @@
 package seedu.mark.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mark.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -211,4 +213,34 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for getSha256Hex --------------------------------------
+
+    @Test
+    public void getSha256Hex_validInput_correctResult() {
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+                StringUtil.getSha256Hex(""));
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                StringUtil.getSha256Hex("abc"));
+    }
+
+    @Test
+    public void getSha256Hex_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getSha256Hex(null));
+    }
+
+    //---------------- Tests for splitIntoWords --------------------------------------
+
+    @Test
+    public void splitIntoWords_validInput_correctResult() {
+        assertEquals(List.of("https", "alice", "example", "com"),
+                StringUtil.splitIntoWords("https://alice@example.com"));
+        assertEquals(List.of("123", "08", "111"), StringUtil.splitIntoWords("123, #08-111"));
+        assertEquals(List.of(), StringUtil.splitIntoWords(" @/ "));
+    }
+
+    @Test
+    public void splitIntoWords_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.splitIntoWords(null));
+    }
+
 }
@@ -12,6 +12,7 @@ import static seedu.mark.testutil.TypicalBookmarks.AMY;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -92,6 +93,14 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void reportSaveFailure_handlerSet_handlerGivenMessage() {
+        List<String> messages = new ArrayList<>();
+        logic.setSaveFailureHandler(messages::add);
+        ((LogicManager) logic).reportSaveFailure(DUMMY_IO_EXCEPTION);
+        assertEquals(List.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), messages);
+    }
+
     @Test
     public void getFilteredBookmarkList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredBookmarkList().remove(0));
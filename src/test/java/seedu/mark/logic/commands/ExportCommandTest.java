@@ -8,10 +8,13 @@ import static seedu.mark.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.mark.commons.exceptions.DataConversionException;
 import seedu.mark.model.Model;
@@ -19,6 +22,8 @@ import seedu.mark.model.ModelManager;
 import seedu.mark.model.ReadOnlyMark;
 import seedu.mark.model.ReadOnlyUserPrefs;
 import seedu.mark.model.UserPrefs;
+import seedu.mark.model.predicates.BookmarkPredicate;
+import seedu.mark.storage.BookmarkExporter;
 import seedu.mark.storage.Storage;
 
 /**
@@ -29,6 +34,9 @@ public class ExportCommandTest {
     private Model expectedModel = new ModelManager(getTypicalMark(), new UserPrefs());
     private Storage storage = new StorageStubAllowsSave();
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void execute_validFile_success() {
         Path filePath = Path.of("data", "myValidFile");
@@ -44,6 +52,19 @@ public class ExportCommandTest {
         assertCommandFailure(command, model, storage, ExportCommand.MESSAGE_EXPORT_FAILURE);
     }
 
+    @Test
+    public void execute_filteredHtml_onlyMatchingBookmarksExported() throws Exception {
+        Path filePath = testFolder.resolve("contacts.html");
+        BookmarkPredicate predicate = new BookmarkPredicate().withFolder(Arrays.asList("contacts"));
+        ExportCommand command = new ExportCommand(filePath, BookmarkExporter.Format.HTML, predicate, false);
+
+        long contactCount = model.getMark().getBookmarkList().stream().filter(predicate).count();
+        String expectedMessage = String.format(ExportCommand.MESSAGE_EXPORT_COUNT_SUCCESS, contactCount, filePath);
+        assertCommandSuccess(command, model, storage, expectedMessage, expectedModel);
+        assertTrue(Files.readString(filePath).contains("contacts"));
+        assertFalse(Files.readString(filePath).contains("family"));
+    }
+
     @Test
     public void equals() {
         Path firstFilePath = Path.of("data");
@@ -67,6 +88,14 @@ public class ExportCommandTest {
 
         // different bookmark -> returns false
         assertFalse(exportFirstCommand.equals(exportSecondCommand));
+
+        // different options -> returns false
+        assertFalse(exportFirstCommand.equals(new ExportCommand(firstFilePath, BookmarkExporter.Format.NDJSON,
+                new BookmarkPredicate(), true)));
+        assertFalse(exportFirstCommand.equals(new ExportCommand(firstFilePath, BookmarkExporter.Format.JSON,
+                new BookmarkPredicate(), false)));
+        assertFalse(exportFirstCommand.equals(new ExportCommand(firstFilePath, BookmarkExporter.Format.JSON,
+                new BookmarkPredicate().withNameKeywords(Arrays.asList("quiz")), true)));
     }
 
     /**
@@ -118,5 +147,10 @@ public class ExportCommandTest {
                 throw new IOException();
             }
         }
+
+        @Override
+        public void compactMark(ReadOnlyMark mark) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
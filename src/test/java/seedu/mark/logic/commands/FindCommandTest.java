@@ -5,9 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mark.commons.core.Messages.MESSAGE_BOOKMARKS_LISTED_OVERVIEW;
 import static seedu.mark.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
 import static seedu.mark.testutil.TypicalBookmarks.CARL;
+import static seedu.mark.testutil.TypicalBookmarks.DANIEL;
 import static seedu.mark.testutil.TypicalBookmarks.ELLE;
 import static seedu.mark.testutil.TypicalBookmarks.FIONA;
+import static seedu.mark.testutil.TypicalBookmarks.HOON;
 import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
 
 import java.util.Arrays;
@@ -18,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import seedu.mark.model.Model;
 import seedu.mark.model.ModelManager;
 import seedu.mark.model.UserPrefs;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
 import seedu.mark.model.predicates.BookmarkContainsKeywordsPredicate;
 import seedu.mark.storage.StorageStub;
 
@@ -53,6 +58,12 @@ public class FindCommandTest {
 
         // different bookmark -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // same fuzzy keywords -> returns true
+        assertTrue(new FindCommand("first").equals(new FindCommand("first")));
+
+        // fuzzy and exact keywords -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand("first")));
     }
 
     @Test
@@ -75,6 +86,57 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredBookmarkList());
     }
 
+    @Test
+    public void execute_partOfUrl_bookmarksFound() {
+        String expectedMessage = String.format(MESSAGE_BOOKMARKS_LISTED_OVERVIEW, 2);
+        BookmarkContainsKeywordsPredicate predicate = preparePredicate("einz@ ydia");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredBookmarkList(predicate);
+        assertCommandSuccess(command, model, new StorageStub(), expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredBookmarkList());
+    }
+
+    @Test
+    public void execute_matchingBookmarkReplaced_stillFound() throws Exception {
+        new FindCommand(preparePredicate("Kurz")).execute(model, new StorageStub());
+        Bookmark editedCarl = new BookmarkBuilder(CARL).withRemark("edited").build();
+        model.setBookmark(CARL, editedCarl);
+        assertEquals(Collections.singletonList(editedCarl), model.getFilteredBookmarkList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_closestBookmarksListed() {
+        String expectedMessage = String.format(FindCommand.MESSAGE_FUZZY_SUCCESS,
+                String.format(FindCommand.MESSAGE_FUZZY_HIT, 1, BENSON.getName()) + "\n"
+                + String.format(FindCommand.MESSAGE_FUZZY_HIT, 2, DANIEL.getName()));
+        FindCommand command = new FindCommand("meir");
+        expectedModel.updateFilteredBookmarkList(bookmark -> bookmark == BENSON || bookmark == DANIEL);
+        assertCommandSuccess(command, model, new StorageStub(), expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredBookmarkList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_listedFromClosestMatch() {
+        // Elle Meyer is listed after the Meiers in Mark, but matches the keyword exactly
+        new FindCommand("meyer").execute(model, new StorageStub());
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredBookmarkList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywordsNoMatches_listUnchanged() {
+        String expectedMessage = String.format(FindCommand.MESSAGE_NO_FUZZY_MATCHES, "zzzz");
+        assertCommandSuccess(new FindCommand("zzzz"), model, new StorageStub(), expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_fuzzyBookmarkAddedAfterSearch_indexUpdated() throws Exception {
+        new FindCommand("meir").execute(model, new StorageStub());
+        Bookmark hoon = new BookmarkBuilder(HOON).build();
+        model.addBookmark(hoon);
+        new FindCommand("meir").execute(model, new StorageStub());
+        assertEquals(Arrays.asList(BENSON, DANIEL, hoon), model.getFilteredBookmarkList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code BookmarkContainKeywordsPredicate}.
      */
@@ -1,5 +1,6 @@
 package seedu.mark.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mark.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -16,6 +17,7 @@ import static seedu.mark.testutil.TypicalBookmarks.getTypicalFolderStructure;
 import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +25,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.mark.commons.exceptions.DataConversionException;
 import seedu.mark.logic.commands.exceptions.CommandException;
@@ -33,6 +36,8 @@ import seedu.mark.model.ReadOnlyMark;
 import seedu.mark.model.UserPrefs;
 import seedu.mark.model.bookmark.Bookmark;
 import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
+import seedu.mark.model.folderstructure.FolderStructure;
 import seedu.mark.storage.Storage;
 import seedu.mark.storage.StorageStub;
 
@@ -47,6 +52,13 @@ public class ImportCommandTest {
     private static final Path PATH_VALID_FILE = Path.of("data", "validFile");
     private static final Path PATH_NO_FOLDER_FILE = Path.of("data", "validFileNoFolders");
     private static final Path PATH_NO_BOOKMARK_FILE = Path.of("data", "validFileNoBookmarks");
+    private static final Path PATH_BROWSER_BOOKMARK_FILE =
+            Path.of("src", "test", "data", "BrowserBookmarkReaderTest", "bookmarks.html");
+    private static final Path PATH_CHROMIUM_BOOKMARK_FILE =
+            Path.of("src", "test", "data", "BrowserBookmarkReaderTest", "Bookmarks.json");
+
+    @TempDir
+    public Path testFolder;
 
     private Model model = new ModelManager(new Mark(), new UserPrefs());
     private Storage storage = new StorageStubAllowsRead();
@@ -172,6 +184,86 @@ public class ImportCommandTest {
         assertCommandSuccess(command, initialModel, storage, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_browserBookmarkFile_foldersAndBookmarksImported() {
+        ImportCommand command = new ImportCommand(PATH_BROWSER_BOOKMARK_FILE);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_BROWSER_IMPORT_SUCCESS, 4,
+                PATH_BROWSER_BOOKMARK_FILE) + String.format(ImportCommand.MESSAGE_BROWSER_IMPORT_SKIPPED, 1);
+
+        Folder bookmarksBar = new Folder("Bookmarks bar");
+        Folder projects = new Folder("CS2103T Projects");
+        Model expectedModel = new ModelManager(new Mark(), new UserPrefs());
+        expectedModel.addFolder(Folder.IMPORT_FOLDER, Folder.ROOT_FOLDER);
+        expectedModel.addFolder(bookmarksBar, Folder.IMPORT_FOLDER);
+        expectedModel.addFolder(projects, bookmarksBar);
+        expectedModel.addBookmarks(Arrays.asList(
+                new BookmarkBuilder().withName("Google").withUrl("https://www.google.com/").withRemark("-")
+                        .withFolder(bookmarksBar.folderName).withTags().build(),
+                new BookmarkBuilder().withName("CS2103T Website")
+                        .withUrl("https://nus-cs2103-ay1920s1.github.io/website/").withRemark("-")
+                        .withFolder(projects.folderName).withTags().build(),
+                new BookmarkBuilder().withName("GitHub Home").withUrl("https://github.com/?q=a&b=c")
+                        .withRemark("-").withFolder(bookmarksBar.folderName).withTags().build(),
+                new BookmarkBuilder().withName("Google 2").withUrl("https://www.wikipedia.org/").withRemark("-")
+                        .withFolder(Folder.IMPORT_FOLDER.folderName).withTags().build()));
+        expectedModel.saveMark(expectedMessage);
+
+        assertCommandSuccess(command, model, storage, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_browserBookmarkFileImportedTwice_modelNotChanged() throws Exception {
+        ImportCommand command = new ImportCommand(PATH_BROWSER_BOOKMARK_FILE);
+        command.execute(model, storage);
+        Model expectedModel = new ModelManager(new Mark(), new UserPrefs());
+        command.execute(expectedModel, storage);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_NO_BROWSER_BOOKMARKS_TO_IMPORT,
+                PATH_BROWSER_BOOKMARK_FILE) + String.format(ImportCommand.MESSAGE_BROWSER_IMPORT_SKIPPED, 5);
+        assertCommandSuccess(command, model, storage, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_browserFolderNameTakenElsewhere_separateFolderCreated() throws Exception {
+        Folder bookmarksBar = new Folder("Bookmarks bar");
+        model.addFolder(bookmarksBar, Folder.ROOT_FOLDER);
+        new ImportCommand(PATH_BROWSER_BOOKMARK_FILE).execute(model, storage);
+
+        // the browser folder is not merged into the unrelated folder of the same name
+        Folder importedBookmarksBar = new Folder("Bookmarks bar 2");
+        FolderStructure importFolder = model.getMark().getFolderStructure().find(Folder.IMPORT_FOLDER);
+        assertEquals(List.of(importedBookmarksBar), importFolder.getSubfolders().stream()
+                .map(FolderStructure::getFolder).collect(Collectors.toList()));
+        assertTrue(model.getMark().getFolderStructure().find(bookmarksBar).getSubfolders().isEmpty());
+        assertTrue(model.getMark().getBookmarkList().stream()
+                .noneMatch(bookmark -> bookmark.getFolder().equals(bookmarksBar)));
+        assertEquals(2, model.getMark().getBookmarkList().stream()
+                .filter(bookmark -> bookmark.getFolder().equals(importedBookmarksBar)).count());
+
+        // importing again reuses the folders that the first import added
+        Model expectedModel = new ModelManager(new Mark(), new UserPrefs());
+        expectedModel.addFolder(bookmarksBar, Folder.ROOT_FOLDER);
+        new ImportCommand(PATH_BROWSER_BOOKMARK_FILE).execute(expectedModel, storage);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_NO_BROWSER_BOOKMARKS_TO_IMPORT,
+                PATH_BROWSER_BOOKMARK_FILE) + String.format(ImportCommand.MESSAGE_BROWSER_IMPORT_SKIPPED, 5);
+        assertCommandSuccess(new ImportCommand(PATH_BROWSER_BOOKMARK_FILE), model, storage, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_extensionlessFileOnly_extensionlessFileImported() throws Exception {
+        Path extensionlessFile = testFolder.resolve("Bookmarks");
+        Files.copy(PATH_CHROMIUM_BOOKMARK_FILE, extensionlessFile);
+        ImportCommand command = new ImportCommand(testFolder.resolve("Bookmarks.json"));
+        assertTrue(command.execute(model, storage).getFeedbackToUser().contains(extensionlessFile.toString()));
+
+        // a json file of the same name is imported instead
+        Files.copy(PATH_CHROMIUM_BOOKMARK_FILE, testFolder.resolve("Bookmarks.json"));
+        assertTrue(command.execute(new ModelManager(new Mark(), new UserPrefs()), storage).getFeedbackToUser()
+                .contains(testFolder.resolve("Bookmarks.json").toString()));
+    }
+
     @Test
     public void equals() {
         Path firstFilePath = Path.of("data");
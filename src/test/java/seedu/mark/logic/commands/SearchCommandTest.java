@@ -0,0 +1,105 @@
+package seedu.mark.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.mark.commons.core.index.Index;
+import seedu.mark.logic.commands.TabCommand.Tab;
+import seedu.mark.logic.commands.results.CommandResult;
+import seedu.mark.model.Model;
+import seedu.mark.model.ModelManager;
+import seedu.mark.model.UserPrefs;
+import seedu.mark.model.annotation.ParagraphIdentifier;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.CachedCopy;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
+import seedu.mark.storage.StorageStub;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+
+    private static final String RAFT_HTML = "<p>Raft is a consensus algorithm.</p><p>Leaders replicate logs.</p>";
+    private static final String PASTA_HTML = "<p>Boil the pasta.</p><p>Serve with sauce and logs of cheese.</p>";
+
+    private Model model;
+    private Bookmark raft;
+    private Bookmark pasta;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalMark(), new UserPrefs());
+        raft = new BookmarkBuilder(ALICE).withCachedCopy(new CachedCopy(RAFT_HTML)).build();
+        pasta = new BookmarkBuilder(BENSON).withCachedCopy(new CachedCopy(PASTA_HTML)).build();
+        model.setBookmark(ALICE, raft);
+        model.setBookmark(BENSON, pasta);
+    }
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand("first");
+
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+        assertTrue(searchFirstCommand.equals(new SearchCommand("first")));
+        assertFalse(searchFirstCommand.equals(1));
+        assertFalse(searchFirstCommand.equals(null));
+        assertFalse(searchFirstCommand.equals(new SearchCommand("second")));
+    }
+
+    @Test
+    public void execute_matchingParagraph_bestParagraphShown() {
+        CommandResult result = new SearchCommand("leaders").execute(model, new StorageStub());
+
+        ParagraphIdentifier secondParagraph = ParagraphIdentifier.makeExistId(Index.fromOneBased(2));
+        assertEquals(secondParagraph, result.getParagraphToShow());
+        assertEquals(Tab.OFFLINE, result.getTab());
+        assertEquals(String.format(SearchCommand.MESSAGE_SUCCESS,
+                String.format(SearchCommand.MESSAGE_HIT, 1, raft.getName(), secondParagraph)),
+                result.getFeedbackToUser());
+        assertEquals(List.of(raft), model.getFilteredBookmarkList());
+        assertEquals(raft.getName().value, model.getObservableOfflineDocNameCurrentlyShowing().getValue());
+        assertEquals(2, model.getObservableDocument().size());
+    }
+
+    @Test
+    public void execute_matchesInSeveralBookmarks_allListed() {
+        new SearchCommand("logs").execute(model, new StorageStub());
+        assertEquals(List.of(raft, pasta), model.getFilteredBookmarkList());
+    }
+
+    @Test
+    public void execute_cachedCopyChanged_indexUpdated() {
+        new SearchCommand("raft").execute(model, new StorageStub());
+
+        Bookmark recached = new BookmarkBuilder(raft).withCachedCopy(new CachedCopy("<p>Paxos made simple</p>"))
+                .build();
+        model.setBookmark(raft, recached);
+        CommandResult result = new SearchCommand("raft").execute(model, new StorageStub());
+        assertEquals(String.format(SearchCommand.MESSAGE_NO_MATCHES, "raft"), result.getFeedbackToUser());
+        assertEquals(List.of(recached), filterAfterSearch("paxos"));
+    }
+
+    @Test
+    public void execute_noMatches_nothingShown() {
+        CommandResult result = new SearchCommand("zebra").execute(model, new StorageStub());
+        assertEquals(String.format(SearchCommand.MESSAGE_NO_MATCHES, "zebra"), result.getFeedbackToUser());
+        assertNull(result.getParagraphToShow());
+        assertNull(result.getTab());
+    }
+
+    private List<Bookmark> filterAfterSearch(String query) {
+        new SearchCommand(query).execute(model, new StorageStub());
+        return model.getFilteredBookmarkList();
+    }
+}
@@ -7,10 +7,15 @@ import static seedu.mark.logic.parser.ParserUtil.MESSAGE_FILE_NAME_INCLUDES_EXTE
 import static seedu.mark.logic.parser.ParserUtil.MESSAGE_INVALID_FILE_NAME;
 
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.mark.logic.commands.AutotagCommand;
 import seedu.mark.logic.commands.ExportCommand;
+import seedu.mark.model.predicates.BookmarkPredicate;
+import seedu.mark.storage.BookmarkExporter;
 
 public class ExportCommandParserTest {
 
@@ -33,6 +38,15 @@ public class ExportCommandParserTest {
         // invalid file name
         assertParseFailure(parser, "invalid$$",
                 MESSAGE_INVALID_FILE_NAME);
+
+        // invalid format
+        assertParseFailure(parser, "myBookmarks as/xml", ExportCommandParser.MESSAGE_INVALID_FORMAT);
+
+        // invalid exclusion
+        assertParseFailure(parser, "myBookmarks x/tags", ExportCommandParser.MESSAGE_INVALID_EXCLUSION);
+
+        // empty condition
+        assertParseFailure(parser, "myBookmarks f/", AutotagCommand.MESSAGE_CONDITION_EMPTY);
     }
 
     @Test
@@ -48,6 +62,18 @@ public class ExportCommandParserTest {
         // hyphen and underscore
         expectedExportCommand = new ExportCommand(Path.of("data", "bookmarks", "my-Bookmarks_copy.json"));
         assertParseSuccess(parser, "my-Bookmarks_copy", expectedExportCommand);
+
+        // format given in any case
+        expectedExportCommand = new ExportCommand(Path.of("data", "bookmarks", "myBookmarks.ndjson"),
+                BookmarkExporter.Format.NDJSON, new BookmarkPredicate(), true);
+        assertParseSuccess(parser, "myBookmarks as/NDJSON", expectedExportCommand);
+
+        // all options
+        expectedExportCommand = new ExportCommand(Path.of("data", "bookmarks", "myBookmarks.html"),
+                BookmarkExporter.Format.HTML,
+                new BookmarkPredicate().withFolder(Arrays.asList("CS2103T")).withoutNameKeywords(List.of("quiz")),
+                false);
+        assertParseSuccess(parser, " myBookmarks as/html x/cache f/CS2103T nn/quiz", expectedExportCommand);
     }
 
 }
@@ -2,6 +2,7 @@ package seedu.mark.logic.parser;
 
 import static seedu.mark.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.mark.logic.parser.CliSyntax.PREFIX_FOLDER;
+import static seedu.mark.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static seedu.mark.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.mark.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.mark.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -85,4 +86,26 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, input2, expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyKeywords_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand("gihtub stakoverflow");
+
+        assertParseSuccess(parser, " " + PREFIX_FUZZY + "gihtub stakoverflow", expectedFindCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " " + PREFIX_FUZZY + "  gihtub \n \t stakoverflow  ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fuzzyWithOtherArguments_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // no fuzzy keywords
+        assertParseFailure(parser, " " + PREFIX_FUZZY + "  ", expectedMessage);
+
+        // with keywords, tags or folders
+        assertParseFailure(parser, "github " + PREFIX_FUZZY + "gihtub", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_FUZZY + "gihtub " + PREFIX_TAG + "coding", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_FUZZY + "gihtub " + PREFIX_FOLDER + "coding", expectedMessage);
+    }
 }
@@ -33,6 +33,10 @@ public class ImportCommandParserTest {
         // invalid file name
         assertParseFailure(parser, "invalid$$",
                 MESSAGE_INVALID_FILE_NAME);
+        assertParseFailure(parser, "invalid$$.html",
+                MESSAGE_INVALID_FILE_NAME);
+        assertParseFailure(parser, ".html",
+                MESSAGE_INVALID_FILE_NAME);
     }
 
     @Test
@@ -48,6 +52,10 @@ public class ImportCommandParserTest {
         // hyphen and underscore
         expectedImportCommand = new ImportCommand(Path.of("data", "bookmarks", "my-Bookmarks_copy.json"));
         assertParseSuccess(parser, "my-Bookmarks_copy", expectedImportCommand);
+
+        // browser bookmarks in html
+        expectedImportCommand = new ImportCommand(Path.of("data", "bookmarks", "bookmarks.html"));
+        assertParseSuccess(parser, "bookmarks.html", expectedImportCommand);
     }
 
 }
@@ -43,6 +43,7 @@ import seedu.mark.logic.commands.HelpCommand;
 import seedu.mark.logic.commands.ImportCommand;
 import seedu.mark.logic.commands.ListCommand;
 import seedu.mark.logic.commands.RedoCommand;
+import seedu.mark.logic.commands.SearchCommand;
 import seedu.mark.logic.commands.UndoCommand;
 import seedu.mark.logic.parser.exceptions.ParseException;
 import seedu.mark.model.autotag.SelectiveBookmarkTagger;
@@ -188,6 +189,12 @@ public class MarkParserTest {
         assertEquals(new FindCommand(predicate), command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " foo bar");
+        assertEquals(new SearchCommand("foo bar"), command);
+    }
+
     @Test
     public void parseCommand_goto() throws Exception {
         GotoCommand command = (GotoCommand) parser.parseCommand(
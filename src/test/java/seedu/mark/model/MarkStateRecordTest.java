@@ -7,49 +7,62 @@ import static seedu.mark.testutil.Assert.assertThrows;
 import static seedu.mark.testutil.TypicalBookmarks.AMY;
 import static seedu.mark.testutil.TypicalBookmarks.BOB;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.mark.model.VersionedMark.BookmarkListChange;
+import seedu.mark.model.VersionedMark.MarkDetails;
 import seedu.mark.model.VersionedMark.MarkStateRecord;
-import seedu.mark.testutil.MarkBuilder;
 
 public class MarkStateRecordTest {
 
-    private final ReadOnlyMark markWithAmy = new MarkBuilder().withBookmark(AMY).build();
-    private final ReadOnlyMark markWithBob = new MarkBuilder().withBookmark(BOB).build();
+    private final List<BookmarkListChange> addAmy = Collections.singletonList(
+            new BookmarkListChange(0, Collections.emptyList(), Collections.singletonList(AMY)));
+    private final List<BookmarkListChange> addBob = Collections.singletonList(
+            new BookmarkListChange(0, Collections.emptyList(), Collections.singletonList(BOB)));
+    private final MarkDetails details = MarkDetails.of(new Mark(), null);
+
+    @Test
+    public void constructor_nullBookmarkChanges_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MarkStateRecord("", null, details));
+    }
 
     @Test
-    public void constructor_nullState_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new MarkStateRecord("", null));
+    public void constructor_nullDetails_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MarkStateRecord("", addAmy, null));
     }
 
     @Test
     public void constructor_nullRecord_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new MarkStateRecord(null, new Mark()));
+        assertThrows(NullPointerException.class, () -> new MarkStateRecord(null, addAmy, details));
     }
 
     @Test
     public void getRecord_success() {
-        MarkStateRecord markStateRecord = new MarkStateRecord("record", markWithAmy);
+        MarkStateRecord markStateRecord = new MarkStateRecord("record", addAmy, details);
         assertEquals("record", markStateRecord.getRecord());
     }
 
     @Test
-    public void getState_success() {
-        MarkStateRecord markStateRecord = new MarkStateRecord("record", markWithAmy);
-        assertEquals(markWithAmy, markStateRecord.getState());
+    public void getBookmarkChanges_success() {
+        MarkStateRecord markStateRecord = new MarkStateRecord("record", addAmy, details);
+        assertEquals(addAmy, markStateRecord.getBookmarkChanges());
     }
 
     @Test
     public void equals() {
-        MarkStateRecord firstMarkStateRecord = new MarkStateRecord("record", markWithAmy);
-        MarkStateRecord secondMarkStateRecord = new MarkStateRecord("record", markWithBob);
-        MarkStateRecord thirdMarkStateRecord = new MarkStateRecord("record1", markWithAmy);
+        MarkStateRecord firstMarkStateRecord = new MarkStateRecord("record", addAmy, details);
+        MarkStateRecord secondMarkStateRecord = new MarkStateRecord("record", addBob, details);
+        MarkStateRecord thirdMarkStateRecord = new MarkStateRecord("record1", addAmy, details);
 
         // same object -> returns true
         assertTrue(firstMarkStateRecord.equals(firstMarkStateRecord));
 
         // same values -> returns true
-        MarkStateRecord firstMarkStateRecordCopy = new MarkStateRecord("record", markWithAmy);
+        MarkStateRecord firstMarkStateRecordCopy = new MarkStateRecord("record", addAmy,
+                MarkDetails.of(new Mark(), null));
         assertTrue(firstMarkStateRecord.equals(firstMarkStateRecordCopy));
 
         // different types -> returns false
@@ -58,7 +71,7 @@ public class MarkStateRecordTest {
         // null -> returns false
         assertFalse(firstMarkStateRecord.equals(null));
 
-        // different state -> returns false
+        // different bookmark changes -> returns false
         assertFalse(firstMarkStateRecord.equals(secondMarkStateRecord));
 
         // different record -> returns false
@@ -2,17 +2,20 @@ package seedu.mark.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mark.logic.commands.CommandTestUtil.VALID_REMARK_BOB;
 import static seedu.mark.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.mark.testutil.Assert.assertThrows;
 import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.CARL;
 import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -92,6 +95,27 @@ public class MarkTest {
         assertThrows(UnsupportedOperationException.class, () -> mark.getBookmarkList().remove(0));
     }
 
+    @Test
+    public void getFolderRevisions_bookmarkEdited_onlyItsFolderChanged() {
+        mark.addBookmark(ALICE);
+        mark.addBookmark(CARL);
+        Map<Folder, Long> revisions = Map.copyOf(mark.getFolderRevisions());
+
+        mark.setBookmark(ALICE, new BookmarkBuilder(ALICE).withRemark(VALID_REMARK_BOB).build());
+        assertNotEquals(revisions.get(ALICE.getFolder()), mark.getFolderRevisions().get(ALICE.getFolder()));
+        assertEquals(revisions.get(CARL.getFolder()), mark.getFolderRevisions().get(CARL.getFolder()));
+    }
+
+    @Test
+    public void getFolderRevisions_copiedMark_sameRevisions() {
+        Mark original = getTypicalMark();
+        Mark copy = new Mark(original);
+        assertEquals(original.getFolderRevisions(), copy.getFolderRevisions());
+
+        // revisions are not shared with other marks holding the same bookmarks
+        assertNotEquals(original.getFolderRevisions(), getTypicalMark().getFolderRevisions());
+    }
+
     /**
      * A stub ReadOnlyMark whose bookmarks list can violate interface constraints.
      */
@@ -109,6 +133,11 @@ public class MarkTest {
             return bookmarks;
         }
 
+        @Override
+        public Map<Folder, Long> getFolderRevisions() {
+            return Collections.emptyMap();
+        }
+
         @Override
         public FolderStructure getFolderStructure() {
             return new FolderStructure(Folder.ROOT_FOLDER, FXCollections.observableArrayList());
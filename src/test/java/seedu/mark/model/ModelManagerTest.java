@@ -15,7 +15,9 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.mark.commons.core.GuiSettings;
+import seedu.mark.model.bookmark.Bookmark;
 import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
 import seedu.mark.model.predicates.NameContainsKeywordsPredicate;
 import seedu.mark.testutil.MarkBuilder;
 
@@ -94,6 +96,16 @@ public class ModelManagerTest {
         assertThrows(NullPointerException.class, () -> modelManager.setBookmark(null, null));
     }
 
+    @Test
+    public void addBookmarks_someDuplicates_onlyNewBookmarksAdded() {
+        modelManager.addBookmark(ALICE);
+        Bookmark bensonWithAliceUrl = new BookmarkBuilder(BENSON).withName("Benson Two")
+                .withUrl(ALICE.getUrl().value).build();
+        Bookmark renamedBenson = new BookmarkBuilder(BENSON).withName("Benson Three").build();
+        modelManager.addBookmarks(Arrays.asList(ALICE, BENSON, bensonWithAliceUrl, renamedBenson));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredBookmarkList());
+    }
+
     @Test
     public void hasFolder_folderNotInMark_returnsFalse() {
         assertFalse(modelManager.hasFolder(new Folder(VALID_FOLDER_CS2103T)));
@@ -1,6 +1,7 @@
 package seedu.mark.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
@@ -14,9 +15,12 @@ import seedu.mark.model.annotation.OfflineDocument;
 import seedu.mark.model.annotation.Paragraph;
 import seedu.mark.model.autotag.SelectiveBookmarkTagger;
 import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.BookmarkIndex;
 import seedu.mark.model.bookmark.Folder;
 import seedu.mark.model.bookmark.Url;
 import seedu.mark.model.reminder.Reminder;
+import seedu.mark.model.search.ContentIndex;
+import seedu.mark.model.search.FuzzyIndex;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -107,6 +111,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredBookmarkList(Predicate<Bookmark> predicate, Comparator<Bookmark> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public BookmarkIndex getBookmarkIndex() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ContentIndex getContentIndex() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public FuzzyIndex getFuzzyIndex() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addFolder(Folder folder, Folder parentFolder) {
         throw new AssertionError("This method should not be called.");
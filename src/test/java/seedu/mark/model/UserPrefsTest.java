@@ -18,4 +18,28 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setMarkFilePath(null));
     }
 
+    @Test
+    public void setCachedCopyMemoryBudget_negativeBudget_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setCachedCopyMemoryBudget(-1));
+    }
+
+    @Test
+    public void setUndoHistoryMaxSteps_negativeSteps_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMaxSteps(-1));
+    }
+
+    @Test
+    public void setDataCompression_null_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setDataCompression(null));
+    }
+
+    @Test
+    public void setUndoHistoryMemoryBudget_negativeBudget_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMemoryBudget(-1));
+    }
+
 }
@@ -2,11 +2,13 @@ package seedu.mark.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mark.testutil.Assert.assertThrows;
 import static seedu.mark.testutil.TypicalBookmarks.AMY;
 import static seedu.mark.testutil.TypicalBookmarks.BOB;
 import static seedu.mark.testutil.TypicalBookmarks.CARL;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -14,6 +16,9 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
 import seedu.mark.testutil.MarkBuilder;
 
 public class VersionedMarkTest {
@@ -274,6 +279,165 @@ public class VersionedMarkTest {
         assertThrows(VersionedMark.CannotRedoMarkException.class, () -> versionedMark.redo(1));
     }
 
+    @Test
+    public void save_singleBookmarkEdited_onlyEditedBookmarkRecorded() {
+        VersionedMark versionedMark = new VersionedMark(getTypicalMark());
+        Bookmark target = versionedMark.getBookmarkList().get(2);
+        Bookmark editedBookmark = new BookmarkBuilder(target).withRemark("edited").build();
+
+        versionedMark.setBookmark(target, editedBookmark);
+        versionedMark.save("edit");
+        assertEquals(Collections.singletonList(new VersionedMark.BookmarkListChange(2,
+                Collections.singletonList(target), Collections.singletonList(editedBookmark))),
+                versionedMark.getMarkStateRecord(1).getBookmarkChanges());
+
+        versionedMark.applyAllTaggers();
+        versionedMark.save("no changes");
+        assertEquals(Collections.emptyList(), versionedMark.getMarkStateRecord(2).getBookmarkChanges());
+    }
+
+    @Test
+    public void undo_bookmarkReplacedByEqualBookmark_originalBookmarkRestored() {
+        VersionedMark versionedMark = new VersionedMark(markWithAmy);
+        Bookmark amy = versionedMark.getBookmarkList().get(0);
+        versionedMark.setBookmark(amy, new BookmarkBuilder(amy).build());
+        versionedMark.save("");
+
+        versionedMark.undo(1);
+        assertSame(amy, versionedMark.getBookmarkList().get(0));
+    }
+
+    @Test
+    public void undo_unsavedChanges_unsavedChangesReverted() {
+        VersionedMark versionedMark = prepareMarkList(emptyMark, markWithAmy);
+        versionedMark.addBookmark(BOB);
+        versionedMark.addBookmark(CARL);
+
+        versionedMark.undo(1);
+        assertEquals(emptyMark, new Mark(versionedMark));
+        versionedMark.redo(1);
+        assertEquals(markWithAmy, new Mark(versionedMark));
+    }
+
+    @Test
+    public void undoAndRedo_changesInMiddleOfList_success() {
+        Mark typicalMark = getTypicalMark();
+        VersionedMark versionedMark = new VersionedMark(typicalMark);
+        versionedMark.removeBookmark(versionedMark.getBookmarkList().get(1));
+        versionedMark.save("");
+        versionedMark.addBookmark(AMY);
+        versionedMark.removeBookmark(versionedMark.getBookmarkList().get(3));
+        versionedMark.save("");
+        Mark latestMark = new Mark(versionedMark);
+
+        versionedMark.undo(2);
+        assertEquals(typicalMark, new Mark(versionedMark));
+        versionedMark.redo(2);
+        assertEquals(latestMark, new Mark(versionedMark));
+    }
+
+    @Test
+    public void save_moreThanMaxSteps_oldestStatesRemoved() {
+        VersionedMark versionedMark = new VersionedMark(emptyMark, 2, Long.MAX_VALUE);
+        versionedMark.resetData(markWithAmy);
+        versionedMark.save("amy");
+        versionedMark.resetData(markWithBob);
+        versionedMark.save("bob");
+        versionedMark.resetData(markWithCarl);
+        versionedMark.save("carl");
+
+        assertEquals(2, versionedMark.getMaxStepsToUndo());
+        assertEquals("carl\nbob\n", versionedMark.undo(2));
+        assertEquals(markWithAmy, new Mark(versionedMark));
+        assertFalse(versionedMark.canUndo(1));
+    }
+
+    @Test
+    public void save_overMemoryBudget_oldestStatesRemoved() {
+        VersionedMark versionedMark = prepareMarkList(emptyMark, markWithAmy, markWithBob, markWithCarl);
+        assertEquals(3, versionedMark.getMaxStepsToUndo());
+
+        // the last state alone is over the budget, so nothing can be undone
+        versionedMark.setHistoryLimits(10, 1);
+        assertEquals(0, versionedMark.getMaxStepsToUndo());
+        assertEquals(markWithCarl, new Mark(versionedMark));
+
+        versionedMark.setHistoryLimits(10, Long.MAX_VALUE);
+        versionedMark.resetData(markWithAmy);
+        versionedMark.save("");
+        versionedMark.undo(1);
+        assertEquals(markWithCarl, new Mark(versionedMark));
+    }
+
+    @Test
+    public void save_folderChangesOverMemoryBudget_oldestStatesRemoved() {
+        VersionedMark versionedMark = new VersionedMark(emptyMark, 100, 5000);
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                versionedMark.addFolder(new Folder("folder" + i + "x" + j), Folder.ROOT_FOLDER);
+            }
+            versionedMark.save("folders " + i);
+        }
+
+        // the folder structure of each state is a separate copy, so it counts towards the budget
+        assertTrue(versionedMark.getMaxStepsToUndo() < 10);
+    }
+
+    @Test
+    public void save_unchangedFoldersOverMemoryBudget_sharedFoldersCountedOnce() {
+        Mark markWithFolders = new Mark();
+        for (int j = 0; j < 20; j++) {
+            markWithFolders.addFolder(new Folder("folder" + j), Folder.ROOT_FOLDER);
+        }
+        VersionedMark versionedMark = new VersionedMark(markWithFolders, 100, 5000);
+        versionedMark.addBookmark(AMY);
+        versionedMark.save("amy");
+        versionedMark.addBookmark(BOB);
+        versionedMark.save("bob");
+        versionedMark.addBookmark(CARL);
+        versionedMark.save("carl");
+
+        assertEquals(3, versionedMark.getMaxStepsToUndo());
+    }
+
+    @Test
+    public void setHistoryLimits_initialStateOverMemoryBudget_initialStateRemoved() {
+        Mark markWithFolders = new Mark();
+        for (int j = 0; j < 20; j++) {
+            markWithFolders.addFolder(new Folder("folder" + j), Folder.ROOT_FOLDER);
+        }
+        VersionedMark versionedMark = new VersionedMark(markWithFolders, 100, Long.MAX_VALUE);
+        versionedMark.addBookmark(AMY);
+        versionedMark.save("amy");
+        versionedMark.addBookmark(BOB);
+        versionedMark.save("bob");
+
+        // the initial state holds all the folders, so it counts towards the budget like every other state
+        long historySize = versionedMark.estimateHistorySize();
+        assertEquals(getMarkStateRecordsSize(versionedMark), historySize);
+        assertTrue(versionedMark.getMarkStateRecord(0).estimateSize() > 0);
+
+        versionedMark.setHistoryLimits(100, historySize - 1);
+        assertEquals(1, versionedMark.getMaxStepsToUndo());
+        assertEquals(getMarkStateRecordsSize(versionedMark), versionedMark.estimateHistorySize());
+        assertTrue(versionedMark.estimateHistorySize() <= historySize - 1);
+
+        versionedMark.undo(1);
+        assertEquals(new MarkBuilder(new Mark(markWithFolders)).withBookmark(AMY).build(), new Mark(versionedMark));
+    }
+
+    /**
+     * Returns the sum of the estimated sizes of all states in the history of {@code versionedMark}.
+     */
+    private static long getMarkStateRecordsSize(VersionedMark versionedMark) {
+        long size = 0;
+        int stateCount = versionedMark.getMaxStepsToUndo() + versionedMark.getMaxStepsToRedo() + 1;
+        for (int i = 0; i < stateCount; i++) {
+            size += versionedMark.getMarkStateRecord(i).estimateSize();
+        }
+        return size;
+    }
+
     @Test
     public void equals() {
         VersionedMark versionedMark = prepareMarkList(markWithAmy, markWithBob);
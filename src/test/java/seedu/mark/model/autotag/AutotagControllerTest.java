@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.BookmarkIndex;
 import seedu.mark.model.bookmark.util.BookmarkBuilder;
 import seedu.mark.model.predicates.BookmarkPredicate;
 import seedu.mark.model.tag.Tag;
@@ -72,6 +73,19 @@ class AutotagControllerTest {
         assertEquals(controller.applyTaggersToList(getTypicalBookmarks()), expectedBookmarks);
     }
 
+    @Test
+    public void applyTaggersToList_usingIndex_sameAsTestingEveryBookmark() {
+        SelectiveBookmarkTagger taggerMeier = new SelectiveBookmarkTagger(new Tag("Meier"),
+                new BookmarkPredicate().withNameKeywords(List.of("meier")).withoutUrlKeywords(List.of("daniel")));
+        AutotagController controller = new AutotagController(
+                FXCollections.observableArrayList(TAGGER_URL_EXAMPLE, taggerMeier, TAGGER_HELLO));
+        BookmarkIndex index = new BookmarkIndex();
+        getTypicalBookmarks().forEach(index::add);
+
+        assertEquals(controller.applyTaggersToList(getTypicalBookmarks()),
+                controller.applyTaggersToList(getTypicalBookmarks(), index));
+    }
+
     /**
      * Returns a copy of the given bookmark list in which all bookmarks have been
      * tagged by {@code tagger}. Similar to {@code AutotagController#applyTaggersToList()}
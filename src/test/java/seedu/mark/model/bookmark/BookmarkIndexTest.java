@@ -0,0 +1,185 @@
+package seedu.mark.model.bookmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.Assert.assertThrows;
+import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
+import static seedu.mark.testutil.TypicalBookmarks.CARL;
+import static seedu.mark.testutil.TypicalBookmarks.DANIEL;
+import static seedu.mark.testutil.TypicalBookmarks.ELLE;
+import static seedu.mark.testutil.TypicalBookmarks.FIONA;
+import static seedu.mark.testutil.TypicalBookmarks.GEORGE;
+import static seedu.mark.testutil.TypicalBookmarks.HOON;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalBookmarks;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.mark.commons.util.StringUtil;
+import seedu.mark.model.bookmark.BookmarkIndex.Field;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
+
+public class BookmarkIndexTest {
+
+    private BookmarkIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new BookmarkIndex();
+        getTypicalBookmarks().forEach(index::add);
+    }
+
+    @Test
+    public void findContaining_wholeWord_bookmarksFound() {
+        assertFound(index.findContaining(Field.NAME, "Meier"), BENSON, DANIEL);
+        assertFound(index.findContaining(Field.REMARK, "STREET"), CARL, DANIEL, GEORGE);
+    }
+
+    @Test
+    public void findContaining_partOfWord_bookmarksFound() {
+        assertFound(index.findContaining(Field.NAME, "eie"), BENSON, DANIEL);
+        assertFound(index.findContaining(Field.URL, "einz"), CARL);
+    }
+
+    @Test
+    public void findContaining_acrossWords_bookmarksFound() {
+        assertFound(index.findContaining(Field.NAME, "son mei"), BENSON);
+        assertFound(index.findContaining(Field.URL, "d@EXAMPLE.c"), BENSON);
+        assertFound(index.findContaining(Field.URL, "d@x"));
+    }
+
+    @Test
+    public void findContaining_noLettersOrDigits_everyBookmarkChecked() {
+        assertEquals(getTypicalBookmarks().size(), index.findContaining(Field.URL, "@").size());
+        assertFound(index.findContaining(Field.REMARK, "#"), ALICE, BENSON);
+    }
+
+    @Test
+    public void findContaining_blankKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.findContaining(Field.NAME, " "));
+    }
+
+    @Test
+    public void findContaining_sameAsScanningEveryBookmark() {
+        for (String keyword : List.of("a", "Ku", "rz", "ave 6", "example", "https", "s:/", "2", "t s", "x")) {
+            for (Field field : List.of(Field.NAME, Field.URL, Field.REMARK)) {
+                Bookmark[] expected = getTypicalBookmarks().stream()
+                        .filter(bookmark -> StringUtil.containsPhraseIgnoreCase(getValue(bookmark, field), keyword))
+                        .toArray(Bookmark[]::new);
+                assertFound(index.findContaining(field, keyword), expected);
+            }
+        }
+    }
+
+    @Test
+    public void findContaining_turkishDefaultLocale_caseIgnoredAsInRootLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr"));
+        try {
+            // in Turkish, "I" is the upper case of dotless "\u0131" rather than of "i"
+            BookmarkIndex turkishIndex = new BookmarkIndex();
+            Bookmark bookmark = new BookmarkBuilder(ALICE).withName("INDEX").build();
+            turkishIndex.add(bookmark);
+            assertFound(turkishIndex.findContaining(Field.NAME, "index"), bookmark);
+            assertTrue(StringUtil.containsPhraseIgnoreCase(bookmark.getName().value, "index"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void findContaining_bookmarksChangedAfterSearch_indexFollows() {
+        assertFound(index.findContaining(Field.NAME, "meier"), BENSON, DANIEL);
+
+        Bookmark editedBenson = new BookmarkBuilder(BENSON).withName("Benson Miller").build();
+        index.remove(BENSON);
+        index.add(editedBenson);
+        assertFound(index.findContaining(Field.NAME, "meier"), DANIEL);
+        assertFound(index.findContaining(Field.NAME, "miller"), editedBenson);
+
+        index.clear();
+        index.add(HOON);
+        assertFound(index.findContaining(Field.NAME, "meier"), HOON);
+    }
+
+    @Test
+    public void findEqual_tagOrFolder_bookmarksFound() {
+        assertFound(index.findEqual(Field.TAG, "FRIENDS"), ALICE, BENSON, DANIEL);
+        assertFound(index.findEqual(Field.FOLDER, "Family"), CARL, ELLE);
+        assertFound(index.findEqual(Field.TAG, "friend"));
+    }
+
+    @Test
+    public void remove_bookmark_noLongerFound() {
+        index.remove(BENSON);
+        assertFound(index.findContaining(Field.NAME, "meier"), DANIEL);
+        assertFound(index.findEqual(Field.TAG, "owesMoney"));
+        assertEquals(getTypicalBookmarks().size() - 1, index.size());
+
+        // removing a bookmark that is not in the index does nothing
+        index.remove(HOON);
+        assertEquals(getTypicalBookmarks().size() - 1, index.size());
+    }
+
+    @Test
+    public void update_listChanges_indexFollowsList() {
+        ObservableList<Bookmark> list = FXCollections.observableArrayList();
+        BookmarkIndex listIndex = new BookmarkIndex();
+        list.addListener(listIndex::update);
+
+        list.setAll(getTypicalBookmarks());
+        assertFound(listIndex.findContaining(Field.NAME, "meier"), BENSON, DANIEL);
+
+        Bookmark editedDaniel = new BookmarkBuilder(DANIEL).withName("Daniel Miller").build();
+        list.set(list.indexOf(DANIEL), editedDaniel);
+        list.add(HOON);
+        list.remove(BENSON);
+        assertFound(listIndex.findContaining(Field.NAME, "meier"), HOON);
+        assertFound(listIndex.findContaining(Field.NAME, "miller"), editedDaniel);
+
+        list.setAll(FIONA);
+        assertEquals(1, listIndex.size());
+        assertFound(listIndex.findContaining(Field.NAME, "meier"));
+    }
+
+    @Test
+    public void hasIndexedSince() {
+        long revision = index.getRevision();
+        index.add(HOON);
+        assertTrue(index.hasIndexedSince(ALICE, revision));
+        assertFalse(index.hasIndexedSince(HOON, revision));
+        assertTrue(index.hasIndexedSince(HOON, index.getRevision()));
+
+        // a bookmark that was removed and added again is new to the index
+        index.remove(ALICE);
+        assertFalse(index.hasIndexedSince(ALICE, revision));
+        index.add(ALICE);
+        assertFalse(index.hasIndexedSince(ALICE, revision));
+    }
+
+    private static String getValue(Bookmark bookmark, Field field) {
+        switch (field) {
+        case NAME:
+            return bookmark.getName().value;
+        case URL:
+            return bookmark.getUrl().value;
+        default:
+            return bookmark.getRemark().value;
+        }
+    }
+
+    private static void assertFound(Set<Bookmark> found, Bookmark... expected) {
+        assertEquals(expected.length, found.size());
+        for (Bookmark bookmark : expected) {
+            assertTrue(found.contains(bookmark));
+        }
+    }
+}
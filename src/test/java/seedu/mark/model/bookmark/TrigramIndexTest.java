@@ -0,0 +1,87 @@
+package seedu.mark.model.bookmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
+import static seedu.mark.testutil.TypicalBookmarks.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void findContaining_phrase_onlyBookmarksContainingPhraseFound() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(ALICE, "banana bread");
+        index.add(BENSON, "bread and bananas");
+        index.add(CARL, "nab an ana");
+
+        assertFound(index.findContaining("banana"), ALICE, BENSON);
+        assertFound(index.findContaining("a b"), ALICE);
+        assertFound(index.findContaining("bread"), ALICE, BENSON);
+        // every trigram of the phrase is in the text, but not the phrase itself
+        assertFound(index.findContaining("anab"));
+        assertFound(index.findContaining("xyz"));
+    }
+
+    @Test
+    public void findContaining_shorterThanTrigram_everyTextChecked() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(ALICE, "ab");
+        index.add(BENSON, "xaby");
+        index.add(CARL, "");
+
+        assertFound(index.findContaining("ab"), ALICE, BENSON);
+        assertFound(index.findContaining("y"), BENSON);
+    }
+
+    @Test
+    public void findContaining_repeatedTrigrams_found() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(ALICE, "aaaaaa");
+        index.add(BENSON, "aaa");
+
+        assertFound(index.findContaining("aaaa"), ALICE);
+        assertFound(index.findContaining("aaa"), ALICE, BENSON);
+
+        index.remove(ALICE);
+        assertFound(index.findContaining("aaa"), BENSON);
+    }
+
+    @Test
+    public void remove_manyBookmarks_remainingStillFound() {
+        TrigramIndex index = new TrigramIndex();
+        List<Bookmark> bookmarks = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Bookmark bookmark = new BookmarkBuilder().withName("Bookmark " + i).build();
+            bookmarks.add(bookmark);
+            index.add(bookmark, "bookmark " + i);
+        }
+        // removing most bookmarks numbers the remaining ones again
+        for (int i = 0; i < 4990; i++) {
+            index.remove(bookmarks.get(i));
+        }
+        assertEquals(10, index.size());
+        assertFound(index.findContaining("bookmark 4995"), bookmarks.get(4995));
+        assertEquals(10, index.findContaining("mark").size());
+        assertTrue(index.findContaining("bookmark 12").isEmpty());
+
+        Bookmark added = new BookmarkBuilder().withName("Added").build();
+        index.add(added, "added");
+        assertFound(index.findContaining("dde"), added);
+    }
+
+    private static void assertFound(Set<Bookmark> found, Bookmark... expected) {
+        assertEquals(expected.length, found.size());
+        for (Bookmark bookmark : expected) {
+            assertTrue(found.contains(bookmark));
+        }
+    }
+}
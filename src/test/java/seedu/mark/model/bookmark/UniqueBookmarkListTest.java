@@ -7,7 +7,9 @@ import static seedu.mark.logic.commands.CommandTestUtil.VALID_REMARK_BOB;
 import static seedu.mark.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.mark.testutil.Assert.assertThrows;
 import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
 import static seedu.mark.testutil.TypicalBookmarks.BOB;
+import static seedu.mark.testutil.TypicalBookmarks.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,6 +17,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.mark.model.bookmark.exceptions.BookmarkNotFoundException;
 import seedu.mark.model.bookmark.exceptions.DuplicateBookmarkException;
 import seedu.mark.model.bookmark.util.BookmarkBuilder;
@@ -109,6 +113,14 @@ public class UniqueBookmarkListTest {
         assertThrows(DuplicateBookmarkException.class, () -> uniqueBookmarkList.setBookmark(ALICE, BOB));
     }
 
+    @Test
+    public void setBookmark_editedBookmarkHasSameNameAndOtherBookmarksUrl_throwsDuplicateBookmarkException() {
+        uniqueBookmarkList.add(ALICE);
+        uniqueBookmarkList.add(BOB);
+        Bookmark editedAlice = new BookmarkBuilder(ALICE).withUrl(BOB.getUrl().value).build();
+        assertThrows(DuplicateBookmarkException.class, () -> uniqueBookmarkList.setBookmark(ALICE, editedAlice));
+    }
+
     @Test
     public void remove_nullBookmark_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueBookmarkList.remove(null));
@@ -127,6 +139,77 @@ public class UniqueBookmarkListTest {
         assertEquals(expectedUniqueBookmarkList, uniqueBookmarkList);
     }
 
+    @Test
+    public void remove_bookmarkWithSameIdentityButDifferentFields_throwsBookmarkNotFoundException() {
+        uniqueBookmarkList.add(ALICE);
+        Bookmark editedAlice = new BookmarkBuilder(ALICE).withRemark(VALID_REMARK_BOB).build();
+        assertThrows(BookmarkNotFoundException.class, () -> uniqueBookmarkList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_earlierBookmark_laterBookmarksStillEditable() {
+        uniqueBookmarkList.setBookmarks(Arrays.asList(ALICE, BENSON, CARL));
+        uniqueBookmarkList.remove(ALICE);
+        uniqueBookmarkList.setBookmark(CARL, BOB);
+        UniqueBookmarkList expectedUniqueBookmarkList = new UniqueBookmarkList();
+        expectedUniqueBookmarkList.setBookmarks(Arrays.asList(BENSON, BOB));
+        assertEquals(expectedUniqueBookmarkList, uniqueBookmarkList);
+        assertFalse(uniqueBookmarkList.contains(CARL));
+        assertTrue(uniqueBookmarkList.contains(BOB));
+    }
+
+    @Test
+    public void replaceRange_validReplacement_replacesBookmarks() {
+        uniqueBookmarkList.setBookmarks(Arrays.asList(ALICE, BENSON, CARL));
+        uniqueBookmarkList.replaceRange(1, 1, Arrays.asList(BOB, BENSON));
+        UniqueBookmarkList expectedUniqueBookmarkList = new UniqueBookmarkList();
+        expectedUniqueBookmarkList.setBookmarks(Arrays.asList(ALICE, BOB, BENSON, CARL));
+        assertEquals(expectedUniqueBookmarkList, uniqueBookmarkList);
+
+        uniqueBookmarkList.remove(CARL);
+        assertTrue(uniqueBookmarkList.contains(BENSON));
+    }
+
+    @Test
+    public void replaceRange_duplicateBookmark_throwsDuplicateBookmarkException() {
+        uniqueBookmarkList.setBookmarks(Arrays.asList(ALICE, BENSON));
+        assertThrows(DuplicateBookmarkException.class, () ->
+                uniqueBookmarkList.replaceRange(1, 1, Arrays.asList(BOB, ALICE)));
+
+        // the list is left unchanged
+        uniqueBookmarkList.remove(BENSON);
+        assertFalse(uniqueBookmarkList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_uniqueBookmarks_addedAsSingleChange() {
+        uniqueBookmarkList.add(ALICE);
+        int[] changeCount = new int[1];
+        uniqueBookmarkList.asUnmodifiableObservableList().addListener((ListChangeListener<Bookmark>) change -> {
+            changeCount[0]++;
+        });
+
+        uniqueBookmarkList.addAll(Arrays.asList(BENSON, CARL));
+        UniqueBookmarkList expectedUniqueBookmarkList = new UniqueBookmarkList();
+        expectedUniqueBookmarkList.setBookmarks(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(expectedUniqueBookmarkList, uniqueBookmarkList);
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void addAll_duplicateBookmarks_throwsDuplicateBookmarkException() {
+        uniqueBookmarkList.add(ALICE);
+        Bookmark editedBenson = new BookmarkBuilder(BENSON).withRemark(VALID_REMARK_BOB).build();
+        assertThrows(DuplicateBookmarkException.class, () ->
+                uniqueBookmarkList.addAll(Arrays.asList(BENSON, editedBenson)));
+        assertThrows(DuplicateBookmarkException.class, () -> uniqueBookmarkList.addAll(Arrays.asList(CARL, ALICE)));
+
+        // the list is left unchanged
+        assertEquals(Collections.singletonList(ALICE), uniqueBookmarkList.asUnmodifiableObservableList());
+        assertFalse(uniqueBookmarkList.contains(BENSON));
+        assertFalse(uniqueBookmarkList.contains(CARL));
+    }
+
     @Test
     public void setBookmarks_nullUniqueBookmarkList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueBookmarkList.setBookmarks((UniqueBookmarkList) null));
@@ -13,6 +13,7 @@ import static seedu.mark.model.bookmark.Folder.ROOT_FOLDER;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +62,13 @@ public class FolderStructureTest {
         assertFalse(root.hasFolder(FOLDER_NTU));
     }
 
+    @Test
+    public void getAllFolders() {
+        assertEquals(Set.of(ROOT_FOLDER, FOLDER_CS2101, FOLDER_CS2103T, FOLDER_PPP, FOLDER_READINGS),
+                getTestFolderStructure().getAllFolders());
+        assertEquals(Set.of(FOLDER_NTU), asLeaf(FOLDER_NTU).getAllFolders());
+    }
+
     @Test
     public void addFolder() {
         FolderStructure root = getTestFolderStructure();
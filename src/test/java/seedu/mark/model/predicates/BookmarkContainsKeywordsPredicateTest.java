@@ -1,14 +1,21 @@
 package seedu.mark.model.predicates;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.TypicalBookmarks.HOON;
+import static seedu.mark.testutil.TypicalBookmarks.IDA;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalBookmarks;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.BookmarkIndex;
 import seedu.mark.model.bookmark.util.BookmarkBuilder;
 
 public class BookmarkContainsKeywordsPredicateTest {
@@ -83,4 +90,31 @@ public class BookmarkContainsKeywordsPredicateTest {
                 Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
         assertFalse(predicate.test(new BookmarkBuilder().build()));
     }
+
+    @Test
+    public void usingIndex_sameMatchesAsTest() {
+        BookmarkIndex index = new BookmarkIndex();
+        getTypicalBookmarks().forEach(index::add);
+        BookmarkContainsKeywordsPredicate predicate = new BookmarkContainsKeywordsPredicate(
+                Arrays.asList("Kurz", "cornelia@", "ANNA"), Collections.singletonList("owesMoney"),
+                Collections.singletonList("family"));
+
+        Predicate<Bookmark> indexedPredicate = predicate.usingIndex(index);
+        for (Bookmark bookmark : getTypicalBookmarks()) {
+            assertEquals(predicate.test(bookmark), indexedPredicate.test(bookmark));
+        }
+    }
+
+    @Test
+    public void usingIndex_bookmarkAddedAfterwards_testedWithPredicate() {
+        BookmarkIndex index = new BookmarkIndex();
+        getTypicalBookmarks().forEach(index::add);
+        BookmarkContainsKeywordsPredicate predicate = new BookmarkContainsKeywordsPredicate(
+                Collections.singletonList("meier"), Collections.emptyList(), Collections.emptyList());
+        Predicate<Bookmark> indexedPredicate = predicate.usingIndex(index);
+
+        index.add(HOON);
+        assertTrue(indexedPredicate.test(HOON));
+        assertFalse(indexedPredicate.test(IDA));
+    }
 }
@@ -0,0 +1,132 @@
+package seedu.mark.model.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.Assert.assertThrows;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
+import static seedu.mark.testutil.TypicalBookmarks.CARL;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalBookmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mark.commons.util.StringUtil;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.predicates.BookmarkMatcher.Clause;
+import seedu.mark.model.predicates.BookmarkMatcher.Field;
+
+public class BookmarkMatcherTest {
+
+    /**
+     * Returns the predicate that {@code clauses} stand for, composed from the predicates of each field.
+     */
+    private static Predicate<Bookmark> toPredicate(List<Clause> clauses) {
+        Predicate<Bookmark> predicate = bookmark -> true;
+        for (Clause clause : clauses) {
+            Predicate<Bookmark> clausePredicate = getFieldPredicate(clause);
+            predicate = predicate.and(clause.isNegated() ? clausePredicate.negate() : clausePredicate);
+        }
+        return predicate;
+    }
+
+    private static Predicate<Bookmark> getFieldPredicate(Clause clause) {
+        switch (clause.getField()) {
+        case NAME:
+            return new NameContainsKeywordsPredicate(clause.getKeywords());
+        case URL:
+            return new UrlContainsKeywordsPredicate(clause.getKeywords());
+        default:
+            return new FolderContainsKeywordsPredicate(clause.getKeywords());
+        }
+    }
+
+    private static void assertSameMatches(List<Clause> clauses) {
+        BookmarkMatcher matcher = BookmarkMatcher.compile(clauses);
+        Predicate<Bookmark> predicate = toPredicate(clauses);
+        for (Bookmark bookmark : getTypicalBookmarks()) {
+            assertEquals(predicate.test(bookmark), matcher.matches(bookmark), bookmark.toString());
+        }
+    }
+
+    @Test
+    public void matches_sameAsComposedPredicates() {
+        // keywords that overlap or are suffixes of each other
+        assertSameMatches(List.of(new Clause(Field.NAME, false, List.of("meier", "eier", "er", "r k"))));
+        assertSameMatches(List.of(new Clause(Field.URL, false, List.of("HEINZ@", "  example.com/ ", "nz@e"))));
+
+        // several clauses on the same field must all be satisfied
+        assertSameMatches(List.of(new Clause(Field.NAME, false, List.of("e")),
+                new Clause(Field.NAME, false, List.of("son", "niel")),
+                new Clause(Field.NAME, true, List.of("dan"))));
+
+        // the same keyword wanted and not wanted
+        assertSameMatches(List.of(new Clause(Field.NAME, false, List.of("meier")),
+                new Clause(Field.NAME, true, List.of("Meier"))));
+
+        // clauses on every field
+        assertSameMatches(List.of(new Clause(Field.URL, false, List.of("example")),
+                new Clause(Field.NAME, true, List.of("kurz")),
+                new Clause(Field.FOLDER, false, List.of("FAMILY", "contacts")),
+                new Clause(Field.FOLDER, true, List.of("contacts"))));
+
+        // keywords with characters beyond ASCII, which no name or URL has
+        assertSameMatches(List.of(new Clause(Field.NAME, false, List.of("ÜBER", "meier"))));
+        assertSameMatches(List.of(new Clause(Field.URL, true, List.of("CAFÉ", "heinz"))));
+    }
+
+    @Test
+    public void matchesName_charactersBeyondAscii_sameAsPredicates() {
+        // names and URLs of bookmarks are ASCII, so text beyond ASCII is checked the way the predicates test a field
+        List<String> texts = List.of("İstanbul", "ISTANBUL", "ΟΔΟΣ ΜΟΥ", "Οδός", "STRASSE", "Straße",
+                "\u212Aelvin", "CAFÉ au lait");
+        List<String> keywords = List.of("i", "i\u0307", "İ", "ı", "σ", "ς", "ΟΣ ", "ss", "ß", "k", "é A");
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr"));
+        try {
+            for (String keyword : keywords) {
+                for (boolean isNegated : List.of(false, true)) {
+                    BookmarkMatcher matcher = BookmarkMatcher.compile(
+                            List.of(new Clause(Field.NAME, isNegated, List.of(keyword))));
+                    for (String text : texts) {
+                        assertEquals(StringUtil.containsPhraseIgnoreCase(text, keyword) != isNegated,
+                                matcher.matchesName(text), text + " with " + keyword);
+                    }
+                }
+            }
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void matches_moreThan64Clauses_allClausesChecked() {
+        List<Clause> clauses = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            clauses.add(new Clause(Field.NAME, false, List.of("e", "zzz" + i)));
+        }
+        assertSameMatches(clauses);
+
+        clauses.add(new Clause(Field.NAME, false, List.of("benson")));
+        BookmarkMatcher matcher = BookmarkMatcher.compile(clauses);
+        assertTrue(matcher.matches(BENSON));
+        assertFalse(matcher.matches(CARL));
+    }
+
+    @Test
+    public void matches_clauseWithoutKeywords() {
+        // like the predicate that it stands for, no name contains any of no keywords
+        assertSameMatches(List.of(new Clause(Field.NAME, false, List.of())));
+        assertSameMatches(List.of(new Clause(Field.URL, true, List.of())));
+    }
+
+    @Test
+    public void compile_blankKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                BookmarkMatcher.compile(List.of(new Clause(Field.NAME, false, List.of("a", "  ")))));
+    }
+}
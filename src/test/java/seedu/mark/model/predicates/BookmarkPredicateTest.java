@@ -3,15 +3,19 @@ package seedu.mark.model.predicates;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalBookmarks;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.BookmarkIndex;
 import seedu.mark.model.bookmark.util.BookmarkBuilder;
 
 public class BookmarkPredicateTest {
@@ -89,6 +93,27 @@ public class BookmarkPredicateTest {
         assertFalse(predicate.test(secondBookmark));
     }
 
+    @Test
+    public void findMatches_sameMatchesAsTest() {
+        BookmarkIndex index = new BookmarkIndex();
+        getTypicalBookmarks().forEach(index::add);
+        List<BookmarkPredicate> predicates = List.of(
+                new BookmarkPredicate(),
+                new BookmarkPredicate().withNameKeywords(List.of("meier", "ku")),
+                new BookmarkPredicate().withNameKeywords(List.of("a")).withoutNameKeywords(List.of("meier")),
+                new BookmarkPredicate().withNameKeywords(List.of("e")).withNameKeywords(List.of("son")),
+                new BookmarkPredicate().withUrlKeywords(List.of("example.com")).withFolder(List.of("family")),
+                new BookmarkPredicate().withFolder(List.of("FAMILY", "friends")).withoutUrlKeywords(List.of("heinz")),
+                new BookmarkPredicate().withoutFolder(List.of("family")));
+
+        for (BookmarkPredicate predicate : predicates) {
+            Set<Bookmark> matches = predicate.findMatches(index);
+            List<Bookmark> expected = getTypicalBookmarks().stream().filter(predicate).collect(Collectors.toList());
+            assertEquals(expected.size(), matches.size());
+            assertTrue(expected.stream().allMatch(matches::contains));
+        }
+    }
+
     @Test
     public void isEmpty() {
         assertTrue(new BookmarkPredicate().isEmpty());
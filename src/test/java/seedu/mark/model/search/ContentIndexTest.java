@@ -0,0 +1,229 @@
+package seedu.mark.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
+import static seedu.mark.testutil.TypicalBookmarks.CARL;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.mark.commons.core.index.Index;
+import seedu.mark.model.annotation.Annotation;
+import seedu.mark.model.annotation.AnnotationNote;
+import seedu.mark.model.annotation.Highlight;
+import seedu.mark.model.annotation.OfflineDocument;
+import seedu.mark.model.annotation.ParagraphIdentifier;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.CachedCopy;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
+
+public class ContentIndexTest {
+
+    private static final String RAFT_HTML = "<p>Raft is a consensus algorithm that is easy to understand.</p>"
+            + "<p>Leaders replicate the log to followers.</p>"
+            + "<p>Consensus, consensus, consensus.</p>";
+    private static final String PASTA_HTML = "<p>Boil the pasta for ten minutes.</p>"
+            + "<p>A long paragraph that mentions consensus once among many many many other words.</p>";
+
+    private static final ParagraphIdentifier P1 = ParagraphIdentifier.makeExistId(Index.fromOneBased(1));
+    private static final ParagraphIdentifier P2 = ParagraphIdentifier.makeExistId(Index.fromOneBased(2));
+    private static final ParagraphIdentifier P3 = ParagraphIdentifier.makeExistId(Index.fromOneBased(3));
+
+    private static Bookmark withCachedCopy(Bookmark bookmark, CachedCopy cachedCopy) {
+        return new BookmarkBuilder(bookmark).withCachedCopy(cachedCopy).build();
+    }
+
+    private static CachedCopy withNote(String html, ParagraphIdentifier pid, String note) throws Exception {
+        OfflineDocument doc = new OfflineDocument(html);
+        doc.addAnnotation(pid, new Annotation(Highlight.YELLOW, AnnotationNote.makeNote(note)));
+        return new CachedCopy(html, doc);
+    }
+
+    @Test
+    public void search_rankedByRelevance() {
+        Bookmark raft = withCachedCopy(ALICE, new CachedCopy(RAFT_HTML));
+        Bookmark pasta = withCachedCopy(BENSON, new CachedCopy(PASTA_HTML));
+        ContentIndex index = new ContentIndex();
+        index.build(List.of(raft, pasta));
+        assertEquals(5, index.size());
+
+        List<SearchHit> hits = index.search("CONSENSUS", 10);
+        assertEquals(3, hits.size());
+        // the short paragraph that repeats the word ranks above the one that mentions it once in passing
+        assertSame(raft, hits.get(0).getBookmark());
+        assertEquals(P3, hits.get(0).getParagraphId());
+        assertSame(pasta, hits.get(2).getBookmark());
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).getScore() >= hits.get(i).getScore());
+        }
+
+        // paragraphs with more of the words rank higher
+        assertEquals(P1, index.search("raft algorithm consensus", 10).get(0).getParagraphId());
+    }
+
+    @Test
+    public void search_limit_bestHitsReturned() {
+        ContentIndex index = new ContentIndex();
+        index.build(List.of(withCachedCopy(ALICE, new CachedCopy(RAFT_HTML)),
+                withCachedCopy(BENSON, new CachedCopy(PASTA_HTML))));
+
+        List<SearchHit> hits = index.search("consensus", 1);
+        assertEquals(1, hits.size());
+        assertEquals(P3, hits.get(0).getParagraphId());
+        assertTrue(index.search("consensus", 0).isEmpty());
+    }
+
+    @Test
+    public void search_noMatches_emptyList() {
+        ContentIndex index = new ContentIndex();
+        index.build(List.of(withCachedCopy(ALICE, new CachedCopy(RAFT_HTML)), CARL));
+        assertTrue(index.search("paxos", 10).isEmpty());
+        assertTrue(index.search("-- !", 10).isEmpty());
+        assertTrue(new ContentIndex().search("raft", 10).isEmpty());
+    }
+
+    @Test
+    public void search_notes_paragraphFound() throws Exception {
+        Bookmark annotated = withCachedCopy(ALICE, withNote(RAFT_HTML, P2, "Compare with Paxos"));
+        ContentIndex index = new ContentIndex();
+        index.build(List.of(annotated));
+
+        List<SearchHit> hits = index.search("paxos", 10);
+        assertEquals(1, hits.size());
+        assertEquals(P2, hits.get(0).getParagraphId());
+
+        // the paragraph is still found by its own words
+        assertEquals(P2, index.search("followers", 10).get(0).getParagraphId());
+    }
+
+    @Test
+    public void search_noteOfPhantomParagraph_phantomFound() throws Exception {
+        OfflineDocument doc = new OfflineDocument(RAFT_HTML);
+        doc.addPhantom(new Annotation(Highlight.GREEN, AnnotationNote.makeNote("stray thought about paxos")));
+        ContentIndex index = new ContentIndex();
+        index.build(List.of(withCachedCopy(ALICE, new CachedCopy(RAFT_HTML, doc))));
+
+        List<SearchHit> hits = index.search("paxos", 10);
+        assertEquals(1, hits.size());
+        assertTrue(hits.get(0).getParagraphId().isStray());
+    }
+
+    @Test
+    public void update_listChanges_indexFollowsList() throws Exception {
+        Bookmark raft = withCachedCopy(ALICE, new CachedCopy(RAFT_HTML));
+        ObservableList<Bookmark> list = FXCollections.observableArrayList(raft, BENSON);
+        ContentIndex index = new ContentIndex();
+        list.addListener(index::update);
+        index.build(list);
+
+        // annotating the cached copy replaces the bookmark
+        Bookmark annotated = withCachedCopy(ALICE, withNote(RAFT_HTML, P1, "read again later"));
+        list.set(0, annotated);
+        assertSame(annotated, index.search("later", 10).get(0).getBookmark());
+        assertSame(annotated, index.search("leaders", 10).get(0).getBookmark());
+
+        // caching a page of another bookmark
+        Bookmark pasta = withCachedCopy(BENSON, new CachedCopy(PASTA_HTML));
+        list.set(1, pasta);
+        assertSame(pasta, index.search("pasta", 10).get(0).getBookmark());
+
+        list.remove(annotated);
+        assertTrue(index.search("later", 10).isEmpty());
+        assertEquals(2, index.size());
+
+        list.clear();
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void update_notBuilt_changesIgnoredUntilBuilt() {
+        ObservableList<Bookmark> list = FXCollections.observableArrayList();
+        ContentIndex index = new ContentIndex();
+        list.addListener(index::update);
+
+        list.add(withCachedCopy(ALICE, new CachedCopy(RAFT_HTML)));
+        assertEquals(0, index.size());
+
+        index.build(list);
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void update_bookmarksAdded_indexedWhenNextUsed() {
+        ObservableList<Bookmark> list = FXCollections.observableArrayList();
+        MapTermStore termStore = new MapTermStore();
+        ContentIndex index = new ContentIndex(termStore);
+        list.addListener(index::update);
+        index.build(list);
+
+        Bookmark raft = withCachedCopy(ALICE, new CachedCopy(RAFT_HTML));
+        list.add(raft);
+        assertEquals(0, termStore.readCount);
+
+        // a bookmark removed before the index is used is never indexed
+        Bookmark pasta = withCachedCopy(BENSON, new CachedCopy(PASTA_HTML));
+        list.add(pasta);
+        list.remove(pasta);
+        assertEquals(0, termStore.readCount);
+
+        assertSame(raft, index.search("raft", 10).get(0).getBookmark());
+        assertTrue(index.search("pasta", 10).isEmpty());
+        assertEquals(1, termStore.readCount);
+    }
+
+    @Test
+    public void add_termsInStore_htmlNotParsed() {
+        CachedCopy cachedCopy = new CachedCopy(RAFT_HTML);
+        MapTermStore termStore = new MapTermStore();
+        termStore.stored.put(cachedCopy.getHtmlHash(),
+                new DocumentTerms(Map.of(P1, DocumentTerms.countTerms("stored words"))));
+
+        ContentIndex index = new ContentIndex(termStore);
+        index.build(List.of(withCachedCopy(ALICE, cachedCopy)));
+        assertEquals(1, index.search("stored", 10).size());
+        assertTrue(index.search("raft", 10).isEmpty());
+        assertEquals(0, termStore.writeCount);
+    }
+
+    @Test
+    public void add_termsNotInStore_termsWritten() {
+        CachedCopy cachedCopy = new CachedCopy(RAFT_HTML);
+        MapTermStore termStore = new MapTermStore();
+
+        ContentIndex index = new ContentIndex(termStore);
+        index.build(List.of(withCachedCopy(ALICE, cachedCopy), withCachedCopy(BENSON, cachedCopy)));
+        assertEquals(1, termStore.writeCount);
+        assertEquals(DocumentTerms.of(cachedCopy.getAnnotations()), termStore.stored.get(cachedCopy.getHtmlHash()));
+        assertEquals(2, index.search("raft", 10).size());
+    }
+
+    /**
+     * A term store that keeps terms in memory.
+     */
+    private static class MapTermStore implements ContentIndex.TermStore {
+        private final Map<String, DocumentTerms> stored = new HashMap<>();
+        private int readCount;
+        private int writeCount;
+
+        @Override
+        public Optional<DocumentTerms> read(String htmlHash) {
+            readCount++;
+            return Optional.ofNullable(stored.get(htmlHash));
+        }
+
+        @Override
+        public void write(String htmlHash, DocumentTerms documentTerms) {
+            stored.put(htmlHash, documentTerms);
+            writeCount++;
+        }
+    }
+}
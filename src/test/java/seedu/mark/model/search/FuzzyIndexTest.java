@@ -0,0 +1,129 @@
+package seedu.mark.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
+import static seedu.mark.testutil.TypicalBookmarks.CARL;
+import static seedu.mark.testutil.TypicalBookmarks.DANIEL;
+import static seedu.mark.testutil.TypicalBookmarks.ELLE;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalBookmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
+
+public class FuzzyIndexTest {
+
+    private static FuzzyIndex buildTypicalIndex() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.build(getTypicalBookmarks());
+        return index;
+    }
+
+    private static List<Bookmark> getBookmarks(List<FuzzyHit> hits) {
+        return hits.stream().map(FuzzyHit::getBookmark).collect(Collectors.toList());
+    }
+
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, FuzzyIndex.getEditDistance("meier", "meier"));
+        assertEquals(3, FuzzyIndex.getEditDistance("", "abc"));
+        assertEquals(3, FuzzyIndex.getEditDistance("kitten", "sitting"));
+        assertEquals(2, FuzzyIndex.getEditDistance("github", "gihtub"));
+    }
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, FuzzyIndex.getMaxDistance("ab"));
+        assertEquals(1, FuzzyIndex.getMaxDistance("meir"));
+        assertEquals(2, FuzzyIndex.getMaxDistance("frends"));
+    }
+
+    @Test
+    public void search_typo_closeWordsFound() {
+        FuzzyIndex index = buildTypicalIndex();
+
+        assertEquals(List.of(BENSON, DANIEL), getBookmarks(index.search("MEIR", 10)));
+        assertEquals(List.of(CARL), getBookmarks(index.search("heinx", 10)));
+        assertTrue(index.search("zzzz", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    public void search_rankedByDistanceAndField() {
+        FuzzyIndex index = buildTypicalIndex();
+
+        // a name and a tag are both close for Benson and Daniel, and only a tag for Alice
+        List<FuzzyHit> hits = index.search("meir frends", 10);
+        assertEquals(List.of(BENSON, DANIEL, ALICE), getBookmarks(hits));
+        assertEquals(2.5, hits.get(0).getScore());
+        assertEquals(1.0, hits.get(2).getScore());
+
+        // an exact word ranks above a close one
+        assertEquals(List.of(ELLE, BENSON, DANIEL), getBookmarks(index.search("meyer", 10)));
+
+        // a close word in the name ranks above the same word in the URL
+        Bookmark inName = new BookmarkBuilder().withName("Github").withUrl("https://example.com").build();
+        Bookmark inUrl = new BookmarkBuilder().withName("Code").withUrl("https://github.com").build();
+        index.add(inUrl);
+        index.add(inName);
+        assertEquals(List.of(inName, inUrl), getBookmarks(index.search("githb", 10)));
+    }
+
+    @Test
+    public void search_limit_bestHitsReturned() {
+        FuzzyIndex index = buildTypicalIndex();
+
+        assertEquals(List.of(BENSON, DANIEL), getBookmarks(index.search("meier frends", 2)));
+        assertTrue(index.search("meier", 0).isEmpty());
+    }
+
+    @Test
+    public void update_listChanges_indexFollowsList() {
+        ObservableList<Bookmark> list = FXCollections.observableArrayList(ALICE, BENSON);
+        FuzzyIndex index = new FuzzyIndex();
+        list.addListener(index::update);
+
+        list.add(CARL);
+        assertTrue(index.search("kurz", 10).isEmpty());
+
+        index.build(list);
+        assertEquals(List.of(CARL), getBookmarks(index.search("kurz", 10)));
+
+        Bookmark editedBenson = new BookmarkBuilder(BENSON).withName("Benson Maier").build();
+        list.set(1, editedBenson);
+        assertEquals(List.of(editedBenson), getBookmarks(index.search("meier", 10)));
+        assertTrue(index.search("benso", 10).stream().allMatch(hit -> hit.getBookmark() == editedBenson));
+
+        list.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.search("alice", 10).isEmpty());
+    }
+
+    @Test
+    public void remove_mostWords_remainingWordsFound() {
+        FuzzyIndex index = new FuzzyIndex();
+        List<Bookmark> bookmarks = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Bookmark bookmark = new BookmarkBuilder().withName("Word" + i).withUrl("https://a" + i + ".com").build();
+            bookmarks.add(bookmark);
+            index.add(bookmark);
+        }
+        for (int i = 0; i < 2990; i++) {
+            index.remove(bookmarks.get(i));
+        }
+
+        // "https", "com" and the name and URL words of each remaining bookmark
+        assertEquals(22, index.size());
+        assertEquals(bookmarks.get(2995), index.search("word2995", 1).get(0).getBookmark());
+        assertTrue(index.search("word12", 10).isEmpty());
+    }
+}
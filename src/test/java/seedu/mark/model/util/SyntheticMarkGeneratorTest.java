@@ -0,0 +1,90 @@
+package seedu.mark.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mark.model.Mark;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.folderstructure.FolderStructure;
+import seedu.mark.model.tag.Tag;
+
+public class SyntheticMarkGeneratorTest {
+
+    @Test
+    public void withSize_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticMarkGenerator().withSize(-1));
+    }
+
+    @Test
+    public void withCachedCopyRatio_aboveOne_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticMarkGenerator().withCachedCopyRatio(1.5));
+    }
+
+    @Test
+    public void generate_sameSeed_sameMark() {
+        SyntheticMarkGenerator generator = new SyntheticMarkGenerator(42).withSize(200);
+        Mark mark = generator.generate();
+        assertEquals(mark, generator.generate());
+        assertEquals(mark, new SyntheticMarkGenerator(42).withSize(200).generate());
+        assertEquals(mark.getReminderAssociation(), generator.generate().getReminderAssociation());
+    }
+
+    @Test
+    public void generate_differentSeed_differentMark() {
+        assertNotEquals(new SyntheticMarkGenerator(1).withSize(50).generate(),
+                new SyntheticMarkGenerator(2).withSize(50).generate());
+    }
+
+    @Test
+    public void generate_settings_followed() {
+        Mark mark = new SyntheticMarkGenerator()
+                .withSize(500)
+                .withFolders(3, 2)
+                .withAutotags(5)
+                .withCachedCopyRatio(1)
+                .withReminderRatio(0)
+                .generate();
+
+        assertEquals(500, mark.getBookmarkList().size());
+        assertEquals(3, getDepth(mark.getFolderStructure()));
+        assertEquals(5, mark.getAutotagController().getTaggers().size());
+        assertTrue(mark.getReminderAssociation().getReminderList().isEmpty());
+        for (Bookmark bookmark : mark.getBookmarkList()) {
+            assertEquals(1, bookmark.getCachedCopies().size());
+            assertTrue(mark.hasFolder(bookmark.getFolder()));
+        }
+    }
+
+    @Test
+    public void generate_noCachedCopies_noneGenerated() {
+        Mark mark = new SyntheticMarkGenerator().withSize(100).withCachedCopyRatio(0).generate();
+        assertTrue(mark.getBookmarkList().stream().allMatch(bookmark -> bookmark.getCachedCopies().isEmpty()));
+    }
+
+    @Test
+    public void generate_tags_skewed() {
+        Mark mark = new SyntheticMarkGenerator().withSize(2000).withTags(100).generate();
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        for (Bookmark bookmark : mark.getBookmarkList()) {
+            bookmark.getTags().forEach(tag -> tagCounts.merge(tag, 1, Integer::sum));
+        }
+
+        int maxCount = tagCounts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        int totalCount = tagCounts.values().stream().mapToInt(Integer::intValue).sum();
+        assertFalse(tagCounts.isEmpty());
+        // a uniform distribution would give every tag about 1% of the uses
+        assertTrue(maxCount > totalCount / 10);
+    }
+
+    private static int getDepth(FolderStructure folderStructure) {
+        return folderStructure.getSubfolders().stream().mapToInt(subfolder -> 1 + getDepth(subfolder)).max().orElse(0);
+    }
+}
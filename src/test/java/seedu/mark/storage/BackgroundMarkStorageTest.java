@@ -0,0 +1,206 @@
+package seedu.mark.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.Assert.assertThrows;
+import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.HOON;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mark.model.Mark;
+import seedu.mark.model.ReadOnlyMark;
+
+public class BackgroundMarkStorageTest {
+
+    private static final Path FILE_PATH = Path.of("mark.json");
+    private static final Path OTHER_FILE_PATH = Path.of("export.json");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundMarkStorage(null));
+    }
+
+    @Test
+    public void saveMark_manySaves_latestMarkWrittenOnce() throws Exception {
+        MarkStorageSpy spy = new MarkStorageSpy();
+        BackgroundMarkStorage storage = new BackgroundMarkStorage(spy, Long.MAX_VALUE, Long.MAX_VALUE);
+        Mark mark = getTypicalMark();
+
+        storage.saveMark(mark);
+        mark.addBookmark(HOON);
+        storage.saveMark(mark);
+        mark.removeBookmark(ALICE);
+        storage.saveMark(mark);
+        assertEquals(0, spy.savedMarks.size());
+
+        storage.flush();
+        assertEquals(1, spy.savedMarks.size());
+        assertEquals(mark, new Mark(spy.savedMarks.get(0)));
+
+        // nothing left to write
+        storage.flush();
+        assertEquals(1, spy.savedMarks.size());
+    }
+
+    @Test
+    public void saveMark_markChangedAfterSave_savedCopyUnchanged() throws Exception {
+        MarkStorageSpy spy = new MarkStorageSpy();
+        BackgroundMarkStorage storage = new BackgroundMarkStorage(spy, Long.MAX_VALUE, Long.MAX_VALUE);
+        Mark mark = getTypicalMark();
+
+        storage.saveMark(mark);
+        mark.addBookmark(HOON);
+        storage.flush();
+        assertEquals(getTypicalMark(), new Mark(spy.savedMarks.get(0)));
+    }
+
+    @Test
+    public void saveMark_noDelay_writtenInBackground() throws Exception {
+        MarkStorageSpy spy = new MarkStorageSpy();
+        BackgroundMarkStorage storage = new BackgroundMarkStorage(spy, 0, Long.MAX_VALUE);
+
+        storage.saveMark(getTypicalMark());
+        storage.shutdown();
+        assertEquals(1, spy.savedMarks.size());
+    }
+
+    @Test
+    public void saveMark_otherFilePath_writtenImmediately() throws Exception {
+        MarkStorageSpy spy = new MarkStorageSpy();
+        BackgroundMarkStorage storage = new BackgroundMarkStorage(spy, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        storage.saveMark(getTypicalMark(), OTHER_FILE_PATH);
+        assertEquals(1, spy.savedMarks.size());
+        assertEquals(OTHER_FILE_PATH, spy.savedPaths.get(0));
+    }
+
+    @Test
+    public void saveMark_backgroundWriteFailed_failureHandledAndSaveKept() throws Exception {
+        MarkStorageSpy spy = new MarkStorageSpy();
+        spy.failuresLeft = 1;
+        BackgroundMarkStorage storage = new BackgroundMarkStorage(spy, 0, Long.MAX_VALUE);
+        CompletableFuture<IOException> failure = new CompletableFuture<>();
+        storage.setWriteFailureHandler(failure::complete);
+        Mark mark = getTypicalMark();
+
+        storage.saveMark(mark);
+        assertEquals("Dummy IOException", failure.get().getMessage());
+        assertTrue(spy.savedMarks.isEmpty());
+
+        // the failed save is still pending, so the next write writes it
+        storage.flush();
+        assertEquals(1, spy.savedMarks.size());
+        assertEquals(mark, new Mark(spy.savedMarks.get(0)));
+    }
+
+    @Test
+    public void saveMark_backgroundWriteFailed_writtenAgain() throws Exception {
+        MarkStorageSpy spy = new MarkStorageSpy();
+        spy.failuresLeft = 2;
+        BackgroundMarkStorage storage = new BackgroundMarkStorage(spy, 0, 0);
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        storage.setWriteFailureHandler(failures::add);
+        Mark mark = getTypicalMark();
+
+        storage.saveMark(mark);
+        spy.markSaved.await();
+        assertEquals(2, failures.size());
+        assertEquals(1, spy.savedMarks.size());
+        assertEquals(mark, new Mark(spy.savedMarks.get(0)));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoExceptionAndSaveKept() throws Exception {
+        MarkStorageSpy spy = new MarkStorageSpy();
+        spy.failuresLeft = 1;
+        BackgroundMarkStorage storage = new BackgroundMarkStorage(spy, Long.MAX_VALUE, Long.MAX_VALUE);
+        Mark mark = getTypicalMark();
+
+        storage.saveMark(mark);
+        assertThrows(IOException.class, storage::flush);
+        storage.flush();
+        assertEquals(1, spy.savedMarks.size());
+        assertEquals(mark, new Mark(spy.savedMarks.get(0)));
+    }
+
+    @Test
+    public void saveMark_afterShutdown_writtenImmediately() throws Exception {
+        MarkStorageSpy spy = new MarkStorageSpy();
+        BackgroundMarkStorage storage = new BackgroundMarkStorage(spy, Long.MAX_VALUE, Long.MAX_VALUE);
+        storage.shutdown();
+
+        storage.saveMark(getTypicalMark());
+        assertEquals(1, spy.savedMarks.size());
+    }
+
+    @Test
+    public void compactMark_pendingSave_pendingSaveDiscarded() throws Exception {
+        MarkStorageSpy spy = new MarkStorageSpy();
+        BackgroundMarkStorage storage = new BackgroundMarkStorage(spy, Long.MAX_VALUE, Long.MAX_VALUE);
+        Mark mark = getTypicalMark();
+
+        storage.saveMark(new Mark());
+        storage.compactMark(mark);
+        storage.flush();
+        assertEquals(1, spy.savedMarks.size());
+        assertEquals(mark, new Mark(spy.savedMarks.get(0)));
+    }
+
+    /**
+     * A {@code MarkStorage} that records the marks that are saved.
+     */
+    private static class MarkStorageSpy implements MarkStorage {
+        private final List<ReadOnlyMark> savedMarks = new ArrayList<>();
+        private final List<Path> savedPaths = new ArrayList<>();
+        private final CountDownLatch markSaved = new CountDownLatch(1);
+        /** The number of saves that fail before the next one succeeds. */
+        private int failuresLeft;
+
+        @Override
+        public Path getMarkFilePath() {
+            return FILE_PATH;
+        }
+
+        @Override
+        public Optional<ReadOnlyMark> readMark() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyMark> readMark(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveMark(ReadOnlyMark mark) throws IOException {
+            saveMark(mark, FILE_PATH);
+        }
+
+        @Override
+        public synchronized void saveMark(ReadOnlyMark mark, Path filePath) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException("Dummy IOException");
+            }
+            savedMarks.add(mark);
+            savedPaths.add(filePath);
+            markSaved.countDown();
+        }
+
+        @Override
+        public void compactMark(ReadOnlyMark mark) throws IOException {
+            saveMark(mark);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.mark.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
+import static seedu.mark.testutil.TypicalBookmarks.CARL;
+import static seedu.mark.testutil.TypicalBookmarks.ELLE;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mark.commons.util.JsonUtil;
+import seedu.mark.model.Mark;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.predicates.BookmarkPredicate;
+
+public class BookmarkExporterTest {
+
+    private static final Predicate<Bookmark> ALL_BOOKMARKS = bookmark -> true;
+
+    @TempDir
+    public Path testFolder;
+
+    private static Bookmark withoutCachedCopies(Bookmark bookmark) {
+        return new Bookmark(bookmark.getName(), bookmark.getUrl(), bookmark.getRemark(), bookmark.getFolder(),
+                bookmark.getTags(), new ArrayList<>());
+    }
+
+    @Test
+    public void format_fromName() {
+        assertEquals(Optional.of(BookmarkExporter.Format.NDJSON), BookmarkExporter.Format.fromName("NDJson"));
+        assertEquals(Optional.of(BookmarkExporter.Format.HTML), BookmarkExporter.Format.fromName("html"));
+        assertFalse(BookmarkExporter.Format.fromName("xml").isPresent());
+    }
+
+    @Test
+    public void export_jsonAllBookmarks_sameAsMark() throws Exception {
+        Path filePath = testFolder.resolve("export.json");
+        Mark mark = getTypicalMark();
+
+        int count = BookmarkExporter.forFormat(BookmarkExporter.Format.JSON, ALL_BOOKMARKS, true)
+                .export(mark, filePath);
+        assertEquals(mark.getBookmarkList().size(), count);
+        assertEquals(mark, new JsonMarkStorage(testFolder.resolve("mark.json")).readMark(filePath).get());
+    }
+
+    @Test
+    public void export_jsonFiltered_onlyMatchingBookmarksAndRemindersWritten() throws Exception {
+        Path filePath = testFolder.resolve("export.json");
+        BookmarkPredicate predicate = new BookmarkPredicate().withFolder(Arrays.asList("contacts"));
+
+        int count = BookmarkExporter.forFormat(BookmarkExporter.Format.JSON, predicate, false)
+                .export(getTypicalMark(), filePath);
+        Mark exported = new Mark(new JsonMarkStorage(testFolder.resolve("mark.json")).readMark(filePath).get());
+
+        List<Bookmark> expectedBookmarks = getTypicalMark().getBookmarkList().stream().filter(predicate)
+                .map(BookmarkExporterTest::withoutCachedCopies).collect(Collectors.toList());
+        assertEquals(expectedBookmarks.size(), count);
+        assertEquals(expectedBookmarks, exported.getBookmarkList());
+        // reminders of the contacts are kept
+        assertEquals(Arrays.asList(ALICE.getUrl(), BENSON.getUrl()), exported.getReminderList().stream()
+                .map(reminder -> reminder.getUrl()).sorted((first, second) -> first.value.compareTo(second.value))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void export_ndjson_oneBookmarkPerLine() throws Exception {
+        Path filePath = testFolder.resolve("export.ndjson");
+        Mark mark = getTypicalMark();
+
+        BookmarkExporter.forFormat(BookmarkExporter.Format.NDJSON, ALL_BOOKMARKS, false).export(mark, filePath);
+        List<String> lines = Files.readAllLines(filePath);
+
+        assertEquals(mark.getBookmarkList().size(), lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(withoutCachedCopies(mark.getBookmarkList().get(i)),
+                    JsonUtil.fromJsonString(lines.get(i), JsonAdaptedBookmark.class).toModelType());
+        }
+        assertFalse(Files.readString(filePath).contains("html"));
+    }
+
+    @Test
+    public void export_ndjsonWithCachedCopies_cachedCopiesWritten() throws Exception {
+        Path filePath = testFolder.resolve("export.ndjson");
+
+        BookmarkExporter.forFormat(BookmarkExporter.Format.NDJSON, bookmark -> bookmark.equals(BENSON), true)
+                .export(getTypicalMark(), filePath);
+        List<String> lines = Files.readAllLines(filePath);
+
+        assertEquals(1, lines.size());
+        assertEquals(BENSON, JsonUtil.fromJsonString(lines.get(0), JsonAdaptedBookmark.class).toModelType());
+    }
+
+    @Test
+    public void export_html_readBackByBrowserReader() throws Exception {
+        Path filePath = testFolder.resolve("export.html");
+        Predicate<Bookmark> predicate = bookmark -> bookmark.equals(ALICE) || bookmark.equals(CARL)
+                || bookmark.equals(ELLE);
+
+        int count = BookmarkExporter.forFormat(BookmarkExporter.Format.HTML, predicate, true)
+                .export(getTypicalMark(), filePath);
+        assertEquals(3, count);
+        assertTrue(BrowserBookmarkReader.forFile(filePath).get() instanceof NetscapeBookmarkReader);
+
+        List<Folder> folders = new ArrayList<>();
+        List<Bookmark> bookmarks = new ArrayList<>();
+        new NetscapeBookmarkReader().read(filePath, new BrowserBookmarkReader.Handler() {
+            @Override
+            public Folder addFolder(Folder folder, Folder parentFolder) {
+                folders.add(folder);
+                return folder;
+            }
+
+            @Override
+            public void addBookmarks(List<Bookmark> batch) {
+                bookmarks.addAll(batch);
+            }
+        });
+
+        // only folders with exported bookmarks are written
+        assertEquals(Arrays.asList(ALICE.getFolder(), CARL.getFolder()), folders);
+        assertEquals(Arrays.asList(ALICE.getName(), CARL.getName(), ELLE.getName()),
+                bookmarks.stream().map(Bookmark::getName).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(ALICE.getFolder(), CARL.getFolder(), ELLE.getFolder()),
+                bookmarks.stream().map(Bookmark::getFolder).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void escape() {
+        assertEquals("a &amp; &lt;b&gt; &quot;c&quot;", NetscapeBookmarkExporter.escape("a & <b> \"c\""));
+    }
+}
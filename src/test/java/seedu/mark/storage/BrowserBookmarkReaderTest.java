@@ -0,0 +1,144 @@
+package seedu.mark.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mark.commons.exceptions.DataConversionException;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
+
+public class BrowserBookmarkReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "BrowserBookmarkReaderTest");
+    private static final Path NETSCAPE_FILE = TEST_DATA_FOLDER.resolve("bookmarks.html");
+    private static final Path CHROMIUM_FILE = TEST_DATA_FOLDER.resolve("Bookmarks.json");
+    private static final Path INVALID_CHROMIUM_FILE = TEST_DATA_FOLDER.resolve("invalidBookmarks.json");
+    private static final Path MARK_FILE = Paths.get("src", "test", "data", "JsonSerializableMarkTest",
+            "typicalBookmarksMark.json");
+
+    private static final Folder BOOKMARKS_BAR = new Folder("Bookmarks bar");
+    private static final Folder PROJECTS = new Folder("CS2103T Projects");
+    private static final Folder OTHER_BOOKMARKS = new Folder("Other bookmarks");
+
+    @TempDir
+    public Path testFolder;
+
+    private static Bookmark bookmark(String name, String url, Folder folder) {
+        return new BookmarkBuilder().withName(name).withUrl(url).withRemark("-").withFolder(folder.folderName)
+                .withTags().build();
+    }
+
+    @Test
+    public void forFile_browserBookmarks_readerFound() throws Exception {
+        assertTrue(BrowserBookmarkReader.forFile(NETSCAPE_FILE).get() instanceof NetscapeBookmarkReader);
+        assertTrue(BrowserBookmarkReader.forFile(CHROMIUM_FILE).get() instanceof ChromiumBookmarkReader);
+    }
+
+    @Test
+    public void forFile_otherFiles_noReader() throws Exception {
+        assertFalse(BrowserBookmarkReader.forFile(MARK_FILE).isPresent());
+        assertFalse(BrowserBookmarkReader.forFile(testFolder.resolve("missing.html")).isPresent());
+
+        Path emptyFile = testFolder.resolve("empty.html");
+        Files.createFile(emptyFile);
+        assertFalse(BrowserBookmarkReader.forFile(emptyFile).isPresent());
+    }
+
+    @Test
+    public void read_netscapeBookmarks_foldersAndBookmarksMapped() throws Exception {
+        HandlerSpy spy = new HandlerSpy();
+        int skippedCount = new NetscapeBookmarkReader().read(NETSCAPE_FILE, spy);
+
+        assertEquals(1, skippedCount);
+        assertEquals(Arrays.asList(BOOKMARKS_BAR, Folder.IMPORT_FOLDER, PROJECTS, BOOKMARKS_BAR), spy.folders);
+        assertEquals(Arrays.asList(
+                bookmark("Google", "https://www.google.com/", BOOKMARKS_BAR),
+                bookmark("CS2103T Website", "https://nus-cs2103-ay1920s1.github.io/website/", PROJECTS),
+                bookmark("GitHub Home", "https://github.com/?q=a&b=c", BOOKMARKS_BAR),
+                bookmark("Google 2", "https://www.wikipedia.org/", Folder.IMPORT_FOLDER)), spy.bookmarks);
+    }
+
+    @Test
+    public void read_chromiumBookmarks_foldersAndBookmarksMapped() throws Exception {
+        HandlerSpy spy = new HandlerSpy();
+        int skippedCount = new ChromiumBookmarkReader().read(CHROMIUM_FILE, spy);
+
+        assertEquals(1, skippedCount);
+        assertEquals(Arrays.asList(BOOKMARKS_BAR, Folder.IMPORT_FOLDER, PROJECTS, BOOKMARKS_BAR,
+                OTHER_BOOKMARKS, Folder.IMPORT_FOLDER, new Folder("Mobile bookmarks"), Folder.IMPORT_FOLDER),
+                spy.folders);
+        assertEquals(Arrays.asList(
+                bookmark("Google", "https://www.google.com/", BOOKMARKS_BAR),
+                bookmark("CS2103T Website", "https://nus-cs2103-ay1920s1.github.io/website/", PROJECTS),
+                bookmark("Google 2", "https://www.wikipedia.org/", OTHER_BOOKMARKS)), spy.bookmarks);
+    }
+
+    @Test
+    public void read_invalidChromiumBookmarks_throwsDataConversionException() {
+        HandlerSpy spy = new HandlerSpy();
+        assertThrows(DataConversionException.class, () -> new ChromiumBookmarkReader()
+                .read(INVALID_CHROMIUM_FILE, spy));
+        assertTrue(spy.folders.isEmpty());
+        assertTrue(spy.bookmarks.isEmpty());
+    }
+
+    @Test
+    public void read_manyBookmarks_passedOnInBatches() throws Exception {
+        int count = BrowserBookmarkReader.BATCH_SIZE * 2 + 1;
+        StringBuilder html = new StringBuilder("<!DOCTYPE NETSCAPE-Bookmark-file-1>\n<DL><p>\n");
+        for (int i = 0; i < count; i++) {
+            html.append("<DT><A HREF=\"https://example.com/").append(i).append("\">Page ").append(i).append("</A>\n");
+        }
+        Path file = testFolder.resolve("bookmarks.html");
+        Files.writeString(file, html.append("</DL><p>\n"));
+
+        HandlerSpy spy = new HandlerSpy();
+        assertEquals(0, new NetscapeBookmarkReader().read(file, spy));
+        assertEquals(Arrays.asList(BrowserBookmarkReader.BATCH_SIZE, BrowserBookmarkReader.BATCH_SIZE, 1),
+                spy.batchSizes);
+        assertEquals(bookmark("Page 0", "https://example.com/0", Folder.IMPORT_FOLDER), spy.bookmarks.get(0));
+    }
+
+    @Test
+    public void toValidName() {
+        assertEquals("CS2103T Projects", BrowserBookmarkReader.toValidName(" CS2103T & Projects! ", "Untitled"));
+        assertEquals("Untitled", BrowserBookmarkReader.toValidName("&&", "Untitled"));
+        assertEquals("Untitled", BrowserBookmarkReader.toValidName(null, "Untitled"));
+    }
+
+    /**
+     * A {@code Handler} that records the folders and bookmarks it receives.
+     */
+    private static class HandlerSpy implements BrowserBookmarkReader.Handler {
+        /** Each added folder, followed by its parent folder. */
+        private final List<Folder> folders = new ArrayList<>();
+        private final List<Bookmark> bookmarks = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public Folder addFolder(Folder folder, Folder parentFolder) {
+            folders.add(folder);
+            folders.add(parentFolder);
+            return folder;
+        }
+
+        @Override
+        public void addBookmarks(List<Bookmark> bookmarks) {
+            this.bookmarks.addAll(bookmarks);
+            batchSizes.add(bookmarks.size());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.mark.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.Assert.assertThrows;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mark.commons.core.index.Index;
+import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.model.Mark;
+import seedu.mark.model.annotation.Annotation;
+import seedu.mark.model.annotation.AnnotationNote;
+import seedu.mark.model.annotation.Highlight;
+import seedu.mark.model.annotation.OfflineDocument;
+import seedu.mark.model.annotation.Paragraph;
+import seedu.mark.model.annotation.ParagraphIdentifier;
+import seedu.mark.model.bookmark.CachedCopy;
+import seedu.mark.model.bookmark.exceptions.CachedCopyUnavailableException;
+
+public class CachedCopyLoaderTest {
+
+    private static final CachedCopy COPY_A = new CachedCopy("<p>first paragraph</p>");
+    private static final CachedCopy COPY_B = new CachedCopy("<p>second, longer paragraph</p>");
+
+    @TempDir
+    public Path testFolder;
+
+    private CachedCopy createLazyCopy(CachedCopyLoader loader, CachedCopy source) throws Exception {
+        String hash = loader.getBlobStorage().saveHtml(source);
+        return loader.createCachedCopy(hash, new JsonAdaptedOfflineDocument(source.getAnnotations()));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CachedCopyLoader(null));
+    }
+
+    @Test
+    public void createCachedCopy_notUsed_nothingLoaded() throws Exception {
+        CachedCopyLoader loader = new CachedCopyLoader(new HtmlBlobStorage(testFolder));
+        CachedCopy lazyCopy = createLazyCopy(loader, COPY_A);
+
+        assertEquals(COPY_A, lazyCopy);
+        assertEquals(0, loader.getLoadedBytes());
+
+        assertEquals(COPY_A.getHtml(), lazyCopy.getHtml());
+        assertEquals(COPY_A.getAnnotations().getCollection().size(),
+                lazyCopy.getAnnotations().getCollection().size());
+        assertTrue(loader.getLoadedBytes() > 0);
+    }
+
+    @Test
+    public void getAnnotatedParagraphs_notLoaded_htmlNotRead() throws Exception {
+        OfflineDocument doc = COPY_A.getAnnotations().copy();
+        doc.addAnnotation(ParagraphIdentifier.makeExistId(Index.fromOneBased(1)),
+                new Annotation(Highlight.PINK, AnnotationNote.makeNote("a note")));
+        CachedCopyLoader loader = new CachedCopyLoader(new HtmlBlobStorage(testFolder));
+        CachedCopy lazyCopy = createLazyCopy(loader, new CachedCopy(COPY_A.getHtml(), doc));
+
+        List<Paragraph> annotatedParagraphs = lazyCopy.getAnnotatedParagraphs();
+        assertEquals(1, annotatedParagraphs.size());
+        assertEquals("a note", annotatedParagraphs.get(0).getNote().toString());
+        assertEquals(0, loader.getLoadedBytes());
+    }
+
+    @Test
+    public void loadHtml_overMemoryBudget_leastRecentlyUsedUnloaded() throws Exception {
+        HtmlBlobStorage blobStorage = new HtmlBlobStorage(testFolder);
+        CachedCopyLoader loader = new CachedCopyLoader(blobStorage, 0);
+        CachedCopy lazyCopyA = createLazyCopy(loader, COPY_A);
+        CachedCopy lazyCopyB = createLazyCopy(loader, COPY_B);
+
+        lazyCopyA.getHtml();
+        assertEquals(2L * COPY_A.getHtml().length(), loader.getLoadedBytes());
+        lazyCopyB.getHtml();
+        assertEquals(2L * COPY_B.getHtml().length(), loader.getLoadedBytes());
+
+        // the html of the first copy is read again from storage after it was unloaded
+        blobStorage.retainOnly(Set.of(COPY_B.getHtmlHash()));
+        assertThrows(CachedCopyUnavailableException.class, lazyCopyA::getHtml);
+        assertEquals(COPY_B.getHtml(), lazyCopyB.getHtml());
+    }
+
+    @Test
+    public void createCachedCopy_missingHtml_throwsIllegalValueException() {
+        CachedCopyLoader loader = new CachedCopyLoader(new HtmlBlobStorage(testFolder));
+        assertThrows(IllegalValueException.class, () -> loader.createCachedCopy(COPY_A.getHtmlHash(),
+                new JsonAdaptedOfflineDocument(0, new ArrayList<>())));
+    }
+
+    @Test
+    public void loadHtml_damagedHtml_throwsCachedCopyUnavailableException() throws Exception {
+        CachedCopyLoader loader = new CachedCopyLoader(new HtmlBlobStorage(testFolder));
+        CachedCopy lazyCopy = createLazyCopy(loader, COPY_A);
+        Path blobFile = testFolder.resolve(COPY_A.getHtmlHash() + HtmlBlobStorage.BLOB_FILE_SUFFIX);
+        Files.writeString(blobFile, COPY_A.getHtml().substring(0, 10));
+
+        assertThrows(CachedCopyUnavailableException.class, lazyCopy::getHtml);
+        assertThrows(CachedCopyUnavailableException.class, lazyCopy::getAnnotations);
+        assertEquals(0, loader.getLoadedBytes());
+    }
+
+    @Test
+    public void readAndSaveMark_cachedCopiesNotUsed_nothingLoaded() throws Exception {
+        Path filePath = testFolder.resolve("mark.json");
+        new JsonMarkStorage(filePath).saveMark(getTypicalMark());
+
+        CachedCopyLoader loader = new CachedCopyLoader(new HtmlBlobStorage(HtmlBlobStorage.getDirectoryFor(filePath)));
+        JsonMarkStorage storage = new JsonMarkStorage(filePath, loader);
+        Mark readBack = new Mark(storage.readMark().get());
+        Files.delete(filePath);
+        storage.saveMark(readBack);
+        assertEquals(0, loader.getLoadedBytes());
+
+        assertEquals(getTypicalMark(), new Mark(new JsonMarkStorage(filePath).readMark().get()));
+        assertEquals(BENSON.getCachedCopies().get(0).getHtml(),
+                readBack.getBookmarkList().get(1).getCachedCopies().get(0).getHtml());
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.mark.storage;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mark.commons.util.Compression;
+import seedu.mark.model.bookmark.CachedCopy;
+
+public class HtmlBlobStorageTest {
+
+    private static final CachedCopy COPY_A = new CachedCopy("<p>first</p>");
+    private static final CachedCopy COPY_B = new CachedCopy("<p>second</p>");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new HtmlBlobStorage(null));
+    }
+
+    @Test
+    public void getDirectoryFor_dataFile_siblingDirectory() {
+        Path filePath = testFolder.resolve("mark.json");
+        assertEquals(testFolder.resolve("mark.json" + HtmlBlobStorage.DIRECTORY_SUFFIX),
+                HtmlBlobStorage.getDirectoryFor(filePath));
+    }
+
+    @Test
+    public void saveAndReadHtml_allInOrder_success() throws Exception {
+        HtmlBlobStorage blobStorage = new HtmlBlobStorage(testFolder.resolve("cache"));
+
+        String hash = blobStorage.saveHtml(COPY_A);
+        assertEquals(COPY_A.getHtmlHash(), hash);
+        assertEquals(COPY_A.getHtml(), blobStorage.readHtml(hash));
+
+        // identical html is only stored once
+        assertEquals(hash, blobStorage.saveHtml(new CachedCopy(COPY_A.getHtml())));
+        assertEquals(1, Files.list(blobStorage.getDirectory()).count());
+
+        // a new instance reads html saved by another
+        assertEquals(COPY_A.getHtml(), new HtmlBlobStorage(testFolder.resolve("cache")).readHtml(hash));
+    }
+
+    @Test
+    public void saveAndReadHtml_gzip_compressedAndUncompressedHtmlRead() throws Exception {
+        Path directory = testFolder.resolve("cache");
+        String uncompressedHash = new HtmlBlobStorage(directory).saveHtml(COPY_A);
+
+        HtmlBlobStorage blobStorage = new HtmlBlobStorage(directory, Compression.GZIP);
+        String compressedHash = blobStorage.saveHtml(COPY_B);
+        Path compressedFile = blobStorage.getDirectory().resolve(compressedHash + HtmlBlobStorage.BLOB_FILE_SUFFIX);
+        assertFalse(Files.readString(compressedFile, ISO_8859_1).contains(COPY_B.getHtml()));
+
+        assertEquals(COPY_A.getHtml(), blobStorage.readHtml(uncompressedHash));
+        assertEquals(COPY_B.getHtml(), blobStorage.readHtml(compressedHash));
+        assertEquals(COPY_B.getHtml(), new HtmlBlobStorage(directory).readHtml(compressedHash));
+    }
+
+    @Test
+    public void parseHtml_compressedOrNot_sameParagraphs() throws Exception {
+        String hash = new HtmlBlobStorage(testFolder.resolve("plain")).saveHtml(COPY_A);
+        assertEquals("first", new HtmlBlobStorage(testFolder.resolve("plain")).parseHtml(hash).select("p").text());
+
+        HtmlBlobStorage blobStorage = new HtmlBlobStorage(testFolder.resolve("compressed"), Compression.GZIP);
+        blobStorage.saveHtml(COPY_A);
+        assertEquals("first", blobStorage.parseHtml(hash).select("p").text());
+    }
+
+    @Test
+    public void parseHtml_missingOrInvalidHash_throwsIoException() {
+        HtmlBlobStorage blobStorage = new HtmlBlobStorage(testFolder.resolve("cache"));
+        assertThrows(IOException.class, () -> blobStorage.parseHtml(COPY_A.getHtmlHash()));
+        assertThrows(IOException.class, () -> blobStorage.parseHtml("../mark"));
+    }
+
+    @Test
+    public void readHtml_missingHtml_throwsIoException() {
+        HtmlBlobStorage blobStorage = new HtmlBlobStorage(testFolder.resolve("cache"));
+        assertThrows(IOException.class, () -> blobStorage.readHtml(COPY_A.getHtmlHash()));
+    }
+
+    @Test
+    public void readHtml_invalidHash_throwsIoException() {
+        HtmlBlobStorage blobStorage = new HtmlBlobStorage(testFolder.resolve("cache"));
+        assertThrows(IOException.class, () -> blobStorage.readHtml("../mark.json"));
+    }
+
+    @Test
+    public void retainOnly_unusedHtml_deleted() throws Exception {
+        HtmlBlobStorage blobStorage = new HtmlBlobStorage(testFolder.resolve("cache"));
+        String hashA = blobStorage.saveHtml(COPY_A);
+        String hashB = blobStorage.saveHtml(COPY_B);
+
+        blobStorage.retainOnly(Set.of(hashA));
+        assertEquals(COPY_A.getHtml(), blobStorage.readHtml(hashA));
+        assertThrows(IOException.class, () -> blobStorage.readHtml(hashB));
+
+        // deleted html is written again when it is saved again
+        blobStorage.saveHtml(COPY_B);
+        assertEquals(COPY_B.getHtml(), blobStorage.readHtml(hashB));
+    }
+
+    @Test
+    public void retainOnly_missingDirectory_nothingDeleted() throws Exception {
+        HtmlBlobStorage blobStorage = new HtmlBlobStorage(testFolder.resolve("cache"));
+        blobStorage.retainOnly(Set.of());
+        assertFalse(Files.exists(blobStorage.getDirectory()));
+        assertTrue(HtmlBlobStorage.isValidHash(COPY_A.getHtmlHash()));
+    }
+}
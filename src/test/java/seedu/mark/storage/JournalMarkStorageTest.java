@@ -0,0 +1,215 @@
+package seedu.mark.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.Assert.assertThrows;
+import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
+import static seedu.mark.testutil.TypicalBookmarks.HOON;
+import static seedu.mark.testutil.TypicalBookmarks.IDA;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mark.commons.exceptions.DataConversionException;
+import seedu.mark.model.Mark;
+import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
+
+public class JournalMarkStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournalMarkStorage createStorage(Path filePath, int maxJournalEntries) {
+        CachedCopyLoader loader = new CachedCopyLoader(new HtmlBlobStorage(HtmlBlobStorage.getDirectoryFor(filePath)));
+        return new JournalMarkStorage(new JsonMarkStorage(filePath, loader), loader, maxJournalEntries);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("mark.json");
+        CachedCopyLoader loader = new CachedCopyLoader(new HtmlBlobStorage(HtmlBlobStorage.getDirectoryFor(filePath)));
+        assertThrows(NullPointerException.class, () -> new JournalMarkStorage(null, loader));
+        assertThrows(NullPointerException.class, () -> new JournalMarkStorage(new JsonMarkStorage(filePath), null));
+    }
+
+    @Test
+    public void readMark_nullFilePath_throwsNullPointerException() {
+        JournalMarkStorage storage = createStorage(testFolder.resolve("mark.json"), 10);
+        assertThrows(NullPointerException.class, () -> storage.readMark(null));
+    }
+
+    @Test
+    public void saveMark_nullMark_throwsNullPointerException() {
+        JournalMarkStorage storage = createStorage(testFolder.resolve("mark.json"), 10);
+        assertThrows(NullPointerException.class, () -> storage.saveMark(null));
+    }
+
+    @Test
+    public void readAndSaveMark_changesJournaled_success() throws Exception {
+        Path filePath = testFolder.resolve("mark.json");
+        Mark original = getTypicalMark();
+        JournalMarkStorage storage = createStorage(filePath, 10);
+
+        // first save writes a snapshot
+        storage.saveMark(original);
+        String snapshot = Files.readString(filePath);
+        assertEquals(original, new Mark(createStorage(filePath, 10).readMark().get()));
+
+        // later saves only append to the journal
+        original.addBookmark(HOON);
+        storage.saveMark(original);
+        original.removeBookmark(ALICE);
+        storage.saveMark(original);
+        original.setBookmark(BENSON, new BookmarkBuilder(BENSON).withRemark("edited").build());
+        storage.saveMark(original);
+        original.addFolder(new Folder("newfolder"), Folder.ROOT_FOLDER);
+        storage.saveMark(original);
+        assertEquals(snapshot, Files.readString(filePath));
+
+        // a new storage instance replays the journal on top of the snapshot
+        ReadOnlyMark readBack = createStorage(filePath, 10).readMark().get();
+        assertEquals(original, new Mark(readBack));
+    }
+
+    @Test
+    public void saveMark_unchangedMark_journalUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("mark.json");
+        Path journalPath = JournalMarkStorage.getJournalFilePath(filePath);
+        Mark original = getTypicalMark();
+        JournalMarkStorage storage = createStorage(filePath, 10);
+
+        storage.saveMark(original);
+        String journal = Files.readString(journalPath);
+        storage.saveMark(original);
+        assertEquals(journal, Files.readString(journalPath));
+    }
+
+    @Test
+    public void saveMark_tooManyEntries_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("mark.json");
+        Mark original = getTypicalMark();
+        JournalMarkStorage storage = createStorage(filePath, 2);
+
+        storage.saveMark(original);
+        String snapshot = Files.readString(filePath);
+        original.addBookmark(HOON);
+        storage.saveMark(original);
+        assertEquals(snapshot, Files.readString(filePath));
+
+        original.addBookmark(IDA);
+        storage.saveMark(original);
+        assertNotEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(JournalMarkStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new Mark(createStorage(filePath, 2).readMark().get()));
+    }
+
+    @Test
+    public void compactMark_pendingChanges_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("mark.json");
+        Mark original = getTypicalMark();
+        JournalMarkStorage storage = createStorage(filePath, 10);
+
+        storage.saveMark(original);
+        original.addBookmark(HOON);
+        storage.saveMark(original);
+        storage.compactMark(original);
+
+        assertEquals(original, new Mark(new JsonMarkStorage(filePath).readMark().get()));
+        assertEquals(1, Files.readAllLines(JournalMarkStorage.getJournalFilePath(filePath)).size());
+    }
+
+    @Test
+    public void readMark_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("mark.json");
+        Mark original = getTypicalMark();
+        JournalMarkStorage storage = createStorage(filePath, 10);
+
+        storage.saveMark(original);
+        Mark modified = new Mark(original);
+        modified.addBookmark(HOON);
+        storage.saveMark(modified);
+
+        // snapshot replaced without the journal being reset
+        new JsonMarkStorage(filePath).saveMark(original);
+        assertEquals(original, new Mark(createStorage(filePath, 10).readMark().get()));
+    }
+
+    @Test
+    public void readMark_incompleteLastEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("mark.json");
+        Mark original = getTypicalMark();
+        JournalMarkStorage storage = createStorage(filePath, 10);
+
+        storage.saveMark(original);
+        original.addBookmark(HOON);
+        storage.saveMark(original);
+        Files.writeString(JournalMarkStorage.getJournalFilePath(filePath), "{\"type\":\"spl",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        JournalMarkStorage newStorage = createStorage(filePath, 10);
+        assertEquals(original, new Mark(newStorage.readMark().get()));
+
+        // the damaged journal is replaced by a new snapshot on the next save
+        newStorage.saveMark(original);
+        assertEquals(1, Files.readAllLines(JournalMarkStorage.getJournalFilePath(filePath)).size());
+    }
+
+    @Test
+    public void readMark_lastEntryChecksumMismatch_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("mark.json");
+        Path journalPath = JournalMarkStorage.getJournalFilePath(filePath);
+        Mark original = getTypicalMark();
+        JournalMarkStorage storage = createStorage(filePath, 10);
+
+        storage.saveMark(original);
+        Mark expected = new Mark(original);
+        original.addBookmark(HOON);
+        storage.saveMark(original);
+        String journal = Files.readString(journalPath);
+        Files.writeString(journalPath, journal.replace("Hoon", "Hooo"));
+
+        assertEquals(expected, new Mark(createStorage(filePath, 10).readMark().get()));
+    }
+
+    @Test
+    public void readMark_earlierEntryChecksumMismatch_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("mark.json");
+        Path journalPath = JournalMarkStorage.getJournalFilePath(filePath);
+        Mark original = getTypicalMark();
+        JournalMarkStorage storage = createStorage(filePath, 10);
+
+        storage.saveMark(original);
+        original.addBookmark(HOON);
+        storage.saveMark(original);
+        original.addBookmark(IDA);
+        storage.saveMark(original);
+        String journal = Files.readString(journalPath);
+        Files.writeString(journalPath, journal.replace("Hoon", "Hooo"));
+
+        assertThrows(DataConversionException.class, () -> createStorage(filePath, 10).readMark());
+    }
+
+    @Test
+    public void saveMark_otherFilePath_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("mark.json");
+        Path otherFilePath = testFolder.resolve("export.json");
+        Mark original = getTypicalMark();
+        JournalMarkStorage storage = createStorage(filePath, 10);
+
+        storage.saveMark(original, otherFilePath);
+        assertFalse(Files.exists(JournalMarkStorage.getJournalFilePath(otherFilePath)));
+        assertTrue(Files.exists(otherFilePath));
+        assertEquals(original, new Mark(storage.readMark(otherFilePath).get()));
+    }
+}
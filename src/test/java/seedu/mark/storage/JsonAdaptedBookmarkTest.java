@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.mark.storage.JsonAdaptedBookmark.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.mark.testutil.Assert.assertThrows;
 import static seedu.mark.testutil.TypicalBookmarks.BENSON;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalBookmarks;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +13,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.model.bookmark.Bookmark;
 import seedu.mark.model.bookmark.Folder;
 import seedu.mark.model.bookmark.Name;
 import seedu.mark.model.bookmark.Remark;
@@ -117,4 +119,24 @@ public class JsonAdaptedBookmarkTest {
         assertThrows(IllegalValueException.class, bookmark::toModelType);
     }
 
+    @Test
+    public void toModelTypes_validBookmarks_returnsBookmarksInOrder() throws Exception {
+        List<Bookmark> bookmarks = getTypicalBookmarks();
+        List<JsonAdaptedBookmark> adaptedBookmarks = bookmarks.stream()
+                .map(JsonAdaptedBookmark::new).collect(Collectors.toList());
+        assertEquals(bookmarks, JsonAdaptedBookmark.toModelTypes(adaptedBookmarks));
+    }
+
+    @Test
+    public void toModelTypes_invalidBookmarks_throwsExceptionOfFirstInvalidBookmark() {
+        List<JsonAdaptedBookmark> adaptedBookmarks = getTypicalBookmarks().stream()
+                .map(JsonAdaptedBookmark::new).collect(Collectors.toList());
+        adaptedBookmarks.add(2, new JsonAdaptedBookmark(VALID_NAME,
+                INVALID_URL, VALID_REMARK, VALID_FOLDER, VALID_TAGS, VALID_CACHED_COPIES));
+        adaptedBookmarks.add(new JsonAdaptedBookmark(INVALID_NAME,
+                VALID_URL, VALID_REMARK, VALID_FOLDER, VALID_TAGS, VALID_CACHED_COPIES));
+        assertThrows(IllegalValueException.class, Url.MESSAGE_CONSTRAINTS, () ->
+                JsonAdaptedBookmark.toModelTypes(adaptedBookmarks));
+    }
+
 }
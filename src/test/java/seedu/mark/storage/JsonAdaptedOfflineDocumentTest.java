@@ -0,0 +1,85 @@
+package seedu.mark.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import seedu.mark.commons.core.index.Index;
+import seedu.mark.commons.exceptions.IllegalValueException;
+import seedu.mark.commons.util.JsonUtil;
+import seedu.mark.model.annotation.Annotation;
+import seedu.mark.model.annotation.AnnotationNote;
+import seedu.mark.model.annotation.Highlight;
+import seedu.mark.model.annotation.OfflineDocument;
+import seedu.mark.model.annotation.Paragraph;
+import seedu.mark.model.annotation.ParagraphIdentifier;
+
+public class JsonAdaptedOfflineDocumentTest {
+
+    private static final String HTML = "<p>first paragraph</p><p>second paragraph</p><p>third paragraph</p>";
+    private static final ParagraphIdentifier SECOND = ParagraphIdentifier.makeExistId(Index.fromOneBased(2));
+
+    private static OfflineDocument createAnnotatedDocument() throws Exception {
+        OfflineDocument doc = new OfflineDocument(HTML);
+        doc.addAnnotation(SECOND, new Annotation(Highlight.GREEN, AnnotationNote.makeNote("a note")));
+        doc.addPhantom(new Annotation(Highlight.YELLOW, AnnotationNote.makeNote("a stray note")));
+        return doc;
+    }
+
+    private static List<Paragraph> sortedParagraphs(OfflineDocument doc) {
+        return doc.getCollection().stream().sorted(Comparator.comparing(Paragraph::getId))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void constructor_annotatedDocument_onlyAnnotatedAndPhantomParagraphsStored() throws Exception {
+        String json = JsonUtil.toCompactJsonString(new JsonAdaptedOfflineDocument(createAnnotatedDocument()));
+
+        assertTrue(json.contains("second paragraph"));
+        assertFalse(json.contains("first paragraph"));
+        assertFalse(json.contains("third paragraph"));
+    }
+
+    @Test
+    public void toModelType_annotatedDocument_paragraphsDerivedFromHtml() throws Exception {
+        OfflineDocument doc = createAnnotatedDocument();
+        JsonAdaptedOfflineDocument adaptedDoc = JsonUtil.fromJsonString(
+                JsonUtil.toCompactJsonString(new JsonAdaptedOfflineDocument(doc)), JsonAdaptedOfflineDocument.class);
+
+        OfflineDocument readBack = adaptedDoc.toModelType(() -> Jsoup.parse(HTML));
+        assertEquals(sortedParagraphs(doc), sortedParagraphs(readBack));
+        assertEquals(doc.getNumStrayNotes(), readBack.getNumStrayNotes());
+    }
+
+    @Test
+    public void toModelType_everyParagraphStored_htmlNotUsed() throws Exception {
+        OfflineDocument doc = createAnnotatedDocument();
+        List<JsonAdaptedParagraph> paragraphs = new ArrayList<>();
+        doc.getCollection().forEach(p -> paragraphs.add(new JsonAdaptedParagraph(p)));
+
+        OfflineDocument readBack = new JsonAdaptedOfflineDocument(doc.getNumStrayNotes(), paragraphs)
+                .toModelType(() -> {
+                    throw new AssertionError("Html should not be used");
+                });
+        assertEquals(sortedParagraphs(doc), sortedParagraphs(readBack));
+    }
+
+    @Test
+    public void toModelType_differentHtml_throwsIllegalValueException() throws Exception {
+        JsonAdaptedOfflineDocument adaptedDoc = new JsonAdaptedOfflineDocument(createAnnotatedDocument());
+
+        assertThrows(IllegalValueException.class, JsonAdaptedOfflineDocument.MESSAGE_PARAGRAPHS_MISMATCH, () ->
+                adaptedDoc.toModelType(() -> Jsoup.parse("<p>first paragraph</p><p>second paragraph</p>")));
+        assertThrows(IllegalValueException.class, JsonAdaptedOfflineDocument.MESSAGE_PARAGRAPHS_MISMATCH, () ->
+                adaptedDoc.toModelType(() -> Jsoup.parse(HTML.replace("third", "last"))));
+    }
+}
@@ -1,23 +1,35 @@
 package seedu.mark.storage;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mark.testutil.Assert.assertThrows;
 import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.BENSON;
 import static seedu.mark.testutil.TypicalBookmarks.HOON;
 import static seedu.mark.testutil.TypicalBookmarks.IDA;
 import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import seedu.mark.commons.exceptions.DataConversionException;
+import seedu.mark.commons.util.Compression;
+import seedu.mark.commons.util.JsonUtil;
 import seedu.mark.model.Mark;
 import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.CachedCopy;
 import seedu.mark.model.bookmark.Folder;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
 
 public class JsonMarkStorageTest {
     private static final Path TEST_DATA_FOLDER = Path.of("src", "test", "data", "JsonMarkStorageTest");
@@ -87,6 +99,101 @@ public class JsonMarkStorageTest {
 
     }
 
+    @Test
+    public void saveMark_otherFilePath_readableAsJsonSerializableMark() throws Exception {
+        Path filePath = testFolder.resolve("TempMark.json");
+        Path otherFilePath = testFolder.resolve("OtherMark.json");
+        Mark original = getTypicalMark();
+
+        new JsonMarkStorage(filePath).saveMark(original, otherFilePath);
+        JsonSerializableMark jsonMark = JsonUtil.readJsonFile(otherFilePath, JsonSerializableMark.class).get();
+        assertEquals(original, jsonMark.toModelType());
+    }
+
+    @Test
+    public void readMark_bookmarksAfterOtherFields_success() throws Exception {
+        Path filePath = testFolder.resolve("TempMark.json");
+        Mark original = getTypicalMark();
+
+        ObjectNode jsonMark = JsonUtil.toJsonTree(new JsonSerializableMark(original));
+        JsonNode bookmarks = jsonMark.remove("bookmarks");
+        jsonMark.set("bookmarks", bookmarks);
+        Files.writeString(filePath, JsonUtil.toJsonString(jsonMark));
+
+        assertEquals(original, new Mark(new JsonMarkStorage(filePath).readMark().get()));
+    }
+
+    @Test
+    public void saveMark_ownFilePath_htmlSavedSeparately() throws Exception {
+        Path filePath = testFolder.resolve("TempMark.json");
+        Mark original = getTypicalMark();
+        CachedCopy cachedCopy = new CachedCopy("<p>cached</p>");
+        original.setBookmark(ALICE, new BookmarkBuilder(ALICE).withCachedCopy(cachedCopy).build());
+
+        new JsonMarkStorage(filePath).saveMark(original);
+        assertFalse(Files.readString(filePath).contains(cachedCopy.getHtml()));
+        assertTrue(Files.exists(getBlobFilePath(filePath, cachedCopy)));
+        assertEquals(original, new Mark(new JsonMarkStorage(filePath).readMark().get()));
+    }
+
+    @Test
+    public void saveMark_gzip_ownFileCompressedAndOtherFilesNot() throws Exception {
+        Path filePath = testFolder.resolve("TempMark.json");
+        Path otherFilePath = testFolder.resolve("OtherMark.json");
+        Mark original = getTypicalMark();
+
+        // a file saved without compression is still read
+        new JsonMarkStorage(filePath).saveMark(original);
+        CachedCopyLoader loader = new CachedCopyLoader(new HtmlBlobStorage(HtmlBlobStorage.getDirectoryFor(filePath)));
+        JsonMarkStorage storage = new JsonMarkStorage(filePath, loader, Compression.GZIP);
+        assertEquals(original, new Mark(storage.readMark().get()));
+
+        original.addBookmark(HOON);
+        storage.saveMark(original);
+        assertFalse(Files.readString(filePath, ISO_8859_1).contains(HOON.getUrl().value));
+        assertEquals(original, new Mark(new JsonMarkStorage(filePath).readMark().get()));
+
+        storage.saveMark(original, otherFilePath);
+        assertTrue(Files.readString(otherFilePath).contains(HOON.getUrl().value));
+    }
+
+    @Test
+    public void saveMark_otherFilePath_htmlSavedInline() throws Exception {
+        Path filePath = testFolder.resolve("TempMark.json");
+        Path otherFilePath = testFolder.resolve("OtherMark.json");
+        Mark original = getTypicalMark();
+        CachedCopy cachedCopy = new CachedCopy("<p>cached</p>");
+        original.setBookmark(ALICE, new BookmarkBuilder(ALICE).withCachedCopy(cachedCopy).build());
+
+        new JsonMarkStorage(filePath).saveMark(original, otherFilePath);
+        assertTrue(Files.readString(otherFilePath).contains(cachedCopy.getHtml()));
+        assertFalse(Files.exists(HtmlBlobStorage.getDirectoryFor(filePath)));
+        assertEquals(original, new Mark(new JsonMarkStorage(otherFilePath).readMark().get()));
+    }
+
+    @Test
+    public void compactMark_unusedHtml_htmlDeleted() throws Exception {
+        Path filePath = testFolder.resolve("TempMark.json");
+        Mark original = getTypicalMark();
+        JsonMarkStorage jsonMarkStorage = new JsonMarkStorage(filePath);
+
+        CachedCopy unusedCopy = new CachedCopy("<p>unused</p>");
+        Bookmark editedAlice = new BookmarkBuilder(ALICE).withCachedCopy(unusedCopy).build();
+        original.setBookmark(ALICE, editedAlice);
+        jsonMarkStorage.saveMark(original);
+        original.setBookmark(editedAlice, ALICE);
+        jsonMarkStorage.compactMark(original);
+
+        assertFalse(Files.exists(getBlobFilePath(filePath, unusedCopy)));
+        assertTrue(Files.exists(getBlobFilePath(filePath, BENSON.getCachedCopies().get(0))));
+        assertEquals(original, new Mark(new JsonMarkStorage(filePath).readMark().get()));
+    }
+
+    private Path getBlobFilePath(Path filePath, CachedCopy cachedCopy) {
+        return HtmlBlobStorage.getDirectoryFor(filePath)
+                .resolve(cachedCopy.getHtmlHash() + HtmlBlobStorage.BLOB_FILE_SUFFIX);
+    }
+
     @Test
     public void saveMark_nullMark_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveMark(null, "SomeFile.json"));
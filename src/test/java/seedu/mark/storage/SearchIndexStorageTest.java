@@ -0,0 +1,87 @@
+package seedu.mark.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mark.commons.util.Compression;
+import seedu.mark.commons.util.FileUtil;
+import seedu.mark.model.bookmark.CachedCopy;
+import seedu.mark.model.search.DocumentTerms;
+
+public class SearchIndexStorageTest {
+
+    private static final CachedCopy COPY_A = new CachedCopy("<p>first paragraph</p><p>second paragraph</p>");
+    private static final CachedCopy COPY_B = new CachedCopy("<p>another page</p>");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SearchIndexStorage(null, Compression.NONE));
+        assertThrows(NullPointerException.class, () -> new SearchIndexStorage(testFolder, null));
+    }
+
+    @Test
+    public void getDirectoryFor_dataFile_siblingDirectory() {
+        assertEquals(testFolder.resolve("mark.json.search"),
+                SearchIndexStorage.getDirectoryFor(testFolder.resolve("mark.json")));
+    }
+
+    @Test
+    public void writeThenRead_sameTerms() {
+        for (Compression compression : Compression.values()) {
+            SearchIndexStorage storage = new SearchIndexStorage(testFolder.resolve(compression.name()), compression);
+            DocumentTerms terms = DocumentTerms.of(COPY_A.getAnnotations());
+            storage.write(COPY_A.getHtmlHash(), terms);
+            assertEquals(Optional.of(terms), storage.read(COPY_A.getHtmlHash()));
+        }
+    }
+
+    @Test
+    public void write_alreadyWritten_notOverwritten() {
+        SearchIndexStorage storage = new SearchIndexStorage(testFolder, Compression.NONE);
+        DocumentTerms terms = DocumentTerms.of(COPY_A.getAnnotations());
+        storage.write(COPY_A.getHtmlHash(), terms);
+        storage.write(COPY_A.getHtmlHash(), new DocumentTerms(Map.of()));
+        assertEquals(Optional.of(terms), storage.read(COPY_A.getHtmlHash()));
+    }
+
+    @Test
+    public void read_missingOrInvalid_empty() throws Exception {
+        SearchIndexStorage storage = new SearchIndexStorage(testFolder, Compression.NONE);
+        assertEquals(Optional.empty(), storage.read(COPY_A.getHtmlHash()));
+        assertEquals(Optional.empty(), storage.read("../mark"));
+
+        Path termsFile = testFolder.resolve(COPY_A.getHtmlHash() + SearchIndexStorage.TERMS_FILE_SUFFIX);
+        FileUtil.writeToFile(termsFile, "{\"paragraphs\":{\"P1\":{\"word\":0}}}");
+        assertEquals(Optional.empty(), storage.read(COPY_A.getHtmlHash()));
+        FileUtil.writeToFile(termsFile, "not json");
+        assertEquals(Optional.empty(), storage.read(COPY_A.getHtmlHash()));
+    }
+
+    @Test
+    public void retainOnly_unusedTerms_deleted() throws Exception {
+        SearchIndexStorage storage = new SearchIndexStorage(testFolder, Compression.NONE);
+        storage.write(COPY_A.getHtmlHash(), DocumentTerms.of(COPY_A.getAnnotations()));
+        storage.write(COPY_B.getHtmlHash(), DocumentTerms.of(COPY_B.getAnnotations()));
+
+        storage.retainOnly(Set.of(COPY_B.getHtmlHash()));
+        assertFalse(Files.exists(testFolder.resolve(COPY_A.getHtmlHash() + SearchIndexStorage.TERMS_FILE_SUFFIX)));
+        assertTrue(storage.read(COPY_B.getHtmlHash()).isPresent());
+
+        // a missing directory has nothing to delete
+        new SearchIndexStorage(testFolder.resolve("missing"), Compression.NONE).retainOnly(Set.of());
+    }
+}
@@ -0,0 +1,281 @@
+package seedu.mark.storage;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mark.testutil.Assert.assertThrows;
+import static seedu.mark.testutil.TypicalBookmarks.ALICE;
+import static seedu.mark.testutil.TypicalBookmarks.CARL;
+import static seedu.mark.testutil.TypicalBookmarks.HOON;
+import static seedu.mark.testutil.TypicalBookmarks.getTypicalMark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mark.commons.exceptions.DataConversionException;
+import seedu.mark.commons.util.Compression;
+import seedu.mark.commons.util.FileUtil;
+import seedu.mark.commons.util.JsonUtil;
+import seedu.mark.model.Mark;
+import seedu.mark.model.ReadOnlyMark;
+import seedu.mark.model.bookmark.Bookmark;
+import seedu.mark.model.bookmark.util.BookmarkBuilder;
+import seedu.mark.storage.JsonSerializableShardManifest.JsonAdaptedShard;
+
+public class ShardedMarkStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private CachedCopyLoader loader;
+
+    private ShardedMarkStorage createStorage() {
+        loader = new CachedCopyLoader(new HtmlBlobStorage(testFolder.resolve("cache")));
+        return new ShardedMarkStorage(testFolder.resolve("mark.shards"),
+                new JsonMarkStorage(testFolder.resolve("mark.json"), loader), loader);
+    }
+
+    /**
+     * Returns the shard file of each folder in the manifest of {@code storage}.
+     */
+    private Map<String, String> readShardFiles(ShardedMarkStorage storage) throws Exception {
+        JsonSerializableShardManifest manifest =
+                JsonUtil.readJsonFile(storage.getMarkFilePath(), JsonSerializableShardManifest.class).get();
+        Map<String, String> shardFiles = new HashMap<>();
+        for (JsonAdaptedShard shard : manifest.getShards()) {
+            shardFiles.put(shard.getFolder().folderName, shard.getFile());
+        }
+        return shardFiles;
+    }
+
+    private long countShardFiles(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> ShardedMarkStorage.isShardFileName(file.getFileName().toString())).count();
+        }
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        CachedCopyLoader cachedCopyLoader = new CachedCopyLoader(new HtmlBlobStorage(testFolder));
+        JsonMarkStorage jsonStorage = new JsonMarkStorage(testFolder.resolve("mark.json"));
+        assertThrows(NullPointerException.class, () -> new ShardedMarkStorage(null, jsonStorage, cachedCopyLoader));
+        assertThrows(NullPointerException.class, () -> new ShardedMarkStorage(testFolder, null, cachedCopyLoader));
+        assertThrows(NullPointerException.class, () -> new ShardedMarkStorage(testFolder, jsonStorage, null));
+    }
+
+    @Test
+    public void getDirectoryFor() {
+        assertEquals(Path.of("data", "mark.json.shards"),
+                ShardedMarkStorage.getDirectoryFor(Path.of("data", "mark.json")));
+    }
+
+    @Test
+    public void readMark_missingManifest_emptyResult() throws Exception {
+        assertFalse(createStorage().readMark().isPresent());
+    }
+
+    @Test
+    public void readAndSaveMark_allInOrder_success() throws Exception {
+        ShardedMarkStorage storage = createStorage();
+        Mark original = getTypicalMark();
+
+        storage.saveMark(original);
+        ReadOnlyMark readBack = storage.readMark().get();
+        assertEquals(original, new Mark(readBack));
+        assertEquals(original.getReminderList(), readBack.getReminderList());
+
+        // Modify data, overwrite existing shards, and read back with a new storage
+        original.addBookmark(HOON);
+        original.removeBookmark(ALICE);
+        storage.saveMark(original);
+        assertEquals(original, new Mark(createStorage().readMark().get()));
+    }
+
+    @Test
+    public void readAndSaveMark_gzip_uncompressedShardsRead() throws Exception {
+        Mark original = getTypicalMark();
+        createStorage().saveMark(original);
+
+        ShardedMarkStorage storage = new ShardedMarkStorage(testFolder.resolve("mark.shards"),
+                new JsonMarkStorage(testFolder.resolve("mark.json"), loader), loader, Compression.GZIP);
+        assertEquals(original, new Mark(storage.readMark().get()));
+
+        original.addBookmark(HOON);
+        storage.saveMark(original);
+        String shardFile = readShardFiles(storage).get(HOON.getFolder().folderName);
+        assertFalse(Files.readString(testFolder.resolve("mark.shards").resolve(shardFile), ISO_8859_1)
+                .contains(HOON.getUrl().value));
+        assertEquals(original, new Mark(createStorage().readMark().get()));
+    }
+
+    @Test
+    public void saveMark_bookmarkEdited_onlyItsShardRewritten() throws Exception {
+        ShardedMarkStorage storage = createStorage();
+        Mark mark = getTypicalMark();
+        storage.saveMark(mark);
+        Map<String, String> shardFiles = readShardFiles(storage);
+
+        Bookmark editedCarl = new BookmarkBuilder(CARL).withRemark("edited").build();
+        mark.setBookmark(CARL, editedCarl);
+        storage.saveMark(new Mark(mark));
+        Map<String, String> newShardFiles = readShardFiles(storage);
+
+        assertEquals(shardFiles.keySet(), newShardFiles.keySet());
+        for (String folder : shardFiles.keySet()) {
+            if (folder.equals(CARL.getFolder().folderName)) {
+                assertNotEquals(shardFiles.get(folder), newShardFiles.get(folder));
+            } else {
+                assertEquals(shardFiles.get(folder), newShardFiles.get(folder));
+            }
+        }
+
+        // the replaced shard is kept for the older snapshot, until that snapshot leaves the ring
+        Path directory = storage.getMarkFilePath().getParent();
+        assertEquals(shardFiles.size() + 1, countShardFiles(directory));
+        for (int i = 1; i < ShardedMarkStorage.SNAPSHOT_RING_SIZE; i++) {
+            storage.saveMark(new Mark(mark));
+        }
+        assertEquals(shardFiles.size(), countShardFiles(directory));
+        assertEquals(mark, new Mark(createStorage().readMark().get()));
+    }
+
+    @Test
+    public void saveMark_readBySameStorage_noShardRewritten() throws Exception {
+        ShardedMarkStorage storage = createStorage();
+        storage.saveMark(getTypicalMark());
+
+        ReadOnlyMark readBack = storage.readMark().get();
+        Map<String, String> shardFiles = readShardFiles(storage);
+        storage.saveMark(new Mark(readBack));
+        assertEquals(shardFiles, readShardFiles(storage));
+    }
+
+    @Test
+    public void saveMark_otherFilePath_savedAsJson() throws Exception {
+        ShardedMarkStorage storage = createStorage();
+        Path filePath = testFolder.resolve("export.json");
+        Mark original = getTypicalMark();
+
+        storage.saveMark(original, filePath);
+        assertEquals(original, JsonUtil.readJsonFile(filePath, JsonSerializableMark.class).get().toModelType());
+        assertEquals(original, new Mark(storage.readMark(filePath).get()));
+    }
+
+    @Test
+    public void readMark_missingShard_throwsDataConversionException() throws Exception {
+        ShardedMarkStorage storage = createStorage();
+        storage.saveMark(getTypicalMark());
+        String shardFile = readShardFiles(storage).values().iterator().next();
+        Files.delete(storage.getMarkFilePath().resolveSibling(shardFile));
+        assertThrows(DataConversionException.class, storage::readMark);
+    }
+
+    @Test
+    public void readMark_shardsSwapped_recoveredFromRing() throws Exception {
+        ShardedMarkStorage storage = createStorage();
+        storage.saveMark(getTypicalMark());
+        Map<String, String> shardFiles = readShardFiles(storage);
+        String manifest = Files.readString(storage.getMarkFilePath());
+        String[] files = shardFiles.values().stream().sorted().collect(Collectors.toList()).toArray(new String[0]);
+        Files.writeString(storage.getMarkFilePath(), manifest.replace(files[0], "swap")
+                .replace(files[1], files[0]).replace("swap", files[1]));
+
+        // the swapped manifest no longer matches its checksum, so the copy in the ring is read and restored
+        assertEquals(getTypicalMark(), new Mark(createStorage().readMark().get()));
+        assertEquals(manifest, Files.readString(storage.getMarkFilePath()));
+    }
+
+    @Test
+    public void readMark_manifestWithoutChecksum_throwsDataConversionException() throws Exception {
+        ShardedMarkStorage storage = createStorage();
+        storage.saveMark(getTypicalMark());
+        String manifest = Files.readString(storage.getMarkFilePath());
+        Files.writeString(storage.getMarkFilePath(), manifest.substring(0, manifest.lastIndexOf("\n#")));
+        Files.delete(storage.getMarkFilePath().resolveSibling("manifest-1.json"));
+        assertThrows(DataConversionException.class, storage::readMark);
+    }
+
+    @Test
+    public void readMark_shardWithoutChecksum_throwsDataConversionException() throws Exception {
+        ShardedMarkStorage storage = createStorage();
+        storage.saveMark(getTypicalMark());
+        JsonSerializableShardManifest manifest =
+                JsonUtil.readJsonFile(storage.getMarkFilePath(), JsonSerializableShardManifest.class).get();
+        String json = JsonUtil.toJsonString(manifest).replaceFirst("\"checksum\" : -?\\d+", "\"checksum\" : null");
+        Files.writeString(storage.getMarkFilePath(),
+                json + "\n#crc32c " + Long.toHexString(FileUtil.checksum(json)) + "\n");
+        Files.delete(storage.getMarkFilePath().resolveSibling("manifest-1.json"));
+        assertThrows(DataConversionException.class, storage::readMark);
+    }
+
+    @Test
+    public void readMark_corruptedShard_olderSnapshotRecovered() throws Exception {
+        ShardedMarkStorage storage = createStorage();
+        Mark original = getTypicalMark();
+        storage.saveMark(original);
+        Mark edited = new Mark(original);
+        edited.setBookmark(CARL, new BookmarkBuilder(CARL).withRemark("edited").build());
+        storage.saveMark(edited);
+
+        Path editedShard = storage.getMarkFilePath()
+                .resolveSibling(readShardFiles(storage).get(CARL.getFolder().folderName));
+        Files.writeString(editedShard, Files.readString(editedShard).replace("edited", "edite"));
+
+        assertEquals(original, new Mark(createStorage().readMark().get()));
+
+        // the next save does not overwrite the shards of the corrupted snapshot
+        ShardedMarkStorage recoveredStorage = createStorage();
+        recoveredStorage.readMark();
+        recoveredStorage.saveMark(edited);
+        assertEquals(edited, new Mark(createStorage().readMark().get()));
+    }
+
+    @Test
+    public void readMark_everySnapshotCorrupted_throwsDataConversionException() throws Exception {
+        ShardedMarkStorage storage = createStorage();
+        storage.saveMark(getTypicalMark());
+        Files.writeString(storage.getMarkFilePath().resolveSibling("manifest-1.json"), "{}");
+        Files.writeString(storage.getMarkFilePath(), "{}\n#crc32c 0\n");
+        assertThrows(DataConversionException.class, storage::readMark);
+
+        // the corrupted snapshots are kept aside, and the next save starts a new directory
+        Path directory = storage.getMarkFilePath().getParent();
+        assertFalse(Files.exists(directory));
+        Path corruptedDirectory;
+        try (Stream<Path> files = Files.list(testFolder)) {
+            corruptedDirectory = files.filter(file -> file.getFileName().toString()
+                    .startsWith("mark.shards" + ShardedMarkStorage.CORRUPTED_DIRECTORY_INFIX)).findFirst().get();
+        }
+        assertEquals("{}\n#crc32c 0\n", Files.readString(corruptedDirectory.resolve("manifest.json")));
+        storage.saveMark(getTypicalMark());
+        assertEquals(getTypicalMark(), new Mark(createStorage().readMark().get()));
+        assertTrue(countShardFiles(corruptedDirectory) > 0);
+    }
+
+    @Test
+    public void compactMark_unusedHtml_htmlDeleted() throws Exception {
+        ShardedMarkStorage storage = createStorage();
+        storage.saveMark(getTypicalMark());
+        Path cacheDirectory = loader.getBlobStorage().getDirectory();
+        assertEquals(1, Files.list(cacheDirectory).count());
+
+        storage.compactMark(new Mark());
+        assertEquals(0, Files.list(cacheDirectory).count());
+        assertEquals(0, countShardFiles(storage.getMarkFilePath().getParent()));
+        assertTrue(createStorage().readMark().get().getBookmarkList().isEmpty());
+    }
+
+    @Test
+    public void saveMark_nullMark_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().saveMark(null));
+    }
+}
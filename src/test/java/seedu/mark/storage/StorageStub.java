@@ -52,4 +52,9 @@ public class StorageStub implements Storage {
     public void saveMark(ReadOnlyMark mark, Path filePath) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void compactMark(ReadOnlyMark mark) {
+        throw new AssertionError("This method should not be called.");
+    }
 }